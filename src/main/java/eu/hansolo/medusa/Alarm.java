@@ -28,6 +28,8 @@ import javafx.scene.paint.Color;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -48,6 +50,7 @@ public class Alarm {
     private             String           text;
     private             Command          command;
     private             Color            color;
+    private             List<AlarmIndex> indices;
 
 
     // ******************** Constructors **************************************
@@ -100,7 +103,10 @@ public class Alarm {
      * The values are ONCE, HALF_HOURLY, HOURLY, DAILY, WEEKLY
      * @param REPETITION
      */
-    public void setRepetition(final Repetition REPETITION) { repetition = REPETITION; }
+    public void setRepetition(final Repetition REPETITION) {
+        repetition = REPETITION;
+        updateIndices();
+    }
 
     /**
      * Returns the time of the alarm.
@@ -111,7 +117,10 @@ public class Alarm {
      * Defines the time of the alarm.
      * @param TIME
      */
-    public void setTime(final ZonedDateTime TIME) { time = TIME; }
+    public void setTime(final ZonedDateTime TIME) {
+        time = TIME;
+        updateIndices();
+    }
 
     /**
      * Returns true if the alarm is activated.
@@ -166,6 +175,18 @@ public class Alarm {
      */
     public void setColor(final Color COLOR) { color = COLOR; }
 
+    void addIndex(final AlarmIndex INDEX) {
+        if (null == indices) { indices = new ArrayList<>(1); }
+        if (!indices.contains(INDEX)) { indices.add(INDEX); }
+    }
+
+    void removeIndex(final AlarmIndex INDEX) { if (null != indices) { indices.remove(INDEX); } }
+
+    private void updateIndices() {
+        if (null == indices) return;
+        for (int i = 0 ; i < indices.size() ; i++) { indices.get(i).update(Alarm.this); }
+    }
+
     @Override public String toString() {
         return new StringBuilder()
             .append("{\n")
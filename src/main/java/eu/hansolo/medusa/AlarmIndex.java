@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Alarm.Repetition;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+
+/**
+ * A priority queue of the next fire times of all alarms of a clock. The
+ * next fire time of each alarm will be computed from its repetition so that
+ * a check only has to look at the head of the queue instead of comparing
+ * the time fields of all alarms.
+ * Like before repeating alarms match the hour, minute, second (and day of
+ * week) fields of the alarm time in the time zone of the clock. Each
+ * occurrence will be fired once and in order. If the time of the clock
+ * jumps backward, jumps forward by more than Clock.MAX_CATCH_UP ms or the
+ * zone changes all fire times will be computed again.
+ * Entries of removed or changed alarms will stay in the queue until they
+ * reach its head (or the queue will be rebuilt) and will be ignored.
+ * Must only be used on the JavaFX application thread.
+ */
+final class AlarmIndex {
+    private static final int           MIN_REBUILD_SIZE = 64;
+    private final Clock                clock;
+    private final PriorityQueue<Entry> queue;
+    private final Map<Alarm, Entry>    entries;
+    private ZonedDateTime              lastTime;
+
+
+    // ******************** Constructors **************************************
+    AlarmIndex(final Clock CLOCK) {
+        clock   = CLOCK;
+        queue   = new PriorityQueue<>();
+        entries = new IdentityHashMap<>();
+    }
+
+
+    // ******************** Methods *******************************************
+    void add(final Alarm ALARM) {
+        if (null == ALARM) return;
+        ALARM.addIndex(this);
+        schedule(ALARM, referenceTime(), false);
+    }
+
+    void remove(final Alarm ALARM) {
+        if (null == ALARM) return;
+        ALARM.removeIndex(this);
+        entries.remove(ALARM);
+        compact();
+    }
+
+    /**
+     * Will be called by the alarm if its time or repetition changed
+     *
+     * @param ALARM
+     */
+    void update(final Alarm ALARM) {
+        if (!entries.containsKey(ALARM)) return;
+        schedule(ALARM, referenceTime(), false);
+        compact();
+    }
+
+    /**
+     * Returns the next alarm that is due at the given time or null if no
+     * alarm is due. ONCE alarms will be removed from the index, repeating
+     * alarms will be scheduled for their next occurrence, so an alarm will
+     * be returned once for each occurrence up to the given time. If the time
+     * jumped forward by more than Clock.MAX_CATCH_UP ms the occurrences in
+     * between will be skipped.
+     *
+     * @param TIME
+     * @return the next alarm that is due at the given time or null
+     */
+    Alarm pollDue(final ZonedDateTime TIME) {
+        final long NOW = TIME.toInstant().toEpochMilli();
+        if (null == lastTime || TIME.isBefore(lastTime) || !TIME.getZone().equals(lastTime.getZone()) ||
+            NOW - lastTime.toInstant().toEpochMilli() > Clock.MAX_CATCH_UP) {
+            rebuild(TIME);
+        }
+        lastTime = TIME;
+
+        while (!queue.isEmpty() && queue.peek().fireTime <= NOW) {
+            final Entry ENTRY = queue.poll();
+            final Alarm ALARM = ENTRY.alarm;
+            if (entries.get(ALARM) != ENTRY) continue;
+            if (Repetition.ONCE == ALARM.getRepetition()) {
+                remove(ALARM);
+            } else {
+                schedule(ALARM, Instant.ofEpochMilli(ENTRY.fireTime).atZone(TIME.getZone()), true);
+            }
+            return ALARM;
+        }
+        return null;
+    }
+
+    int size() { return entries.size(); }
+
+    private ZonedDateTime referenceTime() { return null == lastTime ? clock.getTime() : lastTime; }
+
+    // Removes the entries of removed or changed alarms if they make up more than half of the queue
+    private void compact() {
+        if (queue.size() > MIN_REBUILD_SIZE && queue.size() > 2 * entries.size()) { rebuild(referenceTime()); }
+    }
+
+    private void rebuild(final ZonedDateTime TIME) {
+        queue.clear();
+        final Alarm[] ALARMS = entries.keySet().toArray(new Alarm[0]);
+        entries.clear();
+        for (Alarm alarm : ALARMS) { schedule(alarm, TIME, false); }
+    }
+
+    private void schedule(final Alarm ALARM, final ZonedDateTime TIME, final boolean AFTER) {
+        final Entry ENTRY = new Entry(ALARM, nextFireTime(ALARM, TIME, AFTER));
+        entries.put(ALARM, ENTRY);
+        queue.add(ENTRY);
+    }
+
+    /**
+     * Returns the epoch millis of the next occurrence of the given alarm at
+     * (or after if AFTER == true) the second of the given time.
+     * ONCE alarms will be due as soon as the time is after the alarm time.
+     */
+    private static long nextFireTime(final Alarm ALARM, final ZonedDateTime TIME, final boolean AFTER) {
+        final ZonedDateTime ALARM_TIME = ALARM.getTime();
+        if (Repetition.ONCE == ALARM.getRepetition()) { return ALARM_TIME.toInstant().toEpochMilli() + 1; }
+
+        final ZonedDateTime REFERENCE  = AFTER ? TIME.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1) : TIME.truncatedTo(ChronoUnit.SECONDS);
+        final LocalTime     LOCAL_TIME = LocalTime.of(ALARM_TIME.getHour(), ALARM_TIME.getMinute(), ALARM_TIME.getSecond());
+        ZonedDateTime       next;
+        switch (ALARM.getRepetition()) {
+            case HALF_HOURLY:
+                next = REFERENCE.truncatedTo(ChronoUnit.HOURS).plusMinutes(ALARM_TIME.getMinute() % 30).plusSeconds(ALARM_TIME.getSecond());
+                while (next.isBefore(REFERENCE)) { next = next.plusMinutes(30); }
+                break;
+            case HOURLY:
+                next = REFERENCE.truncatedTo(ChronoUnit.HOURS).plusMinutes(ALARM_TIME.getMinute()).plusSeconds(ALARM_TIME.getSecond());
+                if (next.isBefore(REFERENCE)) { next = next.plusHours(1); }
+                break;
+            case DAILY:
+                next = REFERENCE.with(LOCAL_TIME);
+                if (next.isBefore(REFERENCE)) { next = REFERENCE.plusDays(1).with(LOCAL_TIME); }
+                break;
+            case WEEKLY:
+            default:
+                next = REFERENCE.with(TemporalAdjusters.nextOrSame(ALARM_TIME.getDayOfWeek())).with(LOCAL_TIME);
+                if (next.isBefore(REFERENCE)) { next = REFERENCE.with(TemporalAdjusters.next(ALARM_TIME.getDayOfWeek())).with(LOCAL_TIME); }
+                break;
+        }
+        return next.toInstant().toEpochMilli();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Entry implements Comparable<Entry> {
+        private final Alarm alarm;
+        private final long  fireTime;
+
+        Entry(final Alarm ALARM, final long FIRE_TIME) {
+            alarm    = ALARM;
+            fireTime = FIRE_TIME;
+        }
+
+        @Override public int compareTo(final Entry OTHER) { return Long.compare(fireTime, OTHER.fireTime); }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import javafx.application.Platform;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * One timer that drives all blinking elements (e.g. the led of a gauge).
+ * Each element registers a toggle runnable with its own blink interval
+ * and its own phase (the first toggle happens one interval after the
+ * registration). The timer only wakes up at the earliest deadline of all
+ * registered toggles (so one element that blinks every 500 ms wakes it up
+ * every 500 ms) and all toggles that are due will be called in one batch
+ * with one Platform.runLater() call.
+ * If the last batch has not been executed yet no further runnable will be
+ * posted and the toggles will be called with the next batch instead, so
+ * an element toggles at most once per batch.
+ * Unregistering an element only removes its own toggle, the timer will be
+ * stopped as soon as no element is registered anymore.
+ * Can be used by skins and controls to blink in sync with the gauges.
+ */
+public final class BlinkCoordinator {
+    public static final int             MIN_INTERVAL     = 50;
+    private static final int            INITIAL_CAPACITY = 16;
+    private final Runnable              batch;
+    private ScheduledThreadPoolExecutor executor;
+    private ScheduledFuture<?>          timerTask;
+    private long                        timerDeadline;
+    private long                        timerGeneration;
+    private Runnable[]                  toggles;
+    private long[]                      intervals;
+    private long[]                      nextToggles;
+    private boolean[]                   due;
+    private int                         size;
+    private boolean                     batchPending;
+    private Runnable[]                  batchToggles;
+
+
+    // ******************** Constructors **************************************
+    private BlinkCoordinator() {
+        batch        = this::runBatch;
+        toggles      = new Runnable[INITIAL_CAPACITY];
+        intervals    = new long[INITIAL_CAPACITY];
+        nextToggles  = new long[INITIAL_CAPACITY];
+        due          = new boolean[INITIAL_CAPACITY];
+        size         = 0;
+        batchPending = false;
+        batchToggles = new Runnable[INITIAL_CAPACITY];
+    }
+
+    public static BlinkCoordinator getInstance() { return InstanceHolder.INSTANCE; }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Registers the given toggle with the given blink interval. The toggle
+     * will be called on the JavaFX application thread every INTERVAL_MS ms
+     * starting one interval after this call. If the toggle is already
+     * registered its interval will be changed and its phase restarted.
+     * Intervals below MIN_INTERVAL ms will be raised to MIN_INTERVAL ms.
+     *
+     * @param TOGGLE
+     * @param INTERVAL_MS
+     */
+    public synchronized void register(final Runnable TOGGLE, final long INTERVAL_MS) {
+        final long INTERVAL_NS = Math.max(MIN_INTERVAL, INTERVAL_MS) * 1_000_000L;
+        int index = indexOf(TOGGLE);
+        if (index < 0) {
+            ensureCapacity(size + 1);
+            index = size++;
+        }
+        final long NOW = System.nanoTime();
+        toggles[index]     = TOGGLE;
+        intervals[index]   = INTERVAL_NS;
+        nextToggles[index] = NOW + INTERVAL_NS;
+        due[index]         = false;
+        scheduleTimer(NOW);
+    }
+
+    /**
+     * Removes the given toggle. A toggle that is due but has not been
+     * called yet will be dropped. All other toggles are not affected.
+     *
+     * @param TOGGLE
+     */
+    public synchronized void unregister(final Runnable TOGGLE) {
+        int index = indexOf(TOGGLE);
+        if (index < 0) return;
+        int last = size - 1;
+        toggles[index]     = toggles[last];
+        intervals[index]   = intervals[last];
+        nextToggles[index] = nextToggles[last];
+        due[index]         = due[last];
+        toggles[last]      = null;
+        size--;
+        if (0 == size) { stopTimer(); }
+    }
+
+    public synchronized boolean isRegistered(final Runnable TOGGLE) { return indexOf(TOGGLE) >= 0; }
+
+    // Called by the timer thread, a task that has been replaced only calls the due toggles
+    private synchronized void onTimer(final long GENERATION) {
+        final long NOW    = System.nanoTime();
+        boolean    anyDue = false;
+        for (int i = 0 ; i < size ; i++) {
+            if (NOW - nextToggles[i] >= 0) {
+                // Skip missed toggles to keep the phase
+                final long MISSED = (NOW - nextToggles[i]) / intervals[i];
+                nextToggles[i] += (MISSED + 1) * intervals[i];
+                due[i]          = true;
+            }
+            anyDue |= due[i];
+        }
+        if (anyDue && !batchPending) {
+            batchPending = true;
+            Platform.runLater(batch);
+        }
+        if (GENERATION != timerGeneration) return;
+        timerTask = null;
+        if (size > 0) { scheduleTimer(NOW); }
+    }
+
+    // Called on the JavaFX application thread
+    private void runBatch() {
+        int noOfToggles = 0;
+        synchronized (this) {
+            if (batchToggles.length < size) { batchToggles = new Runnable[toggles.length]; }
+            for (int i = 0 ; i < size ; i++) {
+                if (!due[i]) continue;
+                batchToggles[noOfToggles] = toggles[i];
+                due[i]                    = false;
+                noOfToggles++;
+            }
+            batchPending = false;
+        }
+        for (int i = 0 ; i < noOfToggles ; i++) {
+            batchToggles[i].run();
+            batchToggles[i] = null;
+        }
+    }
+
+    /**
+     * Schedules the timer at the earliest deadline of all registered
+     * toggles unless it is already scheduled at or before that deadline.
+     *
+     * @param NOW
+     */
+    private void scheduleTimer(final long NOW) {
+        long deadline = nextToggles[0];
+        for (int i = 1 ; i < size ; i++) { if (nextToggles[i] - deadline < 0) { deadline = nextToggles[i]; } }
+        if (null != timerTask) {
+            if (timerDeadline - deadline <= 0) return;
+            timerTask.cancel(false);
+        }
+        if (null == executor) {
+            executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "BlinkTask");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+        }
+        final long GENERATION = ++timerGeneration;
+        timerDeadline = deadline;
+        timerTask     = executor.schedule(() -> onTimer(GENERATION), Math.max(0, deadline - NOW), TimeUnit.NANOSECONDS);
+    }
+
+    private void stopTimer() {
+        if (null == timerTask) return;
+        timerTask.cancel(false);
+        timerTask = null;
+    }
+
+    private int indexOf(final Runnable TOGGLE) {
+        for (int i = 0 ; i < size ; i++) { if (toggles[i] == TOGGLE) return i; }
+        return -1;
+    }
+
+    private void ensureCapacity(final int CAPACITY) {
+        if (CAPACITY <= toggles.length) return;
+        final int NEW_CAPACITY = Math.max(CAPACITY, toggles.length * 2);
+        toggles     = Arrays.copyOf(toggles, NEW_CAPACITY);
+        intervals   = Arrays.copyOf(intervals, NEW_CAPACITY);
+        nextToggles = Arrays.copyOf(nextToggles, NEW_CAPACITY);
+        due         = Arrays.copyOf(due, NEW_CAPACITY);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class InstanceHolder {
+        private static final BlinkCoordinator INSTANCE = new BlinkCoordinator();
+    }
+}
@@ -27,10 +27,6 @@ import eu.hansolo.medusa.events.UpdateEventListener;
 import eu.hansolo.medusa.skins.*;
 import eu.hansolo.medusa.tools.Helper;
 import eu.hansolo.medusa.tools.TimeSectionComparator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.beans.NamedArg;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
@@ -45,6 +41,7 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.StringProperty;
 import javafx.beans.property.StringPropertyBase;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.NodeOrientation;
 import javafx.scene.control.Control;
@@ -55,20 +52,14 @@ import javafx.scene.text.Font;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -80,6 +71,7 @@ public class Clock extends Control {
 
     public  static final int                  SHORT_INTERVAL   = 20;
     public  static final int                  LONG_INTERVAL    = 1000;
+    static  final long                        MAX_CATCH_UP     = 3_600_000;
     public  static final Color                DARK_COLOR       = Color.rgb(36, 36, 36);
     public  static final Color                BRIGHT_COLOR     = Color.rgb(223, 223, 223);
     private        final UpdateEvent          RESIZE_EVENT     = new UpdateEvent(Clock.this, EventType.RESIZE);
@@ -90,8 +82,8 @@ public class Clock extends Control {
     private        final UpdateEvent          SECTION_EVENT    = new UpdateEvent(Clock.this, UpdateEvent.EventType.SECTION);
     private        final UpdateEvent          FINISHED_EVENT   = new UpdateEvent(Clock.this, UpdateEvent.EventType.FINISHED);
 
-    private volatile ScheduledFuture<?>       periodicTickTask;
-    private static   ScheduledExecutorService periodicTickExecutorService;
+    private TimeSource                        timeSource;
+    private long                              lastSourceMillis;
 
     // Alarm events
     private List<UpdateEventListener>         listenerList          = new CopyOnWriteArrayList<>();
@@ -101,7 +93,6 @@ public class Clock extends Control {
     private ObjectProperty<ZonedDateTime>     time;
     private LongProperty                      currentTime;
     private ZoneId                            zoneId;
-    private Timeline                          timeline;
     private int                               updateInterval;
     private ClockSkinType                     skinType;
     private String                            _title;
@@ -116,6 +107,8 @@ public class Clock extends Control {
     private boolean                           _highlightSections;
     private BooleanProperty                   highlightSections;
     private ObservableList<TimeSection>       areas;
+    private TimeSectionIndex                  sectionIndex;
+    private TimeSectionIndex                  areaIndex;
     private boolean                           _areasVisible;
     private BooleanProperty                   areasVisible;
     private boolean                           _highlightAreas;
@@ -187,7 +180,7 @@ public class Clock extends Control {
     private boolean                           _alarmsVisible;
     private BooleanProperty                   alarmsVisible;
     private ObservableList<Alarm>             alarms;
-    private List<Alarm>                       alarmsToRemove;
+    private AlarmIndex                        alarmIndex;
     private boolean                           _lcdCrystalEnabled;
     private BooleanProperty                   lcdCrystalEnabled;
     private boolean                           _shadowsEnabled;
@@ -292,15 +285,9 @@ public class Clock extends Control {
         time                    = new ObjectPropertyBase<ZonedDateTime>(TIME) {
             @Override protected void invalidated() {
                 if (!isRunning() && isAnimated()) {
-                    long animationDuration = getAnimationDuration();
-                    timeline.stop();
-                    final KeyValue KEY_VALUE = new KeyValue(currentTime, TIME.toEpochSecond());
-                    final KeyFrame KEY_FRAME = new KeyFrame(javafx.util.Duration.millis(animationDuration), KEY_VALUE);
-                    timeline.getKeyFrames().setAll(KEY_FRAME);
-                    timeline.setOnFinished(e -> fireUpdateEvent(FINISHED_EVENT));
-                    timeline.play();
+                    GaugeAnimator.getInstance().animate(Clock.this, GaugeAnimator.CLOCK_TIME, currentTime.get(), get().toEpochSecond(), getAnimationDuration());
                 } else {
-                    currentTime.set(TIME.toEpochSecond());
+                    currentTime.set(get().toEpochSecond());
                     fireUpdateEvent(FINISHED_EVENT);
                 }
             }
@@ -313,8 +300,6 @@ public class Clock extends Control {
             @Override public String getName() { return "currentTime"; }
         };
         zoneId                  = time.get().getZone();
-        timeline                = new Timeline();
-        timeline.setOnFinished(e -> fireUpdateEvent(FINISHED_EVENT));
         updateInterval          = LONG_INTERVAL;
         _checkSectionsForValue  = false;
         _checkAreasForValue     = false;
@@ -322,6 +307,8 @@ public class Clock extends Control {
         _secondsVisible         = false;
         _highlightSections      = false;
         areas                   = FXCollections.observableArrayList();
+        sectionIndex            = new TimeSectionIndex(sections);
+        areaIndex               = new TimeSectionIndex(areas);
         _areasVisible           = false;
         _highlightAreas         = false;
         _text                   = "";
@@ -358,7 +345,8 @@ public class Clock extends Control {
         _alarmsEnabled          = false;
         _alarmsVisible          = false;
         alarms                  = FXCollections.observableArrayList();
-        alarmsToRemove          = new ArrayList<>();
+        alarmIndex              = new AlarmIndex(Clock.this);
+        timeSource              = TimeSource.SYSTEM;
         _lcdCrystalEnabled      = false;
         _shadowsEnabled         = false;
         _lcdFont                = LcdFont.DIGITAL_BOLD;
@@ -370,7 +358,15 @@ public class Clock extends Control {
         _customFont             = Fonts.robotoRegular(12);
     }
 
-    private void registerListeners() { disabledProperty().addListener(o -> setOpacity(isDisabled() ? 0.4 : 1)); }
+    private void registerListeners() {
+        disabledProperty().addListener(o -> setOpacity(isDisabled() ? 0.4 : 1));
+        alarms.addListener((ListChangeListener<Alarm>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) { change.getRemoved().forEach(alarm -> alarmIndex.remove(alarm)); }
+                if (change.wasAdded())   { change.getAddedSubList().forEach(alarm -> alarmIndex.add(alarm)); }
+            }
+        });
+    }
 
 
     // ******************** Methods *******************************************
@@ -776,7 +772,7 @@ public class Clock extends Control {
     public void setDiscreteSeconds(boolean DISCRETE) {
         if (null == discreteSeconds) {
             _discreteSeconds = DISCRETE;
-            stopTask(periodicTickTask);
+            stopTickTask();
             if (isAnimated()) return;
             scheduleTickTask();
         } else {
@@ -787,7 +783,7 @@ public class Clock extends Control {
         if (null == discreteSeconds) {
             discreteSeconds = new BooleanPropertyBase() {
                 @Override protected void invalidated() {
-                    stopTask(periodicTickTask);
+                    stopTickTask();
                     if (isAnimated()) return;
                     scheduleTickTask();
                 }
@@ -814,7 +810,7 @@ public class Clock extends Control {
     public void setDiscreteMinutes(boolean DISCRETE) {
         if (null == discreteMinutes) {
             _discreteMinutes = DISCRETE;
-            stopTask(periodicTickTask);
+            stopTickTask();
             if (isAnimated()) return;
             scheduleTickTask();
         } else {
@@ -825,7 +821,7 @@ public class Clock extends Control {
         if (null == discreteMinutes) {
             discreteMinutes = new BooleanPropertyBase() {
                 @Override protected void invalidated() {
-                    stopTask(periodicTickTask);
+                    stopTickTask();
                     if (isAnimated()) return;
                     scheduleTickTask();
                 }
@@ -1038,7 +1034,7 @@ public class Clock extends Control {
     public void setRunning(boolean RUNNING) { 
         if (null == running) {
             _running = RUNNING;
-            if (RUNNING && !isAnimated()) { scheduleTickTask(); } else { stopTask(periodicTickTask); }
+            if (RUNNING && !isAnimated()) { scheduleTickTask(); } else { stopTickTask(); }
         } else {
             running.set(RUNNING);
         }
@@ -1047,7 +1043,7 @@ public class Clock extends Control {
         if (null == running) {
             running = new BooleanPropertyBase(_running) {
             @Override protected void invalidated() {
-                if (get() && !isAnimated()) { scheduleTickTask(); } else { stopTask(periodicTickTask); }
+                if (get() && !isAnimated()) { scheduleTickTask(); } else { stopTickTask(); }
             }
             @Override public Object getBean() { return Clock.this; }
             @Override public String getName() { return "running"; }
@@ -1996,69 +1992,56 @@ public class Clock extends Control {
     }
 
     /**
-     * Calling this method will check the current time against all Alarm
-     * objects in alarms. The Alarm object will fire events in case the
-     * time is after the alarm time.
+     * Returns the TimeSource that defines how fast the time of a running
+     * clock passes.
+     * @return the TimeSource of the clock
+     */
+    public TimeSource getTimeSource() { return timeSource; }
+    /**
+     * Defines the TimeSource that defines how fast the time of a running
+     * clock passes. The default is TimeSource.SYSTEM.
+     * @param SOURCE
+     */
+    public void setTimeSource(final TimeSource SOURCE) {
+        timeSource       = null == SOURCE ? TimeSource.SYSTEM : SOURCE;
+        lastSourceMillis = timeSource.millis();
+    }
+
+    /**
+     * Advances the time of the clock by the given duration and fires all
+     * alarms, time section and time events in between once and in order on
+     * the calling thread, independent of the TimeSource and of the clock
+     * running. Can be used to replay or test alarm handling without waiting
+     * for the ticks of the clock. If the clock is part of a scene this method
+     * has to be called on the JavaFX application thread.
+     * @param DURATION
+     */
+    public void advance(final Duration DURATION) {
+        long remaining = DURATION.toMillis();
+        while (remaining > 0) {
+            final long          STEP     = Math.min(remaining, MAX_CATCH_UP);
+            final ZonedDateTime OLD_TIME = getTime();
+            setTime(OLD_TIME.plusNanos(STEP * 1_000_000L));
+            checkInterval(OLD_TIME, time.get(), STEP);
+            remaining -= STEP;
+        }
+    }
+
+    /**
+     * Calling this method will fire events for all Alarm objects in alarms
+     * that are due at the given time. Only the due alarms will be taken from
+     * the alarm index. Alarms with Repetition.ONCE will be removed after
+     * they have been fired.
      * @param TIME
      */
     private void checkAlarms(final ZonedDateTime TIME) {
-        alarmsToRemove.clear();
-        for (Alarm alarm : alarms) {
-            final ZonedDateTime ALARM_TIME = alarm.getTime();
-            switch (alarm.getRepetition()) {
-                case ONCE:
-                    if (TIME.isAfter(ALARM_TIME)) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
-                        }
-                        alarmsToRemove.add(alarm);
-                    }
-                    break;
-                case HALF_HOURLY:
-                    if ((ALARM_TIME.getMinute() == TIME.getMinute() ||
-                        ALARM_TIME.plusMinutes(30).getMinute() == TIME.getMinute()) &&
-                        ALARM_TIME.getSecond() == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-                case HOURLY:
-                    if (ALARM_TIME.getMinute() == TIME.getMinute() &&
-                        ALARM_TIME.getSecond() == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-                case DAILY:
-                    if (ALARM_TIME.getHour()   == TIME.getHour() &&
-                        ALARM_TIME.getMinute() == TIME.getMinute() &&
-                        ALARM_TIME.getSecond() == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-                case WEEKLY:
-                    if (ALARM_TIME.getDayOfWeek() == TIME.getDayOfWeek() &&
-                        ALARM_TIME.getHour()      == TIME.getHour() &&
-                        ALARM_TIME.getMinute()    == TIME.getMinute() &&
-                        ALARM_TIME.getSecond()    == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
+        Alarm alarm;
+        while (null != (alarm = alarmIndex.pollDue(TIME))) {
+            if (alarm.isArmed()) {
+                fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
+                alarm.executeCommand();
             }
-        }
-        for (Alarm alarm : alarmsToRemove) {
-            removeAlarm(alarm);
+            if (Alarm.Repetition.ONCE == alarm.getRepetition()) { alarms.remove(alarm); }
         }
     }
 
@@ -2080,69 +2063,88 @@ public class Clock extends Control {
         }
     }
 
-    private void tick() { Platform.runLater(() -> {
-        if (isAnimated()) return;
-        ZonedDateTime oldTime = getTime();
-        setTime(getTime().plus(Duration.ofMillis(updateInterval)));
-        ZonedDateTime now = time.get();
-        if (isAlarmsEnabled()) checkAlarms(now);
-        if (isAutoNightMode()) checkForNight(now);
-        if (getCheckSectionsForValue()) {
-            int listSize = sections.size();
-            for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(LocalTime.from(now)); }
+    /**
+     * Will be called by the ClockScheduler on the JavaFX application thread
+     * and advances the time by the milliseconds that passed in the TimeSource
+     * since the last tick. Clocks that only show discrete seconds will only be
+     * updated if the displayed second changes.
+     */
+    void tick() {
+        final long SOURCE_MILLIS = timeSource.millis();
+        if (isAnimated()) {
+            lastSourceMillis = SOURCE_MILLIS;
+            return;
         }
-        if (getCheckAreasForValue()) {
-            int listSize = areas.size();
-            for (int i = 0 ; i < listSize ; i++) { areas.get(i).checkForValue(LocalTime.from(now)); }
+        final long ELAPSED = SOURCE_MILLIS - lastSourceMillis;
+        if (0 == ELAPSED) return;
+        ZonedDateTime oldTime = getTime();
+        if (ELAPSED > 0 && isDiscreteSeconds() && ClockSkinType.DESIGN != skinType && oldTime.getNano() / 1_000_000 + ELAPSED < 1000) return;
+        lastSourceMillis = SOURCE_MILLIS;
+        setTime(oldTime.plusNanos(ELAPSED * 1_000_000L));
+        checkInterval(oldTime, time.get(), ELAPSED);
+    }
+
+    /**
+     * Fires all alarms, time section and time events between the given times.
+     * If the time passed forward by not more than MAX_CATCH_UP ms the interval
+     * will be handled in steps of one second, so that every boundary in the
+     * interval will be handled once and in order.
+     * @param OLD_TIME
+     * @param NEW_TIME
+     * @param ELAPSED ms between OLD_TIME and NEW_TIME
+     */
+    private void checkInterval(final ZonedDateTime OLD_TIME, final ZonedDateTime NEW_TIME, final long ELAPSED) {
+        ZonedDateTime from = OLD_TIME;
+        if (ELAPSED > 0 && ELAPSED <= MAX_CATCH_UP) {
+            ZonedDateTime step = OLD_TIME.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+            while (step.isBefore(NEW_TIME)) {
+                check(from, step);
+                from = step;
+                step = step.plusSeconds(1);
+            }
         }
+        check(from, NEW_TIME);
+        if (isAutoNightMode()) checkForNight(NEW_TIME);
+    }
+
+    private void check(final ZonedDateTime FROM, final ZonedDateTime TO) {
+        if (isAlarmsEnabled()) checkAlarms(TO);
+        if (getCheckSectionsForValue()) sectionIndex.checkForValue(TO.toLocalTime());
+        if (getCheckAreasForValue()) areaIndex.checkForValue(TO.toLocalTime());
 
         if (timeEventListenerList.isEmpty()) return;
         // Fire TimeEvents
-        if (oldTime.getSecond() != now.getSecond()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.SECOND));
-        if (oldTime.getMinute() != now.getMinute()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.MINUTE));
-        if (oldTime.getHour() != now.getHour()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.HOUR));
-    }); }
+        if (FROM.getSecond() != TO.getSecond()) fireTimeEvent(new TimeEvent(Clock.this, TO, TimeEventType.SECOND));
+        if (FROM.getMinute() != TO.getMinute()) fireTimeEvent(new TimeEvent(Clock.this, TO, TimeEventType.MINUTE));
+        if (FROM.getHour() != TO.getHour()) fireTimeEvent(new TimeEvent(Clock.this, TO, TimeEventType.HOUR));
+    }
 
 
     // ******************** Scheduled tasks ***********************************
-    private synchronized static void enableTickExecutorService() {
-        if (null == periodicTickExecutorService) {
-            periodicTickExecutorService = new ScheduledThreadPoolExecutor(1, getThreadFactory("ClockTick", true));
-        }
-    }
-    private synchronized void scheduleTickTask() {
-        enableTickExecutorService();
-        stopTask(periodicTickTask);
-
+    private void scheduleTickTask() {
         updateInterval = (isDiscreteMinutes() && isDiscreteSeconds()) ? LONG_INTERVAL : SHORT_INTERVAL;
-        periodicTickTask = periodicTickExecutorService.scheduleAtFixedRate(() -> tick(), 0, updateInterval, TimeUnit.MILLISECONDS);
-    }
-
-    private static ThreadFactory getThreadFactory(final String THREAD_NAME, final boolean IS_DAEMON) {
-        return runnable -> {
-            Thread thread = new Thread(runnable, THREAD_NAME);
-            thread.setDaemon(IS_DAEMON);
-            return thread;
-        };
+        if (!ClockScheduler.getInstance().isRegistered(Clock.this)) { lastSourceMillis = timeSource.millis(); }
+        ClockScheduler.getInstance().register(Clock.this, updateInterval);
     }
 
-    private void stopTask(ScheduledFuture<?> task) {
-        if (null == task) return;
-        task.cancel(true);
-        task = null;
+    private void stopTickTask() {
+        ClockScheduler.getInstance().unregister(Clock.this);
     }
 
     /**
      * Calling this method will stop all threads. This is needed when using
      * JavaFX on mobile devices when the device goes to sleep mode.
+     * The tick thread is shared by all clocks and because of that all running
+     * clocks will stop.
      */
-    public void stop() {
-        if (null != periodicTickTask) { stopTask(periodicTickTask); }
-        if (null != periodicTickExecutorService) { periodicTickExecutorService.shutdownNow(); }
-    }
+    public void stop() { ClockScheduler.getInstance().stop(); }
 
     private void createShutdownHook() { Runtime.getRuntime().addShutdownHook(new Thread(() -> stop())); }
 
+    void setAnimatedCurrentTime(final long EPOCH_SECONDS) { currentTime.set(EPOCH_SECONDS); }
+
+    void onAnimationFinished() { fireUpdateEvent(FINISHED_EVENT); }
+
 
     // ******************** Style related *************************************
     @Override protected Skin createDefaultSkin() {
@@ -348,6 +348,11 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
         return (B)this;
     }
 
+    public final B timeSource(final TimeSource SOURCE) {
+        properties.put("timeSource", new SimpleObjectProperty<>(SOURCE));
+        return (B)this;
+    }
+
     public final B prefSize(final double WIDTH, final double HEIGHT) {
         properties.put("prefSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
         return (B)this;
@@ -724,6 +729,8 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
                 CONTROL.setCustomFontEnabled(((BooleanProperty) properties.get(key)).get());
             } else if ("customFont".equals(key)) {
                 CONTROL.setCustomFont(((ObjectProperty<Font>) properties.get(key)).get());
+            } else if ("timeSource".equals(key)) {
+                CONTROL.setTimeSource(((ObjectProperty<TimeSource>) properties.get(key)).get());
             }
         }
         return CONTROL;
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import javafx.application.Platform;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * One timer that drives all running clocks. The timer runs every
+ * Clock.SHORT_INTERVAL ms and counts the ticks that are due for each
+ * clock (depending on its update interval). All due clocks will then be
+ * ticked in one batch with one Platform.runLater() call. If the last
+ * batch has not been executed yet no further runnable will be posted and
+ * the clocks will be ticked with the next batch instead. Each clock takes
+ * the passed time from its TimeSource.
+ * The timer will only run as long as at least one clock is registered.
+ */
+final class ClockScheduler {
+    private static final int            INITIAL_CAPACITY = 16;
+    private final Runnable              batch;
+    private ScheduledThreadPoolExecutor executor;
+    private ScheduledFuture<?>          timerTask;
+    private Clock[]                     clocks;
+    private int[]                       intervals;
+    private long[]                      nextTicks;
+    private int[]                       dueTicks;
+    private int                         size;
+    private boolean                     batchPending;
+    private Clock[]                     batchClocks;
+
+
+    // ******************** Constructors **************************************
+    private ClockScheduler() {
+        batch        = this::runBatch;
+        clocks       = new Clock[INITIAL_CAPACITY];
+        intervals    = new int[INITIAL_CAPACITY];
+        nextTicks    = new long[INITIAL_CAPACITY];
+        dueTicks     = new int[INITIAL_CAPACITY];
+        size         = 0;
+        batchPending = false;
+        batchClocks  = new Clock[INITIAL_CAPACITY];
+    }
+
+    static ClockScheduler getInstance() { return InstanceHolder.INSTANCE; }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Registers the given clock with the given update interval. The clock
+     * will be ticked with the next run of the timer and after that every
+     * INTERVAL_MS ms. If the clock is already registered only its interval
+     * will be changed.
+     *
+     * @param CLOCK
+     * @param INTERVAL_MS
+     */
+    synchronized void register(final Clock CLOCK, final int INTERVAL_MS) {
+        int index = indexOf(CLOCK);
+        if (index < 0) {
+            ensureCapacity(size + 1);
+            index = size++;
+        }
+        clocks[index]    = CLOCK;
+        intervals[index] = Math.max(Clock.SHORT_INTERVAL, INTERVAL_MS);
+        nextTicks[index] = System.nanoTime();
+        dueTicks[index]  = 0;
+        startTimer();
+    }
+
+    /**
+     * Removes the given clock. Ticks of the clock that have not been
+     * executed yet will be dropped.
+     *
+     * @param CLOCK
+     */
+    synchronized void unregister(final Clock CLOCK) {
+        int index = indexOf(CLOCK);
+        if (index < 0) return;
+        int last = size - 1;
+        clocks[index]    = clocks[last];
+        intervals[index] = intervals[last];
+        nextTicks[index] = nextTicks[last];
+        dueTicks[index]  = dueTicks[last];
+        clocks[last]     = null;
+        size--;
+        if (0 == size) { stopTimer(); }
+    }
+
+    synchronized boolean isRegistered(final Clock CLOCK) { return indexOf(CLOCK) >= 0; }
+
+    /**
+     * Stops the timer thread and removes all clocks
+     */
+    synchronized void stop() {
+        Arrays.fill(clocks, 0, size, null);
+        size = 0;
+        stopTimer();
+        if (null != executor) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    // Called by the timer thread
+    private synchronized void onTimer() {
+        final long NOW    = System.nanoTime();
+        boolean    anyDue = false;
+        for (int i = 0 ; i < size ; i++) {
+            final long INTERVAL_NS = intervals[i] * 1_000_000L;
+            while (NOW - nextTicks[i] >= 0) {
+                dueTicks[i]++;
+                nextTicks[i] += INTERVAL_NS;
+            }
+            anyDue |= dueTicks[i] > 0;
+        }
+        if (anyDue && !batchPending) {
+            batchPending = true;
+            Platform.runLater(batch);
+        }
+    }
+
+    // Called on the JavaFX application thread
+    private void runBatch() {
+        int noOfClocks = 0;
+        synchronized (this) {
+            if (batchClocks.length < size) { batchClocks = new Clock[clocks.length]; }
+            for (int i = 0 ; i < size ; i++) {
+                if (0 == dueTicks[i]) continue;
+                batchClocks[noOfClocks] = clocks[i];
+                dueTicks[i]             = 0;
+                noOfClocks++;
+            }
+            batchPending = false;
+        }
+        for (int i = 0 ; i < noOfClocks ; i++) {
+            batchClocks[i].tick();
+            batchClocks[i] = null;
+        }
+    }
+
+    private void startTimer() {
+        if (null != timerTask) return;
+        if (null == executor) {
+            executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "ClockTick");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+        }
+        timerTask = executor.scheduleAtFixedRate(this::onTimer, 0, Clock.SHORT_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    private void stopTimer() {
+        if (null == timerTask) return;
+        timerTask.cancel(false);
+        timerTask = null;
+    }
+
+    private int indexOf(final Clock CLOCK) {
+        for (int i = 0 ; i < size ; i++) { if (clocks[i] == CLOCK) return i; }
+        return -1;
+    }
+
+    private void ensureCapacity(final int CAPACITY) {
+        if (CAPACITY <= clocks.length) return;
+        final int NEW_CAPACITY = Math.max(CAPACITY, clocks.length * 2);
+        clocks    = Arrays.copyOf(clocks, NEW_CAPACITY);
+        intervals = Arrays.copyOf(intervals, NEW_CAPACITY);
+        nextTicks = Arrays.copyOf(nextTicks, NEW_CAPACITY);
+        dueTicks  = Arrays.copyOf(dueTicks, NEW_CAPACITY);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class InstanceHolder {
+        private static final ClockScheduler INSTANCE = new ClockScheduler();
+    }
+}
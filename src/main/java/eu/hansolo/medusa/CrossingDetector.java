@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.medusa;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Detects threshold and marker crossings on the values that will be fed
+ * into a gauge (by setValue() or by the ValueSink) instead of on the
+ * animated current value, so that fast spikes between two frames won't
+ * be missed and the crossings will be reported without delay.
+ * The threshold (if checkThreshold is enabled) and the values of all
+ * markers will be kept in a sorted array. All levels that were crossed
+ * between two consecutive values will be found by binary search in
+ * O(log n + k) and reported in the order in which they were crossed.
+ * A level is exceeded if the value is >= the level and underrun if the
+ * value is < level - hysteresis. If a debounce time is defined a crossing
+ * will only be reported if the new state holds for at least that time.
+ * The check will be done when the next value arrives or, if the value
+ * doesn't change anymore, on the JavaFX application thread as soon as the
+ * debounce time expired. Timestamps have to be taken from System.nanoTime().
+ * The levels will be collected again on the next value after the markers,
+ * the value of one of the markers, the threshold or checkThreshold changed.
+ */
+public final class CrossingDetector {
+    private static final int               INITIAL_CAPACITY = 8;
+    private static final ScheduledThreadPoolExecutor DEBOUNCE_TIMER;
+    static {
+        DEBOUNCE_TIMER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "CrossingDebounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+        DEBOUNCE_TIMER.setRemoveOnCancelPolicy(true);
+    }
+    private        final Runnable          expiryCheck;
+    private        final Runnable          markerListener;
+    private        final Gauge             gauge;
+    private volatile     boolean           dirty;
+    private              boolean           checkThreshold;
+    private              double            threshold;
+    private              double            hysteresis;
+    private              long              debounceNs;
+    private              boolean           initialized;
+    private              double            lastValue;
+    private              int               size;
+    private              double[]          levels;
+    private              Object[]          sources;
+    private              boolean[]         above;
+    private              boolean[]         pending;
+    private              long[]            pendingSince;
+    private              int[]             pendingIndices;
+    private              int               noOfPending;
+
+
+    // ******************** Constructors **************************************
+    CrossingDetector(final Gauge GAUGE) {
+        gauge          = GAUGE;
+        expiryCheck    = this::checkExpired;
+        markerListener = () -> dirty = true;
+        dirty          = true;
+        hysteresis     = 0;
+        debounceNs     = 0;
+        initialized    = false;
+        levels         = new double[INITIAL_CAPACITY];
+        sources        = new Object[INITIAL_CAPACITY];
+        above          = new boolean[INITIAL_CAPACITY];
+        pending        = new boolean[INITIAL_CAPACITY];
+        pendingSince   = new long[INITIAL_CAPACITY];
+        pendingIndices = new int[INITIAL_CAPACITY];
+        for (Marker marker : GAUGE.getMarkers()) { marker.addValueListener(markerListener); }
+        GAUGE.getMarkers().addListener((ListChangeListener<Marker>) change -> {
+            while (change.next()) {
+                for (Marker marker : change.getRemoved())       { marker.removeValueListener(markerListener); }
+                for (Marker marker : change.getAddedSubList()) { marker.addValueListener(markerListener); }
+            }
+            dirty = true;
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    public synchronized double getHysteresis() { return hysteresis; }
+    /**
+     * Defines how far the value has to fall below a level before the level
+     * counts as underrun again, e.g. a threshold of 80 with a hysteresis of
+     * 5 will be exceeded at 80 and underrun below 75. This avoids a flood of
+     * crossings if a noisy value moves around a level.
+     *
+     * @param HYSTERESIS
+     */
+    public synchronized void setHysteresis(final double HYSTERESIS) {
+        hysteresis = Double.isNaN(HYSTERESIS) ? 0 : Math.max(0, HYSTERESIS);
+        dirty      = true;
+    }
+
+    public synchronized long getDebounce() { return debounceNs / 1_000_000L; }
+    /**
+     * Defines the time in ms a new state has to hold before the crossing
+     * will be reported. If the value returns before that time no crossing
+     * will be reported.
+     *
+     * @param DEBOUNCE_MS
+     */
+    public synchronized void setDebounce(final long DEBOUNCE_MS) {
+        debounceNs = Math.max(0, DEBOUNCE_MS) * 1_000_000L;
+        dirty      = true;
+    }
+
+    /**
+     * Returns the number of levels (threshold and markers) that are checked
+     *
+     * @return the number of levels that are checked
+     */
+    public synchronized int getNoOfLevels() {
+        validate();
+        return size;
+    }
+
+    /**
+     * Checks the given value against all levels and reports all crossings
+     * since the last value. Will be called by the gauge for each new value.
+     *
+     * @param VALUE
+     */
+    public void add(final double VALUE) { add(VALUE, System.nanoTime()); }
+    /**
+     * Checks the given value that was measured at the given time (in ns,
+     * e.g. from System.nanoTime()) against all levels and reports all
+     * crossings since the last value.
+     *
+     * @param VALUE
+     * @param TIMESTAMP_NS
+     */
+    public synchronized void add(final double VALUE, final long TIMESTAMP_NS) {
+        if (Double.isNaN(VALUE)) return;
+        validate();
+        if (!initialized) {
+            for (int i = 0 ; i < size ; i++) { above[i] = isAbove(i, VALUE); }
+            lastValue   = VALUE;
+            initialized = true;
+            return;
+        }
+        final double LAST_VALUE = lastValue;
+        lastValue = VALUE;
+        if (0 == size) return;
+
+        if (VALUE > LAST_VALUE) {
+            // Levels in (LAST_VALUE, VALUE] will be exceeded in ascending order
+            final int TO = firstAbove(VALUE, 0);
+            for (int i = firstAbove(LAST_VALUE, 0) ; i < TO ; i++) {
+                if (!above[i]) { cross(i, VALUE, TIMESTAMP_NS); }
+            }
+        } else if (VALUE < LAST_VALUE) {
+            // Levels with level - hysteresis in (VALUE, LAST_VALUE] will be underrun in descending order
+            final int TO = firstAbove(VALUE, hysteresis);
+            for (int i = firstAbove(LAST_VALUE, hysteresis) - 1 ; i >= TO ; i--) {
+                if (above[i]) { cross(i, VALUE, TIMESTAMP_NS); }
+            }
+        }
+        if (noOfPending > 0) { checkPending(VALUE, TIMESTAMP_NS); }
+    }
+
+    private void cross(final int INDEX, final double VALUE, final long TIMESTAMP_NS) {
+        if (0 == debounceNs) {
+            above[INDEX] = !above[INDEX];
+            fire(INDEX, VALUE);
+        } else if (!pending[INDEX]) {
+            pending[INDEX]              = true;
+            pendingSince[INDEX]         = TIMESTAMP_NS;
+            pendingIndices[noOfPending] = INDEX;
+            noOfPending++;
+            // Resolve the crossing when the debounce time expired even if no further value arrives
+            final long DELAY_NS = Math.max(0, TIMESTAMP_NS + debounceNs - System.nanoTime());
+            DEBOUNCE_TIMER.schedule(() -> Platform.runLater(expiryCheck), DELAY_NS, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Called on the JavaFX application thread after a debounce time expired
+    private synchronized void checkExpired() {
+        if (noOfPending > 0) { checkPending(lastValue, System.nanoTime()); }
+    }
+
+    // Pending crossings will be kept in the order in which they happened
+    private void checkPending(final double VALUE, final long TIMESTAMP_NS) {
+        int remaining = 0;
+        for (int p = 0 ; p < noOfPending ; p++) {
+            final int     INDEX = pendingIndices[p];
+            final boolean HOLDS = above[INDEX] != isAbove(INDEX, VALUE);
+            if (HOLDS && TIMESTAMP_NS - pendingSince[INDEX] < debounceNs) {
+                pendingIndices[remaining++] = INDEX;
+                continue;
+            }
+            pending[INDEX] = false;
+            if (HOLDS) {
+                above[INDEX] = !above[INDEX];
+                fire(INDEX, VALUE);
+            }
+        }
+        noOfPending = remaining;
+    }
+
+    private void fire(final int INDEX, final double VALUE) {
+        final Object SOURCE = sources[INDEX];
+        if (SOURCE instanceof Marker) {
+            ((Marker) SOURCE).fireCrossing(above[INDEX], VALUE);
+        } else {
+            gauge.fireThresholdCrossing(above[INDEX], VALUE);
+        }
+    }
+
+    // Returns the new state of the given level for the given value, inside of the hysteresis the state won't change
+    private boolean isAbove(final int INDEX, final double VALUE) {
+        if (VALUE >= levels[INDEX]) return true;
+        if (VALUE < levels[INDEX] - hysteresis) return false;
+        return initialized && above[INDEX];
+    }
+
+    // Returns the index of the first level where level - SHIFT > VALUE
+    private int firstAbove(final double VALUE, final double SHIFT) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            final int MID = (lo + hi) >>> 1;
+            if (levels[MID] - SHIFT > VALUE) {
+                hi = MID;
+            } else {
+                lo = MID + 1;
+            }
+        }
+        return lo;
+    }
+
+    private void validate() {
+        final boolean CHECK_THRESHOLD = gauge.isCheckThreshold();
+        final double  THRESHOLD       = gauge.getThreshold();
+        if (dirty || CHECK_THRESHOLD != checkThreshold || (CHECK_THRESHOLD && Double.compare(THRESHOLD, threshold) != 0)) {
+            rebuild(CHECK_THRESHOLD, THRESHOLD);
+        }
+    }
+
+    private void rebuild(final boolean CHECK_THRESHOLD, final double THRESHOLD) {
+        dirty          = false;
+        checkThreshold = CHECK_THRESHOLD;
+        threshold      = THRESHOLD;
+
+        final Marker[] MARKERS = gauge.getMarkers().toArray(new Marker[0]);
+        final int      COUNT   = MARKERS.length + (CHECK_THRESHOLD ? 1 : 0);
+        if (COUNT > levels.length) {
+            levels         = new double[COUNT];
+            sources        = new Object[COUNT];
+            above          = new boolean[COUNT];
+            pending        = new boolean[COUNT];
+            pendingSince   = new long[COUNT];
+            pendingIndices = new int[COUNT];
+        }
+        Arrays.fill(sources, null);
+        size = 0;
+        if (CHECK_THRESHOLD && !Double.isNaN(THRESHOLD)) { insert(THRESHOLD, gauge); }
+        for (Marker marker : MARKERS) {
+            if (!Double.isNaN(marker.getValue())) { insert(marker.getValue(), marker); }
+        }
+
+        // The states will be taken from the last value, crossings that are caused by moving a level won't be reported
+        Arrays.fill(pending, false);
+        noOfPending = 0;
+        if (initialized) {
+            final double LAST_VALUE = lastValue;
+            initialized = false;
+            for (int i = 0 ; i < size ; i++) { above[i] = isAbove(i, LAST_VALUE); }
+            initialized = true;
+        }
+    }
+
+    // Insertion sort, the number of levels is small and this will only be done when the levels changed
+    private void insert(final double LEVEL, final Object SOURCE) {
+        int i = size;
+        while (i > 0 && levels[i - 1] > LEVEL) {
+            levels[i]  = levels[i - 1];
+            sources[i] = sources[i - 1];
+            i--;
+        }
+        levels[i]  = LEVEL;
+        sources[i] = SOURCE;
+        size++;
+    }
+}
@@ -17,103 +17,215 @@
 package eu.hansolo.medusa;
 
 import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
  * Created by hansolo on 11.12.15.
+ *
+ * The font files will be loaded on demand when a font is requested for
+ * the first time. preload() loads all fonts in parallel on background
+ * threads to take this cost out of the startup of the first skins.
+ * Font instances will be cached per (name, size) and the widths of
+ * measured texts per (font, text), both in caches that are bounded and
+ * drop the least recently used entries. Lookups use one reusable probe
+ * key per cache, so a cache hit doesn't allocate.
  */
 public class Fonts {
-    private static final String DIGITAL_NAME;
-    private static final String DIGITAL_READOUT_NAME;
-    private static final String DIGITAL_READOUT_BOLD_NAME;
-    private static final String ELEKTRA_NAME;
-    private static final String ROBOTO_THIN_NAME;
-    private static final String ROBOTO_LIGHT_NAME;
-    private static final String ROBOTO_REGULAR_NAME;
-    private static final String ROBOTO_MEDIUM_NAME;
-    private static final String ROBOTO_BOLD_NAME;
-    private static final String ROBOTO_LIGHT_CONDENSED_NAME;
-    private static final String ROBOTO_REGULAR_CONDENSED_NAME;
-    private static final String ROBOTO_BOLD_CONDENSED_NAME;
-    private static final String LATO_LIGHT_NAME;
-    private static final String LATO_REGULAR_NAME;
-    private static final String LATO_BOLD_NAME;
-
-    private static String digitalName;
-    private static String digitalReadoutName;
-    private static String digitalReadoutBoldName;
-    private static String elektraName;
-
-    private static String robotoThinName;
-    private static String robotoLightName;
-    private static String robotoRegularName;
-    private static String robotoMediumName;
-    private static String robotoBoldName;
-
-    private static String robotoLightCondensedName;
-    private static String robotoRegularCondensedName;
-    private static String robotoBoldCondensedName;
-
-    private static String latoLightName;
-    private static String latoRegularName;
-    private static String latoBoldName;
-
-
+    public  static final int              MAX_CACHED_FONTS         = 256;
+    public  static final int              MAX_CACHED_WIDTHS        = 1024;
+    private static final int              DIGITAL                  = 0;
+    private static final int              DIGITAL_READOUT          = 1;
+    private static final int              DIGITAL_READOUT_BOLD     = 2;
+    private static final int              ELEKTRA                  = 3;
+    private static final int              ROBOTO_THIN              = 4;
+    private static final int              ROBOTO_LIGHT             = 5;
+    private static final int              ROBOTO_REGULAR           = 6;
+    private static final int              ROBOTO_MEDIUM            = 7;
+    private static final int              ROBOTO_BOLD              = 8;
+    private static final int              ROBOTO_LIGHT_CONDENSED   = 9;
+    private static final int              ROBOTO_REGULAR_CONDENSED = 10;
+    private static final int              ROBOTO_BOLD_CONDENSED    = 11;
+    private static final int              LATO_LIGHT               = 12;
+    private static final int              LATO_REGULAR             = 13;
+    private static final int              LATO_BOLD                = 14;
+    private static final String[]         RESOURCES                = { "/eu/hansolo/medusa/digital.ttf",
+                                                                       "/eu/hansolo/medusa/digitalreadout.ttf",
+                                                                       "/eu/hansolo/medusa/digitalreadoutb.ttf",
+                                                                       "/eu/hansolo/medusa/elektra.ttf",
+                                                                       "/eu/hansolo/medusa/Roboto-Thin.ttf",
+                                                                       "/eu/hansolo/medusa/Roboto-Light.ttf",
+                                                                       "/eu/hansolo/medusa/Roboto-Regular.ttf",
+                                                                       "/eu/hansolo/medusa/Roboto-Medium.ttf",
+                                                                       "/eu/hansolo/medusa/Roboto-Bold.ttf",
+                                                                       "/eu/hansolo/medusa/RobotoCondensed-Light.ttf",
+                                                                       "/eu/hansolo/medusa/RobotoCondensed-Regular.ttf",
+                                                                       "/eu/hansolo/medusa/RobotoCondensed-Bold.ttf",
+                                                                       "/eu/hansolo/medusa/Lato-Lig.otf",
+                                                                       "/eu/hansolo/medusa/Lato-Reg.otf",
+                                                                       "/eu/hansolo/medusa/Lato-Bol.otf" };
+    private static final String[]         NAMES                    = new String[RESOURCES.length];
+    private static final boolean[]        LOADED                   = new boolean[RESOURCES.length];
+    private static final Object[]         LOCKS                    = new Object[RESOURCES.length];
     static {
-        try {
-            digitalName                = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/digital.ttf"), 10).getName();
-            digitalReadoutName         = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/digitalreadout.ttf"), 10).getName();
-            digitalReadoutBoldName     = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/digitalreadoutb.ttf"), 10).getName();
-            elektraName                = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/elektra.ttf"), 10).getName();
-            robotoThinName             = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Thin.ttf"), 10).getName();
-            robotoLightName            = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Light.ttf"), 10).getName();
-            robotoRegularName          = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Regular.ttf"), 10).getName();
-            robotoMediumName           = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Medium.ttf"), 10).getName();
-            robotoBoldName             = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Bold.ttf"), 10).getName();
-            robotoLightCondensedName   = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/RobotoCondensed-Light.ttf"), 10).getName();
-            robotoRegularCondensedName = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/RobotoCondensed-Regular.ttf"), 10).getName();
-            robotoBoldCondensedName    = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/RobotoCondensed-Bold.ttf"), 10).getName();
-            latoLightName              = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Lato-Lig.otf"), 10).getName();
-            latoRegularName            = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Lato-Reg.otf"), 10).getName();
-            latoBoldName               = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Lato-Bol.otf"), 10).getName();
-        } catch (Exception exception) { }
-        DIGITAL_NAME                  = digitalName;
-        DIGITAL_READOUT_NAME          = digitalReadoutName;
-        DIGITAL_READOUT_BOLD_NAME     = digitalReadoutBoldName;
-        ELEKTRA_NAME                  = elektraName;
-        ROBOTO_THIN_NAME              = robotoThinName;
-        ROBOTO_LIGHT_NAME             = robotoLightName;
-        ROBOTO_REGULAR_NAME           = robotoRegularName;
-        ROBOTO_MEDIUM_NAME            = robotoMediumName;
-        ROBOTO_BOLD_NAME              = robotoBoldName;
-        ROBOTO_LIGHT_CONDENSED_NAME   = robotoLightCondensedName;
-        ROBOTO_REGULAR_CONDENSED_NAME = robotoRegularCondensedName;
-        ROBOTO_BOLD_CONDENSED_NAME    = robotoBoldCondensedName;
-        LATO_LIGHT_NAME               = latoLightName;
-        LATO_REGULAR_NAME             = latoRegularName;
-        LATO_BOLD_NAME                = latoBoldName;
+        for (int i = 0 ; i < LOCKS.length ; i++) { LOCKS[i] = new Object(); }
     }
+    private static final Map<Key, Font>   FONT_CACHE               = new LinkedHashMap<Key, Font>(MAX_CACHED_FONTS, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<Key, Font> ELDEST) { return size() > MAX_CACHED_FONTS; }
+    };
+    private static final Map<Key, Double> WIDTH_CACHE              = new LinkedHashMap<Key, Double>(MAX_CACHED_WIDTHS, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<Key, Double> ELDEST) { return size() > MAX_CACHED_WIDTHS; }
+    };
+    private static final Key              FONT_PROBE               = new Key();
+    private static final Key              WIDTH_PROBE              = new Key();
+    private static       Text             measureText;
 
 
     // ******************** Methods *******************************************
-    public static Font digital(final double SIZE) { return new Font(DIGITAL_NAME, SIZE); }
+    public static Font digital(final double SIZE) { return font(DIGITAL, SIZE); }
+
+    public static Font digitalReadout(final double SIZE) { return font(DIGITAL_READOUT, SIZE); }
+    public static Font digitalReadoutBold(final double SIZE) { return font(DIGITAL_READOUT_BOLD, SIZE); }
+
+    public static Font elektra(final double SIZE) { return font(ELEKTRA, SIZE); }
+
+    public static Font robotoThin(final double SIZE) { return font(ROBOTO_THIN, SIZE); }
+    public static Font robotoLight(final double SIZE) { return font(ROBOTO_LIGHT, SIZE); }
+    public static Font robotoRegular(final double SIZE) { return font(ROBOTO_REGULAR, SIZE); }
+    public static Font robotoMedium(final double SIZE) { return font(ROBOTO_MEDIUM, SIZE); }
+    public static Font robotoBold(final double SIZE) { return font(ROBOTO_BOLD, SIZE); }
+
+    public static Font robotoCondensedLight(final double SIZE) { return font(ROBOTO_LIGHT_CONDENSED, SIZE); }
+    public static Font robotoCondensedRegular(final double SIZE) { return font(ROBOTO_REGULAR_CONDENSED, SIZE); }
+    public static Font robotoCondensedBold(final double SIZE) { return font(ROBOTO_BOLD_CONDENSED, SIZE); }
+
+    public static Font latoLight(final double SIZE) { return font(LATO_LIGHT, SIZE); }
+    public static Font latoRegular(final double SIZE) { return font(LATO_REGULAR, SIZE); }
+    public static Font latoBold(final double SIZE) { return font(LATO_BOLD, SIZE); }
+
+    /**
+     * Returns a font with the given name and size from the cache or
+     * creates and caches a new one.
+     *
+     * @param NAME
+     * @param SIZE
+     * @return a font with the given name and size
+     */
+    public static Font font(final String NAME, final double SIZE) {
+        synchronized (FONT_CACHE) {
+            Font font = FONT_CACHE.get(FONT_PROBE.set(NAME, SIZE, null));
+            if (null == font) {
+                font = new Font(NAME, SIZE);
+                FONT_CACHE.put(FONT_PROBE.copy(), font);
+            }
+            return font;
+        }
+    }
+
+    /**
+     * Returns the width of the given text in the given font like the
+     * layout bounds of a Text node without stroke would report it. The
+     * widths will be cached, so this should only be used for texts that
+     * don't change with the value like titles and units. Use
+     * measureTextWidth() for all other texts.
+     *
+     * @param TEXT
+     * @param FONT
+     * @return the width of the given text in the given font
+     */
+    public static double getTextWidth(final String TEXT, final Font FONT) {
+        synchronized (WIDTH_CACHE) {
+            Double width = WIDTH_CACHE.get(WIDTH_PROBE.set(FONT.getName(), FONT.getSize(), TEXT));
+            if (null == width) {
+                width = measure(TEXT, FONT);
+                WIDTH_CACHE.put(WIDTH_PROBE.copy(), width);
+            }
+            return width;
+        }
+    }
 
-    public static Font digitalReadout(final double SIZE) { return new Font(DIGITAL_READOUT_NAME, SIZE); }
-    public static Font digitalReadoutBold(final double SIZE) { return new Font(DIGITAL_READOUT_BOLD_NAME, SIZE); }
+    /**
+     * Returns the width of the given text in the given font like
+     * getTextWidth() but without caching it, e.g. for value texts that
+     * would otherwise evict the widths of the static texts from the cache.
+     *
+     * @param TEXT
+     * @param FONT
+     * @return the width of the given text in the given font
+     */
+    public static double measureTextWidth(final String TEXT, final Font FONT) {
+        synchronized (WIDTH_CACHE) { return measure(TEXT, FONT); }
+    }
 
-    public static Font elektra(final double SIZE) { return new Font(ELEKTRA_NAME, SIZE); }
+    /**
+     * Loads all fonts in parallel on background threads. The fonts that
+     * are requested before they have been preloaded will be loaded on
+     * the calling thread.
+     *
+     * @return a future that completes when all fonts have been loaded
+     */
+    public static CompletableFuture<Void> preload() {
+        final CompletableFuture<?>[] FUTURES = new CompletableFuture<?>[RESOURCES.length];
+        for (int i = 0 ; i < RESOURCES.length ; i++) {
+            final int INDEX = i;
+            FUTURES[i] = CompletableFuture.runAsync(() -> getName(INDEX));
+        }
+        return CompletableFuture.allOf(FUTURES);
+    }
 
-    public static Font robotoThin(final double SIZE) { return new Font(ROBOTO_THIN_NAME, SIZE); }
-    public static Font robotoLight(final double SIZE) { return new Font(ROBOTO_LIGHT_NAME, SIZE); }
-    public static Font robotoRegular(final double SIZE) { return new Font(ROBOTO_REGULAR_NAME, SIZE); }
-    public static Font robotoMedium(final double SIZE) { return new Font(ROBOTO_MEDIUM_NAME, SIZE); }
-    public static Font robotoBold(final double SIZE) { return new Font(ROBOTO_BOLD_NAME, SIZE); }
+    private static Font font(final int INDEX, final double SIZE) { return font(getName(INDEX), SIZE); }
 
-    public static Font robotoCondensedLight(final double SIZE) { return new Font(ROBOTO_LIGHT_CONDENSED_NAME, SIZE); }
-    public static Font robotoCondensedRegular(final double SIZE) { return new Font(ROBOTO_REGULAR_CONDENSED_NAME, SIZE); }
-    public static Font robotoCondensedBold(final double SIZE) { return new Font(ROBOTO_BOLD_CONDENSED_NAME, SIZE); }
+    // Must be called with the lock of the WIDTH_CACHE that guards the measureText
+    private static double measure(final String TEXT, final Font FONT) {
+        if (null == measureText) { measureText = new Text(); }
+        measureText.setText(TEXT);
+        measureText.setFont(FONT);
+        return measureText.getLayoutBounds().getWidth();
+    }
 
-    public static Font latoLight(final double SIZE) { return new Font(LATO_LIGHT_NAME, SIZE); }
-    public static Font latoRegular(final double SIZE) { return new Font(LATO_REGULAR_NAME, SIZE); }
-    public static Font latoBold(final double SIZE) { return new Font(LATO_BOLD_NAME, SIZE); }
+    private static String getName(final int INDEX) {
+        synchronized (LOCKS[INDEX]) {
+            if (!LOADED[INDEX]) {
+                try {
+                    NAMES[INDEX] = Font.loadFont(Fonts.class.getResourceAsStream(RESOURCES[INDEX]), 10).getName();
+                } catch (Exception exception) { }
+                LOADED[INDEX] = true;
+            }
+            return NAMES[INDEX];
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    // Mutable so that the probe keys can be reused for lookups, keys in the caches will never be changed
+    private static class Key {
+        private String name;
+        private double size;
+        private String text;
+        private int    hashCode;
+
+        Key set(final String NAME, final double SIZE, final String TEXT) {
+            name     = NAME;
+            size     = SIZE;
+            text     = TEXT;
+            hashCode = 31 * (31 * (null == NAME ? 0 : NAME.hashCode()) + Double.hashCode(SIZE)) + (null == TEXT ? 0 : TEXT.hashCode());
+            return this;
+        }
+
+        Key copy() { return new Key().set(name, size, text); }
+
+        @Override public boolean equals(final Object OBJECT) {
+            if (this == OBJECT) return true;
+            if (!(OBJECT instanceof Key)) return false;
+            Key key = (Key) OBJECT;
+            return Double.compare(size, key.size) == 0 && Objects.equals(name, key.name) && Objects.equals(text, key.text);
+        }
+
+        @Override public int hashCode() { return hashCode; }
+    }
 }
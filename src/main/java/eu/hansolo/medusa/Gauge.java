@@ -16,6 +16,8 @@
 
 package eu.hansolo.medusa;
 
+import eu.hansolo.medusa.events.CrossingDispatcher;
+import eu.hansolo.medusa.events.CrossingType;
 import eu.hansolo.medusa.events.UpdateEvent;
 import eu.hansolo.medusa.events.UpdateEventListener;
 import eu.hansolo.medusa.skins.AmpSkin;
@@ -53,12 +55,11 @@ import eu.hansolo.medusa.tools.GradientLookup;
 import eu.hansolo.medusa.tools.Helper;
 import eu.hansolo.medusa.tools.MarkerComparator;
 import eu.hansolo.medusa.tools.MovingAverage;
+import eu.hansolo.medusa.tools.RunningStatistics;
 import eu.hansolo.medusa.tools.SectionComparator;
-import javafx.animation.Animation.Status;
-import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
+import eu.hansolo.medusa.tools.TickMarkGeometry;
+import eu.hansolo.medusa.tools.ValueFormatter;
+import eu.hansolo.medusa.tools.ValueSink;
 import javafx.application.Platform;
 import javafx.beans.NamedArg;
 import javafx.beans.binding.Bindings;
@@ -91,23 +92,15 @@ import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.paint.Stop;
 import javafx.scene.text.Font;
-import javafx.util.Duration;
 
 import javax.xml.ws.soap.MTOM;
-import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Queue;
 import java.util.UUID;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -166,15 +159,19 @@ public class Gauge extends Control {
     private final UpdateEvent    ALERT_EVENT         = new UpdateEvent(Gauge.this, UpdateEvent.EventType.ALERT);
     private final UpdateEvent    VALUE_EVENT         = new UpdateEvent(Gauge.this, UpdateEvent.EventType.VALUE);
 
-    private static volatile Future               blinkFuture;
-    private static ScheduledExecutorService      blinkService = new ScheduledThreadPoolExecutor(1, Helper.getThreadFactory("BlinkTask", true));
-    private static volatile Callable<Void>       blinkTask;
+    private final Runnable                       ledBlinkToggle      = () -> setLedOn(!isLedOn());
 
     private        BooleanBinding                showing;
 
     // Update events
-    private              Queue<UpdateEvent>      updateEventQueue = new LinkedBlockingQueue<>();
-    private List<UpdateEventListener>            listenerList     = new CopyOnWriteArrayList<>();
+    private static final UpdateEvent.EventType[] REPLAY_ORDER        = { UpdateEvent.EventType.RECALC, UpdateEvent.EventType.VISIBILITY, UpdateEvent.EventType.INTERACTIVITY,
+                                                                         UpdateEvent.EventType.RESIZE, UpdateEvent.EventType.REDRAW, UpdateEvent.EventType.LED,
+                                                                         UpdateEvent.EventType.LCD, UpdateEvent.EventType.SECTION, UpdateEvent.EventType.ALERT,
+                                                                         UpdateEvent.EventType.VALUE, UpdateEvent.EventType.FINISHED };
+    private        final UpdateEvent[]           pendingUpdateEvents = new UpdateEvent[UpdateEvent.EventType.values().length];
+    private volatile     int                     pendingUpdateEventMask;
+    private List<UpdateEventListener>            listenerList        = new CopyOnWriteArrayList<>();
+    private final CrossingDispatcher             crossingDispatcher  = new CrossingDispatcher();
 
     // Data related
     private DoubleProperty                       value;
@@ -200,10 +197,16 @@ public class Gauge extends Control {
     private int                                  _averagingPeriod;
     private IntegerProperty                      averagingPeriod;
     private MovingAverage                        movingAverage;
+    private RunningStatistics                    statistics;
     private ObservableList<Section>              sections;
     private ObservableList<Section>              areas;
     private ObservableList<Section>              tickMarkSections;
     private ObservableList<Section>              tickLabelSections;
+    private SectionIndex                         sectionIndex;
+    private SectionIndex                         areaIndex;
+    private SectionIndex                         tickMarkSectionIndex;
+    private SectionIndex                         tickLabelSectionIndex;
+    private CrossingDetector                     crossingDetector;
     private ObservableList<Marker>               markers;
     // UI related
     private SkinType                             skinType;
@@ -422,15 +425,19 @@ public class Gauge extends Control {
     private StringProperty                       alertMessage;
     private boolean                              _smoothing;
     private BooleanProperty                      smoothing;
+    private boolean                              _renderCacheEnabled;
+    private BooleanProperty                      renderCacheEnabled;
     private String                               formatString;
 
     // others
-    private double   originalMinValue;
-    private double   originalMaxValue;
-    private double   originalThreshold;
-    private Timeline timeline;
-    private Instant  lastCall;
-    private boolean  withinSpeedLimit;
+    private          double    originalMinValue;
+    private          double    originalMaxValue;
+    private          double    originalThreshold;
+    private          long      lastCall;
+    private          boolean   withinSpeedLimit;
+    private volatile ValueSink valueSink;
+    private volatile ValueFormatter valueFormatter;
+    private          TickMarkGeometry tickMarkGeometry;
 
 
     // ******************** Constructors **************************************
@@ -570,54 +577,43 @@ public class Gauge extends Control {
         value                               = new DoublePropertyBase(_minValue) {
             @Override protected void invalidated() {
                 final double VALUE = get();
-                withinSpeedLimit = !(Instant.now().minusMillis(getAnimationDuration()).isBefore(lastCall));
-                lastCall = Instant.now();
-                if (isAnimated() && withinSpeedLimit) {
-                    long animationDuration = isReturnToZero() ? (long) (0.2 * getAnimationDuration()) : getAnimationDuration();
-                    timeline.stop();
-
-                    final KeyValue KEY_VALUE;
-                    if (NeedleBehavior.STANDARD == getNeedleBehavior()) {
-                        KEY_VALUE = new KeyValue(currentValue, VALUE, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
-                    } else { // Optimized only useful in a gauge where the angle range is 360 deg and the shorter way has to be calculated.
-                        double ov         = getOldValue();
-                        double min        = getMinValue();
-                        double max        = getMaxValue();
-                        double halfRange  = getRange() * 0.5;
-                        double cv         = getCurrentValue();
-                        double delta      = VALUE - getCurrentValue();
-
-                        if (delta < -halfRange) {
-                            double kv1 = max - cv;
-                            double kv2 = VALUE;
-                        } else if (delta > halfRange) {
-
+                final long   NOW   = System.currentTimeMillis();
+                // A bound value won't be set by set()
+                if (isBound()) { ingest(VALUE); }
+                withinSpeedLimit   = NOW - lastCall >= getAnimationDuration();
+                lastCall           = NOW;
+                // A gauge without skin (e.g. outside of the viewport of a GaugeGrid) doesn't need to be animated
+                if (isAnimated() && withinSpeedLimit && null != getSkin()) {
+                    long   animationDuration = isReturnToZero() ? (long) (0.2 * getAnimationDuration()) : getAnimationDuration();
+                    double startValue        = getCurrentValue();
+                    double endValue          = VALUE;
+                    if (NeedleBehavior.OPTIMIZED == getNeedleBehavior()) {
+                        // Optimized only useful in a gauge where the angle range is 360 deg and the shorter way has to be calculated.
+                        double range     = getRange();
+                        double halfRange = range * 0.5;
+                        if (startValue < getMinValue()) {
+                            startValue += range;
+                        } else if (startValue > getMaxValue()) {
+                            startValue -= range;
                         }
-
-                        double tmpValue;
-
-                        if (Math.abs(VALUE - ov) > getRange() * 0.5) {
-                            if (ov < VALUE) {
-                                tmpValue = min - max + VALUE;
-                            } else {
-                                tmpValue = ov + max - ov + min + VALUE - getRange();
-                            }
-                            KEY_VALUE = new KeyValue(currentValue, tmpValue, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
-                        } else {
-                            if (cv < min) currentValue.set(max + cv);
-                            KEY_VALUE = new KeyValue(currentValue, VALUE, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
+                        if (Double.compare(startValue, getCurrentValue()) != 0) { currentValue.set(startValue); }
+                        double delta = VALUE - startValue;
+                        if (delta > halfRange) {
+                            endValue = VALUE - range;
+                        } else if (delta < -halfRange) {
+                            endValue = VALUE + range;
                         }
                     }
-                    final KeyFrame KEY_FRAME = new KeyFrame(Duration.millis(animationDuration), KEY_VALUE);
-                    timeline.getKeyFrames().setAll(KEY_FRAME);
-                    timeline.play();
+                    GaugeAnimator.getInstance().animate(Gauge.this, GaugeAnimator.GAUGE_CURRENT_VALUE, startValue, endValue, animationDuration);
                 } else {
                     currentValue.set(VALUE);
                     fireUpdateEvent(FINISHED_EVENT);
                 }
-                if (isAveragingEnabled()) { movingAverage.addData(new Data(VALUE)); }
+                if (isAveragingEnabled()) { movingAverage.addValue(VALUE); }
             }
             @Override public void set(final double VALUE) {
+                // Values that are published by the ValueSink were already ingested with all offered values
+                if (null == valueSink || !valueSink.isPublishing() || !Platform.isFxApplicationThread()) { ingest(VALUE); }
                 super.set(VALUE);
                 fireUpdateEvent(VALUE_EVENT);
             }
@@ -628,14 +624,6 @@ public class Gauge extends Control {
         currentValue                        = new DoublePropertyBase(value.get()) {
             @Override protected void invalidated() {
                 final double VALUE = get();
-                if (isCheckThreshold()) {
-                    double thrshld = getThreshold();
-                    if (formerValue.get() < thrshld && VALUE > thrshld) {
-                        fireEvent(EXCEEDED_EVENT);
-                    } else if (formerValue.get() > thrshld && VALUE < thrshld) {
-                        fireEvent(UNDERRUN_EVENT);
-                    }
-                }
                 if (VALUE < getMinMeasuredValue()) {
                     setMinMeasuredValue(VALUE);
                 } else if (VALUE > getMaxMeasuredValue()) {
@@ -656,11 +644,17 @@ public class Gauge extends Control {
         _averagingEnabled                   = false;
         _averagingPeriod                    = 10;
         movingAverage                       = new MovingAverage(_averagingPeriod);
+        statistics                          = new RunningStatistics();
         sections                            = FXCollections.observableArrayList();
         areas                               = FXCollections.observableArrayList();
         tickMarkSections                    = FXCollections.observableArrayList();
         tickLabelSections                   = FXCollections.observableArrayList();
+        sectionIndex                        = new SectionIndex(sections);
+        areaIndex                           = new SectionIndex(areas);
+        tickMarkSectionIndex                = new SectionIndex(tickMarkSections);
+        tickLabelSectionIndex               = new SectionIndex(tickLabelSections);
         markers                             = FXCollections.observableArrayList();
+        crossingDetector                    = new CrossingDetector(Gauge.this);
 
         _startFromZero                      = false;
         _returnToZero                       = false;
@@ -770,22 +764,14 @@ public class Gauge extends Control {
         _alert                              = false;
         _alertMessage                       = "";
         _smoothing                          = false;
+        _renderCacheEnabled                 = false;
         formatString                        = "%.2f";
 
         originalMinValue                    = -Double.MAX_VALUE;
         originalMaxValue                    = Double.MAX_VALUE;
         originalThreshold                   = Double.MAX_VALUE;
-        lastCall                            = Instant.now();
-        timeline                            = new Timeline();
-        timeline.setOnFinished(e -> {
-            if (isReturnToZero() && Double.compare(currentValue.get(), 0.0) != 0.0) {
-                final KeyValue KEY_VALUE2 = new KeyValue(value, 0, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
-                final KeyFrame KEY_FRAME2 = new KeyFrame(Duration.millis((long) (0.8 * getAnimationDuration())), KEY_VALUE2);
-                timeline.getKeyFrames().setAll(KEY_FRAME2);
-                timeline.play();
-            }
-            fireUpdateEvent(FINISHED_EVENT);
-        });
+        lastCall                            = System.currentTimeMillis();
+        crossingDetector.add(value.get());
     }
 
     private void registerListeners() {
@@ -828,6 +814,30 @@ public class Gauge extends Control {
     public void setValue(final double VALUE) { value.set(VALUE); }
     public DoubleProperty valueProperty() { return value; }
 
+    /**
+     * Offers the given value to the ValueSink of the Gauge. In contrast
+     * to setValue() this method can be called from any thread. If more
+     * than one value will be offered between two JavaFX pulses only one
+     * value (defined by the reduction of the ValueSink) will be set.
+     *
+     * @param VALUE
+     */
+    public void offerValue(final double VALUE) { getValueSink().offer(VALUE); }
+    /**
+     * Returns the ValueSink that will be used by offerValue(). The sink
+     * will be created on first call.
+     *
+     * @return the ValueSink of the gauge
+     */
+    public ValueSink getValueSink() {
+        if (null == valueSink) {
+            synchronized (this) {
+                if (null == valueSink) { valueSink = new ValueSink(Gauge.this); }
+            }
+        }
+        return valueSink;
+    }
+
     /**
      * Returns the current value of the Gauge. If animated == true this value
      * represents the current value during the animation. Otherwise it's returns
@@ -874,7 +884,7 @@ public class Gauge extends Control {
      * @param VALUE
      */
     public void setMinValue(final double VALUE) {
-        if (Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
+        GaugeAnimator.getInstance().jumpTo(Gauge.this, 1);
         if (null == minValue) {
             if (VALUE > getMaxValue()) { setMaxValue(VALUE); }
             _minValue = Helper.clamp(-Double.MAX_VALUE, getMaxValue(), VALUE);
@@ -923,7 +933,7 @@ public class Gauge extends Control {
      * @param VALUE
      */
     public void setMaxValue(final double VALUE) {
-        if (Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
+        GaugeAnimator.getInstance().jumpTo(Gauge.this, 1);
         if (null == maxValue) {
             if (VALUE < getMinValue()) { setMinValue(VALUE); }
             _maxValue = Helper.clamp(getMinValue(), Double.MAX_VALUE, VALUE);
@@ -1224,6 +1234,16 @@ public class Gauge extends Control {
      */
     public double getTimeBasedAverageOf(final java.time.Duration DURATION) { return movingAverage.getTimeBasedAverageOf(DURATION); }
 
+    /**
+     * Returns the streaming statistics (count, mean, standard deviation,
+     * min, max and the quantiles defined in RunningStatistics.DEFAULT_QUANTILES)
+     * over all values that have been set or offered to the gauge (also repeated
+     * values) since the creation of the gauge
+     * or the last call of getStatistics().reset().
+     * @return the streaming statistics over all values that have been set
+     */
+    public RunningStatistics getStatistics() { return statistics; }
+
     /**
      * Returns an observable list of Section objects. The sections
      * will be used to colorize areas with a special meaning such
@@ -1233,6 +1253,13 @@ public class Gauge extends Control {
      * @return an observable list of Section objects
      */
     public ObservableList<Section> getSections() { return sections; }
+    /**
+     * Returns the index over the sections that can be used to find the
+     * sections that contain a value.
+     *
+     * @return the index over the sections
+     */
+    public SectionIndex getSectionIndex() { return sectionIndex; }
     /**
      * Sets the sections to the given list of Section objects. The
      * sections will be used to colorize areas with a special
@@ -1298,6 +1325,13 @@ public class Gauge extends Control {
      * @return an observable list of Section objects
      */
     public ObservableList<Section> getAreas() { return areas; }
+    /**
+     * Returns the index over the areas that can be used to find the
+     * areas that contain a value.
+     *
+     * @return the index over the areas
+     */
+    public SectionIndex getAreaIndex() { return areaIndex; }
     /**
      * Sets the sections to the given list of Section objects. The
      * sections will be used to colorize areas with a special
@@ -1364,6 +1398,13 @@ public class Gauge extends Control {
      * @return an observable list of Section objects
      */
     public ObservableList<Section> getTickMarkSections() { return tickMarkSections; }
+    /**
+     * Returns the index over the tick mark sections that can be used to find the
+     * tick mark sections that contain a value.
+     *
+     * @return the index over the tick mark sections
+     */
+    public SectionIndex getTickMarkSectionIndex() { return tickMarkSectionIndex; }
     /**
      * Sets the tickmark sections to the given list of Section objects.
      *
@@ -1418,6 +1459,13 @@ public class Gauge extends Control {
      * @return an observable list of Section objects
      */
     public ObservableList<Section> getTickLabelSections() { return tickLabelSections; }
+    /**
+     * Returns the index over the tick label sections that can be used to find the
+     * tick label sections that contain a value.
+     *
+     * @return the index over the tick label sections
+     */
+    public SectionIndex getTickLabelSectionIndex() { return tickLabelSectionIndex; }
     /**
      * Sets the ticklabel sections to the given list of Section objects.
      *
@@ -3028,7 +3076,8 @@ public class Gauge extends Control {
     public Locale getLocale() { return null == locale ? _locale : locale.get(); }
     public void setLocale(final Locale LOCALE) {
         if (null == locale) {
-            _locale = null == LOCALE ? Locale.US : LOCALE;
+            _locale        = null == LOCALE ? Locale.US : LOCALE;
+            valueFormatter = null;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             locale.set(LOCALE);
@@ -3039,6 +3088,7 @@ public class Gauge extends Control {
             locale  = new ObjectPropertyBase<Locale>(_locale) {
                 @Override protected void invalidated() {
                     if (null == get()) set(Locale.US);
+                    valueFormatter = null;
                     fireUpdateEvent(REDRAW_EVENT);
                 }
                 @Override public Object getBean() { return Gauge.this; }
@@ -4766,9 +4816,9 @@ public class Gauge extends Control {
         if (null == ledBlinking) {
             _ledBlinking = BLINKING;
             if (_ledBlinking) {
-                startBlinkExecutorService();
+                BlinkCoordinator.getInstance().register(ledBlinkToggle, LED_BLINK_INTERVAL);
             } else {
-                if (null != blinkFuture) blinkFuture.cancel(true);
+                BlinkCoordinator.getInstance().unregister(ledBlinkToggle);
                 setLedOn(false);
             }
         } else {
@@ -4780,9 +4830,9 @@ public class Gauge extends Control {
             ledBlinking = new BooleanPropertyBase(_ledBlinking) {
                 @Override protected void invalidated() {
                     if (get()) {
-                        startBlinkExecutorService();
+                        BlinkCoordinator.getInstance().register(ledBlinkToggle, LED_BLINK_INTERVAL);
                     } else {
-                        if (null != blinkFuture) blinkFuture.cancel(true);
+                        BlinkCoordinator.getInstance().unregister(ledBlinkToggle);
                         setLedOn(false);
                     }
                 }
@@ -4862,12 +4912,17 @@ public class Gauge extends Control {
 
     /**
      * Returns the GradientLookup that is used to colorize the bar
-     * of the gauge (if avaiable)
+     * of the gauge (if avaiable). The default GradientLookup uses a
+     * precomputed lookup table because the skins will ask it for a
+     * color on every value change.
      *
      * @return the GradientLookup that is used to colorize the bar
      */
     public GradientLookup getGradientLookup() {
-        if (null == gradientLookup) { gradientLookup = new GradientLookup(); }
+        if (null == gradientLookup) {
+            gradientLookup = new GradientLookup();
+            gradientLookup.setPrecomputed(true);
+        }
         return gradientLookup;
     }
     /**
@@ -4896,7 +4951,9 @@ public class Gauge extends Control {
     public void setGradientBarStops(final Stop... STOPS) { setGradientBarStops(Arrays.asList(STOPS)); }
     /**
      * Defines a list of Stops that will be used to calculate the gradient
-     * in the GradientLookup.
+     * in the GradientLookup. The default GradientLookup will precompute
+     * its colors in a lookup table, a GradientLookup that was passed to
+     * setGradientLookup() keeps its own mode.
      *
      * @param STOPS
      */
@@ -5282,7 +5339,78 @@ public class Gauge extends Control {
         return smoothing;
     }
 
+    /**
+     * Returns true if the skin should keep the static layers (e.g. tick marks,
+     * sections and knob) as bitmaps in the RenderCache. Gauges with the same
+     * size and styling will share these bitmaps. At the moment this is only
+     * used in the GaugeSkin, HSkin, VSkin, QuarterSkin and ModernSkin.
+     *
+     * @return true if the static layers will be cached as bitmaps
+     */
+    public boolean isRenderCacheEnabled() { return null == renderCacheEnabled ? _renderCacheEnabled : renderCacheEnabled.get(); }
+    /**
+     * Defines if the skin should keep the static layers (e.g. tick marks,
+     * sections and knob) as bitmaps in the RenderCache. This makes sense
+     * if a lot of gauges with the same size and styling will be shown.
+     *
+     * @param ENABLED
+     */
+    public void setRenderCacheEnabled(final boolean ENABLED) {
+        if (null == renderCacheEnabled) {
+            _renderCacheEnabled = ENABLED;
+            fireUpdateEvent(REDRAW_EVENT);
+        } else {
+            renderCacheEnabled.set(ENABLED);
+        }
+    }
+    public BooleanProperty renderCacheEnabledProperty() {
+        if (null == renderCacheEnabled) {
+            renderCacheEnabled = new BooleanPropertyBase(_renderCacheEnabled) {
+                @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
+                @Override public Object getBean() { return Gauge.this; }
+                @Override public String getName() { return "renderCacheEnabled"; }
+            };
+        }
+        return renderCacheEnabled;
+    }
+
     public String getFormatString() { return formatString; }
+    /**
+     * Returns the TickMarkGeometry for the given scale. The geometry will
+     * be cached and only computed again if the scale, the tick spaces or
+     * the scale direction have been changed.
+     *
+     * @param MIN_VALUE
+     * @param MAX_VALUE
+     * @param START_ANGLE
+     * @param ANGLE_RANGE
+     * @param ANGLE_STEP
+     * @return the TickMarkGeometry for the given scale
+     */
+    public TickMarkGeometry getTickMarkGeometry(final double MIN_VALUE, final double MAX_VALUE, final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP) {
+        final double         MINOR_TICK_SPACE = getMinorTickSpace();
+        final double         MAJOR_TICK_SPACE = getMajorTickSpace();
+        final ScaleDirection SCALE_DIRECTION  = getScaleDirection();
+        if (null == tickMarkGeometry || !tickMarkGeometry.isGeometryFor(MIN_VALUE, MAX_VALUE, START_ANGLE, ANGLE_RANGE, ANGLE_STEP, MINOR_TICK_SPACE, MAJOR_TICK_SPACE, SCALE_DIRECTION)) {
+            tickMarkGeometry = new TickMarkGeometry(MIN_VALUE, MAX_VALUE, START_ANGLE, ANGLE_RANGE, ANGLE_STEP, MINOR_TICK_SPACE, MAJOR_TICK_SPACE, SCALE_DIRECTION);
+        }
+        return tickMarkGeometry;
+    }
+    /**
+     * Returns the ValueFormatter that formats values with the locale,
+     * decimals and format string of the gauge. The formatter will be
+     * created again after one of these properties has been changed.
+     *
+     * @return the ValueFormatter of the gauge
+     */
+    public ValueFormatter getValueFormatter() {
+        ValueFormatter formatter = valueFormatter;
+        if (null == formatter) {
+            formatter      = new ValueFormatter(getLocale(), getFormatString(), getDecimals());
+            valueFormatter = formatter;
+        }
+        return formatter;
+    }
     private void updateFormatString() {
         StringBuilder formatBuilder = new StringBuilder("%.").append(getDecimals()).append("f");
         String        format        = formatBuilder.toString();
@@ -5292,7 +5420,8 @@ public class Gauge extends Control {
         formatBuilder.setLength(0);
         //formatBuilder.append("%").append(length).append(".").append(getDecimals()).append("f");
         formatBuilder.append("%").append(".").append(getDecimals()).append("f");
-        formatString = formatBuilder.toString();
+        formatString   = formatBuilder.toString();
+        valueFormatter = null;
         fireUpdateEvent(RESIZE_EVENT);
     }
 
@@ -5316,39 +5445,27 @@ public class Gauge extends Control {
 
 
     // ******************** Misc **********************************************
-    private synchronized void createBlinkTask() {
-        blinkTask = new Callable<Void>() {
-            @Override public Void call() throws Exception {
-                try {
-                    Platform.runLater(() -> setLedOn(!isLedOn()));
-                } finally {
-                    if (!Thread.currentThread().isInterrupted()) {
-                        // Schedule the same Callable with the current updateInterval
-                        blinkFuture = blinkService.schedule(this, LED_BLINK_INTERVAL, TimeUnit.MILLISECONDS);
-                    }
-                }
-                return null;
-            }
-        };
-    }
-    private synchronized void startBlinkExecutorService() {
-        if (null == blinkTask) { createBlinkTask(); }
-        if (null == blinkService) { blinkService = new ScheduledThreadPoolExecutor(1, Helper.getThreadFactory("BlinkTask", true)); }
-        blinkFuture = blinkService.schedule(blinkTask, LED_BLINK_INTERVAL, TimeUnit.MILLISECONDS);
-    }
-
     /**
-     * Calling this method will stop all threads. This is needed when using
-     * JavaFX on mobile devices when the device goes to sleep mode.
+     * Calling this method will stop the blinking of this gauge. Other
+     * gauges are not affected. This is needed when using JavaFX on mobile
+     * devices when the device goes to sleep mode.
      */
     public void stop() {
+        BlinkCoordinator.getInstance().unregister(ledBlinkToggle);
         setLedOn(false);
-        if (null != blinkFuture) { blinkFuture.cancel(true); }
-        if (null != blinkService) { blinkService.shutdownNow(); }
     }
 
     private void createShutdownHook() { Runtime.getRuntime().addShutdownHook(new Thread(() -> stop())); }
 
+    void setAnimatedCurrentValue(final double VALUE) { currentValue.set(VALUE); }
+
+    void onAnimationFinished() {
+        if (isReturnToZero() && Double.compare(currentValue.get(), 0.0) != 0.0) {
+            GaugeAnimator.getInstance().animate(Gauge.this, GaugeAnimator.GAUGE_VALUE, getValue(), 0, (long) (0.8 * getAnimationDuration()));
+        }
+        fireUpdateEvent(FINISHED_EVENT);
+    }
+
     @Override public String toString() {
         return new StringBuilder("{")
             .append("\"title\":").append("\"").append(getTitle()).append("\",")
@@ -5366,24 +5483,14 @@ public class Gauge extends Control {
     private void setupBinding() {
         showing = Bindings.createBooleanBinding(() -> {
             if (getScene() != null && getScene().getWindow() != null) {
-                if (getScene().getWindow().isShowing()) {
-                    while(updateEventQueue.peek() != null) {
-                        UpdateEvent event = updateEventQueue.poll();
-                        for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(event); }
-                    }
-                }
+                if (getScene().getWindow().isShowing()) { firePendingUpdateEvents(); }
                 return getScene().getWindow().isShowing();
             } else {
                 return false;
             }
         }, sceneProperty(), getScene().windowProperty(), getScene().getWindow().showingProperty());
         showing.addListener((o, ov, nv) -> {
-            if (nv) {
-                while(updateEventQueue.peek() != null) {
-                    UpdateEvent event = updateEventQueue.poll();
-                    for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(event); }
-                }
-            }
+            if (nv) { firePendingUpdateEvents(); }
         });
     }
 
@@ -5719,7 +5826,35 @@ public class Gauge extends Control {
         if (null != showing && showing.get()) {
             for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(EVENT); }
         } else {
-            updateEventQueue.add(EVENT);
+            addPendingUpdateEvent(EVENT);
+        }
+    }
+
+    /**
+     * Events that will be fired while the gauge is not showing will be
+     * collected per event type. So no matter how often an event was fired
+     * it will only be fired once when the gauge will be shown again.
+     */
+    private synchronized void addPendingUpdateEvent(final UpdateEvent EVENT) {
+        final int INDEX = EVENT.eventType.ordinal();
+        pendingUpdateEvents[INDEX] = EVENT;
+        pendingUpdateEventMask    |= 1 << INDEX;
+    }
+    private synchronized UpdateEvent pollPendingUpdateEvent(final UpdateEvent.EventType TYPE) {
+        final int INDEX = TYPE.ordinal();
+        final int BIT   = 1 << INDEX;
+        if ((pendingUpdateEventMask & BIT) == 0) return null;
+        pendingUpdateEventMask &= ~BIT;
+        UpdateEvent event = pendingUpdateEvents[INDEX];
+        pendingUpdateEvents[INDEX] = null;
+        return event;
+    }
+    private void firePendingUpdateEvents() {
+        if (0 == pendingUpdateEventMask) return;
+        for (UpdateEvent.EventType type : REPLAY_ORDER) {
+            UpdateEvent event = pollPendingUpdateEvent(type);
+            if (null == event) continue;
+            for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(event); }
         }
     }
 
@@ -5737,6 +5872,41 @@ public class Gauge extends Control {
     public void setOnThresholdUnderrun(final EventHandler<ThresholdEvent> HANDLER) { addEventHandler(ThresholdEvent.THRESHOLD_UNDERRUN, HANDLER); }
     public void removeOnThresholdUnderrun(final EventHandler<ThresholdEvent> HANDLER) { removeEventHandler(ThresholdEvent.THRESHOLD_UNDERRUN, HANDLER); }
 
+    /**
+     * Returns the dispatcher that will be informed with THRESHOLD_EXCEEDED
+     * and THRESHOLD_UNDERRUN crossings if the threshold will be checked.
+     * In contrast to the ThresholdEvent handlers no event object will be
+     * created and the JavaFX event dispatch chain won't be used. The
+     * dispatcher can also be set on the sections, areas and markers of the
+     * gauge to get all crossings in one place, e.g.
+     * gauge.getSections().forEach(section -> section.setCrossingDispatcher(gauge.getCrossingDispatcher()))
+     *
+     * @return the dispatcher for the threshold crossings
+     */
+    public CrossingDispatcher getCrossingDispatcher() { return crossingDispatcher; }
+
+    /**
+     * Returns the detector that checks the threshold and the markers
+     * against each value that will be set or offered to the gauge. It
+     * can be used to define a hysteresis and a debounce time for the
+     * threshold and marker crossings.
+     *
+     * @return the detector for threshold and marker crossings
+     */
+    public CrossingDetector getCrossingDetector() { return crossingDetector; }
+
+    // Each value that will be set (also if it's equal to the last value) will be checked and counted
+    private void ingest(final double VALUE) {
+        crossingDetector.add(VALUE);
+        statistics.add(VALUE);
+    }
+
+    // Called by the CrossingDetector
+    void fireThresholdCrossing(final boolean EXCEEDED, final double VALUE) {
+        fireEvent(EXCEEDED ? EXCEEDED_EVENT : UNDERRUN_EVENT);
+        crossingDispatcher.fire(Gauge.this, EXCEEDED ? CrossingType.THRESHOLD_EXCEEDED : CrossingType.THRESHOLD_UNDERRUN, VALUE);
+    }
+
 
     // ******************** Inner Classes *************************************
     public static class ButtonEvent extends Event {
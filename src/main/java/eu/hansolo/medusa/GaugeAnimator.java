@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+
+import java.util.Arrays;
+
+
+/**
+ * One AnimationTimer that drives the animations of all gauges and clocks.
+ * The state of all running animations is kept in primitive arrays so that
+ * no objects will be created per frame. Running animations will be
+ * interpolated in one pass per pulse and the timer will stop itself if
+ * no animation is running anymore.
+ * Must only be used on the JavaFX application thread.
+ */
+final class GaugeAnimator extends AnimationTimer {
+    static  final Interpolator  SPLINE              = Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0);
+    static  final byte          GAUGE_CURRENT_VALUE = 0;
+    static  final byte          GAUGE_VALUE         = 1;
+    static  final byte          CLOCK_TIME          = 2;
+    private static final int    INITIAL_CAPACITY    = 16;
+    private Object[]            targets;
+    private byte[]              modes;
+    private double[]            startValues;
+    private double[]            endValues;
+    private long[]              startTimes;
+    private long[]              durations;
+    private int                 size;
+    private boolean             running;
+
+
+    // ******************** Constructors **************************************
+    private GaugeAnimator() {
+        targets     = new Object[INITIAL_CAPACITY];
+        modes       = new byte[INITIAL_CAPACITY];
+        startValues = new double[INITIAL_CAPACITY];
+        endValues   = new double[INITIAL_CAPACITY];
+        startTimes  = new long[INITIAL_CAPACITY];
+        durations   = new long[INITIAL_CAPACITY];
+        size        = 0;
+        running     = false;
+    }
+
+    static GaugeAnimator getInstance() { return InstanceHolder.INSTANCE; }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Starts an animation of the given target from START_VALUE to END_VALUE
+     * that will take the given duration. An animation of the same target
+     * that is still running will be replaced.
+     *
+     * @param TARGET      Gauge or Clock
+     * @param MODE        GAUGE_CURRENT_VALUE, GAUGE_VALUE or CLOCK_TIME
+     * @param START_VALUE
+     * @param END_VALUE
+     * @param DURATION_MS
+     */
+    void animate(final Object TARGET, final byte MODE, final double START_VALUE, final double END_VALUE, final long DURATION_MS) {
+        int index = indexOf(TARGET);
+        if (index < 0) {
+            ensureCapacity(size + 1);
+            index = size++;
+        }
+        targets[index]     = TARGET;
+        modes[index]       = MODE;
+        startValues[index] = START_VALUE;
+        endValues[index]   = END_VALUE;
+        startTimes[index]  = System.nanoTime();
+        durations[index]   = Math.max(1, DURATION_MS) * 1_000_000L;
+        if (!running) {
+            running = true;
+            start();
+        }
+    }
+
+    /**
+     * Stops the animation of the given target without setting the end value
+     *
+     * @param TARGET
+     */
+    void cancel(final Object TARGET) {
+        int index = indexOf(TARGET);
+        if (index >= 0) { remove(index); }
+    }
+
+    /**
+     * Moves the animation of the given target to the given time in ms
+     * measured from the start of the animation.
+     *
+     * @param TARGET
+     * @param MILLIS
+     */
+    void jumpTo(final Object TARGET, final long MILLIS) {
+        int index = indexOf(TARGET);
+        if (index >= 0) { startTimes[index] = System.nanoTime() - MILLIS * 1_000_000L; }
+    }
+
+    boolean isAnimating(final Object TARGET) { return indexOf(TARGET) >= 0; }
+
+    @Override public void handle(final long NOW) {
+        int i = 0;
+        while (i < size) {
+            final Object TARGET   = targets[i];
+            final byte   MODE     = modes[i];
+            final double FRACTION = Math.max(0.0, (double) (NOW - startTimes[i]) / (double) durations[i]);
+            if (FRACTION < 1.0) {
+                final Interpolator INTERPOLATOR = CLOCK_TIME == MODE ? Interpolator.LINEAR : SPLINE;
+                apply(TARGET, MODE, INTERPOLATOR.interpolate(startValues[i], endValues[i], FRACTION));
+                i++;
+            } else {
+                final double END_VALUE = endValues[i];
+                // Remove before notifying because the target might start a new animation
+                remove(i);
+                apply(TARGET, MODE, END_VALUE);
+                finished(TARGET, MODE);
+            }
+        }
+        if (0 == size) {
+            running = false;
+            stop();
+        }
+    }
+
+    private void apply(final Object TARGET, final byte MODE, final double VALUE) {
+        switch (MODE) {
+            case GAUGE_CURRENT_VALUE: ((Gauge) TARGET).setAnimatedCurrentValue(VALUE); break;
+            case GAUGE_VALUE        : ((Gauge) TARGET).setValue(VALUE); break;
+            case CLOCK_TIME         : ((Clock) TARGET).setAnimatedCurrentTime(Math.round(VALUE)); break;
+        }
+    }
+
+    private void finished(final Object TARGET, final byte MODE) {
+        if (CLOCK_TIME == MODE) {
+            ((Clock) TARGET).onAnimationFinished();
+        } else {
+            ((Gauge) TARGET).onAnimationFinished();
+        }
+    }
+
+    private int indexOf(final Object TARGET) {
+        for (int i = 0 ; i < size ; i++) { if (targets[i] == TARGET) return i; }
+        return -1;
+    }
+
+    private void remove(final int INDEX) {
+        final int LAST = size - 1;
+        if (INDEX != LAST) {
+            targets[INDEX]     = targets[LAST];
+            modes[INDEX]       = modes[LAST];
+            startValues[INDEX] = startValues[LAST];
+            endValues[INDEX]   = endValues[LAST];
+            startTimes[INDEX]  = startTimes[LAST];
+            durations[INDEX]   = durations[LAST];
+        }
+        targets[LAST] = null;
+        size = LAST;
+    }
+
+    private void ensureCapacity(final int CAPACITY) {
+        if (CAPACITY <= targets.length) return;
+        final int NEW_CAPACITY = Math.max(CAPACITY, targets.length * 2);
+        targets     = Arrays.copyOf(targets, NEW_CAPACITY);
+        modes       = Arrays.copyOf(modes, NEW_CAPACITY);
+        startValues = Arrays.copyOf(startValues, NEW_CAPACITY);
+        endValues   = Arrays.copyOf(endValues, NEW_CAPACITY);
+        startTimes  = Arrays.copyOf(startTimes, NEW_CAPACITY);
+        durations   = Arrays.copyOf(durations, NEW_CAPACITY);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class InstanceHolder {
+        private static final GaugeAnimator INSTANCE = new GaugeAnimator();
+    }
+}
@@ -725,6 +725,11 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
         return (B)this;
     }
 
+    public final B renderCacheEnabled(final boolean ENABLED) {
+        properties.put("renderCacheEnabled", new SimpleBooleanProperty(ENABLED));
+        return (B)this;
+    }
+
     public final B onValueChanged(final InvalidationListener LISTENER) {
         properties.put("onValueChanged", new SimpleObjectProperty<>(LISTENER));
         return (B)this;
@@ -1407,6 +1412,8 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
                 CONTROL.setAlertMessage(((StringProperty) properties.get(key)).get());
             } else if ("smoothing".equals(key)) {
                 CONTROL.setSmoothing(((BooleanProperty) properties.get(key)).get());
+            } else if ("renderCacheEnabled".equals(key)) {
+                CONTROL.setRenderCacheEnabled(((BooleanProperty) properties.get(key)).get());
             } else if ("autoScale".equals(key)) {
                 CONTROL.setAutoScale(((BooleanProperty) properties.get(key)).get());
                 setMinMaxValues(CONTROL);
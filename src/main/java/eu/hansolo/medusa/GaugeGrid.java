@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.medusa;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.DoublePropertyBase;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * A scrollable grid of gauges that only keeps the gauges in the viewport
+ * in the scene graph. All gauges keep their model state (value, measured
+ * min/max values, sections, markers etc.) but gauges outside of the
+ * viewport don't have a skin and because of that no canvases, no
+ * listeners and no animations. If a gauge will be scrolled into the
+ * viewport it will get a new skin.
+ * Because a skin is bound to its gauge for its whole life the skins can't
+ * be shared between gauges, instead the skins of the last SKIN_POOL_SIZE
+ * gauges that left the viewport will be kept alive so that scrolling back
+ * and forth won't create new skins.
+ * The static layers of the skins are cached by the RenderCache, so that
+ * creating a skin for a gauge with the same styling as another gauge is
+ * cheap.
+ * Must only be used on the JavaFX application thread.
+ */
+public class GaugeGrid extends Region {
+    public  static final double         PREFERRED_WIDTH        = 800;
+    public  static final double         PREFERRED_HEIGHT       = 600;
+    public  static final double         MINIMUM_WIDTH          = 50;
+    public  static final double         MINIMUM_HEIGHT         = 50;
+    public  static final double         MAXIMUM_WIDTH          = Double.MAX_VALUE;
+    public  static final double         MAXIMUM_HEIGHT         = Double.MAX_VALUE;
+    public  static final int            DEFAULT_SKIN_POOL_SIZE = 32;
+    private final ObservableList<Gauge> gauges;
+    private final Pane                  viewport;
+    private final Rectangle             clip;
+    private final ScrollBar             scrollBar;
+    private final Map<Gauge, Boolean>   skinPool;
+    private final List<Gauge>           addedGauges;
+    private final Set<Gauge>            shownGauges;
+    private final Set<Gauge>            gaugesInRange;
+    private       int                   skinPoolSize;
+    private       double                _cellWidth;
+    private       DoubleProperty        cellWidth;
+    private       double                _cellHeight;
+    private       DoubleProperty        cellHeight;
+    private       double                _spacing;
+    private       DoubleProperty        spacing;
+    private       int                   columns;
+
+
+    // ******************** Constructors **************************************
+    public GaugeGrid() {
+        this(150, 150);
+    }
+    public GaugeGrid(final double CELL_WIDTH, final double CELL_HEIGHT) {
+        gauges        = FXCollections.observableArrayList();
+        viewport      = new Pane();
+        clip          = new Rectangle();
+        scrollBar     = new ScrollBar();
+        skinPool      = new LinkedHashMap<>(16, 0.75f, true);
+        addedGauges   = new ArrayList<>();
+        shownGauges   = new HashSet<>();
+        gaugesInRange = new HashSet<>();
+        skinPoolSize  = DEFAULT_SKIN_POOL_SIZE;
+        _cellWidth    = CELL_WIDTH;
+        _cellHeight   = CELL_HEIGHT;
+        _spacing      = 5;
+        columns       = 1;
+        initGraphics();
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void initGraphics() {
+        if (Double.compare(getPrefWidth(), 0.0) <= 0 || Double.compare(getPrefHeight(), 0.0) <= 0 ||
+            Double.compare(getWidth(), 0.0) <= 0 || Double.compare(getHeight(), 0.0) <= 0) {
+            if (getPrefWidth() > 0 && getPrefHeight() > 0) {
+                setPrefSize(getPrefWidth(), getPrefHeight());
+            } else {
+                setPrefSize(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+            }
+        }
+        if (Double.compare(getMinWidth(), 0.0) <= 0 || Double.compare(getMinHeight(), 0.0) <= 0) {
+            setMinSize(MINIMUM_WIDTH, MINIMUM_HEIGHT);
+        }
+        if (Double.compare(getMaxWidth(), 0.0) <= 0 || Double.compare(getMaxHeight(), 0.0) <= 0) {
+            setMaxSize(MAXIMUM_WIDTH, MAXIMUM_HEIGHT);
+        }
+
+        viewport.setClip(clip);
+        viewport.setManaged(false);
+
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setMin(0);
+        scrollBar.setManaged(false);
+
+        getChildren().setAll(viewport, scrollBar);
+    }
+
+    private void registerListeners() {
+        gauges.addListener((ListChangeListener<Gauge>) change -> handleGaugesChanged(change));
+        scrollBar.valueProperty().addListener(o -> requestLayout());
+        addEventHandler(ScrollEvent.SCROLL, e -> {
+            scrollBar.setValue(clamp(scrollBar.getValue() - e.getDeltaY()));
+            e.consume();
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the list of all gauges of the grid. Only the gauges in the
+     * viewport will be added to the scene graph.
+     *
+     * @return the list of all gauges of the grid
+     */
+    public ObservableList<Gauge> getGauges() { return gauges; }
+
+    public double getCellWidth() { return null == cellWidth ? _cellWidth : cellWidth.get(); }
+    public void setCellWidth(final double WIDTH) {
+        if (null == cellWidth) {
+            _cellWidth = WIDTH;
+            requestLayout();
+        } else {
+            cellWidth.set(WIDTH);
+        }
+    }
+    public DoubleProperty cellWidthProperty() {
+        if (null == cellWidth) {
+            cellWidth = new DoublePropertyBase(_cellWidth) {
+                @Override protected void invalidated() { requestLayout(); }
+                @Override public Object getBean() { return GaugeGrid.this; }
+                @Override public String getName() { return "cellWidth"; }
+            };
+        }
+        return cellWidth;
+    }
+
+    public double getCellHeight() { return null == cellHeight ? _cellHeight : cellHeight.get(); }
+    public void setCellHeight(final double HEIGHT) {
+        if (null == cellHeight) {
+            _cellHeight = HEIGHT;
+            requestLayout();
+        } else {
+            cellHeight.set(HEIGHT);
+        }
+    }
+    public DoubleProperty cellHeightProperty() {
+        if (null == cellHeight) {
+            cellHeight = new DoublePropertyBase(_cellHeight) {
+                @Override protected void invalidated() { requestLayout(); }
+                @Override public Object getBean() { return GaugeGrid.this; }
+                @Override public String getName() { return "cellHeight"; }
+            };
+        }
+        return cellHeight;
+    }
+
+    public double getSpacing() { return null == spacing ? _spacing : spacing.get(); }
+    /**
+     * Defines the horizontal and vertical space between the cells
+     *
+     * @param SPACING
+     */
+    public void setSpacing(final double SPACING) {
+        if (null == spacing) {
+            _spacing = SPACING;
+            requestLayout();
+        } else {
+            spacing.set(SPACING);
+        }
+    }
+    public DoubleProperty spacingProperty() {
+        if (null == spacing) {
+            spacing = new DoublePropertyBase(_spacing) {
+                @Override protected void invalidated() { requestLayout(); }
+                @Override public Object getBean() { return GaugeGrid.this; }
+                @Override public String getName() { return "spacing"; }
+            };
+        }
+        return spacing;
+    }
+
+    public int getSkinPoolSize() { return skinPoolSize; }
+    /**
+     * Defines the number of gauges outside of the viewport that keep their
+     * skin. The skins of the gauges that left the viewport first will be
+     * released if more gauges are outside of the viewport.
+     *
+     * @param SIZE
+     */
+    public void setSkinPoolSize(final int SIZE) {
+        skinPoolSize = Math.max(0, SIZE);
+        trimSkinPool();
+    }
+
+    /**
+     * Returns the number of gauges that are in the viewport
+     *
+     * @return the number of gauges that are in the viewport
+     */
+    public int getNoOfVisibleGauges() { return shownGauges.size(); }
+
+    /**
+     * Scrolls the grid so that the gauge with the given index is in the viewport
+     *
+     * @param INDEX
+     */
+    public void scrollTo(final int INDEX) {
+        if (INDEX < 0 || INDEX >= gauges.size()) return;
+        final double ROW_HEIGHT = getCellHeight() + getSpacing();
+        final double Y          = (INDEX / columns) * ROW_HEIGHT;
+        final double OFFSET     = scrollBar.getValue();
+        final double HEIGHT     = viewport.getHeight();
+        if (Y < OFFSET) {
+            scrollBar.setValue(clamp(Y));
+        } else if (Y + getCellHeight() > OFFSET + HEIGHT) {
+            scrollBar.setValue(clamp(Y + getCellHeight() - HEIGHT));
+        }
+    }
+
+    private void handleGaugesChanged(final ListChangeListener.Change<? extends Gauge> CHANGE) {
+        // The shown gauges that are still in the grid will be checked against the new range in layoutChildren()
+        while (CHANGE.next()) {
+            if (CHANGE.wasRemoved()) {
+                for (Gauge gauge : CHANGE.getRemoved()) {
+                    if (gauges.contains(gauge)) continue;
+                    if (shownGauges.remove(gauge)) { viewport.getChildren().remove(gauge); }
+                    skinPool.remove(gauge);
+                    addedGauges.remove(gauge);
+                }
+            }
+            if (CHANGE.wasAdded()) { addedGauges.addAll(CHANGE.getAddedSubList()); }
+        }
+        requestLayout();
+    }
+
+    private void show(final Gauge GAUGE) {
+        skinPool.remove(GAUGE);
+        if (null == GAUGE.getSkin()) { GAUGE.setSkin(GAUGE.createDefaultSkin()); }
+        viewport.getChildren().add(GAUGE);
+    }
+
+    private void hide(final Gauge GAUGE) {
+        viewport.getChildren().remove(GAUGE);
+        if (null == GAUGE.getSkin()) return;
+        skinPool.put(GAUGE, Boolean.TRUE);
+    }
+
+    private void trimSkinPool() {
+        final Iterator<Gauge> ITERATOR = skinPool.keySet().iterator();
+        while (skinPool.size() > skinPoolSize && ITERATOR.hasNext()) {
+            final Gauge GAUGE = ITERATOR.next();
+            ITERATOR.remove();
+            GAUGE.setSkin(null);
+        }
+    }
+
+    private double clamp(final double OFFSET) { return Math.max(scrollBar.getMin(), Math.min(scrollBar.getMax(), OFFSET)); }
+
+
+    // ******************** Layout ********************************************
+    @Override protected void layoutChildren() {
+        final Insets INSETS          = getInsets();
+        final double WIDTH           = getWidth() - INSETS.getLeft() - INSETS.getRight();
+        final double HEIGHT          = getHeight() - INSETS.getTop() - INSETS.getBottom();
+        final double CELL_WIDTH      = getCellWidth();
+        final double CELL_HEIGHT     = getCellHeight();
+        final double SPACING         = getSpacing();
+        final double ROW_HEIGHT      = CELL_HEIGHT + SPACING;
+        final double COLUMN_WIDTH    = CELL_WIDTH + SPACING;
+        final double SCROLLBAR_WIDTH = scrollBar.prefWidth(-1);
+        final double VIEWPORT_WIDTH  = Math.max(0, WIDTH - SCROLLBAR_WIDTH);
+        final int    NO_OF_GAUGES    = gauges.size();
+
+        columns = Math.max(1, (int) ((VIEWPORT_WIDTH + SPACING) / COLUMN_WIDTH));
+        final int    ROWS           = (NO_OF_GAUGES + columns - 1) / columns;
+        final double CONTENT_HEIGHT = Math.max(0, ROWS * ROW_HEIGHT - SPACING);
+        scrollBar.setMax(Math.max(0, CONTENT_HEIGHT - HEIGHT));
+        scrollBar.setVisibleAmount(HEIGHT);
+        scrollBar.setUnitIncrement(ROW_HEIGHT * 0.25);
+        scrollBar.setBlockIncrement(HEIGHT);
+        scrollBar.setDisable(CONTENT_HEIGHT <= HEIGHT);
+        scrollBar.resizeRelocate(INSETS.getLeft() + VIEWPORT_WIDTH, INSETS.getTop(), SCROLLBAR_WIDTH, HEIGHT);
+        viewport.resizeRelocate(INSETS.getLeft(), INSETS.getTop(), VIEWPORT_WIDTH, HEIGHT);
+        clip.setWidth(VIEWPORT_WIDTH);
+        clip.setHeight(HEIGHT);
+
+        final double OFFSET    = clamp(scrollBar.getValue());
+        final int    FIRST_ROW = HEIGHT <= 0 ? 0 : (int) (OFFSET / ROW_HEIGHT);
+        final int    LAST_ROW  = HEIGHT <= 0 ? -1 : (int) ((OFFSET + HEIGHT) / ROW_HEIGHT);
+        final int    FROM      = Math.min(NO_OF_GAUGES, FIRST_ROW * columns);
+        final int    TO        = Math.min(NO_OF_GAUGES, (LAST_ROW + 1) * columns);
+
+        // Only the gauges that left or entered the viewport will be touched
+        gaugesInRange.clear();
+        for (int i = FROM ; i < TO ; i++) { gaugesInRange.add(gauges.get(i)); }
+        final Iterator<Gauge> ITERATOR = shownGauges.iterator();
+        while (ITERATOR.hasNext()) {
+            final Gauge GAUGE = ITERATOR.next();
+            if (gaugesInRange.contains(GAUGE)) continue;
+            ITERATOR.remove();
+            hide(GAUGE);
+        }
+        for (int i = FROM ; i < TO ; i++) {
+            final Gauge GAUGE = gauges.get(i);
+            if (shownGauges.add(GAUGE)) { show(GAUGE); }
+        }
+        gaugesInRange.clear();
+
+        // The pool will only be trimmed after all shown gauges were removed from it
+        trimSkinPool();
+
+        // Gauges that were added outside of the viewport don't need their skin
+        if (!addedGauges.isEmpty()) {
+            for (Gauge gauge : addedGauges) {
+                if (viewport == gauge.getParent() || skinPool.containsKey(gauge)) continue;
+                gauge.setSkin(null);
+            }
+            addedGauges.clear();
+        }
+
+        for (int i = FROM ; i < TO ; i++) {
+            final int ROW    = i / columns;
+            final int COLUMN = i % columns;
+            gauges.get(i).resizeRelocate(COLUMN * COLUMN_WIDTH, ROW * ROW_HEIGHT - OFFSET, CELL_WIDTH, CELL_HEIGHT);
+        }
+    }
+}
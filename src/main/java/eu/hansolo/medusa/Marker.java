@@ -16,8 +16,12 @@
 
 package eu.hansolo.medusa;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import eu.hansolo.medusa.events.CrossingDispatcher;
+import eu.hansolo.medusa.events.CrossingType;
 import javafx.application.Platform;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
@@ -57,6 +61,8 @@ public class Marker implements Comparable<Marker>{
     private ObjectProperty<MarkerType> markerType;
     private double                     checkedValue;
     private String                     styleClass;
+    private CrossingDispatcher         crossingDispatcher;
+    private List<Runnable>             valueListeners;
 
 
     // ******************** Constructors **************************************
@@ -88,12 +94,13 @@ public class Marker implements Comparable<Marker>{
         this(VALUE, TEXT, COLOR, TYPE, "");
     }
     public Marker(final double VALUE, final String TEXT, final Color COLOR, final MarkerType TYPE, final String STYLE_CLASS) {
-        _value       = VALUE;
-        _text        = TEXT;
-        _color       = COLOR;
-        _markerType  = null == TYPE ? MarkerType.STANDARD : TYPE;
-        checkedValue = -Double.MAX_VALUE;
-        styleClass   = STYLE_CLASS;
+        _value         = VALUE;
+        _text          = TEXT;
+        _color         = COLOR;
+        _markerType    = null == TYPE ? MarkerType.STANDARD : TYPE;
+        checkedValue   = -Double.MAX_VALUE;
+        styleClass     = STYLE_CLASS;
+        valueListeners = new CopyOnWriteArrayList<>();
     }
 
 
@@ -110,13 +117,18 @@ public class Marker implements Comparable<Marker>{
     public void setValue(final double VALUE) {
         if (null == value) {
             _value = VALUE;
+            fireValueChanged();
         } else {
             value.set(VALUE);
         }
         fireMarkerEvent(VALUE_CHANGED_EVENT);
     }
     public DoubleProperty valueProperty() {
-        if (null == value) { value = new SimpleDoubleProperty(this, "value", _value); }
+        if (null == value) {
+            value = new SimpleDoubleProperty(this, "value", _value) {
+                @Override protected void invalidated() { fireValueChanged(); }
+            };
+        }
         return value;
     }
 
@@ -216,26 +228,48 @@ public class Marker implements Comparable<Marker>{
     }
 
     /**
-     * Checks if a given value is smaller/bigger than the stored
-     * value. With those checks it can be detected if the current
+     * Checks if a given value is smaller/bigger than the value of
+     * the marker. With those checks it can be detected if the current
      * value exceeds or underruns the marker. In both cases an
-     * event will be fired.
+     * event will be fired. A value that is equal to the value of the
+     * marker counts as exceeded.
      * @param VALUE
      */
     public void checkForValue(final double VALUE) {
-        boolean wasSmaller = Double.compare(checkedValue, VALUE) < 0;
-        boolean wasBigger  = Double.compare(checkedValue, VALUE) > 0;
-        boolean isBigger   = Double.compare(VALUE, checkedValue) > 0;
-        boolean isSmaller  = Double.compare(VALUE, checkedValue) < 0;
-
-        if (wasSmaller && isBigger) {
-            fireMarkerEvent(EXCEEDED_EVENT);
-        } else if (wasBigger && isSmaller) {
-            fireMarkerEvent(UNDERRUN_EVENT);
+        final double MARKER_VALUE = getValue();
+        boolean wasSmaller = Double.compare(checkedValue, MARKER_VALUE) < 0;
+        boolean isSmaller  = Double.compare(VALUE, MARKER_VALUE) < 0;
+
+        if (wasSmaller && !isSmaller) {
+            fireCrossing(true, VALUE);
+        } else if (!wasSmaller && isSmaller) {
+            fireCrossing(false, VALUE);
         }
         checkedValue = VALUE;
     }
 
+    // Used by CrossingDetector to report crossings that were found on the values of a gauge
+    void fireCrossing(final boolean EXCEEDED, final double VALUE) {
+        fireMarkerEvent(EXCEEDED ? EXCEEDED_EVENT : UNDERRUN_EVENT);
+        if (null != crossingDispatcher) { crossingDispatcher.fire(this, EXCEEDED ? CrossingType.MARKER_EXCEEDED : CrossingType.MARKER_UNDERRUN, VALUE); }
+    }
+
+    // Used by CrossingDetector to get informed when the value of one of its markers changed
+    void addValueListener(final Runnable LISTENER) { valueListeners.add(LISTENER); }
+    void removeValueListener(final Runnable LISTENER) { valueListeners.remove(LISTENER); }
+
+    private void fireValueChanged() { for (Runnable listener : valueListeners) { listener.run(); } }
+
+    public CrossingDispatcher getCrossingDispatcher() { return crossingDispatcher; }
+    /**
+     * Defines the dispatcher that will be informed with MARKER_EXCEEDED and
+     * MARKER_UNDERRUN crossings in checkForValue(). In contrast to the
+     * MarkerEvent handlers no event object and no Platform.runLater() call
+     * will be created for each crossing.
+     * @param DISPATCHER
+     */
+    public void setCrossingDispatcher(final CrossingDispatcher DISPATCHER) { crossingDispatcher = DISPATCHER; }
+
     @Override public int compareTo(final Marker MARKER) {
         if (Double.compare(getValue(), MARKER.getValue()) < 0) return -1;
         if (Double.compare(getValue(), MARKER.getValue()) > 0) return 1;
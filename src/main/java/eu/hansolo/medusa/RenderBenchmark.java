@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.tools.GaugeRenderer;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.Random;
+
+
+/**
+ * Measures the throughput of the GaugeRenderer. Renders the given number
+ * of images (default 10000) with the given size (default 128 px) and skin
+ * (SIMPLE_SECTION or GAUGE, default SIMPLE_SECTION) once on the calling
+ * thread and once in parallel, as ARGB buffers and as PNG.
+ * Runs without a JavaFX toolkit, e.g.
+ * java -Djava.awt.headless=true eu.hansolo.medusa.RenderBenchmark 10000 128 GAUGE
+ */
+public class RenderBenchmark {
+    private static final Random RND = new Random(42);
+
+
+    public static void main(String[] args) {
+        final int            NO_OF_IMAGES = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        final int            SIZE         = args.length > 1 ? Integer.parseInt(args[1]) : 128;
+        final Gauge.SkinType SKIN_TYPE    = args.length > 2 ? Gauge.SkinType.valueOf(args[2]) : Gauge.SkinType.SIMPLE_SECTION;
+
+        GaugeRenderer.Spec spec = new GaugeRenderer.Spec().skinType(SKIN_TYPE)
+                                                          .title("Temperature")
+                                                          .unit("°C")
+                                                          .sectionsVisible(true)
+                                                          .sections(Arrays.asList(new Section(0, 60, Color.rgb(69, 106, 207)),
+                                                                                  new Section(60, 85, Color.rgb(255, 183, 0)),
+                                                                                  new Section(85, 100, Color.rgb(231, 76, 60))));
+        GaugeRenderer renderer = new GaugeRenderer(spec, SIZE);
+        double[]      values   = new double[NO_OF_IMAGES];
+        for (int i = 0 ; i < NO_OF_IMAGES ; i++) { values[i] = RND.nextDouble() * 100; }
+
+        // Warm up
+        renderer.renderAllArgb(Arrays.copyOf(values, Math.min(NO_OF_IMAGES, 1_000)));
+
+        long start = System.nanoTime();
+        for (double value : values) { renderer.renderArgb(value); }
+        print("ARGB, 1 thread", NO_OF_IMAGES, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        renderer.renderAllArgb(values);
+        print("ARGB, parallel", NO_OF_IMAGES, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for (double value : values) { renderer.renderPng(value); }
+        print("PNG,  1 thread", NO_OF_IMAGES, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        renderer.renderAllPng(values);
+        print("PNG,  parallel", NO_OF_IMAGES, System.nanoTime() - start);
+    }
+
+    private static void print(final String NAME, final int NO_OF_IMAGES, final long NANOS) {
+        System.out.println(String.format("%s: %d images in %d ms (%.0f images/s)", NAME, NO_OF_IMAGES, NANOS / 1_000_000, NO_OF_IMAGES / (NANOS / 1e9)));
+    }
+}
@@ -16,7 +16,12 @@
 
 package eu.hansolo.medusa;
 
+import eu.hansolo.medusa.events.CrossingDispatcher;
+import eu.hansolo.medusa.events.CrossingType;
+
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.DoublePropertyBase;
@@ -56,6 +61,8 @@ public class Section implements Comparable<Section> {
     private ObjectProperty<Color> textColor;
     private double                checkedValue;
     private String                styleClass;
+    private CrossingDispatcher    crossingDispatcher;
+    private List<Runnable>        boundsListeners;
 
 
     // ******************** Constructors **************************************
@@ -102,6 +109,7 @@ public class Section implements Comparable<Section> {
         _textColor      = TEXT_COLOR;
         checkedValue    = -Double.MAX_VALUE;
         styleClass      = STYLE_CLASS;
+        boundsListeners = new CopyOnWriteArrayList<>();
     }
 
 
@@ -118,6 +126,7 @@ public class Section implements Comparable<Section> {
     public void setStart(final double START) {
         if (null == start) {
             _start = START;
+            fireBoundsChanged();
             fireSectionEvent(UPDATE_EVENT);
         } else {
             start.set(START);
@@ -126,7 +135,10 @@ public class Section implements Comparable<Section> {
     public DoubleProperty startProperty() {
         if (null == start) {
             start = new DoublePropertyBase(_start) {
-                @Override protected void invalidated() { fireSectionEvent(UPDATE_EVENT); }
+                @Override protected void invalidated() {
+                    fireBoundsChanged();
+                    fireSectionEvent(UPDATE_EVENT);
+                }
                 @Override public Object getBean() { return Section.this; }
                 @Override public String getName() { return "start"; }
             };
@@ -146,6 +158,7 @@ public class Section implements Comparable<Section> {
     public void setStop(final double STOP) {
         if (null == stop) {
             _stop = STOP;
+            fireBoundsChanged();
             fireSectionEvent(UPDATE_EVENT);
         } else {
             stop.set(STOP);
@@ -154,7 +167,10 @@ public class Section implements Comparable<Section> {
     public DoubleProperty stopProperty() {
         if (null == stop) {
             stop = new DoublePropertyBase(_stop) {
-                @Override protected void invalidated() { fireSectionEvent(UPDATE_EVENT); }
+                @Override protected void invalidated() {
+                    fireBoundsChanged();
+                    fireSectionEvent(UPDATE_EVENT);
+                }
                 @Override public Object getBean() { return Section.this; }
                 @Override public String getName() { return "stop"; }
             };
@@ -341,12 +357,23 @@ public class Section implements Comparable<Section> {
         boolean isInSection  = contains(VALUE);
         if (!wasInSection && isInSection) {
             fireSectionEvent(ENTERED_EVENT);
+            if (null != crossingDispatcher) { crossingDispatcher.fire(this, CrossingType.SECTION_ENTERED, VALUE); }
         } else if (wasInSection && !isInSection) {
             fireSectionEvent(LEFT_EVENT);
+            if (null != crossingDispatcher) { crossingDispatcher.fire(this, CrossingType.SECTION_LEFT, VALUE); }
         }
         checkedValue = VALUE;
     }
 
+    // Used by SectionIndex to bring sections that were not checked up to date
+    void setCheckedValue(final double VALUE) { checkedValue = VALUE; }
+
+    // Used by SectionIndex to get informed when the start or stop value of one of its sections changed
+    void addBoundsListener(final Runnable LISTENER) { boundsListeners.add(LISTENER); }
+    void removeBoundsListener(final Runnable LISTENER) { boundsListeners.remove(LISTENER); }
+
+    private void fireBoundsChanged() { for (Runnable listener : boundsListeners) { listener.run(); } }
+
     public boolean equals(final Section SECTION) {
         return (Double.compare(SECTION.getStart(), getStart()) == 0 &&
                 Double.compare(SECTION.getStop(), getStop()) == 0 &&
@@ -389,6 +416,16 @@ public class Section implements Comparable<Section> {
     public final EventHandler<SectionEvent> getOnSectionUpdate() { return onSectionUpdateProperty().get(); }
     private ObjectProperty<EventHandler<SectionEvent>> onSectionUpdate = new SimpleObjectProperty<>(this, "onSectionUpdate");
 
+    public CrossingDispatcher getCrossingDispatcher() { return crossingDispatcher; }
+    /**
+     * Defines the dispatcher that will be informed with SECTION_ENTERED and
+     * SECTION_LEFT crossings in checkForValue(). In contrast to the
+     * SectionEvent handlers no event object will be created. The same
+     * dispatcher can be used for all sections of a gauge.
+     * @param DISPATCHER
+     */
+    public void setCrossingDispatcher(final CrossingDispatcher DISPATCHER) { crossingDispatcher = DISPATCHER; }
+
     public void fireSectionEvent(final SectionEvent EVENT) {
         final EventHandler<SectionEvent> HANDLER;
         final EventType                  TYPE = EVENT.getEventType();
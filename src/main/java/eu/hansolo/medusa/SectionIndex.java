@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+
+/**
+ * An index over a list of sections that answers the question which
+ * sections contain a value in O(log n) instead of checking every section.
+ * The sections will be kept in an interval tree (sorted by start and
+ * augmented by the max stop value of each subtree) and the first section
+ * (in list order) that contains a value will be precomputed for all points
+ * and gaps between the start and stop values of the sections.
+ * The index will be rebuilt on the next query after the list or the
+ * start/stop value of one of its sections changed.
+ * Like Section.contains() all values will be compared with Double.compare().
+ */
+public final class SectionIndex {
+    private final    ObservableList<Section> sections;
+    private final    Runnable                boundsListener;
+    private volatile boolean                 dirty;
+    private          Section[]               listSections;
+    private          int                     size;
+    private          int[]                   treeIndices;
+    private          double[]                treeStarts;
+    private          double[]                treeStops;
+    private          double[]                treeMaxStops;
+    private          double[]                points;
+    private          int                     noOfPoints;
+    private          int[]                   firstAtPoint;
+    private          int[]                   firstInGap;
+    private          boolean                 fullCheck;
+    private          boolean                 checked;
+    private          double                  lastCheckedValue;
+    private          int[]                   bufferA;
+    private          int[]                   bufferB;
+    private          int[]                   bufferC;
+
+
+    // ******************** Constructors **************************************
+    public SectionIndex(final ObservableList<Section> SECTIONS) {
+        sections       = SECTIONS;
+        boundsListener = () -> dirty = true;
+        dirty          = true;
+        for (Section section : sections) { section.addBoundsListener(boundsListener); }
+        sections.addListener((ListChangeListener<Section>) change -> {
+            while (change.next()) {
+                for (Section section : change.getRemoved())       { section.removeBoundsListener(boundsListener); }
+                for (Section section : change.getAddedSubList()) { section.addBoundsListener(boundsListener); }
+            }
+            dirty = true;
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the first section (in list order) that contains the given
+     * value or null if no section contains the value.
+     * @param VALUE
+     * @return the first section that contains the given value or null
+     */
+    public Section getSectionAt(final double VALUE) {
+        validate();
+        if (0 == noOfPoints) return null;
+        final int INDEX = Arrays.binarySearch(points, 0, noOfPoints, VALUE);
+        final int FIRST;
+        if (INDEX >= 0) {
+            FIRST = firstAtPoint[INDEX];
+        } else {
+            final int INSERTION_POINT = -INDEX - 1;
+            FIRST = (0 == INSERTION_POINT || noOfPoints == INSERTION_POINT) ? -1 : firstInGap[INSERTION_POINT - 1];
+        }
+        return FIRST < 0 ? null : listSections[FIRST];
+    }
+
+    /**
+     * Returns the color of the first section that contains the given value
+     * or the given default color. Same result as Helper.getColorOfSection().
+     * @param VALUE
+     * @param DEFAULT_COLOR
+     * @return the color of the first section that contains the given value or the default color
+     */
+    public Color getColorAt(final double VALUE, final Color DEFAULT_COLOR) {
+        final Section SECTION = getSectionAt(VALUE);
+        return null == SECTION ? DEFAULT_COLOR : SECTION.getColor();
+    }
+
+    /**
+     * Returns all sections that contain the given value in list order
+     * @param VALUE
+     * @return all sections that contain the given value
+     */
+    public List<Section> getSectionsAt(final double VALUE) {
+        validate();
+        final int COUNT = stab(VALUE, bufferA);
+        return toList(bufferA, COUNT);
+    }
+
+    /**
+     * Returns all sections that contain only one of the given values in
+     * list order. These are the sections that will be entered or left if
+     * the value changes from FROM to TO.
+     * @param FROM
+     * @param TO
+     * @return all sections that will be entered or left if the value changes from FROM to TO
+     */
+    public List<Section> getCrossedSections(final double FROM, final double TO) {
+        validate();
+        final int COUNT_A = stab(FROM, bufferA);
+        final int COUNT_B = stab(TO, bufferB);
+        int       count   = 0;
+        int       a       = 0;
+        int       b       = 0;
+        while (a < COUNT_A || b < COUNT_B) {
+            if (b == COUNT_B || (a < COUNT_A && bufferA[a] < bufferB[b])) {
+                bufferC[count++] = bufferA[a++];
+            } else if (a == COUNT_A || bufferB[b] < bufferA[a]) {
+                bufferC[count++] = bufferB[b++];
+            } else {
+                a++;
+                b++;
+            }
+        }
+        return toList(bufferC, count);
+    }
+
+    /**
+     * Calls Section.checkForValue() on all sections that contain the given
+     * value or the last checked value, so the sections will fire the same
+     * ENTERED and LEFT events as if checkForValue() would have been called
+     * on all sections. After the index was rebuilt all sections will be
+     * checked once.
+     * @param VALUE
+     */
+    public void checkForValue(final double VALUE) {
+        validate();
+        if (fullCheck) {
+            for (int i = 0 ; i < size ; i++) { listSections[i].checkForValue(VALUE); }
+            fullCheck = false;
+        } else {
+            final int COUNT_A = stab(lastCheckedValue, bufferA);
+            final int COUNT_B = stab(VALUE, bufferB);
+            int       a       = 0;
+            int       b       = 0;
+            while (a < COUNT_A || b < COUNT_B) {
+                final int INDEX;
+                if (b == COUNT_B || (a < COUNT_A && bufferA[a] < bufferB[b])) {
+                    INDEX = bufferA[a++];
+                } else if (a == COUNT_A || bufferB[b] < bufferA[a]) {
+                    INDEX = bufferB[b++];
+                } else {
+                    INDEX = bufferA[a++];
+                    b++;
+                }
+                listSections[INDEX].checkForValue(VALUE);
+            }
+        }
+        lastCheckedValue = VALUE;
+        checked          = true;
+    }
+
+    private void validate() {
+        if (dirty) { rebuild(); }
+    }
+
+    private void rebuild() {
+        // Sections that were skipped by checkForValue() have to look like they were checked with the last value
+        if (checked) {
+            for (int i = 0 ; i < size ; i++) { listSections[i].setCheckedValue(lastCheckedValue); }
+        }
+        dirty        = false;
+        listSections = sections.toArray(new Section[0]);
+        size         = listSections.length;
+        fullCheck    = true;
+        bufferA      = new int[size];
+        bufferB      = new int[size];
+        bufferC      = new int[size];
+
+        // Sections with start > stop don't contain any value
+        final List<Integer> VALID = new ArrayList<>(size);
+        for (int i = 0 ; i < size ; i++) {
+            if (Double.compare(listSections[i].getStart(), listSections[i].getStop()) <= 0) { VALID.add(i); }
+        }
+        final Integer[] BY_START = VALID.toArray(new Integer[0]);
+        Arrays.sort(BY_START, (i1, i2) -> Double.compare(listSections[i1].getStart(), listSections[i2].getStart()));
+        final int NO_OF_VALID = BY_START.length;
+        treeIndices  = new int[NO_OF_VALID];
+        treeStarts   = new double[NO_OF_VALID];
+        treeStops    = new double[NO_OF_VALID];
+        treeMaxStops = new double[NO_OF_VALID];
+        for (int i = 0 ; i < NO_OF_VALID ; i++) {
+            treeIndices[i] = BY_START[i];
+            treeStarts[i]  = listSections[BY_START[i]].getStart();
+            treeStops[i]   = listSections[BY_START[i]].getStop();
+        }
+        buildMaxStops(0, NO_OF_VALID);
+
+        // Precompute the first section for each start/stop value and each gap between them
+        final double[] ALL_POINTS = new double[2 * NO_OF_VALID];
+        for (int i = 0 ; i < NO_OF_VALID ; i++) {
+            ALL_POINTS[2 * i]     = treeStarts[i];
+            ALL_POINTS[2 * i + 1] = treeStops[i];
+        }
+        Arrays.sort(ALL_POINTS);
+        points     = new double[ALL_POINTS.length];
+        noOfPoints = 0;
+        for (double point : ALL_POINTS) {
+            if (0 == noOfPoints || Double.compare(points[noOfPoints - 1], point) != 0) { points[noOfPoints++] = point; }
+        }
+        final Integer[] BY_STOP = BY_START.clone();
+        Arrays.sort(BY_STOP, (i1, i2) -> Double.compare(listSections[i1].getStop(), listSections[i2].getStop()));
+        firstAtPoint = new int[noOfPoints];
+        firstInGap   = new int[noOfPoints];
+        final TreeSet<Integer> ACTIVE = new TreeSet<>();
+        int startIndex = 0;
+        int stopIndex  = 0;
+        for (int p = 0 ; p < noOfPoints ; p++) {
+            final double POINT = points[p];
+            while (startIndex < NO_OF_VALID && Double.compare(treeStarts[startIndex], POINT) == 0) { ACTIVE.add(treeIndices[startIndex++]); }
+            firstAtPoint[p] = ACTIVE.isEmpty() ? -1 : ACTIVE.first();
+            while (stopIndex < NO_OF_VALID && Double.compare(listSections[BY_STOP[stopIndex]].getStop(), POINT) == 0) { ACTIVE.remove(BY_STOP[stopIndex++]); }
+            firstInGap[p] = ACTIVE.isEmpty() ? -1 : ACTIVE.first();
+        }
+    }
+
+    private double buildMaxStops(final int LO, final int HI) {
+        if (LO >= HI) return Double.NEGATIVE_INFINITY;
+        final int MID     = (LO + HI) >>> 1;
+        double    maxStop = treeStops[MID];
+        final double LEFT  = buildMaxStops(LO, MID);
+        final double RIGHT = buildMaxStops(MID + 1, HI);
+        if (Double.compare(LEFT, maxStop) > 0)  { maxStop = LEFT; }
+        if (Double.compare(RIGHT, maxStop) > 0) { maxStop = RIGHT; }
+        treeMaxStops[MID] = maxStop;
+        return maxStop;
+    }
+
+    // Writes the list indices of all sections that contain the given value sorted to the given buffer
+    private int stab(final double VALUE, final int[] BUFFER) {
+        final int COUNT = stab(VALUE, BUFFER, 0, treeIndices.length, 0);
+        Arrays.sort(BUFFER, 0, COUNT);
+        return COUNT;
+    }
+    private int stab(final double VALUE, final int[] BUFFER, final int LO, final int HI, final int COUNT) {
+        if (LO >= HI) return COUNT;
+        final int MID = (LO + HI) >>> 1;
+        if (Double.compare(treeMaxStops[MID], VALUE) < 0) return COUNT;
+        int count = stab(VALUE, BUFFER, LO, MID, COUNT);
+        if (Double.compare(treeStarts[MID], VALUE) <= 0) {
+            if (Double.compare(VALUE, treeStops[MID]) <= 0) { BUFFER[count++] = treeIndices[MID]; }
+            count = stab(VALUE, BUFFER, MID + 1, HI, count);
+        }
+        return count;
+    }
+
+    private List<Section> toList(final int[] BUFFER, final int COUNT) {
+        final List<Section> LIST = new ArrayList<>(COUNT);
+        for (int i = 0 ; i < COUNT ; i++) { LIST.add(listSections[BUFFER[i]]); }
+        return LIST;
+    }
+}
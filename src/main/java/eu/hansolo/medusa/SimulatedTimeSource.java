@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import java.time.Duration;
+
+
+/**
+ * A TimeSource for replays and tests. The time of the source passes with
+ * the given rate (e.g. 100 means 100 times faster than real time) and can
+ * be moved manually with advance() or setMillis(). With a rate of 0 the
+ * time will only change by calling advance() or setMillis().
+ */
+public class SimulatedTimeSource implements TimeSource {
+    private double rate;
+    private long   baseMillis;
+    private long   anchorNanos;
+
+
+    // ******************** Constructors **************************************
+    public SimulatedTimeSource() {
+        this(System.currentTimeMillis(), 0);
+    }
+    public SimulatedTimeSource(final long MILLIS) {
+        this(MILLIS, 0);
+    }
+    public SimulatedTimeSource(final long MILLIS, final double RATE) {
+        baseMillis  = MILLIS;
+        anchorNanos = System.nanoTime();
+        rate        = Math.max(0, RATE);
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override public synchronized long millis() {
+        if (0 == rate) return baseMillis;
+        return baseMillis + (long) ((System.nanoTime() - anchorNanos) * rate / 1_000_000.0);
+    }
+
+    public synchronized void setMillis(final long MILLIS) {
+        baseMillis  = MILLIS;
+        anchorNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the rate with which the time of this source passes compared
+     * to real time.
+     * @return the rate with which the time of this source passes
+     */
+    public synchronized double getRate() { return rate; }
+    /**
+     * Defines the rate with which the time of this source passes compared
+     * to real time, e.g. 10 means ten times faster than real time. A rate of
+     * 0 stops the time.
+     * @param RATE
+     */
+    public synchronized void setRate(final double RATE) {
+        setMillis(millis());
+        rate = Math.max(0, RATE);
+    }
+
+    /**
+     * Advances the time of this source by the given duration
+     * @param DURATION
+     */
+    public synchronized void advance(final Duration DURATION) { baseMillis += DURATION.toMillis(); }
+}
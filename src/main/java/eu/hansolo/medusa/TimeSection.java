@@ -16,6 +16,8 @@
 
 package eu.hansolo.medusa;
 
+import eu.hansolo.medusa.events.CrossingDispatcher;
+import eu.hansolo.medusa.events.CrossingType;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -28,7 +30,9 @@ import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 
 import java.time.LocalTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -52,6 +56,8 @@ public class TimeSection implements Comparable<TimeSection> {
     private Color                     _textColor;
     private ObjectProperty<Color>     textColor;
     private LocalTime                 checkedValue;
+    private CrossingDispatcher        crossingDispatcher;
+    private List<Runnable>            boundsListeners;
 
 
     // ******************** Constructors **************************************
@@ -94,6 +100,7 @@ public class TimeSection implements Comparable<TimeSection> {
         _highlightColor = HIGHLIGHT_COLOR;
         _textColor      = TEXT_COLOR;
         checkedValue    = LocalTime.MIN;
+        boundsListeners = new CopyOnWriteArrayList<>();
     }
 
 
@@ -110,12 +117,17 @@ public class TimeSection implements Comparable<TimeSection> {
     public void setStart(final LocalTime START) {
         if (null == start) {
             _start = START;
+            fireBoundsChanged();
         } else {
             start.set(START);
         }
     }
     public ObjectProperty<LocalTime> startProperty() {
-        if (null == start) { start = new SimpleObjectProperty<>(TimeSection.this, "start", _start); }
+        if (null == start) {
+            start = new SimpleObjectProperty<LocalTime>(TimeSection.this, "start", _start) {
+                @Override protected void invalidated() { fireBoundsChanged(); }
+            };
+        }
         return start;
     }
 
@@ -131,12 +143,17 @@ public class TimeSection implements Comparable<TimeSection> {
     public void setStop(final LocalTime STOP) {
         if (null == stop) {
             _stop = STOP;
+            fireBoundsChanged();
         } else {
             stop.set(STOP);
         }
     }
     public ObjectProperty<LocalTime> stopProperty() {
-        if (null == stop) { stop = new SimpleObjectProperty<>(TimeSection.this, "stop", _stop); }
+        if (null == stop) {
+            stop = new SimpleObjectProperty<LocalTime>(TimeSection.this, "stop", _stop) {
+                @Override protected void invalidated() { fireBoundsChanged(); }
+            };
+        }
         return stop;
     }
 
@@ -272,12 +289,23 @@ public class TimeSection implements Comparable<TimeSection> {
         boolean isInSection  = contains(VALUE);
         if (!wasInSection && isInSection) {
             fireTimeSectionEvent(ENTERED_EVENT);
+            if (null != crossingDispatcher) { crossingDispatcher.fire(this, CrossingType.TIME_SECTION_ENTERED, toSeconds(VALUE)); }
         } else if (wasInSection && !isInSection) {
             fireTimeSectionEvent(LEFT_EVENT);
+            if (null != crossingDispatcher) { crossingDispatcher.fire(this, CrossingType.TIME_SECTION_LEFT, toSeconds(VALUE)); }
         }
         checkedValue = VALUE;
     }
 
+    // Used by TimeSectionIndex to bring sections that were not checked up to date
+    void setCheckedValue(final LocalTime VALUE) { checkedValue = VALUE; }
+
+    // Used by TimeSectionIndex to get informed when the start or stop time of one of its sections changed
+    void addBoundsListener(final Runnable LISTENER) { boundsListeners.add(LISTENER); }
+    void removeBoundsListener(final Runnable LISTENER) { boundsListeners.remove(LISTENER); }
+
+    private void fireBoundsChanged() { for (Runnable listener : boundsListeners) { listener.run(); } }
+
     public boolean equals(final TimeSection SECTION) {
         return (SECTION.getStart().equals(getStart()) &&
                 SECTION.getStop().equals(getStop()) &&
@@ -315,6 +343,17 @@ public class TimeSection implements Comparable<TimeSection> {
     public final EventHandler<TimeSectionEvent> getOnTimeSectionLeft() { return onTimeSectionLeftProperty().get(); }
     private ObjectProperty<EventHandler<TimeSectionEvent>> onTimeSectionLeft = new SimpleObjectProperty<>(this, "onTimeSectionLeft");
 
+    public CrossingDispatcher getCrossingDispatcher() { return crossingDispatcher; }
+    /**
+     * Defines the dispatcher that will be informed with TIME_SECTION_ENTERED
+     * and TIME_SECTION_LEFT crossings in checkForValue(). The value of the
+     * crossing will be the second of the day incl. the fraction of the second.
+     * @param DISPATCHER
+     */
+    public void setCrossingDispatcher(final CrossingDispatcher DISPATCHER) { crossingDispatcher = DISPATCHER; }
+
+    private static double toSeconds(final LocalTime TIME) { return TIME.toSecondOfDay() + TIME.getNano() / 1_000_000_000.0; }
+
     public void fireTimeSectionEvent(final TimeSectionEvent EVENT) {
         final EventHandler<TimeSectionEvent> HANDLER;
         final EventType                      TYPE = EVENT.getEventType();
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Comparator;
+
+
+/**
+ * An index over the time sections (or areas) of a clock. The sections will
+ * be kept in an interval tree of nano of day values (sorted by start and
+ * augmented by the max stop value of each subtree) so that a check only has
+ * to look at the sections that contain the last or the current time.
+ * Like TimeSection.contains() the start and stop times are exclusive, a
+ * section that wraps around midnight (start after stop) doesn't contain
+ * any time and will never fire events.
+ * The index will be rebuilt on the next check after the list or the
+ * start/stop time of one of its time sections changed.
+ * Must only be used on the JavaFX application thread.
+ */
+final class TimeSectionIndex {
+    private final ObservableList<TimeSection> sections;
+    private final Runnable                    boundsListener;
+    private boolean                           dirty;
+    private TimeSection[]                     listSections;
+    private int                               size;
+    private int[]                             treeIndices;
+    private long[]                            treeStarts;
+    private long[]                            treeStops;
+    private long[]                            treeMaxStops;
+    private boolean                           fullCheck;
+    private boolean                           checked;
+    private LocalTime                         lastCheckedValue;
+    private int[]                             bufferA;
+    private int[]                             bufferB;
+
+
+    // ******************** Constructors **************************************
+    TimeSectionIndex(final ObservableList<TimeSection> SECTIONS) {
+        sections       = SECTIONS;
+        boundsListener = () -> dirty = true;
+        dirty          = true;
+        for (TimeSection section : sections) { section.addBoundsListener(boundsListener); }
+        sections.addListener((ListChangeListener<TimeSection>) change -> {
+            while (change.next()) {
+                for (TimeSection section : change.getRemoved())       { section.removeBoundsListener(boundsListener); }
+                for (TimeSection section : change.getAddedSubList()) { section.addBoundsListener(boundsListener); }
+            }
+            dirty = true;
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Calls TimeSection.checkForValue() on all time sections that contain
+     * the given time or the last checked time, so the sections will fire the
+     * same ENTERED and LEFT events as if checkForValue() would have been
+     * called on all sections. After the index was rebuilt all sections will
+     * be checked once.
+     * @param VALUE
+     */
+    void checkForValue(final LocalTime VALUE) {
+        validate();
+        if (fullCheck) {
+            for (int i = 0 ; i < size ; i++) { listSections[i].checkForValue(VALUE); }
+            fullCheck = false;
+        } else {
+            final int COUNT_A = stab(lastCheckedValue.toNanoOfDay(), bufferA);
+            final int COUNT_B = stab(VALUE.toNanoOfDay(), bufferB);
+            int       a       = 0;
+            int       b       = 0;
+            while (a < COUNT_A || b < COUNT_B) {
+                final int INDEX;
+                if (b == COUNT_B || (a < COUNT_A && bufferA[a] < bufferB[b])) {
+                    INDEX = bufferA[a++];
+                } else if (a == COUNT_A || bufferB[b] < bufferA[a]) {
+                    INDEX = bufferB[b++];
+                } else {
+                    INDEX = bufferA[a++];
+                    b++;
+                }
+                listSections[INDEX].checkForValue(VALUE);
+            }
+        }
+        lastCheckedValue = VALUE;
+        checked          = true;
+    }
+
+    private void validate() {
+        if (dirty) { rebuild(); }
+    }
+
+    private void rebuild() {
+        // Sections that were skipped by checkForValue() have to look like they were checked with the last time
+        if (checked) {
+            for (int i = 0 ; i < size ; i++) { listSections[i].setCheckedValue(lastCheckedValue); }
+        }
+        dirty        = false;
+        listSections = sections.toArray(new TimeSection[0]);
+        size         = listSections.length;
+        fullCheck    = true;
+        bufferA      = new int[size];
+        bufferB      = new int[size];
+
+        // Sections with start >= stop don't contain any time
+        Integer[] byStart = new Integer[size];
+        int       noOfValid = 0;
+        for (int i = 0 ; i < size ; i++) {
+            if (listSections[i].getStart().isBefore(listSections[i].getStop())) { byStart[noOfValid++] = i; }
+        }
+        byStart = Arrays.copyOf(byStart, noOfValid);
+        Arrays.sort(byStart, Comparator.comparing(i -> listSections[i].getStart()));
+        treeIndices  = new int[noOfValid];
+        treeStarts   = new long[noOfValid];
+        treeStops    = new long[noOfValid];
+        treeMaxStops = new long[noOfValid];
+        for (int i = 0 ; i < noOfValid ; i++) {
+            treeIndices[i] = byStart[i];
+            treeStarts[i]  = listSections[byStart[i]].getStart().toNanoOfDay();
+            treeStops[i]   = listSections[byStart[i]].getStop().toNanoOfDay();
+        }
+        buildMaxStops(0, noOfValid);
+    }
+
+    private long buildMaxStops(final int LO, final int HI) {
+        if (LO >= HI) return Long.MIN_VALUE;
+        final int MID = (LO + HI) >>> 1;
+        final long MAX_STOP = Math.max(treeStops[MID], Math.max(buildMaxStops(LO, MID), buildMaxStops(MID + 1, HI)));
+        treeMaxStops[MID] = MAX_STOP;
+        return MAX_STOP;
+    }
+
+    // Writes the list indices of all sections that contain the given nano of day sorted to the given buffer
+    private int stab(final long NANO_OF_DAY, final int[] BUFFER) {
+        final int COUNT = stab(NANO_OF_DAY, BUFFER, 0, treeIndices.length, 0);
+        Arrays.sort(BUFFER, 0, COUNT);
+        return COUNT;
+    }
+    private int stab(final long NANO_OF_DAY, final int[] BUFFER, final int LO, final int HI, final int COUNT) {
+        if (LO >= HI) return COUNT;
+        final int MID = (LO + HI) >>> 1;
+        if (treeMaxStops[MID] <= NANO_OF_DAY) return COUNT;
+        int count = stab(NANO_OF_DAY, BUFFER, LO, MID, COUNT);
+        if (treeStarts[MID] < NANO_OF_DAY) {
+            if (NANO_OF_DAY < treeStops[MID]) { BUFFER[count++] = treeIndices[MID]; }
+            count = stab(NANO_OF_DAY, BUFFER, MID + 1, HI, count);
+        }
+        return count;
+    }
+}
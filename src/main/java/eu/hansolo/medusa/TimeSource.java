@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+/**
+ * The source of the passing time of a running Clock. On each tick the
+ * Clock will advance its time by the milliseconds that passed in the
+ * TimeSource since the last tick, so the clock won't drift even if ticks
+ * are delayed.
+ */
+@FunctionalInterface
+public interface TimeSource {
+    TimeSource SYSTEM = System::currentTimeMillis;
+
+    /**
+     * Returns the current time of this source in milliseconds.
+     * Only the difference between two calls will be used.
+     * @return the current time of this source in milliseconds
+     */
+    long millis();
+
+
+    /**
+     * Returns a TimeSource that follows the system time, which means a
+     * running clock will also follow adjustments of the system time.
+     * @return a TimeSource that follows the system time
+     */
+    static TimeSource system() { return SYSTEM; }
+
+    /**
+     * Returns a TimeSource that is anchored to the system time at the time
+     * of its creation and from there on only uses System.nanoTime(). A
+     * running clock won't be affected by adjustments of the system time.
+     * @return a TimeSource that is based on System.nanoTime()
+     */
+    static TimeSource monotonic() {
+        final long ANCHOR_MILLIS = System.currentTimeMillis();
+        final long ANCHOR_NANOS  = System.nanoTime();
+        return () -> ANCHOR_MILLIS + (System.nanoTime() - ANCHOR_NANOS) / 1_000_000L;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.medusa.events;
+
+import java.util.Arrays;
+
+
+/**
+ * The crossings that happened within one frame. The arrays will be reused
+ * by the CrossingDispatcher, so a batch must not be stored by a listener.
+ */
+public final class CrossingBatch {
+    private static final int INITIAL_CAPACITY = 16;
+    private Object[]         sources;
+    private CrossingType[]   types;
+    private double[]         values;
+    private int              size;
+
+
+    // ******************** Constructors **************************************
+    CrossingBatch() {
+        sources = new Object[INITIAL_CAPACITY];
+        types   = new CrossingType[INITIAL_CAPACITY];
+        values  = new double[INITIAL_CAPACITY];
+        size    = 0;
+    }
+
+
+    // ******************** Methods *******************************************
+    public int size() { return size; }
+
+    public boolean isEmpty() { return 0 == size; }
+
+    public Object getSource(final int INDEX) { checkIndex(INDEX); return sources[INDEX]; }
+
+    public CrossingType getType(final int INDEX) { checkIndex(INDEX); return types[INDEX]; }
+
+    public double getValue(final int INDEX) { checkIndex(INDEX); return values[INDEX]; }
+
+    void add(final Object SOURCE, final CrossingType TYPE, final double VALUE) {
+        if (size == values.length) {
+            final int NEW_CAPACITY = values.length * 2;
+            sources = Arrays.copyOf(sources, NEW_CAPACITY);
+            types   = Arrays.copyOf(types, NEW_CAPACITY);
+            values  = Arrays.copyOf(values, NEW_CAPACITY);
+        }
+        sources[size] = SOURCE;
+        types[size]   = TYPE;
+        values[size]  = VALUE;
+        size++;
+    }
+
+    void clear() {
+        // Don't keep the sources alive
+        Arrays.fill(sources, 0, size, null);
+        size = 0;
+    }
+
+    private void checkIndex(final int INDEX) {
+        if (INDEX < 0 || INDEX >= size) throw new IndexOutOfBoundsException("Index: " + INDEX + ", Size: " + size);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.medusa.events;
+
+import java.util.EventListener;
+
+
+/**
+ * A listener that will be called on the JavaFX application thread with
+ * all crossings that happened since the last call, so that several
+ * crossings within one frame will be delivered at once.
+ * The given batch will be reused and is only valid during the call.
+ */
+@FunctionalInterface
+public interface CrossingBatchListener extends EventListener {
+    public void onCrossings(final CrossingBatch BATCH);
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.medusa.events;
+
+import javafx.application.Platform;
+
+import java.util.Arrays;
+
+
+/**
+ * Delivers crossings of sections, time sections, markers and thresholds to
+ * CrossingListeners and CrossingBatchListeners without creating event
+ * objects and without going through the JavaFX event dispatch chain.
+ * The listeners will be kept in one array per CrossingType that will be
+ * copied on each add/remove, so fire() only reads one array and returns
+ * immediately if nobody listens.
+ * CrossingListeners will be called on the thread that calls fire().
+ * CrossingBatchListeners will be called on the JavaFX application thread
+ * with all crossings that happened since the last delivery, there will be
+ * at most one pending Platform.runLater() call per dispatcher.
+ * One dispatcher can be shared by several sections, markers and gauges.
+ */
+public final class CrossingDispatcher {
+    private static final CrossingListener[]      NO_LISTENERS       = new CrossingListener[0];
+    private static final CrossingBatchListener[] NO_BATCH_LISTENERS = new CrossingBatchListener[0];
+    private static final CrossingType[]          TYPES              = CrossingType.values();
+    private final Runnable                       delivery;
+    private final Object                         deliveryLock;
+    private volatile CrossingListener[][]        listeners;
+    private volatile CrossingBatchListener[]     batchListeners;
+    private CrossingBatch                        pendingBatch;
+    private CrossingBatch                        deliveredBatch;
+    private boolean                              deliveryPending;
+
+
+    // ******************** Constructors **************************************
+    public CrossingDispatcher() {
+        delivery        = this::flush;
+        deliveryLock    = new Object();
+        listeners       = new CrossingListener[TYPES.length][];
+        batchListeners  = NO_BATCH_LISTENERS;
+        pendingBatch    = new CrossingBatch();
+        deliveredBatch  = new CrossingBatch();
+        deliveryPending = false;
+        Arrays.fill(listeners, NO_LISTENERS);
+    }
+
+
+    // ******************** Methods *******************************************
+    public synchronized void addCrossingListener(final CrossingType TYPE, final CrossingListener LISTENER) {
+        if (null == LISTENER) return;
+        final CrossingListener[] OLD = listeners[TYPE.ordinal()];
+        if (indexOf(OLD, LISTENER) >= 0) return;
+        final CrossingListener[] NEW = Arrays.copyOf(OLD, OLD.length + 1);
+        NEW[OLD.length] = LISTENER;
+        setListeners(TYPE, NEW);
+    }
+    /**
+     * Adds the given listener for all crossing types
+     *
+     * @param LISTENER
+     */
+    public void addCrossingListener(final CrossingListener LISTENER) {
+        for (CrossingType type : TYPES) { addCrossingListener(type, LISTENER); }
+    }
+
+    public synchronized void removeCrossingListener(final CrossingType TYPE, final CrossingListener LISTENER) {
+        final CrossingListener[] OLD   = listeners[TYPE.ordinal()];
+        final int                INDEX = indexOf(OLD, LISTENER);
+        if (INDEX < 0) return;
+        setListeners(TYPE, remove(OLD, INDEX, NO_LISTENERS));
+    }
+    /**
+     * Removes the given listener for all crossing types
+     *
+     * @param LISTENER
+     */
+    public void removeCrossingListener(final CrossingListener LISTENER) {
+        for (CrossingType type : TYPES) { removeCrossingListener(type, LISTENER); }
+    }
+
+    public synchronized void addCrossingBatchListener(final CrossingBatchListener LISTENER) {
+        if (null == LISTENER || indexOf(batchListeners, LISTENER) >= 0) return;
+        final CrossingBatchListener[] NEW = Arrays.copyOf(batchListeners, batchListeners.length + 1);
+        NEW[batchListeners.length] = LISTENER;
+        batchListeners = NEW;
+    }
+
+    public synchronized void removeCrossingBatchListener(final CrossingBatchListener LISTENER) {
+        final int INDEX = indexOf(batchListeners, LISTENER);
+        if (INDEX < 0) return;
+        batchListeners = remove(batchListeners, INDEX, NO_BATCH_LISTENERS);
+    }
+
+    /**
+     * Returns true if there is at least one listener for the given type
+     *
+     * @param TYPE
+     * @return true if there is at least one listener for the given type
+     */
+    public boolean hasListeners(final CrossingType TYPE) {
+        return listeners[TYPE.ordinal()].length > 0 || batchListeners.length > 0;
+    }
+
+    /**
+     * Calls all CrossingListeners that are registered for the given type
+     * and adds the crossing to the next batch if CrossingBatchListeners are
+     * registered. Returns immediately if nobody listens.
+     *
+     * @param SOURCE
+     * @param TYPE
+     * @param VALUE
+     */
+    public void fire(final Object SOURCE, final CrossingType TYPE, final double VALUE) {
+        final CrossingListener[]      LISTENERS       = listeners[TYPE.ordinal()];
+        final CrossingBatchListener[] BATCH_LISTENERS = batchListeners;
+        for (CrossingListener listener : LISTENERS) { listener.onCrossing(SOURCE, TYPE, VALUE); }
+        if (0 == BATCH_LISTENERS.length) return;
+
+        final boolean SCHEDULE;
+        synchronized (this) {
+            pendingBatch.add(SOURCE, TYPE, VALUE);
+            SCHEDULE        = !deliveryPending;
+            deliveryPending = true;
+        }
+        if (SCHEDULE) { Platform.runLater(delivery); }
+    }
+
+    /**
+     * Delivers all crossings that happened since the last delivery to the
+     * CrossingBatchListeners on the calling thread. Will be called on the
+     * JavaFX application thread automatically but can be used to deliver
+     * the crossings on another thread, e.g. in tests or headless use.
+     */
+    public void flush() {
+        synchronized (deliveryLock) {
+            final CrossingBatchListener[] BATCH_LISTENERS;
+            synchronized (this) {
+                final CrossingBatch BATCH = pendingBatch;
+                pendingBatch    = deliveredBatch;
+                deliveredBatch  = BATCH;
+                deliveryPending = false;
+                BATCH_LISTENERS = batchListeners;
+            }
+            try {
+                if (deliveredBatch.isEmpty()) return;
+                for (CrossingBatchListener listener : BATCH_LISTENERS) { listener.onCrossings(deliveredBatch); }
+            } finally {
+                deliveredBatch.clear();
+            }
+        }
+    }
+
+    private void setListeners(final CrossingType TYPE, final CrossingListener[] LISTENERS) {
+        final CrossingListener[][] NEW = listeners.clone();
+        NEW[TYPE.ordinal()] = LISTENERS;
+        listeners = NEW;
+    }
+
+    private static <T> int indexOf(final T[] ARRAY, final T ELEMENT) {
+        for (int i = 0 ; i < ARRAY.length ; i++) { if (ARRAY[i] == ELEMENT) return i; }
+        return -1;
+    }
+
+    private static <T> T[] remove(final T[] ARRAY, final int INDEX, final T[] EMPTY) {
+        if (1 == ARRAY.length) return EMPTY;
+        final T[] NEW = Arrays.copyOf(ARRAY, ARRAY.length - 1);
+        System.arraycopy(ARRAY, INDEX + 1, NEW, INDEX, ARRAY.length - INDEX - 1);
+        return NEW;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.medusa.events;
+
+import java.util.EventListener;
+
+
+/**
+ * A listener that will be called with primitive values for each crossing
+ * (a section/time section that was entered or left, a marker or threshold
+ * that was exceeded or underrun) without creating an event object.
+ * The SOURCE is the Section, TimeSection, Marker or Gauge that was crossed
+ * and the VALUE is the value that caused the crossing (the second of the
+ * day incl. the fraction of a second for time sections).
+ */
+@FunctionalInterface
+public interface CrossingListener extends EventListener {
+    public void onCrossing(final Object SOURCE, final CrossingType TYPE, final double VALUE);
+}
@@ -138,7 +138,7 @@ public class AmpSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale               = gauge.getLocale();
         sectionListener      = c -> redraw();
-        currentValueListener = o -> rotateNeedle();
+        currentValueListener = o -> invalidateDynamicLayer();
         needleRotateListener = o -> handleEvents("ANGLE");
         markerListener       = c -> {
             updateMarkers();
@@ -266,7 +266,7 @@ public class AmpSkin extends GaugeSkinBase {
         super.handleEvents(EVENT_TYPE);
          if ("FINISHED".equals(EVENT_TYPE)) {
             if ( gauge.isHighlightSections() ) {
-                redraw();
+                invalidateStaticLayer();
             }
         } else if ("ANGLE".equals(EVENT_TYPE)) {
             double currentValue = (needleRotate.getAngle() + START_ANGLE - 180) / angleStep + gauge.getMinValue();
@@ -288,8 +288,7 @@ public class AmpSkin extends GaugeSkinBase {
             enableNode(average, gauge.isAverageVisible());
             boolean markersVisible = gauge.getMarkersVisible();
             for (Shape shape : markerMap.values()) { Helper.enableNode(shape, markersVisible); }
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("LED".equals(EVENT_TYPE)) {
             if (gauge.isLedVisible()) { drawLed(led); }
         } else if ("LCD".equals(EVENT_TYPE)) {
@@ -787,6 +786,8 @@ public class AmpSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(); }
+
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
@@ -71,7 +71,7 @@ public class BarSkin extends GaugeSkinBase {
         if (gauge.isAutoScale()) gauge.calcAutoScale();
         range                = gauge.getRange();
         angleStep            = -ANGLE_RANGE / range;
-        currentValueListener = o -> redraw();
+        currentValueListener = o -> invalidateDynamicLayer();
         barColorListener     = o -> {
             Color barColor = gauge.getBarColor();
             gauge.setGradientBarStops(new Stop(0.0, barColor),
@@ -136,7 +136,7 @@ public class BarSkin extends GaugeSkinBase {
         titleText.setFill(gauge.getTitleColor());
         Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setFont(Fonts.robotoRegular(PREFERRED_WIDTH * 0.27333));
         valueText.setFill(gauge.getValueColor());
         Helper.enableNode(valueText, gauge.isValueVisible());
@@ -166,7 +166,7 @@ public class BarSkin extends GaugeSkinBase {
         if ("RECALC".equals(EVENT_TYPE)) {
             range     = gauge.getRange();
             angleStep = -ANGLE_RANGE / range;
-            redraw();
+            invalidateStaticLayer();
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
             Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
         }
@@ -193,7 +193,7 @@ public class BarSkin extends GaugeSkinBase {
         double maxWidth = 0.5 * size;
         double fontSize = 0.3 * size;
         valueText.setFont(Fonts.robotoRegular(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
         valueText.relocate((size - valueText.getLayoutBounds().getWidth()) * 0.5, (size - valueText.getLayoutBounds().getHeight()) * 0.5);
     }
     private void resizeUnitText() {
@@ -261,6 +261,8 @@ public class BarSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { redraw(); }
+
     @Override protected void redraw() {
         double currentValue = gauge.getCurrentValue();
         double angle        = currentValue * angleStep;
@@ -287,7 +289,7 @@ public class BarSkin extends GaugeSkinBase {
         valueText.setFill(gauge.getValueColor());
         unitText.setFill(gauge.getUnitColor());
 
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText.setText(formatNumber(gauge, gauge.getCurrentValue()));
         resizeValueText();
     }
 }
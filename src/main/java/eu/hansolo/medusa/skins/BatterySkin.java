@@ -75,7 +75,7 @@ public class BatterySkin extends GaugeSkinBase {
         orientation          = gauge.getOrientation();
         sections             = gauge.getSections();
         locale               = gauge.getLocale();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -127,16 +127,14 @@ public class BatterySkin extends GaugeSkinBase {
         super.handleEvents(EVENT_TYPE);
         if ("RECALC".equals(EVENT_TYPE)) {
             setBar(gauge.getCurrentValue());
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("SECTION".equals(EVENT_TYPE)) {
             sections = gauge.getSections();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
             valueText.setVisible(gauge.isValueVisible());
             valueText.setManaged(gauge.isValueVisible());
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
@@ -280,6 +278,8 @@ public class BatterySkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         // Background stroke and fill
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(1))));
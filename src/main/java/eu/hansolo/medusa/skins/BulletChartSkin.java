@@ -20,6 +20,7 @@ import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Marker;
 import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.SectionIndex;
 import eu.hansolo.medusa.tools.Helper;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
@@ -45,7 +46,6 @@ import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.Locale;
 
 import static eu.hansolo.medusa.tools.Helper.formatNumber;
@@ -89,7 +89,7 @@ public class BulletChartSkin extends GaugeSkinBase {
         thresholdTooltip         = new Tooltip();
         sectionListener          = c -> redraw();
         markerListener           = c -> redraw();
-        currentValueListener     = o -> updateBar();
+        currentValueListener     = o -> invalidateDynamicLayer();
         paneSizeListener         = o -> handleEvents("RESIZE");
 
         if (Orientation.VERTICAL == orientation) {
@@ -169,14 +169,13 @@ public class BulletChartSkin extends GaugeSkinBase {
     // ******************** Methods *******************************************
     @Override protected void handleEvents(final String EVENT_TYPE) {
         if ("RESIZE".equals(EVENT_TYPE)) {
-            resize();
-            redraw();
+            invalidateLayout();
         }else if ("REDRAW".equals(EVENT_TYPE)) {
-            redraw();
+            invalidateStaticLayer();
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
             Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
             Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
-            redraw();
+            invalidateStaticLayer();
         } else if ("RESIZE".equals(EVENT_TYPE)) {
             resize();
         } else if ("RECALC".equals(EVENT_TYPE)) {
@@ -191,7 +190,7 @@ public class BulletChartSkin extends GaugeSkinBase {
             redraw();
             updateBar();
         } else if ("FINISHED".equals(EVENT_TYPE)) {
-            barTooltip.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getValue()));
+            barTooltip.setText(formatNumber(gauge, gauge.getValue()));
         }
     }
 
@@ -213,8 +212,8 @@ public class BulletChartSkin extends GaugeSkinBase {
         CTX.clearRect(0, 0, tickMarkCanvas.getWidth(), tickMarkCanvas.getHeight());
         CTX.setFill(gauge.getMajorTickMarkColor());
 
-        List<Section> tickMarkSections         = gauge.getTickMarkSections();
-        List<Section> tickLabelSections        = gauge.getTickLabelSections();
+        SectionIndex  tickMarkSectionIndex     = gauge.getTickMarkSectionIndex();
+        SectionIndex  tickLabelSectionIndex    = gauge.getTickLabelSectionIndex();
         Color         majorTickMarkColor       = gauge.getTickMarkColor();
         Color         tickLabelColor           = gauge.getTickLabelColor();
         boolean       smallRange               = Double.compare(gauge.getRange(), 10.0) <= 0;
@@ -254,8 +253,8 @@ public class BulletChartSkin extends GaugeSkinBase {
             if (Double.compare(counterBD.remainder(majorTickSpaceBD).doubleValue(), 0.0) == 0) {
                 // Draw major tick mark
                 if (gauge.getMajorTickMarksVisible()) {
-                    CTX.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, majorTickMarkColor) : majorTickMarkColor);
-                    CTX.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, majorTickMarkColor) : majorTickMarkColor);
+                    CTX.setFill(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, majorTickMarkColor) : majorTickMarkColor);
+                    CTX.setStroke(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, majorTickMarkColor) : majorTickMarkColor);
                     CTX.setLineWidth(1);
                     CTX.strokeLine(innerPointX, innerPointY, outerPointX, outerPointY);
                 }
@@ -266,7 +265,7 @@ public class BulletChartSkin extends GaugeSkinBase {
                     CTX.setFont(tickLabelFont);
                     CTX.setTextAlign(TextAlignment.CENTER);
                     CTX.setTextBaseline(VPos.CENTER);
-                    CTX.setFill(tickLabelSectionsVisible ? Helper.getColorOfSection(tickLabelSections, counter, tickLabelColor) : tickLabelColor);
+                    CTX.setFill(tickLabelSectionsVisible ? tickLabelSectionIndex.getColorAt(counter, tickLabelColor) : tickLabelColor);
                     if (Orientation.VERTICAL == orientation) {
                         CTX.fillText(Integer.toString((int) (maxValue - counter)), 0, 0);
                     } else {
@@ -422,13 +421,15 @@ public class BulletChartSkin extends GaugeSkinBase {
         redraw();
     }
 
+    @Override protected void updateDynamicLayer() { updateBar(); }
+
     @Override protected void redraw() {
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth()))));
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), CornerRadii.EMPTY, Insets.EMPTY)));
         drawTickMarks(tickMarksCtx);
         drawSections(sectionsCtx);
         thresholdRect.setFill(gauge.getThresholdColor());
-        thresholdTooltip.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getThreshold()));
+        thresholdTooltip.setText(formatNumber(gauge, gauge.getThreshold()));
         barRect.setFill(gauge.getBarColor());
         titleText.setFill(gauge.getTitleColor());
         unitText.setFill(gauge.getUnitColor());
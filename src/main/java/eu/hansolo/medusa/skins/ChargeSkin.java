@@ -137,7 +137,7 @@ public class ChargeSkin extends GaugeSkinBase {
     @Override protected void handleEvents(final String EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
         if ("VALUE".equals(EVENT_TYPE)) {
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
@@ -217,7 +217,7 @@ public class ClockSkin extends ClockSkinBase {
             areas             = getSkinnable().getAreas();
             highlightAreas    = getSkinnable().isHighlightAreas();
             areasVisible      = getSkinnable().getAreasVisible();
-            redraw();
+            invalidateStaticLayer();
         } else if ("FINISHED".equals(EVENT_TYPE)) {
 
         }
@@ -289,7 +289,7 @@ public class ClockSkin extends ClockSkinBase {
 
         if (text.isVisible()) {
             text.setText(TIME_FORMATTER.format(TIME));
-            Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+            Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
@@ -431,7 +431,7 @@ public class ClockSkin extends ClockSkinBase {
         title.relocate((size - title.getLayoutBounds().getWidth()) * 0.5, size * 0.25);
 
         text.setText(TIME_FORMATTER.format(time));
-        Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+        Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
         text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
 
         dateText.setText(DATE_FORMATER.format(time).toUpperCase());
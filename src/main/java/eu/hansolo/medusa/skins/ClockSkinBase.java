@@ -46,6 +46,11 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     protected InvalidationListener      currentTimeListener;
     protected InvalidationListener      timeListener;
     protected ListChangeListener<Alarm> alarmListener;
+    private   boolean                   layoutInvalid;
+    private   boolean                   staticLayerInvalid;
+    private   boolean                   dynamicLayerInvalid;
+    private   boolean                   flushRequested;
+    private   Runnable                  flush;
 
 
     // ******************** Constructors **************************************
@@ -55,12 +60,13 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
         clock               = CLOCK;
         sizeListener        = o -> handleEvents("RESIZE");
         updateEventListener = e -> handleEvents(e.eventType.name());
-        currentTimeListener = o -> updateTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(clock.getCurrentTime()), ZoneId.of(ZoneId.systemDefault().getId())));
-        timeListener        = o -> updateTime(clock.getTime());
+        currentTimeListener = o -> invalidateDynamicLayer();
+        timeListener        = o -> invalidateDynamicLayer();
         alarmListener       = c -> {
             updateAlarms();
-            redraw();
+            invalidateStaticLayer();
         };
+        flush               = this::flushInvalidations;
     }
 
 
@@ -88,12 +94,16 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     @Override protected double computeMaxWidth(final double HEIGHT, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MAXIMUM_WIDTH; }
     @Override protected double computeMaxHeight(final double WIDTH, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MAXIMUM_HEIGHT; }
 
+    @Override protected void layoutChildren(final double X, final double Y, final double WIDTH, final double HEIGHT) {
+        super.layoutChildren(X, Y, WIDTH, HEIGHT);
+        flushInvalidations();
+    }
+
     protected void handleEvents(final String EVENT_TYPE) {
         if ("RESIZE".equals(EVENT_TYPE)) {
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("REDRAW".equals(EVENT_TYPE)) {
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
@@ -111,6 +121,66 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     }
 
 
+    // ******************** Invalidation **************************************
+    /**
+     * Marks the layout as invalid. resize() and redraw() will be called
+     * once on the next pulse, no matter how often the layout was
+     * invalidated before.
+     */
+    protected void invalidateLayout() {
+        layoutInvalid = true;
+        requestFlush();
+    }
+
+    /**
+     * Marks the static layer (e.g. background, ticks, sections) as invalid.
+     * redraw() will be called once on the next pulse.
+     */
+    protected void invalidateStaticLayer() {
+        staticLayerInvalid = true;
+        requestFlush();
+    }
+
+    /**
+     * Marks the dynamic layer (e.g. hands, time text) as invalid.
+     * updateDynamicLayer() will be called once on the next pulse.
+     */
+    protected void invalidateDynamicLayer() {
+        dynamicLayerInvalid = true;
+        requestFlush();
+    }
+
+    private void requestFlush() {
+        if (flushRequested) return;
+        flushRequested = true;
+        SkinFlusher.getInstance().schedule(flush);
+    }
+
+    /**
+     * Calls resize(), redraw() and updateDynamicLayer() for all layers that
+     * have been invalidated since the last flush.
+     */
+    protected void flushInvalidations() {
+        if (!flushRequested) return;
+        if (null == clock) {
+            flushRequested = false;
+            return;
+        }
+        final boolean LAYOUT        = layoutInvalid;
+        final boolean STATIC_LAYER  = staticLayerInvalid || LAYOUT;
+        final boolean DYNAMIC_LAYER = dynamicLayerInvalid;
+        layoutInvalid       = false;
+        staticLayerInvalid  = false;
+        dynamicLayerInvalid = false;
+        if (LAYOUT)        { resize(); }
+        if (STATIC_LAYER)  { redraw(); }
+        if (DYNAMIC_LAYER) { updateDynamicLayer(); }
+        flushRequested = false;
+        // Layers that were invalidated while flushing will be flushed on the next pulse
+        if (layoutInvalid || staticLayerInvalid || dynamicLayerInvalid) { requestFlush(); }
+    }
+
+
     // ******************** Graphics ******************************************
     public abstract void updateTime(final ZonedDateTime TIME);
 
@@ -121,4 +191,12 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     protected abstract void resize();
 
     protected abstract void redraw();
+
+    protected void updateDynamicLayer() {
+        if (clock.isAnimated()) {
+            updateTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(clock.getCurrentTime()), ZoneId.of(ZoneId.systemDefault().getId())));
+        } else {
+            updateTime(clock.getTime());
+        }
+    }
 }
@@ -217,7 +217,7 @@ public class DBClockSkin extends ClockSkinBase {
             areas             = clock.getAreas();
             highlightAreas    = clock.isHighlightAreas();
             areasVisible      = clock.getAreasVisible();
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
@@ -347,7 +347,7 @@ public class DBClockSkin extends ClockSkinBase {
 
         if (text.isVisible()) {
             text.setText(TIME_FORMATTER.format(TIME));
-            Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+            Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
@@ -468,7 +468,7 @@ public class DBClockSkin extends ClockSkinBase {
         title.relocate((size - title.getLayoutBounds().getWidth()) * 0.5, size * 0.25);
 
         text.setText(TIME_FORMATTER.format(time));
-        Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+        Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
         text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
 
         alarmPane.getChildren().setAll(alarmMap.values());
@@ -117,7 +117,7 @@ public class DashboardSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         otherFormatString    = new StringBuilder("%.").append(Integer.toString(gauge.getTickLabelDecimals())).append("f").toString();
         locale               = gauge.getLocale();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -148,7 +148,7 @@ public class DashboardSkin extends GaugeSkinBase {
         titleText.setFill(gauge.getTitleColor());
         Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setTextOrigin(VPos.CENTER);
         valueText.setFill(gauge.getValueColor());
         Helper.enableNode(valueText, gauge.isValueVisible());
@@ -241,8 +241,7 @@ public class DashboardSkin extends GaugeSkinBase {
             boolean thresholdVisible = gauge.isThresholdVisible();
             Helper.enableNode(threshold, thresholdVisible);
             Helper.enableNode(thresholdText, thresholdVisible);
-            resize();
-            redraw();
+            invalidateLayout();
         }
     }
 
@@ -320,9 +319,9 @@ public class DashboardSkin extends GaugeSkinBase {
 
         setBarColor(VALUE);
 
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         if ( valueText.getLayoutBounds().getWidth() > 0.28 * width ) {
-            Helper.adjustTextSize(valueText, 0.28 * width, size * 0.24);
+            Helper.adjustTextSize(valueText, 0.28 * width, size * 0.24, false);
         }
         valueText.relocate(( width - valueText.getLayoutBounds().getWidth() ) * 0.5, 0.615 * height + ( 0.3 * height - valueText.getLayoutBounds().getHeight() ) * 0.5);
     }
@@ -372,7 +371,7 @@ public class DashboardSkin extends GaugeSkinBase {
 
             maxWidth = 0.28 * width;
             valueText.setFont(bigFont);
-            if (valueText.getLayoutBounds().getWidth() > maxWidth) Helper.adjustTextSize(valueText, maxWidth, size * 0.24);
+            if (valueText.getLayoutBounds().getWidth() > maxWidth) Helper.adjustTextSize(valueText, maxWidth, size * 0.24, false);
             valueText.relocate((width - valueText.getLayoutBounds().getWidth()) * 0.5, 0.615 * height + (0.3 * height - valueText.getLayoutBounds().getHeight()) * 0.5);
 
             maxWidth = 0.27  * width;
@@ -438,6 +437,8 @@ public class DashboardSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth() / 250 * size))));
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), CornerRadii.EMPTY, Insets.EMPTY)));
@@ -475,7 +476,7 @@ public class DashboardSkin extends GaugeSkinBase {
         titleText.relocate((width - titleText.getLayoutBounds().getWidth()) * 0.5, 0.88 * height);
 
         valueText.setFill(gauge.getValueColor());
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText.setText(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.relocate((width - valueText.getLayoutBounds().getWidth()) * 0.5, 0.615 * height + (0.3 * height - valueText.getLayoutBounds().getHeight()) * 0.5);
 
         minText.setFill(gauge.getValueColor());
@@ -127,7 +127,7 @@ public class DesignClockSkin extends ClockSkinBase {
 
         } else if ("SECTION".equals(EVENT_TYPE)) {
 
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
@@ -113,7 +113,7 @@ public class DigitalClockSkin extends ClockSkinBase {
         if ("VISIBILITY".equals(EVENT_TYPE)) {
 
         } else if ("SECTION".equals(EVENT_TYPE)) {
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
@@ -102,7 +102,7 @@ public class DigitalSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         thresholdVisible     = gauge.isThresholdVisible();
         thresholdColor       = gauge.getThresholdColor();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -223,7 +223,7 @@ public class DigitalSkin extends GaugeSkinBase {
                 }
             }
         }
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         valueText.setLayoutX(valueBkgText.getLayoutBounds().getMaxX() - valueText.getLayoutBounds().getWidth());
     }
 
@@ -469,6 +469,8 @@ public class DigitalSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
@@ -198,7 +198,7 @@ public class FatClockSkin extends ClockSkinBase {
             areas             = clock.getAreas();
             highlightAreas    = clock.isHighlightAreas();
             areasVisible      = clock.getAreasVisible();
-            redraw();
+            invalidateStaticLayer();
         } else if ("FINISHED".equals(EVENT_TYPE)) {
 
         }
@@ -316,7 +316,7 @@ public class FatClockSkin extends ClockSkinBase {
 
         if (text.isVisible()) {
             text.setText(TIME_FORMATTER.format(TIME));
-            Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+            Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
@@ -425,7 +425,7 @@ public class FatClockSkin extends ClockSkinBase {
         title.relocate((size - title.getLayoutBounds().getWidth()) * 0.5, size * 0.25);
 
         text.setText(TIME_FORMATTER.format(time));
-        Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+        Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
         text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
 
         dateText.setText(DATE_FORMATER.format(time).toUpperCase());
@@ -78,7 +78,7 @@ public class FlatSkin extends GaugeSkinBase {
         noOfGradientStops    = gauge.getGradientBarStops().size();
         sectionsVisible      = gauge.getSectionsVisible();
         sections             = gauge.getSections();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -120,7 +120,7 @@ public class FlatSkin extends GaugeSkinBase {
         titleText.setFill(gauge.getTitleColor());
         Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setFont(Fonts.robotoRegular(PREFERRED_WIDTH * 0.27333));
         valueText.setFill(gauge.getValueColor());
         Helper.enableNode(valueText, gauge.isValueVisible());
@@ -183,7 +183,7 @@ public class FlatSkin extends GaugeSkinBase {
         bar.setLength(barLength);
 
         setBarColor(VALUE);
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         resizeValueText();
 
     }
@@ -227,7 +227,7 @@ public class FlatSkin extends GaugeSkinBase {
         double maxWidth = 0.5 * size;
         double fontSize = 0.3 * size;
         valueText.setFont(Fonts.robotoRegular(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
         valueText.relocate((size - valueText.getLayoutBounds().getWidth()) * 0.5, (size - valueText.getLayoutBounds().getHeight()) * 0.5);
     }
     private void resizeUnitText() {
@@ -270,6 +270,8 @@ public class FlatSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         colorGradientEnabled = gauge.isGradientBarEnabled();
         noOfGradientStops    = gauge.getGradientBarStops().size();
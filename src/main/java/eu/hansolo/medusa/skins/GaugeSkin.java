@@ -24,11 +24,14 @@ import eu.hansolo.medusa.Gauge.NeedleType;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.LcdDesign;
 import eu.hansolo.medusa.Marker;
+import eu.hansolo.medusa.Marker.MarkerType;
 import eu.hansolo.medusa.Needle;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.RadialGaugeGeometry;
+import eu.hansolo.medusa.tools.RenderCache;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -163,7 +166,7 @@ public class GaugeSkin extends GaugeSkinBase {
         scaleDirection       = gauge.getScaleDirection();
         needleBehavior       = gauge.getNeedleBehavior();
         mouseHandler         = event -> handleMouseEvent(event);
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
         markerListener       = c -> {
             updateMarkers();
             redraw();
@@ -258,7 +261,7 @@ public class GaugeSkin extends GaugeSkinBase {
         unitText.setMouseTransparent(true);
         Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setMouseTransparent(true);
         valueText.setTextOrigin(VPos.CENTER);
         valueText.setMouseTransparent(true);
@@ -306,14 +309,12 @@ public class GaugeSkin extends GaugeSkinBase {
             double currentValue = gauge.getCurrentValue();
             // eu.hansolo.medusa.Check sections for value and fire section events
             if (gauge.getCheckSectionsForValue()) {
-                int listSize = sections.size();
-                for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(currentValue); }
+                gauge.getSectionIndex().checkForValue(currentValue);
             }
 
             // eu.hansolo.medusa.Check areas for value and fire section events
             if (gauge.getCheckAreasForValue()) {
-                int listSize = areas.size();
-                for (int i = 0 ; i < listSize ; i++) { areas.get(i).checkForValue(currentValue); }
+                gauge.getAreaIndex().checkForValue(currentValue);
             }
 
             // Highlight Sections and/or Areas if enabled
@@ -335,8 +336,7 @@ public class GaugeSkin extends GaugeSkinBase {
             areasVisible    = gauge.getAreasVisible();
             boolean markersVisible = gauge.getMarkersVisible();
             for (Shape shape : markerMap.values()) { Helper.enableNode(shape, markersVisible); }
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("LED".equals(EVENT_TYPE)) {
             if (gauge.isLedVisible()) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
@@ -359,8 +359,7 @@ public class GaugeSkin extends GaugeSkinBase {
             areas             = gauge.getAreas();
             highlightAreas    = gauge.isHighlightAreas();
             areasVisible      = gauge.getAreasVisible();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("INTERACTIVITY".equals(EVENT_TYPE)) {
             if (gauge.isInteractive()) {
                 knobCanvas.setOnMousePressed(mouseHandler);
@@ -402,30 +401,9 @@ public class GaugeSkin extends GaugeSkinBase {
 
     // ******************** Private Methods ***********************************
     private void rotateNeedle(double value) {
-        double startOffsetAngle = 180 - startAngle;
-        double targetAngle;
-        if (NeedleBehavior.STANDARD == needleBehavior) {
-            if (ScaleDirection.CLOCKWISE == gauge.getScaleDirection()) {
-                targetAngle = startOffsetAngle + (value - minValue) * angleStep;
-                targetAngle = Helper.clamp(startOffsetAngle, startOffsetAngle + angleRange, targetAngle);
-            } else {
-                targetAngle = startOffsetAngle - (value - minValue) * angleStep;
-                targetAngle = Helper.clamp(startOffsetAngle - angleRange, startOffsetAngle, targetAngle);
-            }
-        } else {
-            if (value < minValue) value = maxValue - minValue + value;
-            if (value > maxValue) value = value - maxValue + minValue;
-            if (ScaleDirection.CLOCKWISE == gauge.getScaleDirection()) {
-                targetAngle = startOffsetAngle + (value - minValue) * angleStep;
-                targetAngle = Helper.clamp(startOffsetAngle, startOffsetAngle + angleRange, targetAngle);
-            } else {
-                targetAngle = startOffsetAngle - (value - minValue) * angleStep;
-                targetAngle = Helper.clamp(startOffsetAngle - angleRange, startOffsetAngle, targetAngle);
-            }
-        }
-
-        needleRotate.setAngle(targetAngle);
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), value));
+        value = RadialGaugeGeometry.getNeedleValue(value, minValue, maxValue, needleBehavior);
+        needleRotate.setAngle(RadialGaugeGeometry.getNeedleAngle(value, minValue, startAngle, angleRange, angleStep, gauge.getScaleDirection()));
+        valueText.setText(formatNumber(gauge, value));
         if (gauge.isLcdVisible()) {
             valueText.setTranslateX((0.691 * size - valueText.getLayoutBounds().getWidth()));
         } else {
@@ -436,8 +414,8 @@ public class GaugeSkin extends GaugeSkinBase {
     }
 
     private void drawGradientBar() {
-        double     xy     = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.115 * size : 0.0515 * size;
-        double     wh     = TickLabelLocation.OUTSIDE == tickLabelLocation ? size * 0.77 : size * 0.897;
+        double     xy     = RadialGaugeGeometry.getSectionInset(tickLabelLocation) * size;
+        double     wh     = RadialGaugeGeometry.getSectionSize(tickLabelLocation) * size;
         double     offset = 90 - startAngle;
         List<Stop> stops  = gauge.getGradientBarStops();
         Map<Double, Color> stopAngleMap     = new HashMap<>(stops.size());
@@ -449,12 +427,19 @@ public class GaugeSkin extends GaugeSkinBase {
         double barAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? gauge.getRange() * angleStep : -gauge.getRange() * angleStep;
         tickMarkCtx.save();
         tickMarkCtx.setStroke(gradient.getImagePattern(new Rectangle(xy - 0.026 * size, xy - 0.026 * size, wh + 0.052 * size, wh + 0.052 * size)));
-        tickMarkCtx.setLineWidth(size * 0.052);
+        tickMarkCtx.setLineWidth(size * RadialGaugeGeometry.SECTION_WIDTH_FACTOR);
         tickMarkCtx.setLineCap(StrokeLineCap.BUTT);
         tickMarkCtx.strokeArc(xy, xy, wh, wh, -(offset + barStartAngle), -barAngleExtend, ArcType.OPEN);
         tickMarkCtx.restore();
     }
 
+    private void drawScale() {
+        if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
+            drawGradientBar();
+        }
+        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, size * 0.5, size * 0.5, size);
+    }
+
     private void drawAreasAndSections(final GraphicsContext CTX) {
         if (areas.isEmpty() && sections.isEmpty()) return;
         double value  = gauge.getCurrentValue();
@@ -465,32 +450,18 @@ public class GaugeSkin extends GaugeSkinBase {
 
         // Draw Areas
         if (areasVisible && !areas.isEmpty()) {
-            xy       = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.0895 * size : 0.025 * size;
-            wh       = TickLabelLocation.OUTSIDE == tickLabelLocation ? size * 0.821 : size * 0.95;
+            xy       = RadialGaugeGeometry.getAreaInset(tickLabelLocation) * size;
+            wh       = RadialGaugeGeometry.getAreaSize(tickLabelLocation) * size;
             listSize = areas.size();
             for (int i = 0; i < listSize ; i++) {
-                Section area = areas.get(i);
-                double areaStartAngle;
-                if (Double.compare(area.getStart(), maxValue) <= 0 && Double.compare(area.getStop(), minValue) >= 0) {
-                    if (area.getStart() < minValue && area.getStop() < maxValue) {
-                        areaStartAngle = 0;
-                    } else {
-                        areaStartAngle = ScaleDirection.CLOCKWISE == scaleDirection ? (area.getStart() - minValue) * angleStep : -(area.getStart() - minValue) * angleStep;
-                    }
-                    double areaAngleExtend;
-                    if (area.getStop() > maxValue) {
-                        areaAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (maxValue - area.getStart()) * angleStep : -(maxValue - area.getStart()) * angleStep;
-                    } else if (Double.compare(area.getStart(), minValue) < 0) {
-                        areaAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (area.getStop() - minValue) * angleStep : -(area.getStop() - minValue) * angleStep;
-                    } else {
-                        areaAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (area.getStop() - area.getStart()) * angleStep : -(area.getStop() - area.getStart()) * angleStep;
-                    }
+                Section area      = areas.get(i);
+                double  areaStart = area.getStart();
+                double  areaStop  = area.getStop();
+                if (RadialGaugeGeometry.isInRange(areaStart, areaStop, minValue, maxValue)) {
+                    double areaStartAngle  = RadialGaugeGeometry.getSectionStartAngle(areaStart, areaStop, minValue, maxValue, angleStep, scaleDirection);
+                    double areaAngleExtend = RadialGaugeGeometry.getSectionAngleExtend(areaStart, areaStop, minValue, maxValue, angleStep, scaleDirection);
                     CTX.save();
-                    if (highlightAreas) {
-                        CTX.setFill(area.contains(value) ? area.getHighlightColor() : area.getColor());
-                    } else {
-                        CTX.setFill(area.getColor());
-                    }
+                    CTX.setFill(RadialGaugeGeometry.getSectionColor(areaStart, areaStop, area.getColor(), area.getHighlightColor(), highlightAreas, value));
                     CTX.fillArc(xy, xy, wh, wh, -(offset + areaStartAngle), - areaAngleExtend, ArcType.ROUND);
                     CTX.restore();
                 }
@@ -499,34 +470,20 @@ public class GaugeSkin extends GaugeSkinBase {
 
         // Draw Sections
         if (sectionsVisible && !sections.isEmpty()) {
-            xy       = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.115 * size : 0.0515 * size;
-            wh       = TickLabelLocation.OUTSIDE == tickLabelLocation ? size * 0.77 : size * 0.897;
+            xy       = RadialGaugeGeometry.getSectionInset(tickLabelLocation) * size;
+            wh       = RadialGaugeGeometry.getSectionSize(tickLabelLocation) * size;
             listSize = sections.size();
-            CTX.setLineWidth(size * 0.052);
+            CTX.setLineWidth(size * RadialGaugeGeometry.SECTION_WIDTH_FACTOR);
             CTX.setLineCap(StrokeLineCap.BUTT);
             for (int i = 0; i < listSize; i++) {
-                Section section = sections.get(i);
-                double  sectionStartAngle;
-                if (Double.compare(section.getStart(), maxValue) <= 0 && Double.compare(section.getStop(), minValue) >= 0) {
-                    if (Double.compare(section.getStart(), minValue) < 0 && Double.compare(section.getStop(), maxValue) < 0) {
-                        sectionStartAngle = 0;
-                    } else {
-                        sectionStartAngle = ScaleDirection.CLOCKWISE == scaleDirection ? (section.getStart() - minValue) * angleStep : -(section.getStart() - minValue) * angleStep;
-                    }
-                    double sectionAngleExtend;
-                    if (Double.compare(section.getStop(), maxValue) > 0) {
-                        sectionAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (maxValue - section.getStart()) * angleStep : -(maxValue - section.getStart()) * angleStep;
-                    } else if (Double.compare(section.getStart(), minValue) < 0) {
-                        sectionAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (section.getStop() - minValue) * angleStep : -(section.getStop() - minValue) * angleStep;
-                    } else {
-                        sectionAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (section.getStop() - section.getStart()) * angleStep : -(section.getStop() - section.getStart()) * angleStep;
-                    }
+                Section section      = sections.get(i);
+                double  sectionStart = section.getStart();
+                double  sectionStop  = section.getStop();
+                if (RadialGaugeGeometry.isInRange(sectionStart, sectionStop, minValue, maxValue)) {
+                    double sectionStartAngle  = RadialGaugeGeometry.getSectionStartAngle(sectionStart, sectionStop, minValue, maxValue, angleStep, scaleDirection);
+                    double sectionAngleExtend = RadialGaugeGeometry.getSectionAngleExtend(sectionStart, sectionStop, minValue, maxValue, angleStep, scaleDirection);
                     CTX.save();
-                    if (highlightSections) {
-                        CTX.setStroke(section.contains(value) ? section.getHighlightColor() : section.getColor());
-                    } else {
-                        CTX.setStroke(section.getColor());
-                    }
+                    CTX.setStroke(RadialGaugeGeometry.getSectionColor(sectionStart, sectionStop, section.getColor(), section.getHighlightColor(), highlightSections, value));
                     CTX.strokeArc(xy, xy, wh, wh, -(offset + sectionStartAngle), -sectionAngleExtend, ArcType.OPEN);
                     CTX.restore();
                 }
@@ -572,98 +529,23 @@ public class GaugeSkin extends GaugeSkinBase {
         markerPane.getChildren().setAll(markerMap.values());
         markerPane.getChildren().addAll(average, threshold);
         TickLabelLocation tickLabelLocation = gauge.getTickLabelLocation();
-        double         markerSize     = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.0125 * size : 0.015 * size;
-        double         pathHalf       = markerSize * 0.3;
         double         centerX        = size * 0.5;
         double         centerY        = size * 0.5;
         ScaleDirection scaleDirection = gauge.getScaleDirection();
         if (gauge.getMarkersVisible()) {
 
             for (Map.Entry<Marker, Shape> entry : markerMap.entrySet()) {
-                Marker marker = entry.getKey();
-                Shape  shape  = entry.getValue();
-                double valueAngle;
-                if (ScaleDirection.CLOCKWISE == scaleDirection) {
-                    valueAngle = startAngle - (marker.getValue() - minValue) * angleStep;
+                Marker   marker     = entry.getKey();
+                Shape    shape      = entry.getValue();
+                double   valueAngle = RadialGaugeGeometry.getScaleAngle(marker.getValue(), minValue, startAngle, angleStep, scaleDirection);
+                double[] points     = RadialGaugeGeometry.getMarkerPoints(marker.getMarkerType(), tickLabelLocation, valueAngle, size, centerX, centerY);
+                if (MarkerType.DOT == marker.getMarkerType()) {
+                    Circle dot = (Circle) shape;
+                    dot.setRadius(RadialGaugeGeometry.getMarkerSize(tickLabelLocation, size));
+                    dot.setCenterX(points[0]);
+                    dot.setCenterY(points[1]);
                 } else {
-                    valueAngle = startAngle + (marker.getValue() - minValue) * angleStep;
-                }
-                double sinValue = Math.sin(Math.toRadians(valueAngle));
-                double cosValue = Math.cos(Math.toRadians(valueAngle));
-                switch (marker.getMarkerType()) {
-                    case TRIANGLE:
-                        Path triangle = (Path) shape;
-                        triangle.getElements().clear();
-                        switch (tickLabelLocation) {
-                            case OUTSIDE:
-                                triangle.getElements().add(new MoveTo(centerX + size * 0.38 * sinValue, centerY + size * 0.38 * cosValue));
-                                sinValue = Math.sin(Math.toRadians(valueAngle - pathHalf));
-                                cosValue = Math.cos(Math.toRadians(valueAngle - pathHalf));
-                                triangle.getElements().add(new LineTo(centerX + size * 0.4075 * sinValue, centerY + size * 0.4075 * cosValue));
-                                sinValue = Math.sin(Math.toRadians(valueAngle + pathHalf));
-                                cosValue = Math.cos(Math.toRadians(valueAngle + pathHalf));
-                                triangle.getElements().add(new LineTo(centerX + size * 0.4075 * sinValue, centerY + size * 0.4075 * cosValue));
-                                triangle.getElements().add(new ClosePath());
-                                break;
-                            case INSIDE:
-                            default:
-                                triangle.getElements().add(new MoveTo(centerX + size * 0.465 * sinValue, centerY + size * 0.465 * cosValue));
-                                sinValue = Math.sin(Math.toRadians(valueAngle - pathHalf));
-                                cosValue = Math.cos(Math.toRadians(valueAngle - pathHalf));
-                                triangle.getElements().add(new LineTo(centerX + size * 0.436 * sinValue, centerY + size * 0.436 * cosValue));
-                                sinValue = Math.sin(Math.toRadians(valueAngle + pathHalf));
-                                cosValue = Math.cos(Math.toRadians(valueAngle + pathHalf));
-                                triangle.getElements().add(new LineTo(centerX + size * 0.436 * sinValue, centerY + size * 0.436 * cosValue));
-                                triangle.getElements().add(new ClosePath());
-                                break;
-                        }
-                        break;
-                    case DOT:
-                        Circle dot = (Circle) shape;
-                        dot.setRadius(markerSize);
-                        switch (tickLabelLocation) {
-                            case OUTSIDE:
-                                dot.setCenterX(centerX + size * 0.3945 * sinValue);
-                                dot.setCenterY(centerY + size * 0.3945 * cosValue);
-                                break;
-                            default:
-                                dot.setCenterX(centerX + size * 0.449 * sinValue);
-                                dot.setCenterY(centerY + size * 0.449 * cosValue);
-                                break;
-                        }
-                        break;
-                    case STANDARD:
-                    default:
-                        Path standard = (Path) shape;
-                        standard.getElements().clear();
-                        switch (tickLabelLocation) {
-                            case OUTSIDE:
-                                standard.getElements().add(new MoveTo(centerX + size * 0.38 * sinValue, centerY + size * 0.38 * cosValue));
-                                sinValue = Math.sin(Math.toRadians(valueAngle - pathHalf));
-                                cosValue = Math.cos(Math.toRadians(valueAngle - pathHalf));
-                                standard.getElements().add(new LineTo(centerX + size * 0.4075 * sinValue, centerY + size * 0.4075 * cosValue));
-                                standard.getElements().add(new LineTo(centerX + size * 0.4575 * sinValue, centerY + size * 0.4575 * cosValue));
-                                sinValue = Math.sin(Math.toRadians(valueAngle + pathHalf));
-                                cosValue = Math.cos(Math.toRadians(valueAngle + pathHalf));
-                                standard.getElements().add(new LineTo(centerX + size * 0.4575 * sinValue, centerY + size * 0.4575 * cosValue));
-                                standard.getElements().add(new LineTo(centerX + size * 0.4075 * sinValue, centerY + size * 0.4075 * cosValue));
-                                standard.getElements().add(new ClosePath());
-                                break;
-                            case INSIDE:
-                            default:
-                                standard.getElements().add(new MoveTo(centerX + size * 0.465 * sinValue, centerY + size * 0.465 * cosValue));
-                                sinValue = Math.sin(Math.toRadians(valueAngle - pathHalf));
-                                cosValue = Math.cos(Math.toRadians(valueAngle - pathHalf));
-                                standard.getElements().add(new LineTo(centerX + size * 0.436 * sinValue, centerY + size * 0.436 * cosValue));
-                                standard.getElements().add(new LineTo(centerX + size * 0.386 * sinValue, centerY + size * 0.386 * cosValue));
-                                sinValue = Math.sin(Math.toRadians(valueAngle + pathHalf));
-                                cosValue = Math.cos(Math.toRadians(valueAngle + pathHalf));
-                                standard.getElements().add(new LineTo(centerX + size * 0.386 * sinValue, centerY + size * 0.386 * cosValue));
-                                standard.getElements().add(new LineTo(centerX + size * 0.436 * sinValue, centerY + size * 0.436 * cosValue));
-                                standard.getElements().add(new ClosePath());
-                                break;
-                        }
-                        break;
+                    setPoints((Path) shape, points);
                 }
                 Color markerColor = marker.getColor();
                 shape.setFill(markerColor);
@@ -684,39 +566,8 @@ public class GaugeSkin extends GaugeSkinBase {
 
         if (gauge.isThresholdVisible()) {
             // Draw threshold
-            threshold.getElements().clear();
-            double thresholdAngle;
-            if (ScaleDirection.CLOCKWISE == scaleDirection) {
-                thresholdAngle = startAngle - (gauge.getThreshold() - minValue) * angleStep;
-            } else {
-                thresholdAngle = startAngle + (gauge.getThreshold() - minValue) * angleStep;
-            }
-            double thresholdSize = Helper.clamp(3.0, 3.5, 0.01 * size);
-            double sinValue      = Math.sin(Math.toRadians(thresholdAngle));
-            double cosValue      = Math.cos(Math.toRadians(thresholdAngle));
-            switch (tickLabelLocation) {
-                case OUTSIDE:
-                    threshold.getElements().add(new MoveTo(centerX + size * 0.38 * sinValue, centerY + size * 0.38 * cosValue));
-                    sinValue = Math.sin(Math.toRadians(thresholdAngle - thresholdSize));
-                    cosValue = Math.cos(Math.toRadians(thresholdAngle - thresholdSize));
-                    threshold.getElements().add(new LineTo(centerX + size * 0.34 * sinValue, centerY + size * 0.34 * cosValue));
-                    sinValue = Math.sin(Math.toRadians(thresholdAngle + thresholdSize));
-                    cosValue = Math.cos(Math.toRadians(thresholdAngle + thresholdSize));
-                    threshold.getElements().add(new LineTo(centerX + size * 0.34 * sinValue, centerY + size * 0.34 * cosValue));
-                    threshold.getElements().add(new ClosePath());
-                    break;
-                case INSIDE:
-                default:
-                    threshold.getElements().add(new MoveTo(centerX + size * 0.465 * sinValue, centerY + size * 0.465 * cosValue));
-                    sinValue = Math.sin(Math.toRadians(thresholdAngle - thresholdSize));
-                    cosValue = Math.cos(Math.toRadians(thresholdAngle - thresholdSize));
-                    threshold.getElements().add(new LineTo(centerX + size * 0.425 * sinValue, centerY + size * 0.425 * cosValue));
-                    sinValue = Math.sin(Math.toRadians(thresholdAngle + thresholdSize));
-                    cosValue = Math.cos(Math.toRadians(thresholdAngle + thresholdSize));
-                    threshold.getElements().add(new LineTo(centerX + size * 0.425 * sinValue, centerY + size * 0.425 * cosValue));
-                    threshold.getElements().add(new ClosePath());
-                    break;
-            }
+            double thresholdAngle = RadialGaugeGeometry.getScaleAngle(gauge.getThreshold(), minValue, startAngle, angleStep, scaleDirection);
+            setPoints(threshold, RadialGaugeGeometry.getThresholdPoints(tickLabelLocation, thresholdAngle, size, centerX, centerY));
             threshold.setFill(gauge.getThresholdColor());
             threshold.setStroke(gauge.getTickMarkColor());
         }
@@ -726,43 +577,19 @@ public class GaugeSkin extends GaugeSkinBase {
         double centerX = size * 0.5;
         double centerY = size * 0.5;
         // Draw average
-        average.getElements().clear();
-        double averageAngle;
-        if (ScaleDirection.CLOCKWISE == scaleDirection) {
-            averageAngle = startAngle - (gauge.getAverage() - minValue) * angleStep;
-        } else {
-            averageAngle = startAngle + (gauge.getAverage() - minValue) * angleStep;
-        }
-        double averageSize = Helper.clamp(3.0, 3.5, 0.01 * size);
-        double sinValue      = Math.sin(Math.toRadians(averageAngle));
-        double cosValue      = Math.cos(Math.toRadians(averageAngle));
-        switch (tickLabelLocation) {
-            case OUTSIDE:
-                average.getElements().add(new MoveTo(centerX + size * 0.38 * sinValue, centerY + size * 0.38 * cosValue));
-                sinValue = Math.sin(Math.toRadians(averageAngle - averageSize));
-                cosValue = Math.cos(Math.toRadians(averageAngle - averageSize));
-                average.getElements().add(new LineTo(centerX + size * 0.34 * sinValue, centerY + size * 0.34 * cosValue));
-                sinValue = Math.sin(Math.toRadians(averageAngle + averageSize));
-                cosValue = Math.cos(Math.toRadians(averageAngle + averageSize));
-                average.getElements().add(new LineTo(centerX + size * 0.34 * sinValue, centerY + size * 0.34 * cosValue));
-                average.getElements().add(new ClosePath());
-                break;
-            case INSIDE:
-            default:
-                average.getElements().add(new MoveTo(centerX + size * 0.465 * sinValue, centerY + size * 0.465 * cosValue));
-                sinValue = Math.sin(Math.toRadians(averageAngle - averageSize));
-                cosValue = Math.cos(Math.toRadians(averageAngle - averageSize));
-                average.getElements().add(new LineTo(centerX + size * 0.425 * sinValue, centerY + size * 0.425 * cosValue));
-                sinValue = Math.sin(Math.toRadians(averageAngle + averageSize));
-                cosValue = Math.cos(Math.toRadians(averageAngle + averageSize));
-                average.getElements().add(new LineTo(centerX + size * 0.425 * sinValue, centerY + size * 0.425 * cosValue));
-                average.getElements().add(new ClosePath());
-                break;
-        }
+        double averageAngle = RadialGaugeGeometry.getScaleAngle(gauge.getAverage(), minValue, startAngle, angleStep, scaleDirection);
+        setPoints(average, RadialGaugeGeometry.getThresholdPoints(tickLabelLocation, averageAngle, size, centerX, centerY));
         average.setFill(gauge.getAverageColor());
         average.setStroke(gauge.getTickMarkColor());
     }
 
+    private static void setPoints(final Path PATH, final double[] POINTS) {
+        PATH.getElements().clear();
+        PATH.getElements().add(new MoveTo(POINTS[0], POINTS[1]));
+        for (int i = 2 ; i < POINTS.length ; i += 2) { PATH.getElements().add(new LineTo(POINTS[i], POINTS[i + 1])); }
+        PATH.getElements().add(new ClosePath());
+    }
+
     private void updateMarkers() {
         markerMap.clear();
         for (Marker marker : gauge.getMarkers()) {
@@ -777,9 +604,19 @@ public class GaugeSkin extends GaugeSkinBase {
 
     private void drawKnob(final boolean PRESSED) {
         knobCanvas.setCache(false);
+        if (gauge.isRenderCacheEnabled()) {
+            RenderCache.draw(knobCanvas, "GaugeSkin.knob", RenderCache.style(gauge.getKnobType(), gauge.getKnobColor(), PRESSED), ctx -> paintKnob(PRESSED));
+        } else {
+            knobCtx.clearRect(0, 0, knobCanvas.getWidth(), knobCanvas.getHeight());
+            paintKnob(PRESSED);
+        }
+        knobCanvas.setCache(true);
+        knobCanvas.setCacheHint(CacheHint.QUALITY);
+    }
+
+    private void paintKnob(final boolean PRESSED) {
         double w = knobCanvas.getWidth();
         double h = knobCanvas.getHeight();
-        knobCtx.clearRect(0, 0, w, h);
 
         Color  knobColor = gauge.getKnobColor();
         double hue       = knobColor.getHue();
@@ -870,7 +707,7 @@ public class GaugeSkin extends GaugeSkinBase {
                 knobCtx.fillOval(0.29411765 * w, 0.29411765 * h, 0.41176471 * w, 0.41176471 * h);
                 break;
             case FLAT:
-                double lineWidth = 0.00740741 * size;
+                double lineWidth = RadialGaugeGeometry.FLAT_KNOB_LINE_WIDTH * size;
                 double knobSize  = w - 2 * lineWidth;
                 knobCtx.setFill(PRESSED ? knobColor.darker() : knobColor);
                 knobCtx.setStroke(PRESSED ? Color.WHITE.darker() : Color.WHITE);
@@ -882,22 +719,16 @@ public class GaugeSkin extends GaugeSkinBase {
             default:
                 knobCtx.setFill(new LinearGradient(0, 0, 0, h,
                                                    false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.rgb(133, 133, 133).brighter().brighter()),
-                                                   new Stop(0.52, Color.rgb(133, 133, 133)),
-                                                   new Stop(1.0, Color.rgb(133, 133, 133).darker().darker())));
+                                                   RadialGaugeGeometry.getStandardKnobFrameStops()));
                 knobCtx.fillOval(0, 0, w, h);
                 gradTop = PRESSED ? h - size * 0.01 : size * 0.005;
                 gradBot = PRESSED ? size * 0.005 : h - size * 0.01;
                 knobCtx.setFill(new LinearGradient(0, gradTop, 0, gradBot,
                                                    false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.hsb(hue, sat, brg * 0.85, alp)),
-                                                   new Stop(0.45, Color.hsb(hue, sat, brg * 0.65, alp)),
-                                                   new Stop(1.0, Color.hsb(hue, sat, brg * 0.4, alp))));
+                                                   RadialGaugeGeometry.getStandardKnobStops(knobColor)));
                 knobCtx.fillOval(size * 0.005, size * 0.005, w - size * 0.01, h - size * 0.01);
                 break;
         }
-        knobCanvas.setCache(true);
-        knobCanvas.setCacheHint(CacheHint.QUALITY);
     }
 
     private void drawNeedle() {
@@ -950,7 +781,7 @@ public class GaugeSkin extends GaugeSkinBase {
             case STANDARD:
             default      :
                 needleWidth  = size * gauge.getNeedleSize().FACTOR;
-                needleHeight = TickLabelLocation.INSIDE == tickLabelLocation ? size * 0.455 : size * 0.3965;
+                needleHeight = size * RadialGaugeGeometry.getStandardNeedleHeight(tickLabelLocation);
                 Needle.INSTANCE.getPath(needle, needleWidth, needleHeight, NeedleType.STANDARD, tickLabelLocation);
                 needle.relocate(center - needle.getLayoutBounds().getWidth() * 0.5, center - needle.getLayoutBounds().getHeight());
                 needleRotate.setPivotX(needle.getLayoutBounds().getWidth() * 0.5);
@@ -1069,6 +900,8 @@ public class GaugeSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
@@ -1083,15 +916,20 @@ public class GaugeSkin extends GaugeSkinBase {
         scaleDirection    = gauge.getScaleDirection();
         areasVisible      = gauge.getAreasVisible();
         sectionsVisible   = gauge.getSectionsVisible();
-        sectionsAndAreasCtx.clearRect(0, 0, size, size);
-        drawAreasAndSections(sectionsAndAreasCtx);
+        if (gauge.isRenderCacheEnabled() && !highlightSections && !highlightAreas) {
+            RenderCache.draw(sectionsAndAreasCanvas, "GaugeSkin.sectionsAndAreas", RenderCache.sectionsStyle(gauge), ctx -> drawAreasAndSections(ctx));
+        } else {
+            sectionsAndAreasCtx.clearRect(0, 0, size, size);
+            drawAreasAndSections(sectionsAndAreasCtx);
+        }
 
         tickMarkCanvas.setCache(false);
-        tickMarkCtx.clearRect(0, 0, size, size);
-        if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
-            drawGradientBar();
+        if (gauge.isRenderCacheEnabled()) {
+            RenderCache.draw(tickMarkCanvas, "GaugeSkin.tickMarks", RenderCache.scaleStyle(gauge), ctx -> drawScale());
+        } else {
+            tickMarkCtx.clearRect(0, 0, size, size);
+            drawScale();
         }
-        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, size * 0.5, size * 0.5, size);
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
@@ -1181,33 +1019,17 @@ public class GaugeSkin extends GaugeSkinBase {
         resizeText();
 
         // Needle
-        Color needleColor = gauge.getNeedleColor();
-        switch(gauge.getNeedleShape()) {
-            case ROUND:
-                needlePaint = new LinearGradient(needle.getLayoutBounds().getMinX(), 0,
-                                                 needle.getLayoutBounds().getMaxX(), 0,
-                                                 false, CycleMethod.NO_CYCLE,
-                                                 new Stop(0.0, needleColor.darker()),
-                                                 new Stop(0.5, needleColor.brighter().brighter()),
-                                                 new Stop(1.0, needleColor.darker()));
-                needle.setStrokeWidth(0);
-                break;
-            case FLAT:
-                needlePaint = needleColor;
-                needle.setStrokeWidth(0.0037037 * size);
-                break;
-            case ANGLED:
-            default:
-                needlePaint = new LinearGradient(needle.getLayoutBounds().getMinX(), 0,
-                                                 needle.getLayoutBounds().getMaxX(), 0,
-                                                 false, CycleMethod.NO_CYCLE,
-                                                 new Stop(0.0, needleColor.darker()),
-                                                 new Stop(0.5, needleColor.darker()),
-                                                 new Stop(0.5, needleColor.brighter()),
-                                                 new Stop(1.0, needleColor.brighter()));
-                needle.setStrokeWidth(0);
-                break;
+        Color  needleColor = gauge.getNeedleColor();
+        Stop[] needleStops = RadialGaugeGeometry.getNeedleStops(gauge.getNeedleShape(), needleColor);
+        if (null == needleStops) {
+            needlePaint = needleColor;
+        } else {
+            needlePaint = new LinearGradient(needle.getLayoutBounds().getMinX(), 0,
+                                             needle.getLayoutBounds().getMaxX(), 0,
+                                             false, CycleMethod.NO_CYCLE,
+                                             needleStops);
         }
+        needle.setStrokeWidth(RadialGaugeGeometry.getNeedleBorderWidth(gauge.getNeedleShape()) * size);
         if (NeedleType.AVIONIC == gauge.getNeedleType()) {
             needlePaint = new LinearGradient(0, needle.getLayoutBounds().getMinY(),
                                              0, needle.getLayoutBounds().getMaxY(),
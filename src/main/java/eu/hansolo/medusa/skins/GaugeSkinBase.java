@@ -36,6 +36,12 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
     protected Gauge                gauge;
     protected InvalidationListener sizeListener;
     protected UpdateEventListener  updateEventListener;
+    private   boolean              layoutInvalid;
+    private   boolean              staticLayerInvalid;
+    private   boolean              dynamicLayerInvalid;
+    private   boolean              flushRequested;
+    private   boolean              disposed;
+    private   Runnable             flush;
 
 
     protected GaugeSkinBase(final Gauge GAUGE) {
@@ -43,24 +49,84 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
         gauge               = GAUGE;
         sizeListener        = o -> handleEvents("RESIZE");
         updateEventListener = e -> handleEvents(e.eventType.name());
+        flush               = this::flushInvalidations;
     }
 
     protected void registerListeners() {
         getSkinnable().widthProperty().addListener(sizeListener);
         getSkinnable().heightProperty().addListener(sizeListener);
-        getSkinnable().setOnUpdate(e -> handleEvents(e.eventType.name()));
+        getSkinnable().setOnUpdate(updateEventListener);
     }
 
     protected void handleEvents(final String EVENT_TYPE) {
         if ("RESIZE".equals(EVENT_TYPE)) {
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("REDRAW".equals(EVENT_TYPE)) {
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
 
+    // ******************** Invalidation **************************************
+    /**
+     * Marks the layout as invalid. resize() and redraw() will be called
+     * once on the next pulse, no matter how often the layout was
+     * invalidated before.
+     */
+    protected void invalidateLayout() {
+        layoutInvalid = true;
+        requestFlush();
+    }
+
+    /**
+     * Marks the static layer (e.g. background, ticks, sections) as invalid.
+     * redraw() will be called once on the next pulse.
+     */
+    protected void invalidateStaticLayer() {
+        staticLayerInvalid = true;
+        requestFlush();
+    }
+
+    /**
+     * Marks the dynamic layer (e.g. needle, bar, value text) as invalid.
+     * updateDynamicLayer() will be called once on the next pulse.
+     */
+    protected void invalidateDynamicLayer() {
+        dynamicLayerInvalid = true;
+        requestFlush();
+    }
+
+    private void requestFlush() {
+        if (flushRequested) return;
+        flushRequested = true;
+        SkinFlusher.getInstance().schedule(flush);
+    }
+
+    /**
+     * Calls resize(), redraw() and updateDynamicLayer() for all layers that
+     * have been invalidated since the last flush.
+     */
+    protected void flushInvalidations() {
+        if (!flushRequested) return;
+        if (disposed) {
+            flushRequested = false;
+            return;
+        }
+        final boolean LAYOUT        = layoutInvalid;
+        final boolean STATIC_LAYER  = staticLayerInvalid || LAYOUT;
+        final boolean DYNAMIC_LAYER = dynamicLayerInvalid;
+        layoutInvalid       = false;
+        staticLayerInvalid  = false;
+        dynamicLayerInvalid = false;
+        if (LAYOUT)        { resize(); }
+        if (STATIC_LAYER)  { redraw(); }
+        if (DYNAMIC_LAYER) { updateDynamicLayer(); }
+        flushRequested = false;
+        // Layers that were invalidated while flushing will be flushed on the next pulse
+        if (layoutInvalid || staticLayerInvalid || dynamicLayerInvalid) { requestFlush(); }
+    }
+
+
     // ******************** Methods *******************************************
     @Override protected double computeMinWidth(final double HEIGHT, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MINIMUM_WIDTH; }
     @Override protected double computeMinHeight(final double WIDTH, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MINIMUM_HEIGHT; }
@@ -68,14 +134,22 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
     @Override protected double computePrefHeight(final double WIDTH, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT) { return super.computePrefHeight(WIDTH, TOP, RIGHT, BOTTOM, LEFT); }
     @Override protected double computeMaxWidth(final double HEIGHT, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MAXIMUM_WIDTH; }
     @Override protected double computeMaxHeight(final double WIDTH, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MAXIMUM_HEIGHT; }
-    
+
+    @Override protected void layoutChildren(final double X, final double Y, final double WIDTH, final double HEIGHT) {
+        super.layoutChildren(X, Y, WIDTH, HEIGHT);
+        flushInvalidations();
+    }
+
     @Override public void dispose() {
         gauge.widthProperty().removeListener(sizeListener);
         gauge.heightProperty().removeListener(sizeListener);
         gauge.removeUpdateEventListener(updateEventListener);
+        disposed = true;
     }
 
     protected void resize() {}
 
     protected void redraw() {}
+
+    protected void updateDynamicLayer() {}
 }
@@ -28,6 +28,7 @@ import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.RenderCache;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -169,7 +170,7 @@ public class HSkin extends GaugeSkinBase {
         tickLabelLocation    = gauge.getTickLabelLocation();
         scaleDirection       = gauge.getScaleDirection();
         mouseHandler         = e -> handleMouseEvent(e);
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
         markerListener       = c -> {
             updateMarkers();
             redraw();
@@ -265,7 +266,7 @@ public class HSkin extends GaugeSkinBase {
         unitText.setMouseTransparent(true);
         Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setMouseTransparent(true);
         valueText.setTextOrigin(VPos.CENTER);
         valueText.setMouseTransparent(true);
@@ -310,14 +311,12 @@ public class HSkin extends GaugeSkinBase {
             double currentValue = gauge.getCurrentValue();
             // eu.hansolo.medusa.Check sections for value and fire section events
             if (gauge.getCheckSectionsForValue()) {
-                int listSize = sections.size();
-                for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(currentValue); }
+                gauge.getSectionIndex().checkForValue(currentValue);
             }
 
             // eu.hansolo.medusa.Check areas for value and fire section events
             if (gauge.getCheckAreasForValue()) {
-                int listSize = areas.size();
-                for (int i = 0 ; i < listSize ; i++) { areas.get(i).checkForValue(currentValue); }
+                gauge.getAreaIndex().checkForValue(currentValue);
             }
 
             // Highlight Sections and/or Areas if enabled
@@ -337,8 +336,7 @@ public class HSkin extends GaugeSkinBase {
             Helper.enableNode(average, gauge.isAverageVisible());
             boolean markersVisible = gauge.getMarkersVisible();
             for (Shape shape : markerMap.values()) { Helper.enableNode(shape, markersVisible); }
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("LED".equals(EVENT_TYPE)) {
             if (gauge.isLedVisible()) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
@@ -361,8 +359,7 @@ public class HSkin extends GaugeSkinBase {
             areas             = gauge.getAreas();
             highlightAreas    = gauge.isHighlightAreas();
             areasVisible      = gauge.getAreasVisible();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("INTERACTIVITY".equals(EVENT_TYPE)) {
             if (gauge.isInteractive()) {
                 knobCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
@@ -424,7 +421,7 @@ public class HSkin extends GaugeSkinBase {
             targetAngle = Helper.clamp(startOffsetAngle - angleRange, startOffsetAngle, targetAngle);
         }
         needleRotate.setAngle(targetAngle);
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         if (gauge.isLcdVisible()) {
             valueText.setTranslateX((0.675 * width - valueText.getLayoutBounds().getWidth()));
         } else {
@@ -455,6 +452,13 @@ public class HSkin extends GaugeSkinBase {
         tickMarkCtx.restore();
     }
 
+    private void drawScale() {
+        if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
+            drawGradientBar();
+        }
+        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.5, height * 0.9, width * 0.9);
+    }
+
     private void drawAreasAndSections(final GraphicsContext CTX) {
         if (areas.isEmpty() && sections.isEmpty()) return;
 
@@ -779,9 +783,19 @@ public class HSkin extends GaugeSkinBase {
 
     private void drawKnob(final boolean PRESSED) {
         knobCanvas.setCache(false);
+        if (gauge.isRenderCacheEnabled()) {
+            RenderCache.draw(knobCanvas, "HSkin.knob", RenderCache.style(gauge.getKnobType(), gauge.getKnobColor(), PRESSED), ctx -> paintKnob(PRESSED));
+        } else {
+            knob.clearRect(0, 0, knobCanvas.getWidth(), knobCanvas.getHeight());
+            paintKnob(PRESSED);
+        }
+        knobCanvas.setCache(true);
+        knobCanvas.setCacheHint(CacheHint.QUALITY);
+    }
+
+    private void paintKnob(final boolean PRESSED) {
         double w = knobCanvas.getWidth();
         double h = knobCanvas.getHeight();
-        knob.clearRect(0, 0, w, h);
 
         Color  knobColor = gauge.getKnobColor();
         double hue       = knobColor.getHue();
@@ -898,8 +912,6 @@ public class HSkin extends GaugeSkinBase {
                 knob.fillOval(width * 0.005, width * 0.005, w - width * 0.01, h - width * 0.01);
                 break;
         }
-        knobCanvas.setCache(true);
-        knobCanvas.setCacheHint(CacheHint.QUALITY);
     }
 
     private void resizeText() {
@@ -1081,6 +1093,8 @@ public class HSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
@@ -1095,15 +1109,20 @@ public class HSkin extends GaugeSkinBase {
         scaleDirection    = gauge.getScaleDirection();
         areasVisible      = gauge.getAreasVisible();
         sectionsVisible   = gauge.getSectionsVisible();
-        sectionsAndAreasCtx.clearRect(0, 0, width, width);
-        drawAreasAndSections(sectionsAndAreasCtx);
+        if (gauge.isRenderCacheEnabled() && !highlightSections && !highlightAreas) {
+            RenderCache.draw(sectionsAndAreasCanvas, "HSkin.sectionsAndAreas", RenderCache.sectionsStyle(gauge), ctx -> drawAreasAndSections(ctx));
+        } else {
+            sectionsAndAreasCtx.clearRect(0, 0, width, width);
+            drawAreasAndSections(sectionsAndAreasCtx);
+        }
 
         tickMarkCanvas.setCache(false);
-        tickMarkCtx.clearRect(0, 0, width, width);
-        if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
-            drawGradientBar();
+        if (gauge.isRenderCacheEnabled()) {
+            RenderCache.draw(tickMarkCanvas, "HSkin.tickMarks", RenderCache.scaleStyle(gauge), ctx -> drawScale());
+        } else {
+            tickMarkCtx.clearRect(0, 0, width, width);
+            drawScale();
         }
-        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.5, height * 0.9, width * 0.9);
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
@@ -121,7 +121,7 @@ public class IndicatorSkin extends GaugeSkinBase {
         formatString                 = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale                       = gauge.getLocale();
         barColor                     = gauge.getBarColor();
-        currentValueListener         = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener         = o -> invalidateDynamicLayer();
         sectionAlwaysVisibleListener = o -> bar.setVisible(!gauge.getSectionsAlwaysVisible());
 
         initGraphics();
@@ -401,6 +401,8 @@ public class IndicatorSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth() / PREFERRED_HEIGHT * height))));
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), CornerRadii.EMPTY, Insets.EMPTY)));
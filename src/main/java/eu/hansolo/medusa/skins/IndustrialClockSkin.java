@@ -224,7 +224,7 @@ public class IndustrialClockSkin extends ClockSkinBase {
             areas             = clock.getAreas();
             highlightAreas    = clock.isHighlightAreas();
             areasVisible      = clock.getAreasVisible();
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
@@ -437,7 +437,7 @@ public class IndustrialClockSkin extends ClockSkinBase {
 
         if (text.isVisible()) {
             text.setText(TIME_FORMATTER.format(TIME));
-            Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+            Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
@@ -570,7 +570,7 @@ public class IndustrialClockSkin extends ClockSkinBase {
         title.relocate((size - title.getLayoutBounds().getWidth()) * 0.5, size * 0.25);
 
         text.setText(TIME_FORMATTER.format(time));
-        Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+        Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
         text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
 
         dateText.setText(DATE_TEXT_FORMATTER.format(time).toUpperCase());
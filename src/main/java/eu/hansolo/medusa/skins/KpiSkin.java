@@ -82,7 +82,7 @@ public class KpiSkin extends GaugeSkinBase {
         range                = gauge.getRange();
         angleStep            = angleRange / range;
         locale               = gauge.getLocale();
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -130,7 +130,7 @@ public class KpiSkin extends GaugeSkinBase {
         titleText.setFill(gauge.getTitleColor());
         Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setFill(gauge.getValueColor());
         Helper.enableNode(valueText, gauge.isValueVisible());
 
@@ -165,7 +165,7 @@ public class KpiSkin extends GaugeSkinBase {
             minValue   = gauge.getMinValue();
             range      = gauge.getRange();
             angleStep  = angleRange / range;
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
@@ -174,7 +174,7 @@ public class KpiSkin extends GaugeSkinBase {
         double targetAngle = (VALUE - minValue) * angleStep - needleStartAngle;
         targetAngle = Helper.clamp(-needleStartAngle, -needleStartAngle + angleRange, targetAngle);
         needleRotate.setAngle(targetAngle);
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         resizeValueText();
     }
 
@@ -219,7 +219,7 @@ public class KpiSkin extends GaugeSkinBase {
         double maxWidth = 0.86466165 * size;
         double fontSize = 0.192 * size;
         valueText.setFont(Fonts.latoRegular(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
         valueText.relocate((size - valueText.getLayoutBounds().getWidth()) * 0.5, (size * 0.744));
     }
     private void resizeStaticText() {
@@ -314,6 +314,8 @@ public class KpiSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), CornerRadii.EMPTY, Insets.EMPTY)));
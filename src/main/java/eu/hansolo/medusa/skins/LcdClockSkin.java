@@ -223,10 +223,9 @@ public class LcdClockSkin extends ClockSkinBase {
             pane.setEffect(clock.getShadowsEnabled() ? mainInnerShadow1 : null);
             shadowGroup.setEffect(clock.getShadowsEnabled() ? FOREGROUND_SHADOW : null);
             updateLcdDesign(height);
-            redraw();
+            invalidateStaticLayer();
         } else if ("RESIZE".equals(EVENT_TYPE)) {
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("LCD".equals(EVENT_TYPE)) {
             updateLcdDesign(height);
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
@@ -249,11 +248,10 @@ public class LcdClockSkin extends ClockSkinBase {
             boolean alarmVisible = clock.getAlarms().size() > 0;
             alarm.setManaged(alarmVisible);
             alarm.setVisible(alarmVisible);
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("RECALC".equals(EVENT_TYPE)) {
             adjustDateFormat();
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
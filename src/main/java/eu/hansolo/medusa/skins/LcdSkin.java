@@ -253,11 +253,10 @@ public class LcdSkin extends GaugeSkinBase {
             pane.setEffect(gauge.isShadowsEnabled() ? mainInnerShadow1 : null);
             shadowGroup.setEffect(gauge.isShadowsEnabled() ? FOREGROUND_SHADOW : null);
             updateLcdDesign(height);
-            redraw();
+            invalidateStaticLayer();
         } else if ("RESIZE".equals(EVENT_TYPE)) {
             aspectRatio = gauge.getPrefHeight() / gauge.getPrefWidth();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("LCD".equals(EVENT_TYPE)) {
             updateLcdDesign(height);
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
@@ -270,13 +269,11 @@ public class LcdSkin extends GaugeSkinBase {
             Helper.enableNode(lowerCenterText, gauge.isOldValueVisible());
             Helper.enableNode(average, gauge.isAverageVisible());
             Helper.enableNode(threshold, gauge.isThresholdVisible());
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("SECTION".equals(EVENT_TYPE)) {
             sections = gauge.getSections();
             updateSectionColors();
-            resize();
-            redraw();
+            invalidateLayout();
         }
     }
 
@@ -692,7 +689,7 @@ public class LcdSkin extends GaugeSkinBase {
 
         if (gauge.isThresholdVisible()) { threshold.setVisible(Double.compare(gauge.getCurrentValue(), gauge.getThreshold()) >= 0); }
 
-        //valueText.setText(isNoOfDigitsInvalid() ? "-E-" : formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        //valueText.setText(isNoOfDigitsInvalid() ? "-E-" : formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setText(isNoOfDigitsInvalid() ? "-E-" : String.format(Locale.US, valueFormatString, gauge.getCurrentValue()));
 
         updateBackgroundText();
@@ -90,7 +90,7 @@ public class LevelSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         barTooltip           = new Tooltip();
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f%%").toString();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
         barTooltip.setTextAlignment(TextAlignment.CENTER);
 
         initGraphics();
@@ -185,14 +185,13 @@ public class LevelSkin extends GaugeSkinBase {
             setBar(gauge.getCurrentValue());
         } else if ("SECTION".equals(EVENT_TYPE)) {
             sections = gauge.getSections();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
-            redraw();
+            invalidateStaticLayer();
         } else if ("FINISHED".equals(EVENT_TYPE)) {
-            StringBuilder content = new StringBuilder(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getValue()))
+            StringBuilder content = new StringBuilder(formatNumber(gauge, gauge.getValue()))
                 .append("\n(").append(valueText.getText()).append(")");
             barTooltip.setText(content.toString());
         }
@@ -357,6 +356,8 @@ public class LevelSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f%%").toString();
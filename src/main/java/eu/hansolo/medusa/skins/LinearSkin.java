@@ -115,7 +115,7 @@ public class LinearSkin extends GaugeSkinBase {
         locale                = gauge.getLocale();
         sections              = gauge.getSections();
         areas                 = gauge.getAreas();
-        currentValueListener  = o -> setBar(gauge.getCurrentValue());
+        currentValueListener  = o -> invalidateDynamicLayer();
         paneSizeListener      = o -> handleEvents("RESIZE");
 
         if (Orientation.VERTICAL == orientation) {
@@ -176,7 +176,7 @@ public class LinearSkin extends GaugeSkinBase {
         unitText.setFill(gauge.getUnitColor());
         Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setFill(gauge.getValueColor());
         Helper.enableNode(valueText, gauge.isValueVisible());
 
@@ -210,7 +210,7 @@ public class LinearSkin extends GaugeSkinBase {
         super.handleEvents(EVENT_TYPE);
         if ("FINISHED".equals(EVENT_TYPE)) {
             if ( gauge.isHighlightSections() ) {
-                redraw();
+                invalidateStaticLayer();
             }
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
             Helper.enableNode(ledCanvas, gauge.isLedVisible());
@@ -219,8 +219,7 @@ public class LinearSkin extends GaugeSkinBase {
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(lcd, (gauge.isLcdVisible() && gauge.isValueVisible()));
             Helper.enableNode(barHighlight, gauge.isBarEffectEnabled());
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("LED".equals(EVENT_TYPE)) {
             if (gauge.isLedVisible()) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
@@ -228,8 +227,7 @@ public class LinearSkin extends GaugeSkinBase {
         } else if ("SECTION".equals(EVENT_TYPE)) {
             sections = gauge.getSections();
             areas    = gauge.getAreas();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("RECALC".equals(EVENT_TYPE)) {
             orientation = gauge.getOrientation();
             if (Orientation.VERTICAL == orientation) {
@@ -239,8 +237,7 @@ public class LinearSkin extends GaugeSkinBase {
                 height   = width / aspectRatio;
 //                stepSize = Math.abs(0.75 * width / gauge.getRange());
             }
-            resize();
-            redraw();
+            invalidateLayout();
         }
     }
 
@@ -420,7 +417,7 @@ public class LinearSkin extends GaugeSkinBase {
             barHighlight.setLayoutY(layoutY);
             barHighlight.setHeight(valueHeight);
 
-            valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+            valueText.setText(formatNumber(gauge, VALUE));
 
             if (gauge.isLcdVisible()) {
                 valueText.setLayoutX((0.88 * width - valueText.getLayoutBounds().getWidth()));
@@ -470,7 +467,7 @@ public class LinearSkin extends GaugeSkinBase {
             barHighlight.setLayoutX(layoutX);
             barHighlight.setWidth(valueWidth);
 
-            valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+            valueText.setText(formatNumber(gauge, VALUE));
             valueText.setLayoutX(( 0.98 * width - valueText.getLayoutBounds().getWidth() ));
 
         }
@@ -788,6 +785,8 @@ public class LinearSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         locale                = gauge.getLocale();
         tickLabelFormatString = new StringBuilder("%.").append(Integer.toString(gauge.getTickLabelDecimals())).append("f").toString();
@@ -166,11 +166,11 @@ public class MinimalClockSkin extends ClockSkinBase {
         }
 
         hour.setText(HOUR_FORMATTER.format(TIME));
-        Helper.adjustTextSize(hour, 0.6 * size, 0.6 * size);
+        Helper.adjustTextSize(hour, 0.6 * size, 0.6 * size, false);
         hour.relocate((size - hour.getLayoutBounds().getWidth()) * 0.5, (size - hour.getLayoutBounds().getHeight()) * 0.65);
 
         minute.setText(MINUTE_FORMATTER.format(TIME));
-        Helper.adjustTextSize(minute, 0.1 * size, 0.075 * size);
+        Helper.adjustTextSize(minute, 0.1 * size, 0.075 * size, false);
         if (minuteAngle.get() == -1) moveMinute(6 * TIME.getMinute());
         KeyValue kv1 = new KeyValue(minuteAngle, minuteAngle.get());
         KeyValue kv2 = new KeyValue(minuteAngle, 6 * TIME.getMinute());
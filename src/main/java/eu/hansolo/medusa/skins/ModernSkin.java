@@ -21,6 +21,7 @@ import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.RenderCache;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Locale;
@@ -130,7 +131,7 @@ public class ModernSkin extends GaugeSkinBase {
         thresholdColor       = gauge.getThresholdColor();
         animatedListener     = o -> handleEvents("ANIMATED");
         sectionListener      = c -> handleEvents("RESIZE");
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
         titleLength          = 0;
         subTitleLength       = 0;
         valueLength          = 0;
@@ -239,7 +240,7 @@ public class ModernSkin extends GaugeSkinBase {
         unitText.setMouseTransparent(true);
         Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setMouseTransparent(true);
         valueText.setTextOrigin(VPos.CENTER);
         valueText.setFill(gauge.getValueColor());
@@ -280,7 +281,7 @@ public class ModernSkin extends GaugeSkinBase {
             Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
             Helper.enableNode(valueText, gauge.isValueVisible());
             sectionsVisible = gauge.getSectionsVisible();
-            redraw();
+            invalidateStaticLayer();
         } else if ("RECALC".equals(EVENT_TYPE)) {
             angleStep = ANGLE_RANGE / gauge.getRange();
             redraw();
@@ -345,7 +346,7 @@ public class ModernSkin extends GaugeSkinBase {
         angleStep          = ANGLE_RANGE / gauge.getRange();
         double targetAngle = 180 - START_ANGLE + (VALUE - gauge.getMinValue()) * angleStep;
         needleRotate.setAngle(Helper.clamp(180 - START_ANGLE, 180 - START_ANGLE + ANGLE_RANGE, targetAngle));
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         //valueText.setTranslateX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
 
         resizeText();
@@ -472,11 +473,21 @@ public class ModernSkin extends GaugeSkinBase {
         CTX.strokeArc(barXY, barXY, barWH, barWH, barStart, barLength, ArcType.OPEN);
         CTX.restore();
 
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), CURRENT_VALUE));
+        valueText.setText(formatNumber(gauge, CURRENT_VALUE));
 
     }
 
     private void drawMainCanvas() {
+        if (gauge.isRenderCacheEnabled()) {
+            List<Object> style = RenderCache.style(RenderCache.scaleStyle(gauge), RenderCache.sectionsStyle(gauge),
+                                                   gauge.isThresholdVisible(), gauge.getThreshold(), gauge.getNeedleColor());
+            RenderCache.draw(mainCanvas, "ModernSkin.main", style, ctx -> paintMainCanvas());
+        } else {
+            paintMainCanvas();
+        }
+    }
+
+    private void paintMainCanvas() {
         mainCtx.clearRect(0, 0, size, size);
         mainCtx.setFillRule(FillRule.EVEN_ODD);
 
@@ -662,7 +673,7 @@ public class ModernSkin extends GaugeSkinBase {
         titleText.setTranslateX((size - titleText.getLayoutBounds().getWidth()) * 0.5);
 
         if (valueText.getText().length() > valueLength) {
-            if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, size * 0.22); }
+            if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, size * 0.22, false); }
         }
         valueText.setTranslateX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
 
@@ -814,6 +825,8 @@ public class ModernSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         sectionsVisible = gauge.getSectionsVisible();
         locale          = gauge.getLocale();
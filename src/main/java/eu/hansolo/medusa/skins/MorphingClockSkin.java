@@ -20,10 +20,12 @@ import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.tools.Helper;
 import javafx.animation.AnimationTimer;
 import javafx.geometry.Insets;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.Border;
@@ -41,6 +43,7 @@ import javafx.scene.paint.Stop;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Locale;
 
 
@@ -54,6 +57,11 @@ public class MorphingClockSkin extends ClockSkinBase {
     private   static final DateTimeFormatter HHMMSS_FORMATTER      = DateTimeFormatter.ofPattern("HH:mm:ss");
     private   static final DateTimeFormatter AMPM_HHMMSS_FORMATTER = DateTimeFormatter.ofPattern("hh:mm:ss");
     private   static final long              INTERVAL              = 40_000_000l;
+    private   static final int               NO_OF_ROWS            = 15;
+    private   static final int               NO_OF_COLS            = 8;
+    private   static final int               HOUR_SPRITE           = 0;
+    private   static final int               MINUTE_SPRITE         = 2;
+    private   static final int               SECOND_SPRITE         = 4;
     private                double            aspectRatio           = 0.26506024;
     private                double            width;
     private                double            height;
@@ -77,6 +85,9 @@ public class MorphingClockSkin extends ClockSkinBase {
     private                RadialGradient    minuteOffGradient;
     private                RadialGradient    secondGradient;
     private                RadialGradient    secondOffGradient;
+    private                WritableImage     dotAtlas;
+    private                double            spriteSize;
+    private                int[][][]         drawnStates;
     private                int[][]           hl;
     private                int[][]           hr;
     private                int[][]           ml;
@@ -115,6 +126,7 @@ public class MorphingClockSkin extends ClockSkinBase {
         mr             = new int[15][8]; // minute right digit
         sl             = new int[15][8]; // second left digit
         sr             = new int[15][8]; // second right digit
+        drawnStates    = new int[6][NO_OF_ROWS][NO_OF_COLS];
         hourLeft       = 0;
         hourRight      = 0;
         minLeft        = 0;
@@ -186,49 +198,83 @@ public class MorphingClockSkin extends ClockSkinBase {
         if ("VISIBILITY".equals(EVENT_TYPE)) {
 
         } else if ("SECTION".equals(EVENT_TYPE)) {
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
 
     // ******************** Canvas ********************************************
     private void drawTime() {
-        ctx.clearRect(0, 0, width, height);
+        if (null == dotAtlas) {
+            if (!createDotAtlas()) return;
+            ctx.clearRect(0, 0, width, height);
+            for (int[][] states : drawnStates) { for (int[] row : states) { Arrays.fill(row, -1); } }
+        }
 
         // draw hours
-        drawMatrix(0, 0, hl, hourGradient, hourOffGradient);
-        drawMatrix(digitWidth + digitSpacer, 0, hr, hourGradient, hourOffGradient);
+        drawMatrix(0, 0, hl, drawnStates[0], HOUR_SPRITE);
+        drawMatrix(digitWidth + digitSpacer, 0, hr, drawnStates[1], HOUR_SPRITE);
 
         // draw colon
 
         // draw minutes
-        drawMatrix(2 * digitWidth + 3 * digitSpacer, 0, ml, minuteGradient, minuteOffGradient);
-        drawMatrix(3 * digitWidth + 4 * digitSpacer, 0, mr, minuteGradient, minuteOffGradient);
+        drawMatrix(2 * digitWidth + 3 * digitSpacer, 0, ml, drawnStates[2], MINUTE_SPRITE);
+        drawMatrix(3 * digitWidth + 4 * digitSpacer, 0, mr, drawnStates[3], MINUTE_SPRITE);
 
         // draw colon
 
         // draw seconds
-        drawMatrix(4 * digitWidth + 6 * digitSpacer, 0, sl, secondGradient, secondOffGradient);
-        drawMatrix(5 * digitWidth + 7 * digitSpacer, 0, sr, secondGradient, secondOffGradient);
+        drawMatrix(4 * digitWidth + 6 * digitSpacer, 0, sl, drawnStates[4], SECOND_SPRITE);
+        drawMatrix(5 * digitWidth + 7 * digitSpacer, 0, sr, drawnStates[5], SECOND_SPRITE);
     }
 
-    private void drawMatrix(final double X, final double Y, final int[][] MATRIX, final Paint ON_PAINT, final Paint OFF_PAINT) {
-        double  x;
-        double  y = Y;
-        boolean fill;
+    // Only the dots that changed since the last call will be drawn
+    private void drawMatrix(final double X, final double Y, final int[][] MATRIX, final int[][] DRAWN_STATES, final int ON_SPRITE) {
+        final double HALF_SPACER = spacer * 0.5;
+        double       x;
+        double       y = Y;
+        int          state;
 
-        for (int row = 0 ; row < 15 ; row++) {
+        for (int row = 0 ; row < NO_OF_ROWS ; row++) {
             x = X;
-            for (int col = 0; col < 8; col++) {
-                fill = MATRIX[row][col] == 1;
-                ctx.setFill(fill ? ON_PAINT : OFF_PAINT);
-                ctx.fillOval(x, y, dotSize, dotSize);
+            for (int col = 0; col < NO_OF_COLS; col++) {
+                state = MATRIX[row][col];
+                if (state != DRAWN_STATES[row][col]) {
+                    ctx.clearRect(x - HALF_SPACER, y - HALF_SPACER, dotSize + spacer, dotSize + spacer);
+                    ctx.drawImage(dotAtlas, (state == 1 ? ON_SPRITE : ON_SPRITE + 1) * spriteSize, 0, dotSize, dotSize, x, y, dotSize, dotSize);
+                    DRAWN_STATES[row][col] = state;
+                }
                 x = X + ((col + 1) * (dotSize + spacer));
             }
             y = Y + ((row + 1) * (dotSize + spacer));
         }
     }
 
+    /**
+     * Renders one dot for each of the on and off gradients of hours,
+     * minutes and seconds into one image that will be used to draw the
+     * dots. The atlas will be created again if the size or the colors
+     * change.
+     *
+     * @return false if the atlas could not be created (yet)
+     */
+    private boolean createDotAtlas() {
+        if (dotSize <= 0 || null == hourGradient) return false;
+        final Paint[] PAINTS = { hourGradient, hourOffGradient, minuteGradient, minuteOffGradient, secondGradient, secondOffGradient };
+        spriteSize = Math.ceil(dotSize) + 1;
+
+        Canvas          atlasCanvas = new Canvas(spriteSize * PAINTS.length, spriteSize);
+        GraphicsContext atlasCtx    = atlasCanvas.getGraphicsContext2D();
+        for (int i = 0 ; i < PAINTS.length ; i++) {
+            atlasCtx.setFill(PAINTS[i]);
+            atlasCtx.fillOval(i * spriteSize, 0, dotSize, dotSize);
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        dotAtlas = atlasCanvas.snapshot(parameters, null);
+        return true;
+    }
+
     private void updateArrays() {
         hl = updateArray(hourLeft);
         hr = updateArray(hourRight);
@@ -2293,6 +2339,7 @@ public class MorphingClockSkin extends ClockSkinBase {
             digitWidth  = 8 * dotSize + 7 * spacer;
             digitHeight = 15 * dotSize + 14 * spacer;
             digitSpacer = height * 0.09090909;
+            dotAtlas    = null;
         }
     }
 
@@ -2356,6 +2403,7 @@ public class MorphingClockSkin extends ClockSkinBase {
                                                new Stop(0.48, secondOffColor.darker().darker().darker()),
                                                new Stop(0.50, secondOffColor.darker().darker().darker().darker()));
 
+        dotAtlas = null;
         drawTime();
     }
 }
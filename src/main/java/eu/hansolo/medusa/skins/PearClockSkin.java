@@ -224,7 +224,7 @@ public class PearClockSkin extends ClockSkinBase {
             areas             = clock.getAreas();
             highlightAreas    = clock.isHighlightAreas();
             areasVisible      = clock.getAreasVisible();
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
@@ -527,7 +527,7 @@ public class PearClockSkin extends ClockSkinBase {
 
         if (text.isVisible()) {
             text.setText(TIME_FORMATTER.format(TIME));
-            Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+            Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
@@ -655,7 +655,7 @@ public class PearClockSkin extends ClockSkinBase {
         title.relocate((size - title.getLayoutBounds().getWidth()) * 0.5, size * 0.25);
 
         text.setText(TIME_FORMATTER.format(time));
-        Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
+        Helper.adjustTextSize(text, 0.6 * size, size * 0.12, false);
         text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
 
         dateText.setText(DATE_TEXT_FORMATTER.format(time).toUpperCase());
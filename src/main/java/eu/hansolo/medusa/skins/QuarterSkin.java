@@ -25,11 +25,13 @@ import eu.hansolo.medusa.LcdDesign;
 import eu.hansolo.medusa.Marker;
 import eu.hansolo.medusa.Needle;
 import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.SectionIndex;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.TickMarkType;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.RenderCache;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
@@ -170,7 +172,7 @@ public class QuarterSkin extends GaugeSkinBase {
             updateMarkers();
             redraw();
         };
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
         updateMarkers();
 
         initGraphics();
@@ -261,7 +263,7 @@ public class QuarterSkin extends GaugeSkinBase {
         unitText.setMouseTransparent(true);
         Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setMouseTransparent(true);
         valueText.setTextOrigin(VPos.CENTER);
         valueText.setMouseTransparent(true);
@@ -306,14 +308,12 @@ public class QuarterSkin extends GaugeSkinBase {
             double currentValue = gauge.getCurrentValue();
             // eu.hansolo.medusa.Check sections for value and fire section events
             if (gauge.getCheckSectionsForValue()) {
-                int listSize = sections.size();
-                for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(currentValue); }
+                gauge.getSectionIndex().checkForValue(currentValue);
             }
 
             // eu.hansolo.medusa.Check areas for value and fire section events
             if (gauge.getCheckAreasForValue()) {
-                int listSize = areas.size();
-                for (int i = 0 ; i < listSize ; i++) { areas.get(i).checkForValue(currentValue); }
+                gauge.getAreaIndex().checkForValue(currentValue);
             }
 
             // Highlight Sections and/or Areas if enabled
@@ -333,8 +333,7 @@ public class QuarterSkin extends GaugeSkinBase {
             Helper.enableNode(average, gauge.isAverageVisible());
             boolean markersVisible = gauge.getMarkersVisible();
             for (Shape shape : markerMap.values()) { Helper.enableNode(shape, markersVisible); }
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("LED".equals(EVENT_TYPE)) {
             if (gauge.isLedVisible()) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
@@ -356,8 +355,7 @@ public class QuarterSkin extends GaugeSkinBase {
             areas             = gauge.getAreas();
             highlightAreas    = gauge.isHighlightAreas();
             areasVisible      = gauge.getAreasVisible();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("INTERACTIVITY".equals(EVENT_TYPE)) {
             if (gauge.isInteractive()) {
                 knobCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
@@ -421,7 +419,7 @@ public class QuarterSkin extends GaugeSkinBase {
             targetAngle = Helper.clamp(startOffsetAngle - ANGLE_RANGE, startOffsetAngle, targetAngle);
         }
         needleRotate.setAngle(targetAngle);
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         resizeValueText();
         if (gauge.isAverageVisible()) drawAverage();
     }
@@ -445,7 +443,8 @@ public class QuarterSkin extends GaugeSkinBase {
         double               counter               = minValue;
 
         List<Section> tickMarkSections             = gauge.getTickMarkSections();
-        List<Section> tickLabelSections            = gauge.getTickLabelSections();
+        SectionIndex  tickMarkSectionIndex         = gauge.getTickMarkSectionIndex();
+        SectionIndex  tickLabelSectionIndex        = gauge.getTickLabelSectionIndex();
         Color         tickMarkColor                = gauge.getTickMarkColor();
         Color         majorTickMarkColor           = gauge.getMajorTickMarkColor().equals(tickMarkColor) ? tickMarkColor : gauge.getMajorTickMarkColor();
         Color         mediumTickMarkColor          = gauge.getMediumTickMarkColor().equals(tickMarkColor) ? tickMarkColor : gauge.getMediumTickMarkColor();
@@ -764,14 +763,14 @@ public class QuarterSkin extends GaugeSkinBase {
                 TickMarkType tickMarkType = TickMarkType.LINE;
                 if (majorTickMarksVisible) {
                     tickMarkType = majorTickMarkType;
-                    tickMarkCtx.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, majorTickMarkColor) : majorTickMarkColor);
-                    tickMarkCtx.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, majorTickMarkColor) : majorTickMarkColor);
+                    tickMarkCtx.setFill(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, majorTickMarkColor) : majorTickMarkColor);
+                    tickMarkCtx.setStroke(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, majorTickMarkColor) : majorTickMarkColor);
                     tickMarkCtx.setLineWidth(size * (TickMarkType.BOX == tickMarkType || TickMarkType.PILL == tickMarkType ? 0.016 : 0.0055));
                     tickMarkCtx.setLineCap(TickMarkType.PILL == tickMarkType ? StrokeLineCap.ROUND : StrokeLineCap.BUTT);
                 } else if (minorTickMarksVisible) {
                     tickMarkType = minorTickMarkType;
-                    tickMarkCtx.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, minorTickMarkColor) : minorTickMarkColor);
-                    tickMarkCtx.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, minorTickMarkColor) : minorTickMarkColor);
+                    tickMarkCtx.setFill(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, minorTickMarkColor) : minorTickMarkColor);
+                    tickMarkCtx.setStroke(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, minorTickMarkColor) : minorTickMarkColor);
                     tickMarkCtx.setLineWidth(size * (TickMarkType.BOX == tickMarkType || TickMarkType.PILL == tickMarkType ? 0.007 : 0.00225));
                     tickMarkCtx.setLineCap(TickMarkType.PILL == tickMarkType ? StrokeLineCap.ROUND : StrokeLineCap.BUTT);
                 }
@@ -852,16 +851,16 @@ public class QuarterSkin extends GaugeSkinBase {
 
                     if (!onlyFirstAndLastLabelVisible) {
                         if (isNotZero) {
-                            tickMarkCtx.setFill(tickLabelSectionsVisible ? Helper.getColorOfSection(tickLabelSections, counter, tickLabelColor) : tickLabelColor);
+                            tickMarkCtx.setFill(tickLabelSectionsVisible ? tickLabelSectionIndex.getColorAt(counter, tickLabelColor) : tickLabelColor);
                         } else {
-                            tickMarkCtx.setFill(tickLabelSectionsVisible ? Helper.getColorOfSection(tickLabelSections, counter, tickLabelColor) : fullRange ? zeroColor : tickLabelColor);
+                            tickMarkCtx.setFill(tickLabelSectionsVisible ? tickLabelSectionIndex.getColorAt(counter, tickLabelColor) : fullRange ? zeroColor : tickLabelColor);
                         }
                     } else {
                         if ((Double.compare(counter, minValue) == 0 || Double.compare(counter, maxValue) == 0)) {
                             if (isNotZero) {
-                                tickMarkCtx.setFill(tickLabelSectionsVisible ? Helper.getColorOfSection(tickLabelSections, counter, tickLabelColor) : tickLabelColor);
+                                tickMarkCtx.setFill(tickLabelSectionsVisible ? tickLabelSectionIndex.getColorAt(counter, tickLabelColor) : tickLabelColor);
                             } else {
-                                tickMarkCtx.setFill(tickLabelSectionsVisible ? Helper.getColorOfSection(tickLabelSections, counter, tickLabelColor) : fullRange ? zeroColor : tickLabelColor);
+                                tickMarkCtx.setFill(tickLabelSectionsVisible ? tickLabelSectionIndex.getColorAt(counter, tickLabelColor) : fullRange ? zeroColor : tickLabelColor);
                             }
                         } else {
                             tickMarkCtx.setFill(Color.TRANSPARENT);
@@ -883,8 +882,8 @@ public class QuarterSkin extends GaugeSkinBase {
                        Double.compare(minorTickSpaceBD.remainder(mediumCheck2).doubleValue(), 0.0) != 0.0 &&
                        Double.compare(counterBD.remainder(mediumCheck5).doubleValue(), 0.0) == 0.0) {
                 // Draw medium tick mark
-                tickMarkCtx.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, mediumTickMarkColor) : mediumTickMarkColor);
-                tickMarkCtx.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, mediumTickMarkColor) : mediumTickMarkColor);
+                tickMarkCtx.setFill(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, mediumTickMarkColor) : mediumTickMarkColor);
+                tickMarkCtx.setStroke(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, mediumTickMarkColor) : mediumTickMarkColor);
                 switch(mediumTickMarkType) {
                     case TRAPEZOID:
                         Helper.drawTrapezoid(tickMarkCtx, trapezoidMediumInnerPoint1X, trapezoidMediumInnerPoint1Y, trapezoidMediumInnerPoint2X, trapezoidMediumInnerPoint2Y,
@@ -930,8 +929,8 @@ public class QuarterSkin extends GaugeSkinBase {
             } else if (minorTickMarksVisible && Double.compare(counterBD.remainder(minorTickSpaceBD).doubleValue(), 0.0) == 0) {
                 // Draw minor tick mark
                 if (TickMarkType.TICK_LABEL != majorTickMarkType) {
-                    tickMarkCtx.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, minorTickMarkColor) : minorTickMarkColor);
-                    tickMarkCtx.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, minorTickMarkColor) : minorTickMarkColor);
+                    tickMarkCtx.setFill(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, minorTickMarkColor) : minorTickMarkColor);
+                    tickMarkCtx.setStroke(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, minorTickMarkColor) : minorTickMarkColor);
                     switch (minorTickMarkType) {
                         case TRAPEZOID:
                             Helper.drawTrapezoid(tickMarkCtx, trapezoidMinorInnerPoint1X, trapezoidMinorInnerPoint1Y, trapezoidMinorInnerPoint2X, trapezoidMinorInnerPoint2Y,
@@ -1009,6 +1008,13 @@ public class QuarterSkin extends GaugeSkinBase {
         tickMarkCtx.restore();
     }
 
+    private void drawScale() {
+        if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
+            drawGradientBar();
+        }
+        drawTickMarks();
+    }
+
     private void drawAreasAndSections(final GraphicsContext CTX) {
         if (areas.isEmpty() && sections.isEmpty()) return;
         double value        = gauge.getCurrentValue();
@@ -1342,9 +1348,19 @@ public class QuarterSkin extends GaugeSkinBase {
 
     private void drawKnob(final boolean PRESSED) {
         knobCanvas.setCache(false);
+        if (gauge.isRenderCacheEnabled()) {
+            RenderCache.draw(knobCanvas, "QuarterSkin.knob", RenderCache.style(gauge.getKnobType(), gauge.getKnobColor(), PRESSED), ctx -> paintKnob(PRESSED));
+        } else {
+            knobCtx.clearRect(0, 0, knobCanvas.getWidth(), knobCanvas.getHeight());
+            paintKnob(PRESSED);
+        }
+        knobCanvas.setCache(true);
+        knobCanvas.setCacheHint(CacheHint.QUALITY);
+    }
+
+    private void paintKnob(final boolean PRESSED) {
         double w = knobCanvas.getWidth();
         double h = knobCanvas.getHeight();
-        knobCtx.clearRect(0, 0, w, h);
 
         Color  knobColor = gauge.getKnobColor();
         double hue       = knobColor.getHue();
@@ -1461,8 +1477,6 @@ public class QuarterSkin extends GaugeSkinBase {
                 knobCtx.fillOval(size * 0.005, size * 0.005, w - size * 0.01, h - size * 0.01);
                 break;
         }
-        knobCanvas.setCache(true);
-        knobCanvas.setCacheHint(CacheHint.QUALITY);
     }
 
     private void resizeText() {
@@ -1803,6 +1817,8 @@ public class QuarterSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
@@ -1817,15 +1833,20 @@ public class QuarterSkin extends GaugeSkinBase {
         scaleDirection    = gauge.getScaleDirection();
         areasVisible      = gauge.getAreasVisible();
         sectionsVisible   = gauge.getSectionsVisible();
-        sectionsAndAreasCtx.clearRect(0, 0, size * 1.9, size * 1.9);
-        drawAreasAndSections(sectionsAndAreasCtx);
+        if (gauge.isRenderCacheEnabled() && !highlightSections && !highlightAreas) {
+            RenderCache.draw(sectionsAndAreasCanvas, "QuarterSkin.sectionsAndAreas", RenderCache.sectionsStyle(gauge), ctx -> drawAreasAndSections(ctx));
+        } else {
+            sectionsAndAreasCtx.clearRect(0, 0, size * 1.9, size * 1.9);
+            drawAreasAndSections(sectionsAndAreasCtx);
+        }
 
         tickMarkCanvas.setCache(false);
-        tickMarkCtx.clearRect(0, 0, size * 1.9, size * 1.9);
-        if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
-            drawGradientBar();
+        if (gauge.isRenderCacheEnabled()) {
+            RenderCache.draw(tickMarkCanvas, "QuarterSkin.tickMarks", RenderCache.scaleStyle(gauge), ctx -> drawScale());
+        } else {
+            tickMarkCtx.clearRect(0, 0, size * 1.9, size * 1.9);
+            drawScale();
         }
-        drawTickMarks();
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
@@ -137,7 +137,7 @@ public class RoundLcdClockSkin extends ClockSkinBase {
         if ("VISIBILITY".equals(EVENT_TYPE)) {
 
         } else if ("SECTION".equals(EVENT_TYPE)) {
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
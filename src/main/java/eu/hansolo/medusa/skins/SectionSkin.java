@@ -91,7 +91,7 @@ public class SectionSkin extends GaugeSkinBase {
         minValue             = gauge.getMinValue();
         maxValue             = gauge.getMaxValue();
         sectionListener      = c -> handleEvents("RESIZE");
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -138,7 +138,7 @@ public class SectionSkin extends GaugeSkinBase {
         needle.setStroke(null);
         needle.getTransforms().setAll(needleRotate);
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getMinValue()) + gauge.getUnit());
+        valueText = new Text(formatNumber(gauge, gauge.getMinValue()) + gauge.getUnit());
         valueText.setMouseTransparent(true);
         valueText.setTextOrigin(VPos.CENTER);
         valueText.setFill(gauge.getValueColor());
@@ -168,8 +168,7 @@ public class SectionSkin extends GaugeSkinBase {
         if ("FINISHED".equals(EVENT_TYPE)) {
             if (gauge.getCheckSectionsForValue()) {
                 double currentValue = gauge.getCurrentValue();
-                int listSize = sections.size();
-                for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(currentValue); }
+                gauge.getSectionIndex().checkForValue(currentValue);
             }
             // Highlight Sections if enabled
             if (highlightSections) {
@@ -185,8 +184,7 @@ public class SectionSkin extends GaugeSkinBase {
         } else if ("SECTION".equals(EVENT_TYPE)) {
             sections          = gauge.getSections();
             highlightSections = gauge.isHighlightSections();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
@@ -204,7 +202,7 @@ public class SectionSkin extends GaugeSkinBase {
     private void rotateNeedle(final double VALUE) {
         double targetAngle = 180 - START_ANGLE + (VALUE - gauge.getMinValue()) * angleStep;
         needleRotate.setAngle(Helper.clamp(180 - START_ANGLE, 180 - START_ANGLE + ANGLE_RANGE, targetAngle));
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE) + gauge.getUnit());
+        valueText.setText(formatNumber(gauge, VALUE) + gauge.getUnit());
         valueText.setTranslateX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
         if (valueText.getLayoutBounds().getWidth() > 0.395 * size) { resizeText(); }
     }
@@ -320,7 +318,7 @@ public class SectionSkin extends GaugeSkinBase {
         double fontSize = size * 0.1;
         valueText.setFont(Fonts.robotoMedium(fontSize));
         double maxWidth = 0.395 * size;
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
         valueText.setTranslateX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
         valueText.setTranslateY(size * 0.68);
 
@@ -379,7 +377,7 @@ public class SectionSkin extends GaugeSkinBase {
             needleRotate.setPivotY(needle.getLayoutBounds().getMaxY());
 
             double currentValue = (needleRotate.getAngle() + START_ANGLE - 180) / angleStep + gauge.getMinValue();
-            valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()) + gauge.getUnit());
+            valueText.setText(formatNumber(gauge, gauge.getCurrentValue()) + gauge.getUnit());
             valueText.setVisible(gauge.isValueVisible());
 
             titleText.setText(gauge.getTitle());
@@ -388,6 +386,8 @@ public class SectionSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         sectionsVisible = gauge.getSectionsVisible();
         drawSections();
@@ -93,7 +93,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         thresholdVisible     = gauge.isThresholdVisible();
         thresholdColor       = gauge.getThresholdColor();
         decimalListener      = o -> handleEvents("DECIMALS");
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -166,8 +166,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
             Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
             sectionsVisible  = gauge.getSectionsVisible();
             thresholdVisible = gauge.isThresholdVisible();
-            resize();
-            redraw();
+            invalidateLayout();
         }
     }
 
@@ -225,7 +224,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
                 }
             }
         }
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         valueText.setLayoutX(valueBkgText.getLayoutBounds().getMaxX() - valueText.getLayoutBounds().getWidth());
     }
 
@@ -318,6 +317,8 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
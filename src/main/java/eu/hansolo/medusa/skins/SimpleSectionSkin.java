@@ -61,7 +61,7 @@ public class SimpleSectionSkin extends GaugeSkinBase {
         if (gauge.isAutoScale()) gauge.calcAutoScale();
         sections             = gauge.getSections();
         decimalListener      = o -> handleEvents("DECIMALS");
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -189,7 +189,7 @@ public class SimpleSectionSkin extends GaugeSkinBase {
             }
         }
 
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         valueText.setLayoutX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
 
     }
@@ -246,7 +246,7 @@ public class SimpleSectionSkin extends GaugeSkinBase {
         double fontFactor = -0.035 * ( Math.max(1, gauge.getDecimals() ) - 1 ) + 0.2556391;
         double fontSize = size * fontFactor;
         valueText.setFont(Fonts.latoLight(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
         valueText.relocate((size - valueText.getLayoutBounds().getWidth()) * 0.5, (size - valueText.getLayoutBounds().getHeight()) * 0.5);
     }
     private void resizeStaticText() {
@@ -290,6 +290,8 @@ public class SimpleSectionSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         drawBackground();
         setBar(gauge.getCurrentValue());
@@ -93,7 +93,7 @@ public class SimpleSkin extends GaugeSkinBase {
         minValue             = gauge.getMinValue();
         maxValue             = gauge.getMaxValue();
         sectionListener      = c -> handleEvents("RESIZE");
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -138,7 +138,7 @@ public class SimpleSkin extends GaugeSkinBase {
         needle.setStrokeLineCap(StrokeLineCap.ROUND);
         needle.setStrokeLineJoin(StrokeLineJoin.BEVEL);
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getMinValue()) + gauge.getUnit());
+        valueText = new Text(formatNumber(gauge, gauge.getMinValue()) + gauge.getUnit());
         valueText.setMouseTransparent(true);
         valueText.setTextOrigin(VPos.CENTER);
         valueText.setFill(gauge.getValueColor());
@@ -173,8 +173,7 @@ public class SimpleSkin extends GaugeSkinBase {
         if ("FINISHED".equals(EVENT_TYPE)) {
             if (gauge.getCheckSectionsForValue()) {
                 double currentValue = gauge.getCurrentValue();
-                int listSize = sections.size();
-                for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(currentValue); }
+                gauge.getSectionIndex().checkForValue(currentValue);
             }
             // Highlight Sections if enabled
             if (highlightSections) {
@@ -190,8 +189,7 @@ public class SimpleSkin extends GaugeSkinBase {
         } else if ("SECTION".equals(EVENT_TYPE)) {
             sections          = gauge.getSections();
             highlightSections = gauge.isHighlightSections();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
             enableNode(valueText, gauge.isValueVisible());
             enableNode(titleText, !gauge.getTitle().isEmpty());
@@ -210,7 +208,7 @@ public class SimpleSkin extends GaugeSkinBase {
     private void rotateNeedle(final double VALUE) {
         double targetAngle = 180 - START_ANGLE + (VALUE - gauge.getMinValue()) * angleStep;
         needleRotate.setAngle(Helper.clamp(180 - START_ANGLE, 180 - START_ANGLE + ANGLE_RANGE, targetAngle));
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE) + gauge.getUnit());
+        valueText.setText(formatNumber(gauge, VALUE) + gauge.getUnit());
         valueText.setTranslateX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
         if (valueText.getLayoutBounds().getWidth() > 0.395 * size) { resizeText(); }
     }
@@ -301,7 +299,7 @@ public class SimpleSkin extends GaugeSkinBase {
         double fontSize = size * 0.25;
         double maxWidth = 0.35 * size;
         valueText.setFont(Fonts.robotoMedium(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
         valueText.setTranslateX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
         valueText.setTranslateY(size * (titleText.getText().isEmpty() ? 0.5 : 0.46));
 
@@ -369,7 +367,7 @@ public class SimpleSkin extends GaugeSkinBase {
             needleRotate.setPivotY(size * 0.5);
 
             double currentValue = (needleRotate.getAngle() + START_ANGLE - 180) / angleStep + gauge.getMinValue();
-            valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), currentValue) + gauge.getUnit());
+            valueText.setText(formatNumber(gauge, currentValue) + gauge.getUnit());
             valueText.setVisible(gauge.isValueVisible());
 
             titleText.setText(gauge.getTitle());
@@ -378,6 +376,8 @@ public class SimpleSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         enableNode(sectionsCanvas, gauge.getSectionsVisible());
         needle.setFill(gauge.getNeedleColor());
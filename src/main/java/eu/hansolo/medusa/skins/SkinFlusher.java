@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.skins;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.Arrays;
+
+
+/**
+ * One AnimationTimer that flushes the invalidated layers of all gauge and
+ * clock skins once per pulse. In contrast to Parent.requestLayout() this
+ * doesn't touch the parents of a skin, so a wall of gauges won't lay out
+ * its containers on every frame. Flushes that will be scheduled while the
+ * scheduled flushes are running will be done on the next pulse. The timer
+ * will stop itself if no flush is scheduled anymore.
+ * Must only be used on the JavaFX application thread.
+ */
+final class SkinFlusher extends AnimationTimer {
+    private static final int INITIAL_CAPACITY = 16;
+    private Runnable[]       scheduled;
+    private int              size;
+    private Runnable[]       flushing;
+    private boolean          running;
+
+
+    // ******************** Constructors **************************************
+    private SkinFlusher() {
+        scheduled = new Runnable[INITIAL_CAPACITY];
+        flushing  = new Runnable[INITIAL_CAPACITY];
+        size      = 0;
+        running   = false;
+    }
+
+    static SkinFlusher getInstance() { return InstanceHolder.INSTANCE; }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Runs the given flush on the next pulse
+     *
+     * @param FLUSH
+     */
+    void schedule(final Runnable FLUSH) {
+        if (size == scheduled.length) { scheduled = Arrays.copyOf(scheduled, size * 2); }
+        scheduled[size++] = FLUSH;
+        if (!running) {
+            running = true;
+            start();
+        }
+    }
+
+    @Override public void handle(final long NOW) {
+        // Swap the buffers so that flushes scheduled by a flush end up in the next pulse
+        final Runnable[] FLUSHES = scheduled;
+        final int        COUNT   = size;
+        scheduled = flushing;
+        flushing  = FLUSHES;
+        size      = 0;
+        for (int i = 0 ; i < COUNT ; i++) {
+            final Runnable FLUSH = FLUSHES[i];
+            FLUSHES[i] = null;
+            FLUSH.run();
+        }
+        if (0 == size) {
+            running = false;
+            stop();
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class InstanceHolder {
+        private static final SkinFlusher INSTANCE = new SkinFlusher();
+    }
+}
@@ -162,11 +162,11 @@ public class SlimClockSkin extends ClockSkinBase {
         }
 
         hour.setText(HOUR_FORMATTER.format(TIME));
-        Helper.adjustTextSize(hour, 0.4 * size, 0.328 * size);
+        Helper.adjustTextSize(hour, 0.4 * size, 0.328 * size, false);
         hour.relocate(0.136 * size, (size - hour.getLayoutBounds().getHeight()) * 0.5);
 
         minute.setText(MINUTE_FORMATTER.format(TIME));
-        Helper.adjustTextSize(minute, 0.4 * size, 0.328 * size);
+        Helper.adjustTextSize(minute, 0.4 * size, 0.328 * size, false);
         minute.relocate(0.544 * size, (size - minute.getLayoutBounds().getHeight()) * 0.5);
 
         if (secondBackgroundCircle.isVisible()) {
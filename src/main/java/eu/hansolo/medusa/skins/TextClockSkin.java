@@ -115,7 +115,7 @@ public class TextClockSkin extends ClockSkinBase {
         if ("VISIBILITY".equals(EVENT_TYPE)) {
 
         } else if ("SECTION".equals(EVENT_TYPE)) {
-            redraw();
+            invalidateStaticLayer();
         }
     }
 
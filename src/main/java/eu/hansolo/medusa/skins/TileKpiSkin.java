@@ -114,7 +114,7 @@ public class TileKpiSkin extends GaugeSkinBase {
         highlightSections    = gauge.isHighlightSections();
         sections             = gauge.getSections();
         sectionMap           = new HashMap<>(sections.size());
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
         for(Section section : sections) { sectionMap.put(section, new Arc()); }
 
         initGraphics();
@@ -255,7 +255,7 @@ public class TileKpiSkin extends GaugeSkinBase {
         targetAngle = Helper.clamp(-needleStartAngle, -needleStartAngle + angleRange, targetAngle);
         needleRotate.setAngle(targetAngle);
         needleRectRotate.setAngle(targetAngle);
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         thresholdRect.setFill(VALUE > threshold ? thresholdColor : GRAY);
         resizeDynamicText();
         highlightSections(VALUE);
@@ -444,7 +444,7 @@ public class TileKpiSkin extends GaugeSkinBase {
         double maxWidth = unitText.isManaged() ? size * 0.725 : size * 0.9;
         double fontSize = size * 0.24;
         valueText.setFont(Fonts.latoRegular(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
 
         maxWidth = size * 0.15;
         fontSize = size * 0.06;
@@ -573,6 +573,8 @@ public class TileKpiSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(size * 0.025), new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), new CornerRadii(size * 0.025), Insets.EMPTY)));
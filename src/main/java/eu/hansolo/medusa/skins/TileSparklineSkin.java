@@ -19,7 +19,7 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.tools.Helper;
-import eu.hansolo.medusa.tools.Statistics;
+import eu.hansolo.medusa.tools.SlidingWindow;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
@@ -42,11 +42,7 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.scene.text.Text;
-import javafx.util.Pair;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 
@@ -67,7 +63,11 @@ public class TileSparklineSkin extends GaugeSkinBase {
     private              Text                 lowText;
     private              Text                 subTitleText;
     private              Rectangle            graphBounds;
-    private              List<PathElement>    pathElements;
+    private              PathElement[]        lineElements;
+    private              PathElement[]        curveElements;
+    private              boolean              smoothed;
+    private              boolean              shiftable;
+    private              int                  shift;
     private              Path                 sparkLine;
     private              Circle               dot;
     private              Rectangle            stdDeviationArea;
@@ -82,7 +82,17 @@ public class TileSparklineSkin extends GaugeSkinBase {
     private              String               formatString;
     private              Locale               locale;
     private              int                  noOfDatapoints;
-    private              List<Double>         dataList;
+    private              SlidingWindow        data;
+    private              double[]             x;
+    private              double[]             y;
+    private              double[]             p1x;
+    private              double[]             p2x;
+    private              double[]             p1y;
+    private              double[]             p2y;
+    private              double[]             a;
+    private              double[]             b;
+    private              double[]             c;
+    private              double[]             r;
     private              InvalidationListener currentValueListener;
     private              InvalidationListener averagingListener;
 
@@ -100,13 +110,12 @@ public class TileSparklineSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale               = gauge.getLocale();
         noOfDatapoints       = gauge.getAveragingPeriod();
-        dataList             = new LinkedList<>();
         currentValueListener = o -> handleEvents("VALUE");
         averagingListener    = o -> handleEvents("AVERAGING_PERIOD");
-        for (int i = 0; i < noOfDatapoints; i++) { dataList.add(minValue); }
 
         // To get smooth lines in the chart we need at least 4 values
         if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
+        data                 = new SlidingWindow(noOfDatapoints, minValue);
 
         initGraphics();
         registerListeners();
@@ -163,12 +172,10 @@ public class TileSparklineSkin extends GaugeSkinBase {
         averageLine.getStrokeDashArray().addAll(PREFERRED_WIDTH * 0.005, PREFERRED_WIDTH * 0.005);
         Helper.enableNode(averageLine, gauge.isAverageVisible());
 
-        pathElements = new ArrayList<>(noOfDatapoints);
-        pathElements.add(0, new MoveTo());
-        for (int i = 1 ; i < noOfDatapoints ; i++) { pathElements.add(i, new LineTo()); }
+        initPathElements();
 
         sparkLine = new Path();
-        sparkLine.getElements().addAll(pathElements);
+        sparkLine.getElements().setAll(lineElements);
         sparkLine.setFill(null);
         sparkLine.setStroke(gauge.getBarColor());
         sparkLine.setStrokeWidth(PREFERRED_WIDTH * 0.0075);
@@ -185,6 +192,31 @@ public class TileSparklineSkin extends GaugeSkinBase {
         getChildren().setAll(pane);
     }
 
+    private void initPathElements() {
+        lineElements  = new PathElement[noOfDatapoints];
+        curveElements = new PathElement[noOfDatapoints];
+        lineElements[0]  = new MoveTo();
+        curveElements[0] = new MoveTo();
+        for (int i = 1 ; i < noOfDatapoints ; i++) {
+            lineElements[i]  = new LineTo();
+            curveElements[i] = new CubicCurveTo();
+        }
+        smoothed  = false;
+        shiftable = false;
+        shift     = 0;
+
+        x   = new double[noOfDatapoints];
+        y   = new double[noOfDatapoints];
+        p1x = new double[noOfDatapoints - 1];
+        p2x = new double[noOfDatapoints - 1];
+        p1y = new double[noOfDatapoints - 1];
+        p2y = new double[noOfDatapoints - 1];
+        a   = new double[noOfDatapoints - 1];
+        b   = new double[noOfDatapoints - 1];
+        c   = new double[noOfDatapoints - 1];
+        r   = new double[noOfDatapoints - 1];
+    }
+
     @Override protected void registerListeners() {
         super.registerListeners();
         gauge.currentValueProperty().addListener(currentValueListener);
@@ -199,7 +231,7 @@ public class TileSparklineSkin extends GaugeSkinBase {
             minValue = gauge.getMinValue();
             maxValue = gauge.getMaxValue();
             range    = gauge.getRange();
-            redraw();
+            invalidateStaticLayer();
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
             Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
             Helper.enableNode(valueText, gauge.isValueVisible());
@@ -208,7 +240,7 @@ public class TileSparklineSkin extends GaugeSkinBase {
             Helper.enableNode(averageLine, gauge.isAverageVisible());
             Helper.enableNode(averageText, gauge.isAverageVisible());
             Helper.enableNode(stdDeviationArea, gauge.isAverageVisible());
-            redraw();
+            invalidateStaticLayer();
         } else if ("SECTION".equals(EVENT_TYPE)) {
 
         } else if ("ALERT".equals(EVENT_TYPE)) {
@@ -218,33 +250,28 @@ public class TileSparklineSkin extends GaugeSkinBase {
             if (!gauge.isAveragingEnabled()) { gauge.setAveragingEnabled(true); }
             double value = clamp(minValue, maxValue, gauge.getValue());
             addData(value);
-            drawChart(value);
+            drawChart(value, true);
         } else if ("AVERAGING_PERIOD".equals(EVENT_TYPE)) {
             noOfDatapoints = gauge.getAveragingPeriod();
             // To get smooth lines in the chart we need at least 4 values
             if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
-            for (int i = 0; i < noOfDatapoints; i++) { dataList.add(minValue); }
-            pathElements.clear();
-            pathElements.add(0, new MoveTo());
-            for (int i = 1 ; i < noOfDatapoints ; i++) { pathElements.add(i, new LineTo()); }
-            sparkLine.getElements().setAll(pathElements);
-            redraw();
+            data.setCapacity(noOfDatapoints, minValue);
+            initPathElements();
+            sparkLine.getElements().setAll(lineElements);
+            invalidateStaticLayer();
         }
     }
 
     private void addData(final double VALUE) {
-        if (dataList.size() <= noOfDatapoints) {
-            Collections.rotate(dataList, -1);
-            dataList.set((noOfDatapoints - 1), VALUE);
-        } else {
-            dataList.add(VALUE);
-        }
-        stdDeviation = Statistics.getStdDev(dataList);
+        data.add(VALUE);
+        stdDeviation = data.getStdDev();
     }
 
-    private void drawChart(final double VALUE) {
-        low  = Statistics.getMin(dataList);
-        high = Statistics.getMax(dataList);
+    private void drawChart(final double VALUE, final boolean ADDED) {
+        final double LAST_LOW  = low;
+        final double LAST_HIGH = high;
+        low  = data.getMin();
+        high = data.getMax();
         if (Double.compare(low, high) == 0) {
             low  = minValue;
             high = maxValue;
@@ -258,24 +285,42 @@ public class TileSparklineSkin extends GaugeSkinBase {
         double stepX = graphBounds.getWidth() / (noOfDatapoints - 1);
         double stepY = graphBounds.getHeight() / range;
 
-        if (gauge.isSmoothing()) {
-            smooth(dataList);
+        final int LAST = noOfDatapoints - 1;
+        if (ADDED && shiftable && shift < LAST && !gauge.isSmoothing() && Double.compare(low, LAST_LOW) == 0 && Double.compare(high, LAST_HIGH) == 0) {
+            // The scale didn't change, so the line will be moved one step to the left and only gets a new last point
+            y[LAST] = maxY - Math.abs(low - data.get(LAST)) * stepY;
+            shiftLine(minX + (LAST + shift + 1) * stepX, y[LAST], stepX);
         } else {
-            MoveTo begin = (MoveTo) pathElements.get(0);
-            begin.setX(minX);
-            begin.setY(maxY - Math.abs(low - dataList.get(0)) * stepY);
-            for (int i = 1; i < (noOfDatapoints - 1); i++) {
-                LineTo lineTo = (LineTo) pathElements.get(i);
-                lineTo.setX(minX + i * stepX);
-                lineTo.setY(maxY - Math.abs(low - dataList.get(i)) * stepY);
+            // The elements of the path are kept and only their coordinates will be updated
+            for (int i = 0 ; i < noOfDatapoints ; i++) {
+                x[i] = i == LAST ? maxX : minX + i * stepX;
+                y[i] = maxY - Math.abs(low - data.get(i)) * stepY;
+            }
+            shift = 0;
+            sparkLine.setTranslateX(0);
+            if (gauge.isSmoothing()) {
+                // Each control point depends on all values, so the whole curve has to be updated
+                smooth();
+                shiftable = false;
+            } else {
+                if (smoothed) {
+                    sparkLine.getElements().setAll(lineElements);
+                    smoothed = false;
+                }
+                final List<PathElement> ELEMENTS = sparkLine.getElements();
+                MoveTo begin = (MoveTo) ELEMENTS.get(0);
+                begin.setX(x[0]);
+                begin.setY(y[0]);
+                for (int i = 1 ; i < noOfDatapoints ; i++) {
+                    LineTo lineTo = (LineTo) ELEMENTS.get(i);
+                    lineTo.setX(x[i]);
+                    lineTo.setY(y[i]);
+                }
+                shiftable = true;
             }
-            LineTo end = (LineTo) pathElements.get(noOfDatapoints - 1);
-            end.setX(maxX);
-            end.setY(maxY - Math.abs(low - dataList.get(noOfDatapoints - 1)) * stepY);
-
-            dot.setCenterX(maxX);
-            dot.setCenterY(end.getY());
         }
+        dot.setCenterX(maxX);
+        dot.setCenterY(y[LAST]);
 
         double average = gauge.getAverage();
         double averageY = clamp(minY, maxY, maxY - Math.abs(low - average) * stepY);
@@ -288,7 +333,7 @@ public class TileSparklineSkin extends GaugeSkinBase {
         stdDeviationArea.setY(averageLine.getStartY() - (stdDeviation * 0.5 * stepY));
         stdDeviationArea.setHeight(stdDeviation * stepY);
 
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         averageText.setText(String.format(locale, formatString, average));
 
         highText.setText(String.format(locale, formatString, high));
@@ -296,6 +341,24 @@ public class TileSparklineSkin extends GaugeSkinBase {
         resizeDynamicText();
     }
 
+    /**
+     * Removes the first point of the line and appends a point with the
+     * given coordinates. The line will be translated by one step to the
+     * left instead of updating the x coordinates of all points.
+     */
+    private void shiftLine(final double X, final double Y, final double STEP_X) {
+        final List<PathElement> ELEMENTS = sparkLine.getElements();
+        final LineTo            SECOND   = (LineTo) ELEMENTS.remove(1);
+        final MoveTo            BEGIN    = (MoveTo) ELEMENTS.get(0);
+        BEGIN.setX(SECOND.getX());
+        BEGIN.setY(SECOND.getY());
+        SECOND.setX(X);
+        SECOND.setY(Y);
+        ELEMENTS.add(SECOND);
+        shift++;
+        sparkLine.setTranslateX(-shift * STEP_X);
+    }
+
     @Override public void dispose() {
         gauge.currentValueProperty().removeListener(currentValueListener);
         gauge.averagingPeriodProperty().removeListener(averagingListener);
@@ -304,13 +367,21 @@ public class TileSparklineSkin extends GaugeSkinBase {
 
 
     // ******************** Smoothing *****************************************
-    public void smooth(final List<Double> DATA_LIST) {
-        int      size = DATA_LIST.size();
-        double[] x    = new double[size];
-        double[] y    = new double[size];
-
-        low  = Statistics.getMin(DATA_LIST);
-        high = Statistics.getMax(DATA_LIST);
+    /**
+     * Draws the last values of the given list as a smoothed line
+     *
+     * @param DATA_LIST
+     * @deprecated the chart is drawn from the values of the gauge, this method will be removed in a future release
+     */
+    @Deprecated public void smooth(final List<Double> DATA_LIST) {
+        final int START = DATA_LIST.size() - noOfDatapoints;
+        low  = Double.MAX_VALUE;
+        high = -Double.MAX_VALUE;
+        for (int i = 0 ; i < noOfDatapoints ; i++) {
+            y[i] = START + i < 0 ? minValue : DATA_LIST.get(START + i);
+            low  = Math.min(low, y[i]);
+            high = Math.max(high, y[i]);
+        }
         if (Double.compare(low, high) == 0) {
             low  = minValue;
             high = maxValue;
@@ -319,37 +390,43 @@ public class TileSparklineSkin extends GaugeSkinBase {
 
         double minX  = graphBounds.getX();
         double maxX  = minX + graphBounds.getWidth();
-        double minY  = graphBounds.getY();
-        double maxY  = minY + graphBounds.getHeight();
+        double maxY  = graphBounds.getY() + graphBounds.getHeight();
         double stepX = graphBounds.getWidth() / (noOfDatapoints - 1);
         double stepY = graphBounds.getHeight() / range;
-
-        for (int i = 0 ; i < size ; i++) {
-            x[i] = minX + i * stepX;
-            y[i] = maxY - Math.abs(low - DATA_LIST.get(i)) * stepY;
-        }
-
-        Pair<Double[], Double[]> px = computeControlPoints(x);
-        Pair<Double[], Double[]> py = computeControlPoints(y);
-
-        sparkLine.getElements().clear();
-        for (int i = 0 ; i < size - 1 ; i++) {
-            sparkLine.getElements().add(new MoveTo(x[i], y[i]));
-            sparkLine.getElements().add(new CubicCurveTo(px.getKey()[i], py.getKey()[i], px.getValue()[i], py.getValue()[i], x[i + 1], y[i + 1]));
+        for (int i = 0 ; i < noOfDatapoints ; i++) {
+            x[i] = i == noOfDatapoints - 1 ? maxX : minX + i * stepX;
+            y[i] = maxY - Math.abs(low - y[i]) * stepY;
         }
+        shift     = 0;
+        shiftable = false;
+        sparkLine.setTranslateX(0);
+        smooth();
         dot.setCenterX(maxX);
-        dot.setCenterY(y[size - 1]);
+        dot.setCenterY(y[noOfDatapoints - 1]);
     }
-    private Pair<Double[], Double[]> computeControlPoints(final double[] K) {
-        int      n  = K.length - 1;
-        Double[] p1 = new Double[n];
-        Double[] p2 = new Double[n];
-
-	    /*rhs vector*/
-        double[] a = new double[n];
-        double[] b = new double[n];
-        double[] c = new double[n];
-        double[] r = new double[n];
+    private void smooth() {
+        if (!smoothed) {
+            sparkLine.getElements().setAll(curveElements);
+            smoothed = true;
+        }
+        computeControlPoints(x, p1x, p2x);
+        computeControlPoints(y, p1y, p2y);
+
+        MoveTo begin = (MoveTo) curveElements[0];
+        begin.setX(x[0]);
+        begin.setY(y[0]);
+        for (int i = 1 ; i < noOfDatapoints ; i++) {
+            CubicCurveTo curveTo = (CubicCurveTo) curveElements[i];
+            curveTo.setControlX1(p1x[i - 1]);
+            curveTo.setControlY1(p1y[i - 1]);
+            curveTo.setControlX2(p2x[i - 1]);
+            curveTo.setControlY2(p2y[i - 1]);
+            curveTo.setX(x[i]);
+            curveTo.setY(y[i]);
+        }
+    }
+    private void computeControlPoints(final double[] K, final double[] P1, final double[] P2) {
+        int n = K.length - 1;
 
 	    /*left most segment*/
         a[0] = 0;
@@ -378,13 +455,11 @@ public class TileSparklineSkin extends GaugeSkinBase {
             r[i] = r[i] - m * r[i - 1];
         }
 
-        p1[n-1] = r[n-1] / b[n-1];
-        for (int i = n - 2; i >= 0; --i) { p1[i] = (r[i] - c[i] * p1[i + 1]) / b[i]; }
-
-        for (int i = 0 ; i < n - 1 ; i++) { p2[i] = 2 * K[i + 1] - p1[i + 1]; }
-        p2[n - 1] = 0.5 * (K[n] + p1[n - 1]);
+        P1[n-1] = r[n-1] / b[n-1];
+        for (int i = n - 2; i >= 0; --i) { P1[i] = (r[i] - c[i] * P1[i + 1]) / b[i]; }
 
-        return new Pair<>(p1, p2);
+        for (int i = 0 ; i < n - 1 ; i++) { P2[i] = 2 * K[i + 1] - P1[i + 1]; }
+        P2[n - 1] = 0.5 * (K[n] + P1[n - 1]);
     }
 
 
@@ -393,7 +468,7 @@ public class TileSparklineSkin extends GaugeSkinBase {
         double maxWidth = unitText.isManaged() ? size * 0.725 : size * 0.9;
         double fontSize = size * 0.24;
         valueText.setFont(Fonts.latoRegular(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
         if (unitText.isVisible()) {
             valueText.relocate(size * 0.925 - valueText.getLayoutBounds().getWidth() - unitText.getLayoutBounds().getWidth(), size * 0.15);
         } else {
@@ -458,7 +533,7 @@ public class TileSparklineSkin extends GaugeSkinBase {
 
             averageLine.getStrokeDashArray().setAll(graphBounds.getWidth() * 0.01, graphBounds.getWidth() * 0.01);
 
-            drawChart(gauge.getValue());
+            drawChart(gauge.getValue(), false);
             sparkLine.setStrokeWidth(size * 0.01);
             dot.setRadius(size * 0.014);
 
@@ -84,7 +84,7 @@ public class TileTextKpiSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         sectionsVisible      = gauge.getSectionsVisible();
         barColor             = gauge.getBarColor();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -163,7 +163,7 @@ public class TileTextKpiSkin extends GaugeSkinBase {
             maxValue = gauge.getMaxValue();
             range    = gauge.getRange();
             stepSize = size / range;
-            redraw();
+            invalidateStaticLayer();
         } else if ("VISIBLITY".equals(EVENT_TYPE)) {
             Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
             Helper.enableNode(valueText, gauge.isValueVisible());
@@ -176,7 +176,7 @@ public class TileTextKpiSkin extends GaugeSkinBase {
     private void setBar(final double VALUE) {
         double targetValue = (clamp(minValue, maxValue, VALUE) - minValue) * stepSize;
         bar.setWidth(targetValue);
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         percentageText.setText(String.format(locale, formatString, ((VALUE - minValue) / range * 100)));
         maxValueRect.setFill(VALUE > maxValue ? barColor : gauge.getThresholdColor());
         resizeDynamicText();
@@ -207,7 +207,7 @@ public class TileTextKpiSkin extends GaugeSkinBase {
         double maxWidth = unitText.isVisible() ? size * 0.725 : size * 0.9;
         double fontSize = 0.24 * size;
         valueText.setFont(Fonts.latoRegular(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
         /*
         if (unitText.isVisible()) {
             valueText.relocate(size * 0.925 - valueText.getLayoutBounds().getWidth() - unitText.getLayoutBounds().getWidth(), size * 0.15);
@@ -234,7 +234,7 @@ public class TileTextKpiSkin extends GaugeSkinBase {
         maxWidth = size * 0.45;
         fontSize = size * 0.18;
         percentageText.setFont(Fonts.latoRegular(fontSize));
-        if (percentageText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(percentageText, maxWidth, fontSize); }
+        if (percentageText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(percentageText, maxWidth, fontSize, false); }
         percentageText.relocate(size * 0.05, size * 0.695);
 
         maxWidth = size * 0.1;
@@ -299,6 +299,8 @@ public class TileTextKpiSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(size * 0.025), new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), new CornerRadii(size * 0.025), Insets.EMPTY)));
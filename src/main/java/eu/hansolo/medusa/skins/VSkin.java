@@ -28,6 +28,7 @@ import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.RenderCache;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -168,7 +169,7 @@ public class VSkin extends GaugeSkinBase {
         tickLabelLocation    = gauge.getTickLabelLocation();
         scaleDirection       = gauge.getScaleDirection();
         mouseHandler         = event -> handleMouseEvent(event);
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
         markerListener       = c -> {
             updateMarkers();
             redraw();
@@ -259,7 +260,7 @@ public class VSkin extends GaugeSkinBase {
         unitText.setMouseTransparent(true);
         Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setMouseTransparent(true);
         valueText.setTextOrigin(VPos.CENTER);
         valueText.setMouseTransparent(true);
@@ -303,14 +304,12 @@ public class VSkin extends GaugeSkinBase {
             double currentValue = gauge.getCurrentValue();
             // eu.hansolo.medusa.Check sections for value and fire section events
             if (gauge.getCheckSectionsForValue()) {
-                int listSize = sections.size();
-                for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(currentValue); }
+                gauge.getSectionIndex().checkForValue(currentValue);
             }
 
             // eu.hansolo.medusa.Check areas for value and fire section events
             if (gauge.getCheckAreasForValue()) {
-                int listSize = areas.size();
-                for (int i = 0 ; i < listSize ; i++) { areas.get(i).checkForValue(currentValue); }
+                gauge.getAreaIndex().checkForValue(currentValue);
             }
 
             // Highlight Sections and/or Areas if enabled
@@ -329,8 +328,7 @@ public class VSkin extends GaugeSkinBase {
             Helper.enableNode(average, gauge.isAverageVisible());
             boolean markersVisible = gauge.getMarkersVisible();
             for (Shape shape : markerMap.values()) { Helper.enableNode(shape, markersVisible); }
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("LED".equals(EVENT_TYPE)) {
             if (gauge.isLedVisible()) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
@@ -353,8 +351,7 @@ public class VSkin extends GaugeSkinBase {
             areas             = gauge.getAreas();
             highlightAreas    = gauge.isHighlightAreas();
             areasVisible      = gauge.getAreasVisible();
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("INTERACTIVITY".equals(EVENT_TYPE)) {
             if (gauge.isInteractive()) {
                 knobCanvas.setOnMousePressed(mouseHandler);
@@ -416,7 +413,7 @@ public class VSkin extends GaugeSkinBase {
             targetAngle = Helper.clamp(startOffsetAngle - angleRange, startOffsetAngle, targetAngle);
         }
         needleRotate.setAngle(targetAngle);
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         valueText.setTranslateX(Pos.CENTER_LEFT == gauge.getKnobPosition() ?
                                 width * 0.6 - valueText.getLayoutBounds().getWidth() :
                                 width * 0.9 - valueText.getLayoutBounds().getWidth());
@@ -449,6 +446,13 @@ public class VSkin extends GaugeSkinBase {
         tickMarkCtx.restore();
     }
 
+    private void drawScale() {
+        if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
+            drawGradientBar();
+        }
+        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.9, height * 0.5, height * 0.9);
+    }
+
     private void drawAreasAndSections(final GraphicsContext CTX) {
         if (areas.isEmpty() && sections.isEmpty()) return;
 
@@ -777,9 +781,19 @@ public class VSkin extends GaugeSkinBase {
 
     private void drawKnob(final boolean PRESSED) {
         knobCanvas.setCache(false);
+        if (gauge.isRenderCacheEnabled()) {
+            RenderCache.draw(knobCanvas, "VSkin.knob", RenderCache.style(gauge.getKnobType(), gauge.getKnobColor(), PRESSED), ctx -> paintKnob(PRESSED));
+        } else {
+            knobCtx.clearRect(0, 0, knobCanvas.getWidth(), knobCanvas.getHeight());
+            paintKnob(PRESSED);
+        }
+        knobCanvas.setCache(true);
+        knobCanvas.setCacheHint(CacheHint.QUALITY);
+    }
+
+    private void paintKnob(final boolean PRESSED) {
         double w = knobCanvas.getWidth();
         double h = knobCanvas.getHeight();
-        knobCtx.clearRect(0, 0, w, h);
 
         Color  knobColor = gauge.getKnobColor();
         double hue       = knobColor.getHue();
@@ -897,8 +911,6 @@ public class VSkin extends GaugeSkinBase {
                 knobCtx.fillOval(width * 0.005, width * 0.005, w - width * 0.01, h - width * 0.01);
                 break;
         }
-        knobCanvas.setCache(true);
-        knobCanvas.setCacheHint(CacheHint.QUALITY);
     }
 
     private void resizeText() {
@@ -1079,6 +1091,8 @@ public class VSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { rotateNeedle(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
@@ -1093,15 +1107,20 @@ public class VSkin extends GaugeSkinBase {
         scaleDirection    = gauge.getScaleDirection();
         areasVisible      = gauge.getAreasVisible();
         sectionsVisible   = gauge.getSectionsVisible();
-        sectionsAndAreasCtx.clearRect(0, 0, height, height);
-        drawAreasAndSections(sectionsAndAreasCtx);
+        if (gauge.isRenderCacheEnabled() && !highlightSections && !highlightAreas) {
+            RenderCache.draw(sectionsAndAreasCanvas, "VSkin.sectionsAndAreas", RenderCache.sectionsStyle(gauge), ctx -> drawAreasAndSections(ctx));
+        } else {
+            sectionsAndAreasCtx.clearRect(0, 0, height, height);
+            drawAreasAndSections(sectionsAndAreasCtx);
+        }
 
         tickMarkCanvas.setCache(false);
-        tickMarkCtx.clearRect(0, 0, height, height);
-        if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
-            drawGradientBar();
+        if (gauge.isRenderCacheEnabled()) {
+            RenderCache.draw(tickMarkCanvas, "VSkin.tickMarks", RenderCache.scaleStyle(gauge), ctx -> drawScale());
+        } else {
+            tickMarkCtx.clearRect(0, 0, height, height);
+            drawScale();
         }
-        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.9, height * 0.5, height * 0.9);
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
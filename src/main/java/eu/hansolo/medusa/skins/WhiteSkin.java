@@ -71,7 +71,7 @@ public class WhiteSkin extends GaugeSkinBase {
         minValue             = gauge.getMinValue();
         range                = gauge.getRange();
         angleStep            = ANGLE_RANGE / range;
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = o -> invalidateDynamicLayer();
 
         initGraphics();
         registerListeners();
@@ -95,7 +95,7 @@ public class WhiteSkin extends GaugeSkinBase {
         shadow     = new DropShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 12, 0, 3, 3);
         textShadow = new DropShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 4, 0, 2, 2);
 
-        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText = new Text(formatNumber(gauge, gauge.getCurrentValue()));
         valueText.setFill(Color.WHITE);
         valueText.setFont(Fonts.robotoBold(PREFERRED_WIDTH * 0.20625));
         valueText.setTextOrigin(VPos.CENTER);
@@ -152,10 +152,9 @@ public class WhiteSkin extends GaugeSkinBase {
     // ******************** Methods *******************************************
     @Override protected void handleEvents(final String EVENT_TYPE) {
         if ("RESIZE".equals(EVENT_TYPE)) {
-            resize();
-            redraw();
+            invalidateLayout();
         } else if ("REDRAW".equals(EVENT_TYPE)) {
-            redraw();
+            invalidateStaticLayer();
         } else if ("RECALC".equals(EVENT_TYPE)) {
             minValue  = gauge.getMinValue();
             range     = gauge.getRange();
@@ -174,7 +173,7 @@ public class WhiteSkin extends GaugeSkinBase {
         } else {
             bar.setLength(-VALUE * angleStep);
         }
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(formatNumber(gauge, VALUE));
         resizeValueText();
     }
 
@@ -189,7 +188,7 @@ public class WhiteSkin extends GaugeSkinBase {
         double maxWidth = 0.5 * size;
         double fontSize = 0.20625 * size;
         valueText.setFont(Fonts.robotoBold(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
+        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize, false); }
         valueText.relocate((size - valueText.getLayoutBounds().getWidth()) * 0.5, (size - valueText.getLayoutBounds().getHeight()) * (unitText.getText().isEmpty() ? 0.5 : 0.42));
     }
     private void resizeUnitText() {
@@ -265,6 +264,8 @@ public class WhiteSkin extends GaugeSkinBase {
         }
     }
 
+    @Override protected void updateDynamicLayer() { setBar(gauge.getCurrentValue()); }
+
     @Override protected void redraw() {
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
@@ -17,11 +17,10 @@
 package eu.hansolo.medusa.tools;
 
 import eu.hansolo.medusa.Gauge.ScaleDirection;
-import javafx.animation.Interpolator;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.image.Image;
-import javafx.scene.image.PixelWriter;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
@@ -30,21 +29,29 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.Shape;
 
 import java.math.BigDecimal;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.stream.IntStream;
 
 
 /**
  * Created by hansolo on 21.12.15.
  */
 public class ConicalGradient {
-    private static final double ANGLE_FACTOR = 1.0 / 360.0;
+    private static final double ANGLE_FACTOR       = 1.0 / 360.0;
+    private static final int    MAX_CACHED_RASTERS = 16;
+    private static final Map<RasterKey, WritableImage> RASTER_CACHE = Collections.synchronizedMap(new LinkedHashMap<RasterKey, WritableImage>(MAX_CACHED_RASTERS, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<RasterKey, WritableImage> ELDEST) { return size() > MAX_CACHED_RASTERS; }
+    });
     private double              centerX;
     private double              centerY;
     private List<Stop>          sortedStops;
@@ -114,34 +121,9 @@ public class ConicalGradient {
 
         if (rectRaster != null && width == rectRaster.getWidth() && height == rectRaster.getHeight()) return rectRaster;
 
-        Color color = Color.TRANSPARENT;
-        rectRaster  = new WritableImage(width, height);
-        final PixelWriter PIXEL_WRITER = rectRaster.getPixelWriter();
         if (Double.compare(0.0, centerX) == 0) centerX = width * 0.5;
         if (Double.compare(0.0, centerY) == 0) centerY = height * 0.5;
-
-        int calculatedStopsLength = sortedStops.size() - 1;
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                double dx       = x - centerX;
-                double dy       = y - centerY;
-                double distance = Math.sqrt((dx * dx) + (dy * dy));
-                distance = Double.compare(distance, 0) == 0 ? 1 : distance;
-
-                double angle = adjustAngle(dx, dy, Math.abs(Math.toDegrees(Math.acos(dx / distance))));
-
-                for (int i = 0; i < calculatedStopsLength; i++) {
-                    double offsetI      = (sortedStops.get(i).getOffset() * 360.0);
-                    double offsetIPlus1 = (sortedStops.get(i + 1).getOffset() * 360.0);
-                    if (Double.compare(angle, offsetI) >= 0 &&
-                        Double.compare(angle, offsetIPlus1) < 0) {
-                        double fraction = (angle - offsetI) / (offsetIPlus1 - offsetI);
-                        color = (Color) Interpolator.LINEAR.interpolate(sortedStops.get(i).getColor(), sortedStops.get(i + 1).getColor(), fraction);
-                    }
-                }
-                PIXEL_WRITER.setColor(x, y, color);
-            }
-        }
+        rectRaster = getRaster(false, width, height);
         return rectRaster;
     }
     public Image getRoundImage(final double SIZE) {
@@ -149,50 +131,101 @@ public class ConicalGradient {
 
         if (roundRaster != null && size == roundRaster.getWidth()) return roundRaster;
 
-        Color color = Color.TRANSPARENT;
-        roundRaster = new WritableImage(size, size);
-        final PixelWriter   PIXEL_WRITER = roundRaster.getPixelWriter();
         if (Double.compare(0.0, centerX) == 0) centerX = size * 0.5;
         if (Double.compare(0.0, centerY) == 0) centerY = size * 0.5;
-        double radius                = size * 0.5;
-        int    calculatedStopsLength = sortedStops.size() - 1;
-        for (int y = 0; y < size; y++) {
-            for (int x = 0; x < size; x++) {
-                double dx       = x - centerX;
-                double dy       = y - centerY;
+        roundRaster = getRaster(true, size, size);
+        return roundRaster;
+    }
+
+    /**
+     * Removes all rasterized images from the cache that is shared by
+     * all conical gradients.
+     */
+    public static void clearCache() { RASTER_CACHE.clear(); }
+
+    private WritableImage getRaster(final boolean ROUND, final int WIDTH, final int HEIGHT) {
+        final RasterKey     KEY    = new RasterKey(ROUND, WIDTH, HEIGHT, centerX, centerY, sortedStops);
+        final WritableImage CACHED = RASTER_CACHE.get(KEY);
+        if (null != CACHED) return CACHED;
+
+        final int[]         PIXELS = rasterize(ROUND, WIDTH, HEIGHT);
+        final WritableImage RASTER = new WritableImage(WIDTH, HEIGHT);
+        RASTER.getPixelWriter().setPixels(0, 0, WIDTH, HEIGHT, PixelFormat.getIntArgbInstance(), IntBuffer.wrap(PIXELS), WIDTH);
+        RASTER_CACHE.put(KEY, RASTER);
+        return RASTER;
+    }
+
+    /**
+     * Computes the ARGB values of all pixels. The rows will be computed
+     * in parallel on the common fork join pool.
+     */
+    private int[] rasterize(final boolean ROUND, final int WIDTH, final int HEIGHT) {
+        final int      NO_OF_STOPS = sortedStops.size();
+        final double[] OFFSETS     = new double[NO_OF_STOPS];
+        final double[] REDS        = new double[NO_OF_STOPS];
+        final double[] GREENS      = new double[NO_OF_STOPS];
+        final double[] BLUES       = new double[NO_OF_STOPS];
+        final double[] OPACITIES   = new double[NO_OF_STOPS];
+        for (int i = 0 ; i < NO_OF_STOPS ; i++) {
+            Stop stop    = sortedStops.get(i);
+            OFFSETS[i]   = stop.getOffset() * 360.0;
+            REDS[i]      = stop.getColor().getRed();
+            GREENS[i]    = stop.getColor().getGreen();
+            BLUES[i]     = stop.getColor().getBlue();
+            OPACITIES[i] = stop.getColor().getOpacity();
+        }
+        final double CENTER_X = centerX;
+        final double CENTER_Y = centerY;
+        final double RADIUS   = WIDTH * 0.5;
+        final int[]  PIXELS   = new int[WIDTH * HEIGHT];
+
+        IntStream.range(0, HEIGHT).parallel().forEach(y -> {
+            int argb = 0x00000000;
+            for (int x = 0 ; x < WIDTH ; x++) {
+                double dx       = x - CENTER_X;
+                double dy       = y - CENTER_Y;
                 double distance = Math.sqrt((dx * dx) + (dy * dy));
                 distance = Double.compare(distance, 0) == 0 ? 1 : distance;
 
-                double angle         = adjustAngle(dx, dy, Math.abs(Math.toDegrees(Math.acos(dx / distance))));
-                double radiusMinus05 = radius - 0.25;
-                double radiusMinus10 = radius - 0.5;
-                double radiusMinus15 = radius - 1.0;
-                double radiusMinus20 = radius - 1.5;
-
-                if (distance > radius) {
-                    color = Color.TRANSPARENT;
+                if (ROUND && distance > RADIUS) {
+                    argb = 0x00000000;
                 } else {
-                    for (int i = 0; i < calculatedStopsLength; i++) {
-                        if (angle >= (sortedStops.get(i).getOffset() * 360) && angle < (sortedStops.get(i + 1).getOffset() * 360)) {
-                            double fraction = (angle - sortedStops.get(i).getOffset() * 360) / ((sortedStops.get(i + 1).getOffset() - sortedStops.get(i).getOffset()) * 360);
-                            color = (Color) Interpolator.LINEAR.interpolate(sortedStops.get(i).getColor(), sortedStops.get(i + 1).getColor(), fraction);
-
-                            if (distance > radiusMinus05) {
-                                color = color.deriveColor(0.0, 1.0, 1.0, 0.25);
-                            } else if (distance > radiusMinus10) {
-                                color = color.deriveColor(0.0, 1.0, 1.0, 0.45);
-                            } else if (distance > radiusMinus15) {
-                                color = color.deriveColor(0.0, 1.0, 1.0, 0.65);
-                            } else if (distance > radiusMinus20) {
-                                color = color.deriveColor(0.0, 1.0, 1.0, 0.85);
+                    double angle = adjustAngle(dx, dy, Math.abs(Math.toDegrees(Math.acos(dx / distance))));
+                    for (int i = 0 ; i < NO_OF_STOPS - 1 ; i++) {
+                        if (Double.compare(angle, OFFSETS[i]) >= 0 && Double.compare(angle, OFFSETS[i + 1]) < 0) {
+                            double fraction = (angle - OFFSETS[i]) / (OFFSETS[i + 1] - OFFSETS[i]);
+                            double opacity  = OPACITIES[i] + (OPACITIES[i + 1] - OPACITIES[i]) * fraction;
+                            if (ROUND) {
+                                // Antialiasing of the border
+                                if (distance > RADIUS - 0.25) {
+                                    opacity *= 0.25;
+                                } else if (distance > RADIUS - 0.5) {
+                                    opacity *= 0.45;
+                                } else if (distance > RADIUS - 1.0) {
+                                    opacity *= 0.65;
+                                } else if (distance > RADIUS - 1.5) {
+                                    opacity *= 0.85;
+                                }
                             }
+                            argb = toArgb(REDS[i]   + (REDS[i + 1]   - REDS[i])   * fraction,
+                                          GREENS[i] + (GREENS[i + 1] - GREENS[i]) * fraction,
+                                          BLUES[i]  + (BLUES[i + 1]  - BLUES[i])  * fraction,
+                                          opacity);
+                            break;
                         }
                     }
                 }
-                PIXEL_WRITER.setColor(x, y, color);
+                PIXELS[y * WIDTH + x] = argb;
             }
-        }
-        return roundRaster;
+        });
+        return PIXELS;
+    }
+
+    private static int toArgb(final double RED, final double GREEN, final double BLUE, final double OPACITY) {
+        return ((int) Math.round(Helper.clamp(0.0, 1.0, OPACITY) * 255) << 24) |
+               ((int) Math.round(Helper.clamp(0.0, 1.0, RED)     * 255) << 16) |
+               ((int) Math.round(Helper.clamp(0.0, 1.0, GREEN)   * 255) << 8)  |
+                (int) Math.round(Helper.clamp(0.0, 1.0, BLUE)    * 255);
     }
 
     public ImagePattern apply(final Shape SHAPE) {
@@ -218,7 +251,7 @@ public class ConicalGradient {
         return new ImagePattern(getImage(width, height), x, y, width, height, false);
     }
 
-    private double adjustAngle(final double DX, final double DY, double angle) {
+    private static double adjustAngle(final double DX, final double DY, double angle) {
         if (Double.compare(DX, 0) >= 0 && Double.compare(DY, 0) <= 0) {
             angle = 90.0 - angle;   // Upper Right Quadrant
         } else if (Double.compare(DX, 0) >= 0 && Double.compare(DY, 0) >= 0) {
@@ -303,4 +336,37 @@ public class ConicalGradient {
         }
         return sortedStops;
     }
+
+
+    // ******************** Inner Classes *************************************
+    private static class RasterKey {
+        private final boolean    round;
+        private final int        width;
+        private final int        height;
+        private final double     centerX;
+        private final double     centerY;
+        private final List<Stop> stops;
+        private final int        hashCode;
+
+        RasterKey(final boolean ROUND, final int WIDTH, final int HEIGHT, final double CENTER_X, final double CENTER_Y, final List<Stop> STOPS) {
+            round    = ROUND;
+            width    = WIDTH;
+            height   = HEIGHT;
+            centerX  = CENTER_X;
+            centerY  = CENTER_Y;
+            stops    = new ArrayList<>(STOPS);
+            hashCode = Objects.hash(ROUND, WIDTH, HEIGHT, CENTER_X, CENTER_Y, stops);
+        }
+
+        @Override public boolean equals(final Object OBJECT) {
+            if (this == OBJECT) return true;
+            if (!(OBJECT instanceof RasterKey)) return false;
+            RasterKey key = (RasterKey) OBJECT;
+            return round == key.round && width == key.width && height == key.height &&
+                   Double.compare(centerX, key.centerX) == 0 && Double.compare(centerY, key.centerY) == 0 &&
+                   stops.equals(key.stops);
+        }
+
+        @Override public int hashCode() { return hashCode; }
+    }
 }
@@ -0,0 +1,1169 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.KnobType;
+import eu.hansolo.medusa.Gauge.NeedleBehavior;
+import eu.hansolo.medusa.Gauge.NeedleShape;
+import eu.hansolo.medusa.Gauge.NeedleSize;
+import eu.hansolo.medusa.Gauge.NeedleType;
+import eu.hansolo.medusa.Gauge.ScaleDirection;
+import eu.hansolo.medusa.Marker;
+import eu.hansolo.medusa.Marker.MarkerType;
+import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.TickLabelLocation;
+import eu.hansolo.medusa.TickLabelOrientation;
+import eu.hansolo.medusa.TickMarkType;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.Stop;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.LinearGradientPaint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+
+/**
+ * Renders gauges into ARGB pixel buffers or PNG images without JavaFX.
+ * JavaFX can only rasterize a scene graph or a Canvas on the JavaFX
+ * application thread, so the drawing routines of the canvas based skins
+ * are implemented here again with Java2D. Because of that a renderer can
+ * be used on any thread (also with -Djava.awt.headless=true and without
+ * a running JavaFX toolkit) and many images can be rendered in parallel.
+ * At the moment the SIMPLE_SECTION and the GAUGE skin are supported,
+ * clocks and the other skins are not. The GAUGE skin is rendered with
+ * areas, sections, the scale (LINE, DOT, BOX and PILL tick marks, other
+ * tick mark types are drawn as LINE), markers, the threshold, the texts,
+ * the STANDARD needle in all shapes and behaviors and the STANDARD or
+ * FLAT knob. The geometry is shared with the GaugeSkin by the
+ * RadialGaugeGeometry. The LED, the LCD, the gradient bar, the average,
+ * highlighted sections and areas and the other needle types can't be
+ * rendered, Spec.of(Gauge) rejects gauges that use them and a GAUGE
+ * renderer rejects the PLAIN and METAL knob. Shadows are not rendered.
+ * The configuration will be copied when the renderer is created and
+ * everything that doesn't depend on the value will be rendered once and
+ * reused for each image.
+ */
+public class GaugeRenderer {
+    private static final Font    LATO_LIGHT               = loadFont("/eu/hansolo/medusa/Lato-Lig.otf");
+    private static final Font    LATO_BOLD                = loadFont("/eu/hansolo/medusa/Lato-Bol.otf");
+    private static final Font    ROBOTO_REGULAR           = loadFont("/eu/hansolo/medusa/Roboto-Regular.ttf");
+    private static final Font    ROBOTO_MEDIUM            = loadFont("/eu/hansolo/medusa/Roboto-Medium.ttf");
+    private static final Font    ROBOTO_CONDENSED_REGULAR = loadFont("/eu/hansolo/medusa/RobotoCondensed-Regular.ttf");
+    private static final Font    ROBOTO_CONDENSED_BOLD    = loadFont("/eu/hansolo/medusa/RobotoCondensed-Bold.ttf");
+    private        final int     size;
+    private        final Painter painter;
+    private        final int[]   staticLayer;
+
+
+    // ******************** Constructors **************************************
+    public GaugeRenderer(final Spec SPEC, final int SIZE) {
+        if (SIZE < 1) throw new IllegalArgumentException("Size must be at least 1");
+        size = SIZE;
+        switch (SPEC.skinType) {
+            case SIMPLE_SECTION: painter = new SimpleSectionPainter(SPEC, SIZE); break;
+            case GAUGE         : painter = new GaugePainter(SPEC, SIZE); break;
+            default            : throw new IllegalArgumentException("Skin type " + SPEC.skinType + " is not supported");
+        }
+        staticLayer = renderStaticLayer();
+    }
+
+
+    // ******************** Methods *******************************************
+    public int getSize() { return size; }
+
+    /**
+     * Returns an image of the gauge with the given value
+     *
+     * @param VALUE
+     * @return an image of the gauge with the given value
+     */
+    public BufferedImage renderImage(final double VALUE) {
+        final BufferedImage IMAGE = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        final int[]         DATA  = ((DataBufferInt) IMAGE.getRaster().getDataBuffer()).getData();
+        System.arraycopy(staticLayer, 0, DATA, 0, DATA.length);
+
+        final Graphics2D CTX = createGraphics(IMAGE);
+        painter.paintValue(CTX, VALUE);
+        CTX.dispose();
+        return IMAGE;
+    }
+
+    /**
+     * Returns the pixels of an image of the gauge with the given value as
+     * non premultiplied ARGB values (row by row, size * size values).
+     *
+     * @param VALUE
+     * @return the ARGB pixels of an image of the gauge with the given value
+     */
+    public int[] renderArgb(final double VALUE) {
+        return ((DataBufferInt) renderImage(VALUE).getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Returns a PNG image of the gauge with the given value
+     *
+     * @param VALUE
+     * @return a PNG image of the gauge with the given value
+     */
+    public byte[] renderPng(final double VALUE) {
+        final ByteArrayOutputStream OUT = new ByteArrayOutputStream(size * size / 4);
+        try {
+            ImageIO.write(renderImage(VALUE), "png", OUT);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return OUT.toByteArray();
+    }
+
+    /**
+     * Renders the ARGB pixels of one image per given value in parallel
+     * on the worker threads of the common fork join pool.
+     *
+     * @param VALUES
+     * @return the ARGB pixels of one image per value
+     */
+    public int[][] renderAllArgb(final double[] VALUES) {
+        final int[][] RESULT = new int[VALUES.length][];
+        IntStream.range(0, VALUES.length).parallel().forEach(i -> RESULT[i] = renderArgb(VALUES[i]));
+        return RESULT;
+    }
+
+    /**
+     * Renders one PNG image per given value in parallel on the worker
+     * threads of the common fork join pool.
+     *
+     * @param VALUES
+     * @return one PNG image per value
+     */
+    public byte[][] renderAllPng(final double[] VALUES) {
+        final byte[][] RESULT = new byte[VALUES.length][];
+        IntStream.range(0, VALUES.length).parallel().forEach(i -> RESULT[i] = renderPng(VALUES[i]));
+        return RESULT;
+    }
+
+    private int[] renderStaticLayer() {
+        final BufferedImage IMAGE = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D    CTX   = createGraphics(IMAGE);
+        painter.paintStatic(CTX);
+        CTX.dispose();
+        return ((DataBufferInt) IMAGE.getRaster().getDataBuffer()).getData();
+    }
+
+    // Draws the given text horizontally centered, with its top at the given y or vertically centered if Y < 0
+    private static void drawText(final Graphics2D CTX, final String TEXT, final Font FONT, final java.awt.Color COLOR, final double SIZE, final double Y) {
+        final FontRenderContext FRC     = CTX.getFontRenderContext();
+        final LineMetrics       METRICS = FONT.getLineMetrics(TEXT, FRC);
+        final double            WIDTH   = FONT.getStringBounds(TEXT, FRC).getWidth();
+        final double            HEIGHT  = METRICS.getAscent() + METRICS.getDescent();
+        final double            TOP     = Y < 0 ? (SIZE - HEIGHT) * 0.5 : Y;
+        CTX.setFont(FONT);
+        CTX.setColor(COLOR);
+        CTX.drawString(TEXT, (float) ((SIZE - WIDTH) * 0.5), (float) (TOP + METRICS.getAscent()));
+    }
+
+    // Draws the given text centered at the given point like TextAlignment.CENTER and VPos.CENTER
+    private static void drawCenteredText(final Graphics2D CTX, final String TEXT, final Font FONT, final java.awt.Color COLOR, final double X, final double Y) {
+        final FontRenderContext FRC     = CTX.getFontRenderContext();
+        final LineMetrics       METRICS = FONT.getLineMetrics(TEXT, FRC);
+        final double            WIDTH   = FONT.getStringBounds(TEXT, FRC).getWidth();
+        CTX.setFont(FONT);
+        CTX.setColor(COLOR);
+        CTX.drawString(TEXT, (float) (X - WIDTH * 0.5), (float) (Y + (METRICS.getAscent() - METRICS.getDescent()) * 0.5));
+    }
+
+    // Shrinks the font until the text fits into the given width like Helper.adjustTextSize()
+    private static Font fitFont(final Font FONT, final String TEXT, final double MAX_WIDTH, final FontRenderContext FRC) {
+        final double WIDTH = FONT.getStringBounds(TEXT, FRC).getWidth();
+        if (WIDTH <= MAX_WIDTH) return FONT;
+        // With fractional metrics the width is proportional to the font size
+        return FONT.deriveFont((float) Math.max(0.05, Math.floor(FONT.getSize2D() * MAX_WIDTH / WIDTH / 0.05) * 0.05));
+    }
+
+    private static Graphics2D createGraphics(final BufferedImage IMAGE) {
+        final Graphics2D CTX = IMAGE.createGraphics();
+        CTX.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        CTX.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        CTX.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        CTX.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        return CTX;
+    }
+
+    // Returns the color of the first section that contains the given value or the given default color
+    private static java.awt.Color getColorAt(final double VALUE, final double[] STARTS, final double[] STOPS, final java.awt.Color[] COLORS, final java.awt.Color DEFAULT_COLOR) {
+        for (int i = 0 ; i < STARTS.length ; i++) {
+            if (Double.compare(VALUE, STARTS[i]) >= 0 && Double.compare(VALUE, STOPS[i]) <= 0) { return COLORS[i]; }
+        }
+        return DEFAULT_COLOR;
+    }
+
+    // Each worker thread gets its own formatter so that the synchronized ValueFormatter.format() won't be contended
+    private static ThreadLocal<ValueFormatter> createFormatter(final Locale LOCALE, final String FORMAT_STRING, final int DECIMALS) {
+        return ThreadLocal.withInitial(() -> new ValueFormatter(LOCALE, FORMAT_STRING, DECIMALS));
+    }
+
+    // AWT needs strictly increasing fractions, so stops at the same offset will be moved a little
+    private static LinearGradientPaint toAwt(final double START_X, final double START_Y, final double END_X, final double END_Y, final Stop[] STOPS) {
+        final float[]          FRACTIONS = new float[STOPS.length];
+        final java.awt.Color[] COLORS    = new java.awt.Color[STOPS.length];
+        for (int i = 0 ; i < STOPS.length ; i++) {
+            final float FRACTION = (float) STOPS[i].getOffset();
+            FRACTIONS[i] = i > 0 && FRACTION <= FRACTIONS[i - 1] ? Math.nextUp(FRACTIONS[i - 1]) : FRACTION;
+            COLORS[i]    = toAwt(STOPS[i].getColor());
+        }
+        return new LinearGradientPaint((float) START_X, (float) START_Y, (float) END_X, (float) END_Y, FRACTIONS, COLORS);
+    }
+
+    private static java.awt.Color toAwt(final Color COLOR) {
+        if (null == COLOR) return new java.awt.Color(0, 0, 0, 0);
+        return new java.awt.Color((float) COLOR.getRed(), (float) COLOR.getGreen(), (float) COLOR.getBlue(), (float) COLOR.getOpacity());
+    }
+
+    private static Color toColor(final Paint PAINT) { return PAINT instanceof Color ? (Color) PAINT : Color.TRANSPARENT; }
+
+    private static Font loadFont(final String RESOURCE) {
+        try (InputStream stream = GaugeRenderer.class.getResourceAsStream(RESOURCE)) {
+            if (null != stream) { return Font.createFont(Font.TRUETYPE_FONT, stream); }
+        } catch (Exception exception) { }
+        return new Font(Font.SANS_SERIF, Font.PLAIN, 10);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private interface Painter {
+        /**
+         * Paints everything that doesn't depend on the value
+         */
+        void paintStatic(Graphics2D CTX);
+
+        /**
+         * Paints everything that depends on the given value on top of the static layer
+         */
+        void paintValue(Graphics2D CTX, double VALUE);
+    }
+
+
+    /**
+     * Draws the layout of the SimpleSectionSkin
+     */
+    private static class SimpleSectionPainter implements Painter {
+        private static final double                      ANGLE_RANGE = 300;
+        private        final int                         size;
+        private        final double                      minValue;
+        private        final double                      maxValue;
+        private        final double                      startAngle;
+        private        final double                      angleStep;
+        private        final ScaleDirection              scaleDirection;
+        private        final boolean                     startFromZero;
+        private        final boolean                     sectionsVisible;
+        private        final double[]                    sectionStarts;
+        private        final double[]                    sectionStops;
+        private        final java.awt.Color[]            sectionColors;
+        private        final java.awt.Color              barColor;
+        private        final java.awt.Color              barBackgroundColor;
+        private        final java.awt.Color              titleColor;
+        private        final java.awt.Color              valueColor;
+        private        final java.awt.Color              unitColor;
+        private        final boolean                     valueVisible;
+        private        final String                      title;
+        private        final String                      unit;
+        private        final ThreadLocal<ValueFormatter> formatter;
+        private        final Font                        valueFont;
+
+        SimpleSectionPainter(final Spec SPEC, final int SIZE) {
+            size               = SIZE;
+            minValue           = SPEC.minValue;
+            maxValue           = SPEC.maxValue;
+            startAngle         = SPEC.startAngle;
+            angleStep          = SPEC.angleRange / (SPEC.maxValue - SPEC.minValue);
+            scaleDirection     = SPEC.scaleDirection;
+            startFromZero      = SPEC.startFromZero;
+            sectionsVisible    = SPEC.sectionsVisible;
+            sectionStarts      = new double[SPEC.sections.size()];
+            sectionStops       = new double[SPEC.sections.size()];
+            sectionColors      = new java.awt.Color[SPEC.sections.size()];
+            for (int i = 0 ; i < sectionStarts.length ; i++) {
+                Section section  = SPEC.sections.get(i);
+                sectionStarts[i] = section.getStart();
+                sectionStops[i]  = section.getStop();
+                sectionColors[i] = toAwt(section.getColor());
+            }
+            barColor           = toAwt(SPEC.barColor);
+            barBackgroundColor = toAwt(SPEC.barBackgroundColor);
+            titleColor         = toAwt(SPEC.titleColor);
+            valueColor         = toAwt(SPEC.valueColor);
+            unitColor          = toAwt(SPEC.unitColor);
+            valueVisible       = SPEC.valueVisible;
+            title              = null == SPEC.title ? "" : SPEC.title;
+            unit               = null == SPEC.unit ? "" : SPEC.unit;
+            formatter          = createFormatter(SPEC.locale, "%." + SPEC.decimals + "f", SPEC.decimals);
+            valueFont          = LATO_LIGHT.deriveFont((float) (SIZE * (-0.035 * (Math.max(1, SPEC.decimals) - 1) + 0.2556391)));
+        }
+
+        @Override public void paintStatic(final Graphics2D CTX) {
+            // Bar background
+            CTX.setStroke(new BasicStroke((float) (size * 0.125), BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
+            CTX.setColor(barBackgroundColor);
+            CTX.draw(new Arc2D.Double(size * 0.1, size * 0.1, size * 0.8, size * 0.8, startAngle + 150, ANGLE_RANGE, Arc2D.OPEN));
+
+            // Sections
+            if (sectionsVisible && sectionStarts.length > 0) {
+                double xy = 0.012 * size;
+                double wh = size * 0.976;
+                CTX.setStroke(new BasicStroke((float) (size * 0.025), BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
+                for (int i = 0 ; i < sectionStarts.length ; i++) {
+                    double start = sectionStarts[i];
+                    double stop  = sectionStops[i];
+                    if (!RadialGaugeGeometry.isInRange(start, stop, minValue, maxValue)) continue;
+                    double sectionStartAngle  = RadialGaugeGeometry.getSectionStartAngle(start, stop, minValue, maxValue, angleStep, scaleDirection);
+                    double sectionAngleExtend = RadialGaugeGeometry.getSectionAngleExtend(start, stop, minValue, maxValue, angleStep, scaleDirection);
+                    CTX.setColor(sectionColors[i]);
+                    CTX.draw(new Arc2D.Double(xy, xy, wh, wh, -(120 + sectionStartAngle), -sectionAngleExtend, Arc2D.OPEN));
+                }
+            }
+
+            // Title and unit
+            final FontRenderContext FRC         = CTX.getFontRenderContext();
+            final Font              STATIC_FONT = LATO_BOLD.deriveFont((float) (size * 0.08082707));
+            if (!title.isEmpty()) { drawText(CTX, title, fitFont(STATIC_FONT, title, size * 0.35, FRC), titleColor, size, size * 0.22180451); }
+            if (valueVisible && !unit.isEmpty()) { drawText(CTX, unit, fitFont(STATIC_FONT, unit, size * 0.35, FRC), unitColor, size, size * 0.68984962); }
+        }
+
+        @Override public void paintValue(final Graphics2D CTX, final double VALUE) {
+            // Value text
+            if (valueVisible) {
+                final String            TEXT = formatter.get().format(VALUE);
+                final FontRenderContext FRC  = CTX.getFontRenderContext();
+                drawText(CTX, TEXT, fitFont(valueFont, TEXT, size * 0.86466165, FRC), valueColor, size, -1);
+            }
+            // Bar
+            CTX.setStroke(new BasicStroke((float) (size * 0.125), BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
+            CTX.setColor(getBarColor(VALUE));
+            CTX.draw(new Arc2D.Double(size * 0.1, size * 0.1, size * 0.8, size * 0.8, getBarStart(VALUE), getBarLength(VALUE), Arc2D.OPEN));
+        }
+
+        private double getBarStart(final double VALUE) {
+            if (!startFromZero) return startAngle + 90;
+            if ((VALUE > minValue || minValue < 0) && (VALUE < maxValue || maxValue > 0)) {
+                if (maxValue < 0) {
+                    return startAngle + 90 - ANGLE_RANGE;
+                } else if (minValue > 0) {
+                    return startAngle + 90;
+                } else {
+                    return startAngle + 90 + minValue * angleStep;
+                }
+            }
+            return 0;
+        }
+
+        private double getBarLength(final double VALUE) {
+            final double CLAMPED_VALUE = Helper.clamp(minValue, maxValue, VALUE);
+            if (!startFromZero) return (minValue - CLAMPED_VALUE) * angleStep;
+            if ((VALUE > minValue || minValue < 0) && (VALUE < maxValue || maxValue > 0)) {
+                if (maxValue < 0) {
+                    return (maxValue - CLAMPED_VALUE) * angleStep;
+                } else if (minValue > 0) {
+                    return (minValue - CLAMPED_VALUE) * angleStep;
+                } else {
+                    return -CLAMPED_VALUE * angleStep;
+                }
+            }
+            return 0;
+        }
+
+        private java.awt.Color getBarColor(final double VALUE) {
+            return sectionsVisible ? GaugeRenderer.getColorAt(VALUE, sectionStarts, sectionStops, sectionColors, barColor) : barColor;
+        }
+    }
+
+
+    /**
+     * Draws the layout of the GaugeSkin. Everything will be copied from the
+     * spec into final fields, so the painter doesn't see later changes of
+     * the spec or of its sections and markers while the worker threads
+     * are painting.
+     */
+    private static class GaugePainter implements Painter {
+        private static final double                      PREFERRED_WIDTH = 250;
+        private static final int                         MAJOR           = 0;
+        private static final int                         MEDIUM          = 1;
+        private static final int                         MINOR           = 2;
+        private        final int                         size;
+        private        final double                      center;
+        private        final double                      minValue;
+        private        final double                      maxValue;
+        private        final double                      startAngle;
+        private        final double                      angleRange;
+        private        final double                      angleStep;
+        private        final ScaleDirection              scaleDirection;
+        private        final NeedleBehavior              needleBehavior;
+        private        final TickLabelLocation           tickLabelLocation;
+        private        final TickLabelOrientation        tickLabelOrientation;
+        private        final TickMarkGeometry            geometry;
+        private        final java.awt.Color              backgroundColor;
+        private        final java.awt.Color              borderColor;
+        private        final double                      borderWidth;
+        private        final boolean                     areasVisible;
+        private        final double[]                    areaStarts;
+        private        final double[]                    areaStops;
+        private        final java.awt.Color[]            areaColors;
+        private        final boolean                     sectionsVisible;
+        private        final double[]                    sectionStarts;
+        private        final double[]                    sectionStops;
+        private        final java.awt.Color[]            sectionColors;
+        private        final boolean                     tickMarkRingVisible;
+        private        final java.awt.Color              tickMarkColor;
+        private        final boolean                     tickMarkSectionsVisible;
+        private        final double[]                    tickMarkSectionStarts;
+        private        final double[]                    tickMarkSectionStops;
+        private        final java.awt.Color[]            tickMarkSectionColors;
+        private        final boolean[]                   tickMarksVisible;
+        private        final TickMarkType[]              tickMarkTypes;
+        private        final java.awt.Color[]            tickMarkColors;
+        private        final double[]                    tickMarkLengthFactors;
+        private        final double[]                    tickMarkWidthFactors;
+        private        final boolean                     tickLabelsVisible;
+        private        final boolean                     onlyFirstAndLastTickLabelVisible;
+        private        final java.awt.Color              tickLabelColor;
+        private        final java.awt.Color              zeroColor;
+        private        final int                         tickLabelDecimals;
+        private        final boolean                     tickLabelSectionsVisible;
+        private        final double[]                    tickLabelSectionStarts;
+        private        final double[]                    tickLabelSectionStops;
+        private        final java.awt.Color[]            tickLabelSectionColors;
+        private        final String[]                    customTickLabels;
+        private        final double                      customTickLabelFontSize;
+        private        final boolean                     markersVisible;
+        private        final double[]                    markerValues;
+        private        final MarkerType[]                markerTypes;
+        private        final java.awt.Color[]            markerColors;
+        private        final java.awt.Color[]            markerStrokeColors;
+        private        final boolean                     thresholdVisible;
+        private        final double                      threshold;
+        private        final java.awt.Color              thresholdColor;
+        private        final String                      title;
+        private        final String                      subTitle;
+        private        final String                      unit;
+        private        final java.awt.Color              titleColor;
+        private        final java.awt.Color              subTitleColor;
+        private        final java.awt.Color              unitColor;
+        private        final Locale                      locale;
+        private        final boolean                     valueVisible;
+        private        final java.awt.Color              valueColor;
+        private        final Font                        valueFont;
+        private        final ThreadLocal<ValueFormatter> formatter;
+        private        final Path2D                      needle;
+        private        final java.awt.Paint              needlePaint;
+        private        final java.awt.Color              needleBorderColor;
+        private        final float                       needleBorderWidth;
+        private        final double                      needleWidth;
+        private        final double                      needleHeight;
+        private        final boolean                     knobVisible;
+        private        final KnobType                    knobType;
+        private        final java.awt.Paint              knobFramePaint;
+        private        final java.awt.Paint              knobPaint;
+
+        GaugePainter(final Spec SPEC, final int SIZE) {
+            if (SPEC.knobVisible && (KnobType.PLAIN == SPEC.knobType || KnobType.METAL == SPEC.knobType)) {
+                throw new IllegalArgumentException("Knob type " + SPEC.knobType + " is not supported");
+            }
+            size                 = SIZE;
+            center               = SIZE * 0.5;
+            minValue             = SPEC.minValue;
+            maxValue             = SPEC.maxValue;
+            startAngle           = SPEC.startAngle;
+            angleRange           = SPEC.angleRange;
+            angleStep            = SPEC.angleRange / (SPEC.maxValue - SPEC.minValue);
+            scaleDirection       = SPEC.scaleDirection;
+            needleBehavior       = SPEC.needleBehavior;
+            tickLabelLocation    = SPEC.tickLabelLocation;
+            tickLabelOrientation = SPEC.tickLabelOrientation;
+            geometry             = new TickMarkGeometry(minValue, maxValue, startAngle, angleRange, angleStep, SPEC.minorTickSpace, SPEC.majorTickSpace, scaleDirection);
+            backgroundColor      = toAwt(SPEC.backgroundColor);
+            borderColor          = toAwt(SPEC.borderColor);
+            borderWidth          = SPEC.borderWidth;
+
+            // Areas and sections
+            areasVisible            = SPEC.areasVisible;
+            areaStarts              = new double[SPEC.areas.size()];
+            areaStops               = new double[SPEC.areas.size()];
+            areaColors              = new java.awt.Color[SPEC.areas.size()];
+            copySections(SPEC.areas, areaStarts, areaStops, areaColors);
+            sectionsVisible         = SPEC.sectionsVisible;
+            sectionStarts           = new double[SPEC.sections.size()];
+            sectionStops            = new double[SPEC.sections.size()];
+            sectionColors           = new java.awt.Color[SPEC.sections.size()];
+            copySections(SPEC.sections, sectionStarts, sectionStops, sectionColors);
+
+            // Tick marks
+            tickMarkRingVisible     = SPEC.tickMarkRingVisible;
+            tickMarkColor           = toAwt(SPEC.tickMarkColor);
+            tickMarkSectionsVisible = SPEC.tickMarkSectionsVisible;
+            tickMarkSectionStarts   = new double[SPEC.tickMarkSections.size()];
+            tickMarkSectionStops    = new double[SPEC.tickMarkSections.size()];
+            tickMarkSectionColors   = new java.awt.Color[SPEC.tickMarkSections.size()];
+            copySections(SPEC.tickMarkSections, tickMarkSectionStarts, tickMarkSectionStops, tickMarkSectionColors);
+            tickMarksVisible        = new boolean[] { SPEC.majorTickMarksVisible, SPEC.mediumTickMarksVisible, SPEC.minorTickMarksVisible };
+            tickMarkTypes           = new TickMarkType[] { SPEC.majorTickMarkType, SPEC.mediumTickMarkType, SPEC.minorTickMarkType };
+            tickMarkColors          = new java.awt.Color[] { toAwt(SPEC.majorTickMarkColor), toAwt(SPEC.mediumTickMarkColor), toAwt(SPEC.minorTickMarkColor) };
+            tickMarkLengthFactors   = new double[] { SPEC.majorTickMarkLengthFactor, SPEC.mediumTickMarkLengthFactor, SPEC.minorTickMarkLengthFactor };
+            tickMarkWidthFactors    = new double[] { SPEC.majorTickMarkWidthFactor, SPEC.mediumTickMarkWidthFactor, SPEC.minorTickMarkWidthFactor };
+
+            // Tick labels
+            tickLabelsVisible                = SPEC.tickLabelsVisible;
+            onlyFirstAndLastTickLabelVisible = SPEC.onlyFirstAndLastTickLabelVisible;
+            tickLabelColor                   = toAwt(SPEC.tickLabelColor);
+            zeroColor                        = toAwt(SPEC.zeroColor);
+            tickLabelDecimals                = SPEC.tickLabelDecimals;
+            tickLabelSectionsVisible         = SPEC.tickLabelSectionsVisible;
+            tickLabelSectionStarts           = new double[SPEC.tickLabelSections.size()];
+            tickLabelSectionStops            = new double[SPEC.tickLabelSections.size()];
+            tickLabelSectionColors           = new java.awt.Color[SPEC.tickLabelSections.size()];
+            copySections(SPEC.tickLabelSections, tickLabelSectionStarts, tickLabelSectionStops, tickLabelSectionColors);
+            customTickLabels                 = SPEC.customTickLabelsEnabled ? SPEC.customTickLabels.toArray(new String[0]) : null;
+            customTickLabelFontSize          = SPEC.customTickLabelFontSize;
+
+            // Markers and threshold
+            markersVisible     = SPEC.markersVisible;
+            markerValues       = new double[SPEC.markers.size()];
+            markerTypes        = new MarkerType[SPEC.markers.size()];
+            markerColors       = new java.awt.Color[SPEC.markers.size()];
+            markerStrokeColors = new java.awt.Color[SPEC.markers.size()];
+            for (int i = 0 ; i < markerValues.length ; i++) {
+                final Marker MARKER = SPEC.markers.get(i);
+                markerValues[i]       = MARKER.getValue();
+                markerTypes[i]        = MARKER.getMarkerType();
+                markerColors[i]       = toAwt(MARKER.getColor());
+                markerStrokeColors[i] = toAwt(MARKER.getColor().darker());
+            }
+            thresholdVisible = SPEC.thresholdVisible;
+            threshold        = SPEC.threshold;
+            thresholdColor   = toAwt(SPEC.thresholdColor);
+
+            // Texts
+            title         = SPEC.title;
+            subTitle      = SPEC.subTitle;
+            unit          = SPEC.unit;
+            titleColor    = toAwt(SPEC.titleColor);
+            subTitleColor = toAwt(SPEC.subTitleColor);
+            unitColor     = toAwt(SPEC.unitColor);
+            locale        = SPEC.locale;
+            valueVisible  = SPEC.valueVisible;
+            valueColor    = toAwt(SPEC.valueColor);
+            valueFont     = ROBOTO_MEDIUM.deriveFont((float) (SIZE * 0.1));
+            formatter     = createFormatter(SPEC.locale, "%." + SPEC.decimals + "f", SPEC.decimals);
+
+            // Needle (NeedleType.STANDARD, see Needle.getPath())
+            needleWidth  = SIZE * SPEC.needleSize.FACTOR;
+            needleHeight = SIZE * RadialGaugeGeometry.getStandardNeedleHeight(tickLabelLocation);
+            needle       = new Path2D.Double(Path2D.WIND_EVEN_ODD);
+            needle.moveTo(0.25 * needleWidth, 0.025423728813559324 * needleHeight);
+            needle.curveTo(0.25 * needleWidth, 0.00847457627118644 * needleHeight, 0.375 * needleWidth, 0, 0.5 * needleWidth, 0);
+            needle.curveTo(0.625 * needleWidth, 0, 0.75 * needleWidth, 0.00847457627118644 * needleHeight, 0.75 * needleWidth, 0.025423728813559324 * needleHeight);
+            needle.curveTo(0.75 * needleWidth, 0.025423728813559324 * needleHeight, needleWidth, needleHeight, needleWidth, needleHeight);
+            needle.lineTo(0, needleHeight);
+            needle.curveTo(0, needleHeight, 0.25 * needleWidth, 0.025423728813559324 * needleHeight, 0.25 * needleWidth, 0.025423728813559324 * needleHeight);
+            needle.closePath();
+
+            final Stop[] NEEDLE_STOPS = RadialGaugeGeometry.getNeedleStops(SPEC.needleShape, SPEC.needleColor);
+            needlePaint       = null == NEEDLE_STOPS ? toAwt(SPEC.needleColor) : toAwt(0, 0, Math.max(needleWidth, 1), 0, NEEDLE_STOPS);
+            needleBorderWidth = (float) (RadialGaugeGeometry.getNeedleBorderWidth(SPEC.needleShape) * SIZE);
+            needleBorderColor = toAwt(SPEC.needleBorderColor);
+
+            // Knob
+            final double KNOB_TOP = center - SIZE * 0.05;
+            knobVisible    = SPEC.knobVisible;
+            knobType       = SPEC.knobType;
+            knobFramePaint = toAwt(0, KNOB_TOP, 0, KNOB_TOP + Math.max(SIZE * 0.1, 1), RadialGaugeGeometry.getStandardKnobFrameStops());
+            knobPaint      = KnobType.FLAT == knobType ? toAwt(SPEC.knobColor) :
+                                                         toAwt(0, KNOB_TOP + SIZE * 0.005, 0, KNOB_TOP + Math.max(SIZE * 0.09, SIZE * 0.005 + 1), RadialGaugeGeometry.getStandardKnobStops(SPEC.knobColor));
+        }
+
+        @Override public void paintStatic(final Graphics2D CTX) {
+            // Background and border
+            final double BORDER_WIDTH = borderWidth / PREFERRED_WIDTH * size;
+            CTX.setColor(backgroundColor);
+            CTX.fill(new Ellipse2D.Double(0, 0, size, size));
+            if (BORDER_WIDTH > 0) {
+                CTX.setColor(borderColor);
+                CTX.setStroke(new BasicStroke((float) BORDER_WIDTH));
+                CTX.draw(new Ellipse2D.Double(BORDER_WIDTH * 0.5, BORDER_WIDTH * 0.5, size - BORDER_WIDTH, size - BORDER_WIDTH));
+            }
+
+            drawAreasAndSections(CTX);
+            drawTickMarkRing(CTX);
+            drawTickMarks(CTX);
+            drawMarkers(CTX);
+
+            // Title, unit and sub title
+            final FontRenderContext FRC = CTX.getFontRenderContext();
+            if (!title.isEmpty()) {
+                drawText(CTX, title, fitFont(ROBOTO_MEDIUM.deriveFont((float) (0.06 * size)), title, 0.4 * size, FRC), titleColor, size, size * 0.26);
+            }
+            if (!unit.isEmpty()) {
+                drawText(CTX, unit, fitFont(ROBOTO_REGULAR.deriveFont((float) (0.05 * size)), unit, 0.4 * size, FRC), unitColor, size, size * 0.35);
+            }
+            if (!subTitle.isEmpty()) {
+                drawText(CTX, subTitle, fitFont(ROBOTO_REGULAR.deriveFont((float) (0.05 * size)), subTitle, 0.25 * size, FRC), subTitleColor, size, size * 0.76);
+            }
+        }
+
+        @Override public void paintValue(final Graphics2D CTX, final double VALUE) {
+            final double NEEDLE_VALUE = RadialGaugeGeometry.getNeedleValue(VALUE, minValue, maxValue, needleBehavior);
+            if (valueVisible) {
+                drawCenteredText(CTX, formatter.get().format(NEEDLE_VALUE), valueFont, valueColor, center, size * 0.65);
+            }
+
+            // Needle
+            final AffineTransform TRANSFORM = CTX.getTransform();
+            CTX.rotate(Math.toRadians(RadialGaugeGeometry.getNeedleAngle(NEEDLE_VALUE, minValue, startAngle, angleRange, angleStep, scaleDirection)), center, center);
+            CTX.translate(center - needleWidth * 0.5, center - needleHeight);
+            CTX.setPaint(needlePaint);
+            CTX.fill(needle);
+            if (needleBorderWidth > 0 && needleBorderColor.getAlpha() > 0) {
+                CTX.setColor(needleBorderColor);
+                CTX.setStroke(new BasicStroke(needleBorderWidth));
+                CTX.draw(needle);
+            }
+            CTX.setTransform(TRANSFORM);
+
+            if (knobVisible) { drawKnob(CTX); }
+        }
+
+        private void drawAreasAndSections(final Graphics2D CTX) {
+            final double OFFSET = 90 - startAngle;
+            if (areasVisible && areaStarts.length > 0) {
+                final double XY = RadialGaugeGeometry.getAreaInset(tickLabelLocation) * size;
+                final double WH = RadialGaugeGeometry.getAreaSize(tickLabelLocation) * size;
+                for (int i = 0 ; i < areaStarts.length ; i++) {
+                    if (!RadialGaugeGeometry.isInRange(areaStarts[i], areaStops[i], minValue, maxValue)) continue;
+                    CTX.setColor(areaColors[i]);
+                    CTX.fill(new Arc2D.Double(XY, XY, WH, WH, -(OFFSET + getStartAngle(areaStarts[i], areaStops[i])), -getAngleExtend(areaStarts[i], areaStops[i]), Arc2D.PIE));
+                }
+            }
+            if (sectionsVisible && sectionStarts.length > 0) {
+                final double XY = RadialGaugeGeometry.getSectionInset(tickLabelLocation) * size;
+                final double WH = RadialGaugeGeometry.getSectionSize(tickLabelLocation) * size;
+                CTX.setStroke(new BasicStroke((float) (size * RadialGaugeGeometry.SECTION_WIDTH_FACTOR), BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER));
+                for (int i = 0 ; i < sectionStarts.length ; i++) {
+                    if (!RadialGaugeGeometry.isInRange(sectionStarts[i], sectionStops[i], minValue, maxValue)) continue;
+                    CTX.setColor(sectionColors[i]);
+                    CTX.draw(new Arc2D.Double(XY, XY, WH, WH, -(OFFSET + getStartAngle(sectionStarts[i], sectionStops[i])), -getAngleExtend(sectionStarts[i], sectionStops[i]), Arc2D.OPEN));
+                }
+            }
+        }
+
+        private void drawTickMarkRing(final Graphics2D CTX) {
+            if (!tickMarkRingVisible) return;
+            final double XY     = TickLabelLocation.INSIDE == tickLabelLocation ? size * 0.026 : size * 0.14;
+            final double WH     = TickLabelLocation.INSIDE == tickLabelLocation ? size * 0.948 : size * 0.72;
+            final double OFFSET = -90 + startAngle;
+            CTX.setStroke(new BasicStroke((float) (size * 0.004), BasicStroke.CAP_SQUARE, BasicStroke.JOIN_MITER));
+            CTX.setColor(tickMarkColor);
+            CTX.draw(new Arc2D.Double(XY, XY, WH, WH, OFFSET, -angleRange, Arc2D.OPEN));
+            for (int i = 0 ; i < tickMarkSectionStarts.length ; i++) {
+                final double START = tickMarkSectionStarts[i];
+                final double STOP  = tickMarkSectionStops[i];
+                double sectionStartAngle;
+                if (Double.compare(START, minValue) < 0 && Double.compare(STOP, maxValue) < 0) {
+                    sectionStartAngle = 0;
+                } else {
+                    sectionStartAngle = ScaleDirection.CLOCKWISE == scaleDirection ? (START - minValue) * angleStep : -(START - minValue) * angleStep;
+                }
+                double sectionAngleExtend;
+                if (Double.compare(STOP, maxValue) > 0) {
+                    sectionAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (maxValue - START) * angleStep : -(maxValue - START) * angleStep;
+                } else {
+                    sectionAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (STOP - START) * angleStep : -(STOP - START) * angleStep;
+                }
+                CTX.setColor(tickMarkSectionColors[i]);
+                CTX.draw(new Arc2D.Double(XY, XY, WH, WH, OFFSET - sectionStartAngle, -sectionAngleExtend, Arc2D.OPEN));
+            }
+        }
+
+        // Port of Helper.drawRadialTickMarks() for the GAUGE skin
+        private void drawTickMarks(final Graphics2D CTX) {
+            final boolean FULL_RANGE           = minValue < 0 && maxValue > 0;
+            final boolean OUTSIDE              = TickLabelLocation.OUTSIDE == tickLabelLocation;
+            final double  TEXT_DISPLACEMENT    = TickMarkType.DOT == tickMarkTypes[MAJOR] ? (OUTSIDE ? 0.95 : 1.05) : 1.0;
+            final double  TEXT_FACTOR          = OUTSIDE ? 0.45 * TEXT_DISPLACEMENT : (TickLabelOrientation.ORTHOGONAL == tickLabelOrientation ? 0.38 : 0.37) * TEXT_DISPLACEMENT;
+            final double  ORIENTATION_FACTOR   = TickLabelOrientation.HORIZONTAL == tickLabelOrientation ? 0.9 : 1.0;
+            final double  FONT_SIZE            = null != customTickLabels ? customTickLabelFontSize / 400 * size : (0 == tickLabelDecimals ? 0.054 * size : 0.051 * size);
+            final Font    TICK_LABEL_FONT      = ROBOTO_CONDENSED_REGULAR.deriveFont((float) (FONT_SIZE * ORIENTATION_FACTOR));
+            final Font    TICK_LABEL_ZERO_FONT = FULL_RANGE ? ROBOTO_CONDENSED_BOLD.deriveFont((float) (FONT_SIZE * ORIENTATION_FACTOR)) : TICK_LABEL_FONT;
+            final String  TICK_LABEL_FORMAT    = "%." + tickLabelDecimals + "f";
+
+            int customTickLabelCounter = 0;
+            for (int tick = 0 ; tick < geometry.getNoOfTicks() ; tick++) {
+                final double COUNTER = geometry.getValue(tick);
+                final double SIN     = geometry.getSin(tick);
+                final double COS     = geometry.getCos(tick);
+                if (geometry.isMajor(tick)) {
+                    final boolean IS_ZERO = Double.compare(0.0, COUNTER) == 0;
+                    if (tickMarksVisible[MAJOR]) {
+                        drawTickMark(CTX, MAJOR, FULL_RANGE && IS_ZERO ? zeroColor : getTickMarkColor(COUNTER, tickMarkColors[MAJOR]), SIN, COS);
+                    } else if (tickMarksVisible[MINOR]) {
+                        drawTickMark(CTX, MINOR, FULL_RANGE && IS_ZERO ? zeroColor : getTickMarkColor(COUNTER, tickMarkColors[MINOR]), SIN, COS);
+                    }
+
+                    // Tick label
+                    if (!tickLabelsVisible) continue;
+                    final boolean LABEL_VISIBLE = !onlyFirstAndLastTickLabelVisible || Double.compare(COUNTER, minValue) == 0 || Double.compare(COUNTER, maxValue) == 0;
+                    final java.awt.Color LABEL_COLOR;
+                    if (!LABEL_VISIBLE) {
+                        LABEL_COLOR = new java.awt.Color(0, 0, 0, 0);
+                    } else if (tickLabelSectionsVisible) {
+                        LABEL_COLOR = GaugeRenderer.getColorAt(COUNTER, tickLabelSectionStarts, tickLabelSectionStops, tickLabelSectionColors, tickLabelColor);
+                    } else {
+                        LABEL_COLOR = IS_ZERO && FULL_RANGE ? zeroColor : tickLabelColor;
+                    }
+                    String text = null;
+                    if (null != customTickLabels) {
+                        if (customTickLabelCounter >= 0) {
+                            text = customTickLabels[customTickLabelCounter];
+                            customTickLabelCounter++;
+                        }
+                        if (customTickLabelCounter > customTickLabels.length - 1) customTickLabelCounter = -1;
+                    } else {
+                        text = String.format(locale, TICK_LABEL_FORMAT, COUNTER);
+                    }
+                    if (null == text || LABEL_COLOR.getAlpha() == 0) continue;
+                    final AffineTransform TRANSFORM = CTX.getTransform();
+                    CTX.translate(center + size * TEXT_FACTOR * SIN, center + size * TEXT_FACTOR * COS);
+                    CTX.rotate(Math.toRadians(RadialGaugeGeometry.getTickLabelRotation(startAngle, geometry.getAngle(tick), tickLabelOrientation)));
+                    drawCenteredText(CTX, text, IS_ZERO ? TICK_LABEL_ZERO_FONT : TICK_LABEL_FONT, LABEL_COLOR, 0, 0);
+                    CTX.setTransform(TRANSFORM);
+                } else if (tickMarksVisible[MEDIUM] && geometry.isMedium(tick)) {
+                    drawTickMark(CTX, MEDIUM, getTickMarkColor(COUNTER, tickMarkColors[MEDIUM]), SIN, COS);
+                } else if (tickMarksVisible[MINOR] && geometry.isMinor(tick)) {
+                    drawTickMark(CTX, MINOR, getTickMarkColor(COUNTER, tickMarkColors[MINOR]), SIN, COS);
+                }
+            }
+        }
+
+        private void drawTickMark(final Graphics2D CTX, final int KIND, final java.awt.Color COLOR, final double SIN, final double COS) {
+            final boolean      OUTSIDE = TickLabelLocation.OUTSIDE == tickLabelLocation;
+            final TickMarkType TYPE    = tickMarkTypes[KIND];
+            CTX.setColor(COLOR);
+            if (TickMarkType.DOT == TYPE) {
+                final double[] RADII = OUTSIDE ? new double[] { 0.3685, 0.365375, 0.36225 } : new double[] { 0.4625, 0.465625, 0.46875 };
+                final double[] SIZES = OUTSIDE ? new double[] { 0.02, 0.01375, 0.0075 } : new double[] { 0.025, 0.01875, 0.0125 };
+                final double   DOT   = SIZES[KIND] * size;
+                CTX.fill(new Ellipse2D.Double(center + size * RADII[KIND] * SIN - DOT * 0.5, center + size * RADII[KIND] * COS - DOT * 0.5, DOT, DOT));
+                return;
+            }
+            final double WIDTH;
+            final int    CAP;
+            switch (TYPE) {
+                case BOX : WIDTH = new double[] { 0.016, 0.009, 0.007 }[KIND]; CAP = BasicStroke.CAP_BUTT; break;
+                case PILL: WIDTH = new double[] { 0.016, 0.009, 0.007 }[KIND]; CAP = BasicStroke.CAP_ROUND; break;
+                default  : WIDTH = Helper.MAX_TICK_MARK_WIDTH * tickMarkWidthFactors[KIND]; CAP = BasicStroke.CAP_BUTT; break;
+            }
+            final double INNER = OUTSIDE ? 0.3585 : 0.475 - Helper.MAX_TICK_MARK_LENGTH * tickMarkLengthFactors[KIND];
+            final double OUTER = OUTSIDE ? 0.3585 + Helper.MAX_TICK_MARK_LENGTH * tickMarkLengthFactors[KIND] : 0.475;
+            CTX.setStroke(new BasicStroke((float) (size * WIDTH), CAP, BasicStroke.JOIN_MITER));
+            CTX.draw(new Line2D.Double(center + size * INNER * SIN, center + size * INNER * COS, center + size * OUTER * SIN, center + size * OUTER * COS));
+        }
+
+        private void drawMarkers(final Graphics2D CTX) {
+            CTX.setStroke(new BasicStroke(1f));
+            if (markersVisible) {
+                for (int i = 0 ; i < markerValues.length ; i++) {
+                    final double   ANGLE  = RadialGaugeGeometry.getScaleAngle(markerValues[i], minValue, startAngle, angleStep, scaleDirection);
+                    final double[] POINTS = RadialGaugeGeometry.getMarkerPoints(markerTypes[i], tickLabelLocation, ANGLE, size, center, center);
+                    final Shape    SHAPE;
+                    if (MarkerType.DOT == markerTypes[i]) {
+                        final double RADIUS = RadialGaugeGeometry.getMarkerSize(tickLabelLocation, size);
+                        SHAPE = new Ellipse2D.Double(POINTS[0] - RADIUS, POINTS[1] - RADIUS, 2 * RADIUS, 2 * RADIUS);
+                    } else {
+                        SHAPE = toPath(POINTS);
+                    }
+                    fillAndStroke(CTX, SHAPE, markerColors[i], markerStrokeColors[i]);
+                }
+            }
+            if (thresholdVisible) {
+                final double ANGLE = RadialGaugeGeometry.getScaleAngle(threshold, minValue, startAngle, angleStep, scaleDirection);
+                fillAndStroke(CTX, toPath(RadialGaugeGeometry.getThresholdPoints(tickLabelLocation, ANGLE, size, center, center)), thresholdColor, tickMarkColor);
+            }
+        }
+
+        private void drawKnob(final Graphics2D CTX) {
+            final double KNOB_SIZE = size * 0.1;
+            final double X         = center - size * 0.05;
+            final double Y         = center - size * 0.05;
+            if (KnobType.FLAT == knobType) {
+                final double LINE_WIDTH = RadialGaugeGeometry.FLAT_KNOB_LINE_WIDTH * size;
+                final double INNER_SIZE = KNOB_SIZE - 2 * LINE_WIDTH;
+                CTX.setStroke(new BasicStroke((float) LINE_WIDTH));
+                fillAndStroke(CTX, new Ellipse2D.Double(X + LINE_WIDTH, Y + LINE_WIDTH, INNER_SIZE, INNER_SIZE), knobPaint, java.awt.Color.WHITE);
+                return;
+            }
+            CTX.setPaint(knobFramePaint);
+            CTX.fill(new Ellipse2D.Double(X, Y, KNOB_SIZE, KNOB_SIZE));
+            CTX.setPaint(knobPaint);
+            CTX.fill(new Ellipse2D.Double(X + size * 0.005, Y + size * 0.005, KNOB_SIZE - size * 0.01, KNOB_SIZE - size * 0.01));
+        }
+
+        private java.awt.Color getTickMarkColor(final double VALUE, final java.awt.Color DEFAULT_COLOR) {
+            return tickMarkSectionsVisible ? GaugeRenderer.getColorAt(VALUE, tickMarkSectionStarts, tickMarkSectionStops, tickMarkSectionColors, DEFAULT_COLOR) : DEFAULT_COLOR;
+        }
+
+        private double getStartAngle(final double START, final double STOP) {
+            return RadialGaugeGeometry.getSectionStartAngle(START, STOP, minValue, maxValue, angleStep, scaleDirection);
+        }
+
+        private double getAngleExtend(final double START, final double STOP) {
+            return RadialGaugeGeometry.getSectionAngleExtend(START, STOP, minValue, maxValue, angleStep, scaleDirection);
+        }
+
+        private static void fillAndStroke(final Graphics2D CTX, final Shape SHAPE, final java.awt.Paint FILL, final java.awt.Color STROKE) {
+            CTX.setPaint(FILL);
+            CTX.fill(SHAPE);
+            CTX.setColor(STROKE);
+            CTX.draw(SHAPE);
+        }
+
+        private static Path2D toPath(final double[] POINTS) {
+            final Path2D PATH = new Path2D.Double();
+            PATH.moveTo(POINTS[0], POINTS[1]);
+            for (int i = 2 ; i < POINTS.length ; i += 2) { PATH.lineTo(POINTS[i], POINTS[i + 1]); }
+            PATH.closePath();
+            return PATH;
+        }
+
+        private static void copySections(final List<Section> SECTIONS, final double[] STARTS, final double[] STOPS, final java.awt.Color[] COLORS) {
+            for (int i = 0 ; i < STARTS.length ; i++) {
+                final Section SECTION = SECTIONS.get(i);
+                STARTS[i] = SECTION.getStart();
+                STOPS[i]  = SECTION.getStop();
+                COLORS[i] = toAwt(SECTION.getColor());
+            }
+        }
+    }
+
+
+    /**
+     * The configuration of a gauge that will be rendered. The defaults are
+     * the values that a Gauge with the SIMPLE_SECTION skin would use. Setting
+     * the skin type applies the same defaults as Gauge.setSkinType(). Use
+     * Spec.of(Gauge) to take the configuration of an existing gauge.
+     * Gauge options without a setter here (the LED, the LCD, the gradient
+     * bar, the average, highlighting, needle types other than STANDARD)
+     * can't be rendered and Spec.of(Gauge) throws an IllegalArgumentException
+     * for a GAUGE skin that uses them.
+     */
+    public static class Spec {
+        // Same as Gauge.DARK_COLOR which can't be used here because it would initialize the Gauge control
+        private static final Color DARK_COLOR = Color.rgb(36, 36, 36);
+        private Gauge.SkinType       skinType                         = Gauge.SkinType.SIMPLE_SECTION;
+        private double               minValue                         = 0;
+        private double               maxValue                         = 100;
+        private double               startAngle                       = 150;
+        private double               angleRange                       = 300;
+        private ScaleDirection       scaleDirection                   = ScaleDirection.CLOCKWISE;
+        private boolean              startFromZero                    = false;
+        private boolean              sectionsVisible                  = true;
+        private List<Section>        sections                         = new ArrayList<>();
+        private boolean              areasVisible                     = false;
+        private List<Section>        areas                            = new ArrayList<>();
+        private Color                barColor                         = Color.rgb(69, 106, 207);
+        private Color                barBackgroundColor               = Color.rgb(150, 150, 150, 0.25);
+        private Color                titleColor                       = Color.rgb(90, 90, 90);
+        private Color                subTitleColor                    = DARK_COLOR;
+        private Color                valueColor                       = Color.rgb(90, 90, 90);
+        private Color                unitColor                        = Color.rgb(90, 90, 90);
+        private Color                backgroundColor                  = Color.TRANSPARENT;
+        private Color                borderColor                      = Color.TRANSPARENT;
+        private double               borderWidth                      = 1;
+        private boolean              valueVisible                     = true;
+        private String               title                            = "";
+        private String               subTitle                         = "";
+        private String               unit                             = "";
+        private Locale               locale                           = Locale.US;
+        private int                  decimals                         = 1;
+        private int                  tickLabelDecimals                = 0;
+        private double               minorTickSpace                   = 1;
+        private double               majorTickSpace                   = 10;
+        private TickLabelLocation    tickLabelLocation                = TickLabelLocation.INSIDE;
+        private TickLabelOrientation tickLabelOrientation             = TickLabelOrientation.HORIZONTAL;
+        private boolean              tickLabelsVisible                = true;
+        private boolean              onlyFirstAndLastTickLabelVisible = false;
+        private Color                tickLabelColor                   = DARK_COLOR;
+        private Color                zeroColor                        = DARK_COLOR;
+        private boolean              tickLabelSectionsVisible         = false;
+        private List<Section>        tickLabelSections                = new ArrayList<>();
+        private boolean              customTickLabelsEnabled          = false;
+        private List<String>         customTickLabels                 = new ArrayList<>();
+        private double               customTickLabelFontSize          = 18;
+        private boolean              tickMarkRingVisible              = false;
+        private Color                tickMarkColor                    = DARK_COLOR;
+        private boolean              tickMarkSectionsVisible          = false;
+        private List<Section>        tickMarkSections                 = new ArrayList<>();
+        private boolean              majorTickMarksVisible            = true;
+        private TickMarkType         majorTickMarkType                = TickMarkType.LINE;
+        private Color                majorTickMarkColor               = DARK_COLOR;
+        private double               majorTickMarkLengthFactor        = 0.42;
+        private double               majorTickMarkWidthFactor         = 0.275;
+        private boolean              mediumTickMarksVisible           = true;
+        private TickMarkType         mediumTickMarkType               = TickMarkType.LINE;
+        private Color                mediumTickMarkColor              = DARK_COLOR;
+        private double               mediumTickMarkLengthFactor       = 0.41;
+        private double               mediumTickMarkWidthFactor        = 0.175;
+        private boolean              minorTickMarksVisible            = true;
+        private TickMarkType         minorTickMarkType                = TickMarkType.LINE;
+        private Color                minorTickMarkColor               = DARK_COLOR;
+        private double               minorTickMarkLengthFactor        = 0.40;
+        private double               minorTickMarkWidthFactor         = 0.1125;
+        private NeedleSize           needleSize                       = NeedleSize.STANDARD;
+        private NeedleShape          needleShape                      = NeedleShape.ANGLED;
+        private Color                needleColor                      = Color.rgb(200, 0, 0);
+        private Color                needleBorderColor                = Color.TRANSPARENT;
+        private NeedleBehavior       needleBehavior                   = NeedleBehavior.STANDARD;
+        private boolean              markersVisible                   = false;
+        private List<Marker>         markers                          = new ArrayList<>();
+        private boolean              thresholdVisible                 = false;
+        private double               threshold                        = 100;
+        private Color                thresholdColor                   = Color.CRIMSON;
+        private boolean              knobVisible                      = true;
+        private KnobType             knobType                         = KnobType.STANDARD;
+        private Color                knobColor                        = Color.rgb(204, 204, 204);
+
+        /**
+         * Returns a spec with the current configuration of the given gauge.
+         * Throws an IllegalArgumentException if the GAUGE skin of the gauge
+         * uses an option that the renderer doesn't support (the LED, the LCD,
+         * the gradient bar, the average, highlighted sections or areas and
+         * needle types other than NeedleType.STANDARD).
+         *
+         * @param GAUGE
+         * @return a spec with the current configuration of the given gauge
+         */
+        public static Spec of(final Gauge GAUGE) {
+            if (Gauge.SkinType.GAUGE == GAUGE.getSkinType()) { checkSupported(GAUGE); }
+            return new Spec().skinType(GAUGE.getSkinType())
+                             .minValue(GAUGE.getMinValue())
+                             .maxValue(GAUGE.getMaxValue())
+                             .startAngle(GAUGE.getStartAngle())
+                             .angleRange(GAUGE.getAngleRange())
+                             .scaleDirection(GAUGE.getScaleDirection())
+                             .startFromZero(GAUGE.isStartFromZero())
+                             .sectionsVisible(GAUGE.getSectionsVisible())
+                             .sections(GAUGE.getSections())
+                             .areasVisible(GAUGE.getAreasVisible())
+                             .areas(GAUGE.getAreas())
+                             .barColor(GAUGE.getBarColor())
+                             .barBackgroundColor(GAUGE.getBarBackgroundColor())
+                             .titleColor(GAUGE.getTitleColor())
+                             .subTitleColor(GAUGE.getSubTitleColor())
+                             .valueColor(GAUGE.getValueColor())
+                             .unitColor(GAUGE.getUnitColor())
+                             .backgroundColor(toColor(GAUGE.getBackgroundPaint()))
+                             .borderColor(toColor(GAUGE.getBorderPaint()))
+                             .borderWidth(GAUGE.getBorderWidth())
+                             .valueVisible(GAUGE.isValueVisible())
+                             .title(GAUGE.getTitle())
+                             .subTitle(GAUGE.getSubTitle())
+                             .unit(GAUGE.getUnit())
+                             .locale(GAUGE.getLocale())
+                             .decimals(GAUGE.getDecimals())
+                             .tickLabelDecimals(GAUGE.getTickLabelDecimals())
+                             .minorTickSpace(GAUGE.getMinorTickSpace())
+                             .majorTickSpace(GAUGE.getMajorTickSpace())
+                             .tickLabelLocation(GAUGE.getTickLabelLocation())
+                             .tickLabelOrientation(GAUGE.getTickLabelOrientation())
+                             .tickLabelsVisible(GAUGE.getTickLabelsVisible())
+                             .onlyFirstAndLastTickLabelVisible(GAUGE.isOnlyFirstAndLastTickLabelVisible())
+                             .tickLabelColor(GAUGE.getTickLabelColor())
+                             .zeroColor(GAUGE.getZeroColor())
+                             .tickLabelSectionsVisible(GAUGE.getTickLabelSectionsVisible())
+                             .tickLabelSections(GAUGE.getTickLabelSections())
+                             .customTickLabelsEnabled(GAUGE.getCustomTickLabelsEnabled())
+                             .customTickLabels(GAUGE.getCustomTickLabels())
+                             .customTickLabelFontSize(GAUGE.getCustomTickLabelFontSize())
+                             .tickMarkRingVisible(GAUGE.isTickMarkRingVisible())
+                             .tickMarkColor(GAUGE.getTickMarkColor())
+                             .tickMarkSectionsVisible(GAUGE.getTickMarkSectionsVisible())
+                             .tickMarkSections(GAUGE.getTickMarkSections())
+                             .majorTickMarksVisible(GAUGE.getMajorTickMarksVisible())
+                             .majorTickMarkType(GAUGE.getMajorTickMarkType())
+                             .majorTickMarkColor(GAUGE.getMajorTickMarkColor())
+                             .majorTickMarkLengthFactor(GAUGE.getMajorTickMarkLengthFactor())
+                             .majorTickMarkWidthFactor(GAUGE.getMajorTickMarkWidthFactor())
+                             .mediumTickMarksVisible(GAUGE.getMediumTickMarksVisible())
+                             .mediumTickMarkType(GAUGE.getMediumTickMarkType())
+                             .mediumTickMarkColor(GAUGE.getMediumTickMarkColor())
+                             .mediumTickMarkLengthFactor(GAUGE.getMediumTickMarkLengthFactor())
+                             .mediumTickMarkWidthFactor(GAUGE.getMediumTickMarkWidthFactor())
+                             .minorTickMarksVisible(GAUGE.getMinorTickMarksVisible())
+                             .minorTickMarkType(GAUGE.getMinorTickMarkType())
+                             .minorTickMarkColor(GAUGE.getMinorTickMarkColor())
+                             .minorTickMarkLengthFactor(GAUGE.getMinorTickMarkLengthFactor())
+                             .minorTickMarkWidthFactor(GAUGE.getMinorTickMarkWidthFactor())
+                             .needleSize(GAUGE.getNeedleSize())
+                             .needleShape(GAUGE.getNeedleShape())
+                             .needleColor(GAUGE.getNeedleColor())
+                             .needleBorderColor(GAUGE.getNeedleBorderColor())
+                             .needleBehavior(GAUGE.getNeedleBehavior())
+                             .markersVisible(GAUGE.getMarkersVisible())
+                             .markers(GAUGE.getMarkers())
+                             .thresholdVisible(GAUGE.isThresholdVisible())
+                             .threshold(GAUGE.getThreshold())
+                             .thresholdColor(GAUGE.getThresholdColor())
+                             .knobVisible(GAUGE.isKnobVisible())
+                             .knobType(GAUGE.getKnobType())
+                             .knobColor(GAUGE.getKnobColor());
+        }
+
+        private static void checkSupported(final Gauge GAUGE) {
+            final String OPTION;
+            if (GAUGE.isLedVisible()) {
+                OPTION = "LED";
+            } else if (GAUGE.isLcdVisible() && GAUGE.isValueVisible()) {
+                OPTION = "LCD";
+            } else if (GAUGE.isGradientBarEnabled()) {
+                OPTION = "Gradient bar";
+            } else if (GAUGE.isAverageVisible()) {
+                OPTION = "Average";
+            } else if (GAUGE.isHighlightSections() && GAUGE.getSectionsVisible() && !GAUGE.getSections().isEmpty()) {
+                OPTION = "Section highlighting";
+            } else if (GAUGE.isHighlightAreas() && GAUGE.getAreasVisible() && !GAUGE.getAreas().isEmpty()) {
+                OPTION = "Area highlighting";
+            } else if (NeedleType.STANDARD != GAUGE.getNeedleType()) {
+                OPTION = "Needle type " + GAUGE.getNeedleType();
+            } else {
+                return;
+            }
+            throw new IllegalArgumentException(OPTION + " is not supported by the GaugeRenderer");
+        }
+
+        public Spec skinType(final Gauge.SkinType SKIN_TYPE) {
+            skinType = SKIN_TYPE;
+            switch (SKIN_TYPE) {
+                case SIMPLE_SECTION:
+                    startAngle      = 150;
+                    angleRange      = 300;
+                    sectionsVisible = true;
+                    titleColor      = Color.rgb(90, 90, 90);
+                    unitColor       = Color.rgb(90, 90, 90);
+                    valueColor      = Color.rgb(90, 90, 90);
+                    break;
+                case GAUGE:
+                    startAngle      = 320;
+                    angleRange      = 280;
+                    sectionsVisible = false;
+                    titleColor      = DARK_COLOR;
+                    unitColor       = DARK_COLOR;
+                    valueColor      = DARK_COLOR;
+                    break;
+            }
+            return this;
+        }
+        public Spec minValue(final double VALUE) { minValue = VALUE; return this; }
+        public Spec maxValue(final double VALUE) { maxValue = VALUE; return this; }
+        public Spec startAngle(final double ANGLE) { startAngle = ANGLE; return this; }
+        public Spec angleRange(final double RANGE) { angleRange = RANGE; return this; }
+        public Spec scaleDirection(final ScaleDirection DIRECTION) { scaleDirection = DIRECTION; return this; }
+        public Spec startFromZero(final boolean IS_TRUE) { startFromZero = IS_TRUE; return this; }
+        public Spec sectionsVisible(final boolean VISIBLE) { sectionsVisible = VISIBLE; return this; }
+        public Spec sections(final List<Section> SECTIONS) { sections = new ArrayList<>(SECTIONS); return this; }
+        public Spec areasVisible(final boolean VISIBLE) { areasVisible = VISIBLE; return this; }
+        public Spec areas(final List<Section> AREAS) { areas = new ArrayList<>(AREAS); return this; }
+        public Spec barColor(final Color COLOR) { barColor = COLOR; return this; }
+        public Spec barBackgroundColor(final Color COLOR) { barBackgroundColor = COLOR; return this; }
+        public Spec titleColor(final Color COLOR) { titleColor = COLOR; return this; }
+        public Spec subTitleColor(final Color COLOR) { subTitleColor = COLOR; return this; }
+        public Spec valueColor(final Color COLOR) { valueColor = COLOR; return this; }
+        public Spec unitColor(final Color COLOR) { unitColor = COLOR; return this; }
+        public Spec backgroundColor(final Color COLOR) { backgroundColor = COLOR; return this; }
+        public Spec borderColor(final Color COLOR) { borderColor = COLOR; return this; }
+        public Spec borderWidth(final double WIDTH) { borderWidth = Helper.clamp(0.0, 50.0, WIDTH); return this; }
+        public Spec valueVisible(final boolean VISIBLE) { valueVisible = VISIBLE; return this; }
+        public Spec title(final String TITLE) { title = null == TITLE ? "" : TITLE; return this; }
+        public Spec subTitle(final String SUB_TITLE) { subTitle = null == SUB_TITLE ? "" : SUB_TITLE; return this; }
+        public Spec unit(final String UNIT) { unit = null == UNIT ? "" : UNIT; return this; }
+        public Spec locale(final Locale LOCALE) { locale = LOCALE; return this; }
+        public Spec decimals(final int DECIMALS) { decimals = DECIMALS; return this; }
+        public Spec tickLabelDecimals(final int DECIMALS) { tickLabelDecimals = DECIMALS; return this; }
+        public Spec minorTickSpace(final double SPACE) { minorTickSpace = SPACE; return this; }
+        public Spec majorTickSpace(final double SPACE) { majorTickSpace = SPACE; return this; }
+        public Spec tickLabelLocation(final TickLabelLocation LOCATION) { tickLabelLocation = LOCATION; return this; }
+        public Spec tickLabelOrientation(final TickLabelOrientation ORIENTATION) { tickLabelOrientation = ORIENTATION; return this; }
+        public Spec tickLabelsVisible(final boolean VISIBLE) { tickLabelsVisible = VISIBLE; return this; }
+        public Spec onlyFirstAndLastTickLabelVisible(final boolean VISIBLE) { onlyFirstAndLastTickLabelVisible = VISIBLE; return this; }
+        public Spec tickLabelColor(final Color COLOR) { tickLabelColor = COLOR; return this; }
+        public Spec zeroColor(final Color COLOR) { zeroColor = COLOR; return this; }
+        public Spec tickLabelSectionsVisible(final boolean VISIBLE) { tickLabelSectionsVisible = VISIBLE; return this; }
+        public Spec tickLabelSections(final List<Section> SECTIONS) { tickLabelSections = new ArrayList<>(SECTIONS); return this; }
+        public Spec customTickLabelsEnabled(final boolean ENABLED) { customTickLabelsEnabled = ENABLED; return this; }
+        public Spec customTickLabels(final List<String> TICK_LABELS) { customTickLabels = new ArrayList<>(TICK_LABELS); return this; }
+        public Spec customTickLabelFontSize(final double SIZE) { customTickLabelFontSize = SIZE; return this; }
+        public Spec tickMarkRingVisible(final boolean VISIBLE) { tickMarkRingVisible = VISIBLE; return this; }
+        public Spec tickMarkColor(final Color COLOR) { tickMarkColor = COLOR; return this; }
+        public Spec tickMarkSectionsVisible(final boolean VISIBLE) { tickMarkSectionsVisible = VISIBLE; return this; }
+        public Spec tickMarkSections(final List<Section> SECTIONS) { tickMarkSections = new ArrayList<>(SECTIONS); return this; }
+        public Spec majorTickMarksVisible(final boolean VISIBLE) { majorTickMarksVisible = VISIBLE; return this; }
+        public Spec majorTickMarkType(final TickMarkType TYPE) { majorTickMarkType = TYPE; return this; }
+        public Spec majorTickMarkColor(final Color COLOR) { majorTickMarkColor = COLOR; return this; }
+        public Spec majorTickMarkLengthFactor(final double FACTOR) { majorTickMarkLengthFactor = FACTOR; return this; }
+        public Spec majorTickMarkWidthFactor(final double FACTOR) { majorTickMarkWidthFactor = FACTOR; return this; }
+        public Spec mediumTickMarksVisible(final boolean VISIBLE) { mediumTickMarksVisible = VISIBLE; return this; }
+        public Spec mediumTickMarkType(final TickMarkType TYPE) { mediumTickMarkType = TYPE; return this; }
+        public Spec mediumTickMarkColor(final Color COLOR) { mediumTickMarkColor = COLOR; return this; }
+        public Spec mediumTickMarkLengthFactor(final double FACTOR) { mediumTickMarkLengthFactor = FACTOR; return this; }
+        public Spec mediumTickMarkWidthFactor(final double FACTOR) { mediumTickMarkWidthFactor = FACTOR; return this; }
+        public Spec minorTickMarksVisible(final boolean VISIBLE) { minorTickMarksVisible = VISIBLE; return this; }
+        public Spec minorTickMarkType(final TickMarkType TYPE) { minorTickMarkType = TYPE; return this; }
+        public Spec minorTickMarkColor(final Color COLOR) { minorTickMarkColor = COLOR; return this; }
+        public Spec minorTickMarkLengthFactor(final double FACTOR) { minorTickMarkLengthFactor = FACTOR; return this; }
+        public Spec minorTickMarkWidthFactor(final double FACTOR) { minorTickMarkWidthFactor = FACTOR; return this; }
+        public Spec needleSize(final NeedleSize SIZE) { needleSize = SIZE; return this; }
+        public Spec needleShape(final NeedleShape SHAPE) { needleShape = SHAPE; return this; }
+        public Spec needleColor(final Color COLOR) { needleColor = COLOR; return this; }
+        public Spec needleBorderColor(final Color COLOR) { needleBorderColor = COLOR; return this; }
+        public Spec needleBehavior(final NeedleBehavior BEHAVIOR) { needleBehavior = BEHAVIOR; return this; }
+        public Spec markersVisible(final boolean VISIBLE) { markersVisible = VISIBLE; return this; }
+        public Spec markers(final List<Marker> MARKERS) { markers = new ArrayList<>(MARKERS); return this; }
+        public Spec thresholdVisible(final boolean VISIBLE) { thresholdVisible = VISIBLE; return this; }
+        public Spec threshold(final double THRESHOLD) { threshold = THRESHOLD; return this; }
+        public Spec thresholdColor(final Color COLOR) { thresholdColor = COLOR; return this; }
+        public Spec knobVisible(final boolean VISIBLE) { knobVisible = VISIBLE; return this; }
+        public Spec knobType(final KnobType TYPE) { knobType = TYPE; return this; }
+        public Spec knobColor(final Color COLOR) { knobColor = COLOR; return this; }
+    }
+}
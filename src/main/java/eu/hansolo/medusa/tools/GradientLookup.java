@@ -31,7 +31,12 @@ import java.util.TreeMap;
  * Created by hansolo on 21.12.15.
  */
 public class GradientLookup {
+    public  static final int  DEFAULT_RESOLUTION = 1024;
     private Map<Double, Stop> stops;
+    private volatile boolean  precomputed;
+    private volatile int      resolution;
+    private volatile int[]    argbTable;
+    private volatile Color[]  colorTable;
 
 
     // ******************** Constructors **************************************
@@ -44,6 +49,7 @@ public class GradientLookup {
     public GradientLookup(final List<Stop> STOPS) {
         stops = new TreeMap<>();
         for (Stop stop : STOPS) { stops.put(stop.getOffset(), stop); }
+        resolution = DEFAULT_RESOLUTION;
         init();
     }
 
@@ -59,9 +65,75 @@ public class GradientLookup {
         if (Double.compare(maxFraction, 1) < 0) { stops.put(1.0, new Stop(1.0, stops.get(maxFraction).getColor())); }
     }
 
+    private void initTables() {
+        if (!precomputed || stops.isEmpty()) {
+            argbTable  = null;
+            colorTable = null;
+            return;
+        }
+        final int     SIZE   = resolution;
+        final int[]   ARGBS  = new int[SIZE];
+        final Color[] COLORS = new Color[SIZE];
+        for (int i = 0 ; i < SIZE ; i++) {
+            final Color COLOR = computeColorAt((double) i / (SIZE - 1));
+            final int   ARGB  = toArgb(COLOR);
+            ARGBS[i]  = ARGB;
+            // Neighbouring entries with the same color will share one instance
+            COLORS[i] = i > 0 && ARGBS[i - 1] == ARGB ? COLORS[i - 1] : COLOR;
+        }
+        argbTable  = ARGBS;
+        colorTable = COLORS;
+    }
+
 
     // ******************** Methods *******************************************
     public Color getColorAt(final double POSITION_OF_COLOR) {
+        final Color[] COLORS = colorTable;
+        if (null != COLORS) { return COLORS[indexOf(POSITION_OF_COLOR, COLORS.length)]; }
+        return computeColorAt(POSITION_OF_COLOR);
+    }
+
+    /**
+     * Returns the color at the given position as an int in the
+     * ARGB format (0xAARRGGBB) which can be used with a PixelWriter.
+     *
+     * @param POSITION_OF_COLOR
+     * @return the color at the given position as an int in the ARGB format
+     */
+    public int getArgbAt(final double POSITION_OF_COLOR) {
+        final int[] ARGBS = argbTable;
+        if (null != ARGBS) { return ARGBS[indexOf(POSITION_OF_COLOR, ARGBS.length)]; }
+        return toArgb(computeColorAt(POSITION_OF_COLOR));
+    }
+
+    public boolean isPrecomputed() { return precomputed; }
+    /**
+     * Defines if the colors should be precomputed in a lookup table with
+     * the current resolution (default 1024 entries). In this mode
+     * getColorAt() and getArgbAt() will only look up the nearest entry
+     * in the table and getColorAt() will always return the same Color
+     * instance for the same entry.
+     *
+     * @param PRECOMPUTED
+     */
+    public void setPrecomputed(final boolean PRECOMPUTED) {
+        precomputed = PRECOMPUTED;
+        initTables();
+    }
+
+    public int getResolution() { return resolution; }
+    /**
+     * Defines the number of entries of the lookup table that will be
+     * used in the precomputed mode (min 2)
+     *
+     * @param RESOLUTION
+     */
+    public void setResolution(final int RESOLUTION) {
+        resolution = Helper.clamp(2, Integer.MAX_VALUE, RESOLUTION);
+        initTables();
+    }
+
+    private Color computeColorAt(final double POSITION_OF_COLOR) {
         if (stops.isEmpty()) return Color.BLACK;
 
         final double POSITION = Helper.clamp(0.0, 1.0, POSITION_OF_COLOR);
@@ -73,6 +145,7 @@ public class GradientLookup {
             Stop lowerBound = stops.get(0.0);
             Stop upperBound = stops.get(1.0);
             for (Double fraction : stops.keySet()) {
+                if (Double.compare(fraction, POSITION) == 0) { return stops.get(fraction).getColor(); }
                 if (Double.compare(fraction,POSITION) < 0) {
                     lowerBound = stops.get(fraction);
                 }
@@ -92,6 +165,19 @@ public class GradientLookup {
         stops.clear();
         for (Stop stop : STOPS) { stops.put(stop.getOffset(), stop); }
         init();
+        initTables();
+    }
+
+    private static int indexOf(final double POSITION, final int SIZE) {
+        if (Double.isNaN(POSITION)) return 0;
+        return (int) Math.round(Helper.clamp(0.0, 1.0, POSITION) * (SIZE - 1));
+    }
+
+    private static int toArgb(final Color COLOR) {
+        return ((int) Math.round(COLOR.getOpacity() * 255) << 24) |
+               ((int) Math.round(COLOR.getRed()     * 255) << 16) |
+               ((int) Math.round(COLOR.getGreen()   * 255) << 8)  |
+                (int) Math.round(COLOR.getBlue()    * 255);
     }
 
     private Color interpolateColor(final Stop LOWER_BOUND, final Stop UPPER_BOUND, final double POSITION) {
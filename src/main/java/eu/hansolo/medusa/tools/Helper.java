@@ -23,6 +23,7 @@ import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.Gauge.SkinType;
 import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.SectionIndex;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.TickMarkType;
@@ -49,7 +50,6 @@ import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
-import java.math.BigDecimal;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -71,6 +71,8 @@ public class Helper {
     public static final double MAX_TICK_MARK_LENGTH = 0.125;
     public static final double MAX_TICK_MARK_WIDTH  = 0.02;
     public static final Color  INACTIVE_ALARM_COLOR = Color.rgb(90, 90, 90, 0.5);
+    private static final double FONT_SIZE_STEP      = 0.05;
+    private static volatile MinMaxFormatter minMaxFormatter;
 
 
     public static final <T extends Number> T clamp(final T MIN, final T MAX, final T VALUE) {
@@ -273,34 +275,53 @@ public class Helper {
     }
 
     public static final void rotateContextForText(final GraphicsContext CTX, final double START_ANGLE, final double ANGLE, final TickLabelOrientation ORIENTATION) {
-        switch (ORIENTATION) {
-            case ORTHOGONAL:
-                if ((360 - START_ANGLE - ANGLE) % 360 > 90 && (360 - START_ANGLE - ANGLE) % 360 < 270) {
-                    CTX.rotate((180 - START_ANGLE - ANGLE) % 360);
-                } else {
-                    CTX.rotate((360 - START_ANGLE - ANGLE) % 360);
-                }
-                break;
-            case TANGENT:
-                if ((360 - START_ANGLE - ANGLE - 90) % 360 > 90 && (360 - START_ANGLE - ANGLE - 90) % 360 < 270) {
-                    CTX.rotate((90 - START_ANGLE - ANGLE) % 360);
-                } else {
-                    CTX.rotate((270 - START_ANGLE - ANGLE) % 360);
-                }
-                break;
-            case HORIZONTAL:
-            default:
-                break;
-        }
+        if (TickLabelOrientation.HORIZONTAL == ORIENTATION) return;
+        CTX.rotate(RadialGaugeGeometry.getTickLabelRotation(START_ANGLE, ANGLE, ORIENTATION));
     }
 
-    public static final void adjustTextSize(final Text TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
-        final String FONT_NAME          = TEXT.getFont().getName();
-        double       adjustableFontSize = FONT_SIZE;
-
+    /**
+     * Reduces the font size of the given text in steps of 0.05 until the
+     * text fits into the given width. Instead of trying one step after the
+     * other the step will be estimated from the ratio of the widths (the
+     * width of a text is about proportional to the font size) and then
+     * corrected with the cached text widths of Fonts.getTextWidth().
+     * Use this for texts that don't change with the value like titles
+     * and units.
+     *
+     * @param TEXT
+     * @param MAX_WIDTH
+     * @param FONT_SIZE
+     */
+    public static final void adjustTextSize(final Text TEXT, final double MAX_WIDTH, final double FONT_SIZE) { adjustTextSize(TEXT, MAX_WIDTH, FONT_SIZE, true); }
+    /**
+     * Reduces the font size of the given text like adjustTextSize(Text,
+     * double, double). If CACHE_WIDTHS is false the text widths will be
+     * measured with Fonts.measureTextWidth() without being cached. Use
+     * this for texts that change with the value or the time so that they
+     * don't evict the widths of the static texts from the cache.
+     *
+     * @param TEXT
+     * @param MAX_WIDTH
+     * @param FONT_SIZE
+     * @param CACHE_WIDTHS
+     */
+    public static final void adjustTextSize(final Text TEXT, final double MAX_WIDTH, final double FONT_SIZE, final boolean CACHE_WIDTHS) {
+        final String FONT_NAME = TEXT.getFont().getName();
+        final double WIDTH     = TEXT.getBoundsInLocal().getWidth();
+        if (WIDTH <= MAX_WIDTH || FONT_SIZE <= 0) return;
+
+        final String CONTENT  = TEXT.getText();
+        final int    MAX_STEP = (int) Math.ceil(FONT_SIZE / FONT_SIZE_STEP);
+        int          step     = clamp(1, MAX_STEP, (int) Math.ceil((FONT_SIZE - FONT_SIZE * MAX_WIDTH / WIDTH) / FONT_SIZE_STEP));
+        while (step > 1 && getTextWidth(CONTENT, Fonts.font(FONT_NAME, FONT_SIZE - (step - 1) * FONT_SIZE_STEP), CACHE_WIDTHS) <= MAX_WIDTH) { step--; }
+        while (step < MAX_STEP && getTextWidth(CONTENT, Fonts.font(FONT_NAME, FONT_SIZE - step * FONT_SIZE_STEP), CACHE_WIDTHS) > MAX_WIDTH) { step++; }
+        TEXT.setFont(Fonts.font(FONT_NAME, FONT_SIZE - step * FONT_SIZE_STEP));
+
+        // Fall back to single steps if the bounds of the node differ from the measured width (e.g. because of a stroke)
+        double adjustableFontSize = FONT_SIZE - step * FONT_SIZE_STEP;
         while (TEXT.getBoundsInLocal().getWidth() > MAX_WIDTH && adjustableFontSize > 0) {
-            adjustableFontSize -= 0.05;
-            TEXT.setFont(new Font(FONT_NAME, adjustableFontSize));
+            adjustableFontSize -= FONT_SIZE_STEP;
+            TEXT.setFont(Fonts.font(FONT_NAME, adjustableFontSize));
         }
     }
     public static final void adjustTextSize(final Label TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
@@ -308,11 +329,15 @@ public class Helper {
         double       adjustableFontSize = FONT_SIZE;
 
         while (TEXT.getBoundsInLocal().getWidth() > MAX_WIDTH && adjustableFontSize > 0) {
-            adjustableFontSize -= 0.05;
-            TEXT.setFont(new Font(FONT_NAME, adjustableFontSize));
+            adjustableFontSize -= FONT_SIZE_STEP;
+            TEXT.setFont(Fonts.font(FONT_NAME, adjustableFontSize));
         }
     }
 
+    private static double getTextWidth(final String TEXT, final Font FONT, final boolean CACHED) {
+        return CACHED ? Fonts.getTextWidth(TEXT, FONT) : Fonts.measureTextWidth(TEXT, FONT);
+    }
+
     public static final DateTimeFormatter getDateFormat(final Locale LOCALE) {
         if (Locale.US == LOCALE) {
             return DateTimeFormatter.ofPattern("MM/dd/YYYY");
@@ -468,19 +493,14 @@ public class Helper {
         double               centerY               = CENTER_Y;
         int                  tickLabelDecimals     = GAUGE.getTickLabelDecimals();
         String               tickLabelFormatString = "%." + tickLabelDecimals + "f";
-        double               minorTickSpace        = GAUGE.getMinorTickSpace();
-        double               tmpAngleStep          = ANGLE_STEP * minorTickSpace;
         TickLabelOrientation tickLabelOrientation  = GAUGE.getTickLabelOrientation();
         TickLabelLocation    tickLabelLocation     = GAUGE.getTickLabelLocation();
-        BigDecimal           minorTickSpaceBD      = BigDecimal.valueOf(minorTickSpace);
-        BigDecimal           majorTickSpaceBD      = BigDecimal.valueOf(GAUGE.getMajorTickSpace());
-        BigDecimal           mediumCheck2          = BigDecimal.valueOf(2 * minorTickSpace);
-        BigDecimal           mediumCheck5          = BigDecimal.valueOf(5 * minorTickSpace);
-        BigDecimal           counterBD             = BigDecimal.valueOf(MIN_VALUE);
-        double               counter               = MIN_VALUE;
+        TickMarkGeometry     geometry              = GAUGE.getTickMarkGeometry(MIN_VALUE, MAX_VALUE, START_ANGLE, ANGLE_RANGE, ANGLE_STEP);
 
         List<Section> tickMarkSections             = GAUGE.getTickMarkSections();
         List<Section> tickLabelSections            = GAUGE.getTickLabelSections();
+        SectionIndex  tickMarkSectionIndex         = GAUGE.getTickMarkSectionIndex();
+        SectionIndex  tickLabelSectionIndex        = GAUGE.getTickLabelSectionIndex();
         Color         tickMarkColor                = GAUGE.getTickMarkColor();
         Color         majorTickMarkColor           = GAUGE.getMajorTickMarkColor().equals(tickMarkColor) ? tickMarkColor : GAUGE.getMajorTickMarkColor();
         Color         mediumTickMarkColor          = GAUGE.getMediumTickMarkColor().equals(tickMarkColor) ? tickMarkColor : GAUGE.getMediumTickMarkColor();
@@ -570,10 +590,10 @@ public class Helper {
         double tickLabelTickMarkX;
         double tickLabelTickMarkY;
 
-        double trapezoidMajorInnerAngle1;
-        double trapezoidMajorInnerAngle2;
-        double trapezoidMajorOuterAngle1;
-        double trapezoidMajorOuterAngle2;
+        double trapezoidMajorInnerOffset1;
+        double trapezoidMajorInnerOffset2;
+        double trapezoidMajorOuterOffset1;
+        double trapezoidMajorOuterOffset2;
         double trapezoidMajorInnerPoint1X;
         double trapezoidMajorInnerPoint1Y;
         double trapezoidMajorInnerPoint2X;
@@ -583,10 +603,10 @@ public class Helper {
         double trapezoidMajorOuterPoint2X;
         double trapezoidMajorOuterPoint2Y;
 
-        double trapezoidMediumInnerAngle1;
-        double trapezoidMediumInnerAngle2;
-        double trapezoidMediumOuterAngle1;
-        double trapezoidMediumOuterAngle2;
+        double trapezoidMediumInnerOffset1;
+        double trapezoidMediumInnerOffset2;
+        double trapezoidMediumOuterOffset1;
+        double trapezoidMediumOuterOffset2;
         double trapezoidMediumInnerPoint1X;
         double trapezoidMediumInnerPoint1Y;
         double trapezoidMediumInnerPoint2X;
@@ -596,10 +616,10 @@ public class Helper {
         double trapezoidMediumOuterPoint2X;
         double trapezoidMediumOuterPoint2Y;
 
-        double trapezoidMinorInnerAngle1;
-        double trapezoidMinorInnerAngle2;
-        double trapezoidMinorOuterAngle1;
-        double trapezoidMinorOuterAngle2;
+        double trapezoidMinorInnerOffset1;
+        double trapezoidMinorInnerOffset2;
+        double trapezoidMinorOuterOffset1;
+        double trapezoidMinorOuterOffset2;
         double trapezoidMinorInnerPoint1X;
         double trapezoidMinorInnerPoint1Y;
         double trapezoidMinorInnerPoint2X;
@@ -673,14 +693,13 @@ public class Helper {
         }
 
         // Main loop
-        BigDecimal     tmpStepBD      = new BigDecimal(tmpAngleStep);
-        tmpStepBD                     = tmpStepBD.setScale(3, BigDecimal.ROUND_HALF_UP);
-        double tmpStep                = tmpStepBD.doubleValue();
-        double angle                  = 0;
-        int    customTickLabelCounter = 0;
-        for (double i = 0 ; Double.compare(-ANGLE_RANGE - tmpStep, i) <= 0 ; i -= tmpStep) {
-            sinValue = Math.sin(Math.toRadians(angle + START_ANGLE));
-            cosValue = Math.cos(Math.toRadians(angle + START_ANGLE));
+        int customTickLabelCounter = 0;
+        int noOfTicks              = geometry.getNoOfTicks();
+        for (int tick = 0 ; tick < noOfTicks ; tick++) {
+            double counter = geometry.getValue(tick);
+            double angle   = geometry.getAngle(tick);
+            sinValue       = geometry.getSin(tick);
+            cosValue       = geometry.getCos(tick);
 
             switch(tickLabelLocation) {
                 case OUTSIDE:
@@ -707,44 +726,44 @@ public class Helper {
                     tickLabelTickMarkX          = centerX + SIZE * 0.3805 * sinValue;
                     tickLabelTickMarkY          = centerY + SIZE * 0.3805 * cosValue;
 
-                    trapezoidMajorInnerAngle1   = Math.toRadians(angle - 1.2 + START_ANGLE);
-                    trapezoidMajorInnerAngle2   = Math.toRadians(angle + 1.2 + START_ANGLE);
-                    trapezoidMajorOuterAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
-                    trapezoidMajorOuterAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMajorInnerAngle2);
-                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMajorInnerAngle2);
-                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.4105 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.4105 * Math.cos(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.4105 * Math.sin(trapezoidMajorOuterAngle2);
-                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.4105 * Math.cos(trapezoidMajorOuterAngle2);
-
-                    trapezoidMediumInnerAngle1  = Math.toRadians(angle - 1.0 + START_ANGLE);
-                    trapezoidMediumInnerAngle2  = Math.toRadians(angle + 1.0 + START_ANGLE);
-                    trapezoidMediumOuterAngle1  = Math.toRadians(angle - 0.7 + START_ANGLE);
-                    trapezoidMediumOuterAngle2  = Math.toRadians(angle + 0.7 + START_ANGLE);
-                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.3585 * Math.sin(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.3585 * Math.cos(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.3585 * Math.sin(trapezoidMediumInnerAngle2);
-                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.3585 * Math.cos(trapezoidMediumInnerAngle2);
-                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.3985 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.3985 * Math.cos(trapezoidMediumOuterAngle1);
-                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.3985 * Math.sin(trapezoidMediumOuterAngle2);
-                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.3985 * Math.cos(trapezoidMediumOuterAngle2);
-
-                    trapezoidMinorInnerAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
-                    trapezoidMinorInnerAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMinorOuterAngle1   = Math.toRadians(angle - 0.6 + START_ANGLE);
-                    trapezoidMinorOuterAngle2   = Math.toRadians(angle + 0.6 + START_ANGLE);
-                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMinorInnerAngle2);
-                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMinorInnerAngle2);
-                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.3975 * Math.sin(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.3975 * Math.cos(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.3975 * Math.sin(trapezoidMinorOuterAngle2);
-                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.3975 * Math.cos(trapezoidMinorOuterAngle2);
+                    trapezoidMajorInnerOffset1  = -1.2;
+                    trapezoidMajorInnerOffset2  = 1.2;
+                    trapezoidMajorOuterOffset1  = -0.8;
+                    trapezoidMajorOuterOffset2  = 0.8;
+                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.3585 * geometry.getSin(tick, trapezoidMajorInnerOffset1);
+                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.3585 * geometry.getCos(tick, trapezoidMajorInnerOffset1);
+                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.3585 * geometry.getSin(tick, trapezoidMajorInnerOffset2);
+                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.3585 * geometry.getCos(tick, trapezoidMajorInnerOffset2);
+                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.4105 * geometry.getSin(tick, trapezoidMajorOuterOffset1);
+                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.4105 * geometry.getCos(tick, trapezoidMajorOuterOffset1);
+                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.4105 * geometry.getSin(tick, trapezoidMajorOuterOffset2);
+                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.4105 * geometry.getCos(tick, trapezoidMajorOuterOffset2);
+
+                    trapezoidMediumInnerOffset1 = -1.0;
+                    trapezoidMediumInnerOffset2 = 1.0;
+                    trapezoidMediumOuterOffset1 = -0.7;
+                    trapezoidMediumOuterOffset2 = 0.7;
+                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.3585 * geometry.getSin(tick, trapezoidMediumInnerOffset1);
+                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.3585 * geometry.getCos(tick, trapezoidMediumInnerOffset1);
+                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.3585 * geometry.getSin(tick, trapezoidMediumInnerOffset2);
+                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.3585 * geometry.getCos(tick, trapezoidMediumInnerOffset2);
+                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.3985 * geometry.getSin(tick, trapezoidMajorOuterOffset1);
+                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.3985 * geometry.getCos(tick, trapezoidMediumOuterOffset1);
+                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.3985 * geometry.getSin(tick, trapezoidMediumOuterOffset2);
+                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.3985 * geometry.getCos(tick, trapezoidMediumOuterOffset2);
+
+                    trapezoidMinorInnerOffset1  = -0.8;
+                    trapezoidMinorInnerOffset2  = 0.8;
+                    trapezoidMinorOuterOffset1  = -0.6;
+                    trapezoidMinorOuterOffset2  = 0.6;
+                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.3585 * geometry.getSin(tick, trapezoidMinorInnerOffset1);
+                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.3585 * geometry.getCos(tick, trapezoidMinorInnerOffset1);
+                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.3585 * geometry.getSin(tick, trapezoidMinorInnerOffset2);
+                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.3585 * geometry.getCos(tick, trapezoidMinorInnerOffset2);
+                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.3975 * geometry.getSin(tick, trapezoidMinorOuterOffset1);
+                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.3975 * geometry.getCos(tick, trapezoidMinorOuterOffset1);
+                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.3975 * geometry.getSin(tick, trapezoidMinorOuterOffset2);
+                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.3975 * geometry.getCos(tick, trapezoidMinorOuterOffset2);
 
                     triangleMajorInnerPointX    = centerX + SIZE * 0.3585 * sinValue;
                     triangleMajorInnerPointY    = centerY + SIZE * 0.3585 * cosValue;
@@ -786,44 +805,44 @@ public class Helper {
                     tickLabelTickMarkX          = centerX + SIZE * 0.445 * sinValue;
                     tickLabelTickMarkY          = centerY + SIZE * 0.445 * cosValue;
 
-                    trapezoidMajorInnerAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
-                    trapezoidMajorInnerAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMajorOuterAngle1   = Math.toRadians(angle - 1.2 + START_ANGLE);
-                    trapezoidMajorOuterAngle2   = Math.toRadians(angle + 1.2 + START_ANGLE);
-                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.423 * Math.sin(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.423 * Math.cos(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.423 * Math.sin(trapezoidMajorInnerAngle2);
-                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.423 * Math.cos(trapezoidMajorInnerAngle2);
-                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMajorOuterAngle2);
-                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMajorOuterAngle2);
-
-                    trapezoidMediumInnerAngle1  = Math.toRadians(angle - 0.7 + START_ANGLE);
-                    trapezoidMediumInnerAngle2  = Math.toRadians(angle + 0.7 + START_ANGLE);
-                    trapezoidMediumOuterAngle1  = Math.toRadians(angle - 1.0 + START_ANGLE);
-                    trapezoidMediumOuterAngle2  = Math.toRadians(angle + 1.0 + START_ANGLE);
-                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.435 * Math.sin(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.435 * Math.cos(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.435 * Math.sin(trapezoidMediumInnerAngle2);
-                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.435 * Math.cos(trapezoidMediumInnerAngle2);
-                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.475 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.475 * Math.cos(trapezoidMediumOuterAngle1);
-                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.475 * Math.sin(trapezoidMediumOuterAngle2);
-                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.475 * Math.cos(trapezoidMediumOuterAngle2);
-
-                    trapezoidMinorInnerAngle1   = Math.toRadians(angle - 0.6 + START_ANGLE);
-                    trapezoidMinorInnerAngle2   = Math.toRadians(angle + 0.6 + START_ANGLE);
-                    trapezoidMinorOuterAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
-                    trapezoidMinorOuterAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.440 * Math.sin(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.440 * Math.cos(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.440 * Math.sin(trapezoidMinorInnerAngle2);
-                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.440 * Math.cos(trapezoidMinorInnerAngle2);
-                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMinorOuterAngle2);
-                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMinorOuterAngle2);
+                    trapezoidMajorInnerOffset1  = -0.8;
+                    trapezoidMajorInnerOffset2  = 0.8;
+                    trapezoidMajorOuterOffset1  = -1.2;
+                    trapezoidMajorOuterOffset2  = 1.2;
+                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.423 * geometry.getSin(tick, trapezoidMajorInnerOffset1);
+                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.423 * geometry.getCos(tick, trapezoidMajorInnerOffset1);
+                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.423 * geometry.getSin(tick, trapezoidMajorInnerOffset2);
+                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.423 * geometry.getCos(tick, trapezoidMajorInnerOffset2);
+                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.475 * geometry.getSin(tick, trapezoidMajorOuterOffset1);
+                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.475 * geometry.getCos(tick, trapezoidMajorOuterOffset1);
+                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.475 * geometry.getSin(tick, trapezoidMajorOuterOffset2);
+                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.475 * geometry.getCos(tick, trapezoidMajorOuterOffset2);
+
+                    trapezoidMediumInnerOffset1 = -0.7;
+                    trapezoidMediumInnerOffset2 = 0.7;
+                    trapezoidMediumOuterOffset1 = -1.0;
+                    trapezoidMediumOuterOffset2 = 1.0;
+                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.435 * geometry.getSin(tick, trapezoidMediumInnerOffset1);
+                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.435 * geometry.getCos(tick, trapezoidMediumInnerOffset1);
+                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.435 * geometry.getSin(tick, trapezoidMediumInnerOffset2);
+                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.435 * geometry.getCos(tick, trapezoidMediumInnerOffset2);
+                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.475 * geometry.getSin(tick, trapezoidMajorOuterOffset1);
+                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.475 * geometry.getCos(tick, trapezoidMediumOuterOffset1);
+                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.475 * geometry.getSin(tick, trapezoidMediumOuterOffset2);
+                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.475 * geometry.getCos(tick, trapezoidMediumOuterOffset2);
+
+                    trapezoidMinorInnerOffset1  = -0.6;
+                    trapezoidMinorInnerOffset2  = 0.6;
+                    trapezoidMinorOuterOffset1  = -0.8;
+                    trapezoidMinorOuterOffset2  = 0.8;
+                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.440 * geometry.getSin(tick, trapezoidMinorInnerOffset1);
+                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.440 * geometry.getCos(tick, trapezoidMinorInnerOffset1);
+                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.440 * geometry.getSin(tick, trapezoidMinorInnerOffset2);
+                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.440 * geometry.getCos(tick, trapezoidMinorInnerOffset2);
+                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.475 * geometry.getSin(tick, trapezoidMinorOuterOffset1);
+                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.475 * geometry.getCos(tick, trapezoidMinorOuterOffset1);
+                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.475 * geometry.getSin(tick, trapezoidMinorOuterOffset2);
+                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.475 * geometry.getCos(tick, trapezoidMinorOuterOffset2);
 
                     triangleMajorInnerPointX    = centerX + SIZE * 0.423 * sinValue;
                     triangleMajorInnerPointY    = centerY + SIZE * 0.423 * cosValue;
@@ -847,20 +866,20 @@ public class Helper {
             CTX.setFill(tickMarkColor);
             CTX.setLineCap(StrokeLineCap.BUTT);
 
-            if (Double.compare(counterBD.remainder(majorTickSpaceBD).doubleValue(), 0.0) == 0) {
+            if (geometry.isMajor(tick)) {
                 // Draw major tick mark
                 isNotZero = Double.compare(0.0, counter) != 0;
                 TickMarkType tickMarkType = null;
                 if (majorTickMarksVisible) {
                     tickMarkType = majorTickMarkType;
-                    CTX.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, majorTickMarkColor) : majorTickMarkColor);
-                    CTX.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, majorTickMarkColor) : majorTickMarkColor);
+                    CTX.setFill(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, majorTickMarkColor) : majorTickMarkColor);
+                    CTX.setStroke(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, majorTickMarkColor) : majorTickMarkColor);
                     CTX.setLineWidth(SIZE * (TickMarkType.BOX == tickMarkType || TickMarkType.PILL == tickMarkType ? 0.016 : MAX_TICK_MARK_WIDTH * majorTickMarkWidthFactor));
                     CTX.setLineCap(TickMarkType.PILL == tickMarkType ? StrokeLineCap.ROUND : StrokeLineCap.BUTT);
                 } else if (minorTickMarksVisible) {
                     tickMarkType = minorTickMarkType;
-                    CTX.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, minorTickMarkColor) : minorTickMarkColor);
-                    CTX.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, minorTickMarkColor) : minorTickMarkColor);
+                    CTX.setFill(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, minorTickMarkColor) : minorTickMarkColor);
+                    CTX.setStroke(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, minorTickMarkColor) : minorTickMarkColor);
                     CTX.setLineWidth(SIZE * (TickMarkType.BOX == tickMarkType || TickMarkType.PILL == tickMarkType ? 0.007 : MAX_TICK_MARK_WIDTH * minorTickMarkWidthFactor));
                     CTX.setLineCap(TickMarkType.PILL == tickMarkType ? StrokeLineCap.ROUND : StrokeLineCap.BUTT);
                 }
@@ -942,16 +961,16 @@ public class Helper {
 
                     if (!onlyFirstAndLastLabelVisible) {
                         if (isNotZero) {
-                            CTX.setFill(tickLabelSectionsVisible ? Helper.getColorOfSection(tickLabelSections, counter, tickLabelColor) : tickLabelColor);
+                            CTX.setFill(tickLabelSectionsVisible ? tickLabelSectionIndex.getColorAt(counter, tickLabelColor) : tickLabelColor);
                         } else {
-                            CTX.setFill(tickLabelSectionsVisible ? Helper.getColorOfSection(tickLabelSections, counter, tickLabelColor) : fullRange ? zeroColor : tickLabelColor);
+                            CTX.setFill(tickLabelSectionsVisible ? tickLabelSectionIndex.getColorAt(counter, tickLabelColor) : fullRange ? zeroColor : tickLabelColor);
                         }
                     } else {
                         if ((Double.compare(counter, MIN_VALUE) == 0 || Double.compare(counter, MAX_VALUE) == 0)) {
                             if (isNotZero) {
-                                CTX.setFill(tickLabelSectionsVisible ? Helper.getColorOfSection(tickLabelSections, counter, tickLabelColor) : tickLabelColor);
+                                CTX.setFill(tickLabelSectionsVisible ? tickLabelSectionIndex.getColorAt(counter, tickLabelColor) : tickLabelColor);
                             } else {
-                                CTX.setFill(tickLabelSectionsVisible ? Helper.getColorOfSection(tickLabelSections, counter, tickLabelColor) : fullRange ? zeroColor : tickLabelColor);
+                                CTX.setFill(tickLabelSectionsVisible ? tickLabelSectionIndex.getColorAt(counter, tickLabelColor) : fullRange ? zeroColor : tickLabelColor);
                             }
                         } else {
                             CTX.setFill(Color.TRANSPARENT);
@@ -969,12 +988,10 @@ public class Helper {
                     }
                     CTX.restore();
                 }
-            } else if (mediumTickMarksVisible &&
-                       Double.compare(minorTickSpaceBD.remainder(mediumCheck2).doubleValue(), 0.0) != 0.0 &&
-                       Double.compare(counterBD.remainder(mediumCheck5).doubleValue(), 0.0) == 0.0) {
+            } else if (mediumTickMarksVisible && geometry.isMedium(tick)) {
                 // Draw medium tick mark
-                CTX.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, mediumTickMarkColor) : mediumTickMarkColor);
-                CTX.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, mediumTickMarkColor) : mediumTickMarkColor);
+                CTX.setFill(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, mediumTickMarkColor) : mediumTickMarkColor);
+                CTX.setStroke(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, mediumTickMarkColor) : mediumTickMarkColor);
                 switch(mediumTickMarkType) {
                     case TRAPEZOID:
                         Helper.drawTrapezoid(CTX, trapezoidMediumInnerPoint1X, trapezoidMediumInnerPoint1Y, trapezoidMediumInnerPoint2X, trapezoidMediumInnerPoint2Y,
@@ -1018,19 +1035,12 @@ public class Helper {
                         break;
                 }
             } else if (minorTickMarksVisible) {
-                boolean drawMinorTicks = false;
-                if (minorTickSpaceBD.stripTrailingZeros().scale() <= 0) {
-                    if (Double.compare(counterBD.remainder(minorTickSpaceBD).doubleValue(), 0.0) == 0) {
-                        drawMinorTicks = true;
-                    }
-                } else {
-                    drawMinorTicks = true;
-                }
+                boolean drawMinorTicks = geometry.isMinor(tick);
 
                 // Draw minor tick mark
                 if (drawMinorTicks && TickMarkType.TICK_LABEL != majorTickMarkType) {
-                    CTX.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, minorTickMarkColor) : minorTickMarkColor);
-                    CTX.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, minorTickMarkColor) : minorTickMarkColor);
+                    CTX.setFill(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, minorTickMarkColor) : minorTickMarkColor);
+                    CTX.setStroke(tickMarkSectionsVisible ? tickMarkSectionIndex.getColorAt(counter, minorTickMarkColor) : minorTickMarkColor);
                     switch (minorTickMarkType) {
                         case TRAPEZOID:
                             Helper.drawTrapezoid(CTX, trapezoidMinorInnerPoint1X, trapezoidMinorInnerPoint1Y, trapezoidMinorInnerPoint2X, trapezoidMinorInnerPoint2Y,
@@ -1075,10 +1085,6 @@ public class Helper {
                     }
                 }
             }
-            counterBD = counterBD.add(minorTickSpaceBD);
-            counter   = counterBD.doubleValue();
-            if (counter > MAX_VALUE) break;
-            angle     = ScaleDirection.CLOCKWISE == scaleDirection ? (angle - tmpAngleStep) : (angle + tmpAngleStep);
         }
     }
 
@@ -1225,7 +1231,7 @@ public class Helper {
     }
 
     public static final String formatNumber(final Gauge GAUGE, final double VALUE) {
-        return formatNumber(GAUGE.getLocale(), GAUGE.getFormatString(), GAUGE.getDecimals(), VALUE);
+        return GAUGE.getValueFormatter().format(VALUE);
     }
 
     public static final String formatNumber(final Locale LOCALE, final String FORMAT_STRING, final int DECIMALS, final double VALUE) {
@@ -1239,22 +1245,38 @@ public class Helper {
     }
 
     public static final String formatNumber(final Locale LOCALE, final double MIN_VALUE, final double MAX_VALUE, final int DECIMALS, final double VALUE) {
-        StringBuilder sb        = new StringBuilder("%.").append(DECIMALS).append("f");
-        String        f         = sb.toString();
-        int           minLength = String.format(Locale.US, f, MIN_VALUE).length();
-        int           maxLength = String.format(Locale.US, f, MAX_VALUE).length();
-        int           length    = Math.max(minLength, maxLength);
+        // The format string only depends on the scale and will be reused as long as the scale doesn't change
+        MinMaxFormatter formatter = minMaxFormatter;
+        if (null == formatter || !formatter.isFormatterFor(LOCALE, MIN_VALUE, MAX_VALUE, DECIMALS)) {
+            formatter       = new MinMaxFormatter(LOCALE, MIN_VALUE, MAX_VALUE, DECIMALS);
+            minMaxFormatter = formatter;
+        }
+        return formatter.format(VALUE);
+    }
 
-        StringBuilder formatStringBuilder = new StringBuilder("%").append(length).append(".").append(DECIMALS).append("f");
-        String        formatString        = formatStringBuilder.toString();
 
-        double value = VALUE;
-        if (value > 0) {
-            value = Math.floor(VALUE * Math.pow(10, DECIMALS)) / Math.pow(10, DECIMALS);
-        } else if (value < 0) {
-            value = Math.ceil(VALUE * Math.pow(10, DECIMALS)) / Math.pow(10, DECIMALS);
+    // ******************** Inner Classes *************************************
+    private static class MinMaxFormatter {
+        private final double         minValue;
+        private final double         maxValue;
+        private final ValueFormatter formatter;
+
+        MinMaxFormatter(final Locale LOCALE, final double MIN_VALUE, final double MAX_VALUE, final int DECIMALS) {
+            String f         = new StringBuilder("%.").append(DECIMALS).append("f").toString();
+            int    minLength = String.format(Locale.US, f, MIN_VALUE).length();
+            int    maxLength = String.format(Locale.US, f, MAX_VALUE).length();
+            int    length    = Math.max(minLength, maxLength);
+            minValue  = MIN_VALUE;
+            maxValue  = MAX_VALUE;
+            formatter = new ValueFormatter(LOCALE, new StringBuilder("%").append(length).append(".").append(DECIMALS).append("f").toString(), DECIMALS);
+        }
+
+        boolean isFormatterFor(final Locale LOCALE, final double MIN_VALUE, final double MAX_VALUE, final int DECIMALS) {
+            return Double.compare(minValue, MIN_VALUE) == 0 && Double.compare(maxValue, MAX_VALUE) == 0 &&
+                   formatter.getDecimals() == DECIMALS &&
+                   (null == formatter.getLocale() ? null == LOCALE : formatter.getLocale().equals(LOCALE));
         }
 
-        return String.format(LOCALE, formatString, value);
+        String format(final double VALUE) { return formatter.format(VALUE); }
     }
 }
@@ -20,18 +20,34 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.LinkedList;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.StampedLock;
 
 
 /**
  * Created by hansolo on 01.11.16.
+ *
+ * The values will be stored in a ring buffer of primitive arrays so that
+ * adding a value, getting the average and getting the time based average
+ * (binary search over the timestamps of the values) won't create any
+ * garbage. The window for getWindow() will be created on demand.
+ * Writers will be serialized and readers use optimistic reads.
+ * The timestamps of the added Data must not decrease because the time
+ * based average relies on the values being sorted by their timestamp.
  */
 public class MovingAverage {
     public  static final int         MAX_PERIOD     = 1000;
     private static final int         DEFAULT_PERIOD = 10;
-    private        final Queue<Data> window;
-    private              int         numberPeriod;
-    private              double      sum;
+    private static final long        MAX_AGE        = 1L << 62;
+    private        final StampedLock lock;
+    private        final int         numberPeriod;
+    private        final double[]    values;
+    private        final double[]    sums;
+    private        final long[]      nanoTimes;
+    private        final long[]      epochSeconds;
+    private        final int[]       nanos;
+    private              int         head;
+    private              int         size;
+    private              double      total;
 
 
     // ******************** Constructors **************************************
@@ -40,39 +56,184 @@ public class MovingAverage {
     }
     public MovingAverage(final int NUMBER_PERIOD) {
         numberPeriod = Helper.clamp(0, MAX_PERIOD, NUMBER_PERIOD);
-        window       = new ConcurrentLinkedQueue<>();
+        lock         = new StampedLock();
+        final int CAPACITY = Math.max(1, numberPeriod);
+        values       = new double[CAPACITY];
+        sums         = new double[CAPACITY];
+        nanoTimes    = new long[CAPACITY];
+        epochSeconds = new long[CAPACITY];
+        nanos        = new int[CAPACITY];
     }
 
 
     // ******************** Methods *******************************************
+    /**
+     * Adds the given data. The time based average will use the timestamp
+     * of the data which must not be before the timestamp of the last
+     * added data.
+     *
+     * @param DATA
+     * @throws IllegalArgumentException if the timestamp of the given data is before the timestamp of the last added data
+     */
     public void addData(final Data DATA) {
-        sum += DATA.getValue();
-        window.add(DATA);
-        if (window.size() > numberPeriod) {
-            sum -= window.remove().getValue();
+        final Instant TIMESTAMP = DATA.getTimestamp();
+        final long    NANO_TIME = System.nanoTime();
+        long age;
+        try {
+            age = Duration.between(TIMESTAMP, Instant.now()).toNanos();
+        } catch (ArithmeticException e) {
+            age = TIMESTAMP.isBefore(Instant.EPOCH) ? MAX_AGE : -MAX_AGE;
         }
+        // Limits the age to about 146 years so that the nano times can't overflow
+        age = Math.max(-MAX_AGE, Math.min(MAX_AGE, age));
+        add(DATA.getValue(), TIMESTAMP.getEpochSecond(), TIMESTAMP.getNano(), NANO_TIME - age, true);
     }
     public void addValue(final double VALUE) {
-        addData(new Data(VALUE));
+        final long MILLIS = System.currentTimeMillis();
+        add(VALUE, Math.floorDiv(MILLIS, 1000L), (int) Math.floorMod(MILLIS, 1000L) * 1_000_000, System.nanoTime(), false);
     }
 
-    public Queue<Data> getWindow() { return new LinkedList<>(window); }
+    public Queue<Data> getWindow() {
+        final Queue<Data> WINDOW = new LinkedList<>();
+        final long        STAMP  = lock.readLock();
+        try {
+            for (int i = 0 ; i < size ; i++) {
+                final int SLOT = slot(head, size, i);
+                WINDOW.add(new Data(values[SLOT], Instant.ofEpochSecond(epochSeconds[SLOT], nanos[SLOT])));
+            }
+        } finally {
+            lock.unlockRead(STAMP);
+        }
+        return WINDOW;
+    }
 
     public double getAverage() {
-        if (window.isEmpty()) return 0; // technically the average is undefined
-        return (sum / window.size());
+        long   stamp   = lock.tryOptimisticRead();
+        double average = average();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                average = average();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return average;
     }
 
+    /**
+     * Returns the average of all values with a timestamp within the given
+     * duration before now or 0 if there is no such value.
+     *
+     * @param DURATION
+     * @return the average of all values with a timestamp within the given duration
+     */
     public double getTimeBasedAverageOf(final Duration DURATION) {
         assert !DURATION.isNegative() : "Time period must be positive";
-        Instant now     = Instant.now();
-        double  average = window.stream()
-                                .filter(v -> v.getTimestamp().isAfter(now.minus(DURATION)))
-                                .mapToDouble(Data::getValue)
-                                .average()
-                                .getAsDouble();
+        long durationNanos;
+        try {
+            durationNanos = DURATION.toNanos();
+        } catch (ArithmeticException e) {
+            durationNanos = Long.MAX_VALUE;
+        }
+        final long NOW     = System.nanoTime();
+        long       stamp   = lock.tryOptimisticRead();
+        double     average = timeBasedAverage(NOW, durationNanos);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                average = timeBasedAverage(NOW, durationNanos);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
         return average;
     }
 
-    public void reset() { window.clear(); }
+    public void reset() {
+        final long STAMP = lock.writeLock();
+        try {
+            head  = 0;
+            size  = 0;
+            total = 0;
+        } finally {
+            lock.unlockWrite(STAMP);
+        }
+    }
+
+    private void add(final double VALUE, final long EPOCH_SECOND, final int NANO, final long NANO_TIME, final boolean CHECK_ORDER) {
+        if (0 == numberPeriod) return;
+        final long STAMP = lock.writeLock();
+        try {
+            long nanoTime = NANO_TIME;
+            if (size > 0) {
+                final int LAST = slot(head, size, size - 1);
+                if (CHECK_ORDER && (EPOCH_SECOND < epochSeconds[LAST] || (EPOCH_SECOND == epochSeconds[LAST] && NANO < nanos[LAST]))) {
+                    throw new IllegalArgumentException("Timestamp must not be before the timestamp of the last added data");
+                }
+                // Keeps the nano times sorted if the wall clock and System.nanoTime() drift apart
+                nanoTime = Math.max(nanoTime, nanoTimes[LAST]);
+            }
+            if (size == numberPeriod) {
+                // Start summing again at the oldest value to avoid the loss of precision of an ever growing total
+                if (0 == head) { rebase(); }
+                size--;
+            }
+            total              += VALUE;
+            values[head]        = VALUE;
+            sums[head]          = total;
+            nanoTimes[head]     = nanoTime;
+            epochSeconds[head]  = EPOCH_SECOND;
+            nanos[head]         = NANO;
+            head                = (head + 1) % numberPeriod;
+            size++;
+        } finally {
+            lock.unlockWrite(STAMP);
+        }
+    }
+
+    private void rebase() {
+        final double OFFSET = sumBefore(head, size, 0);
+        for (int i = 0 ; i < size ; i++) { sums[slot(head, size, i)] -= OFFSET; }
+        total -= OFFSET;
+    }
+
+    // Might be called without holding the lock, so head and size will only be read once
+    private double average() {
+        final int HEAD = head;
+        final int SIZE = size;
+        if (0 == SIZE) return 0; // technically the average is undefined
+        return (sums[slot(HEAD, SIZE, SIZE - 1)] - sumBefore(HEAD, SIZE, 0)) / SIZE;
+    }
+
+    // Might be called without holding the lock, so head and size will only be read once
+    private double timeBasedAverage(final long NOW, final long DURATION_NANOS) {
+        final int HEAD = head;
+        final int SIZE = size;
+        if (0 == SIZE) return 0;
+
+        // Binary search for the oldest value that was added after NOW - DURATION_NANOS
+        int low  = 0;
+        int high = SIZE;
+        while (low < high) {
+            final int MID = (low + high) >>> 1;
+            if (NOW - nanoTimes[slot(HEAD, SIZE, MID)] < DURATION_NANOS) {
+                high = MID;
+            } else {
+                low = MID + 1;
+            }
+        }
+        if (low == SIZE) return 0;
+        return (sums[slot(HEAD, SIZE, SIZE - 1)] - sumBefore(HEAD, SIZE, low)) / (SIZE - low);
+    }
+
+    private double sumBefore(final int HEAD, final int SIZE, final int INDEX) {
+        final int SLOT = slot(HEAD, SIZE, INDEX);
+        return sums[SLOT] - values[SLOT];
+    }
+
+    private int slot(final int HEAD, final int SIZE, final int INDEX) {
+        final int SLOT = HEAD - SIZE + INDEX;
+        return SLOT < 0 ? SLOT + values.length : SLOT;
+    }
 }
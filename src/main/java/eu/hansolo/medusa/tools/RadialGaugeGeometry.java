@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge.NeedleBehavior;
+import eu.hansolo.medusa.Gauge.NeedleShape;
+import eu.hansolo.medusa.Gauge.ScaleDirection;
+import eu.hansolo.medusa.Marker.MarkerType;
+import eu.hansolo.medusa.TickLabelLocation;
+import eu.hansolo.medusa.TickLabelOrientation;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+
+
+/**
+ * The geometry and the colors of the radial GaugeSkin that don't depend on
+ * the kind of canvas they will be drawn on. The GaugeSkin uses them to
+ * draw with JavaFX and the GaugeRenderer uses them to draw with Java2D, so
+ * both will place the needle, areas, sections, markers and the threshold
+ * at the same positions. All sizes are factors of the gauge size and all
+ * angles are in degrees. Doesn't touch any node and can be used on any
+ * thread.
+ */
+public final class RadialGaugeGeometry {
+    public  static final double SECTION_WIDTH_FACTOR = 0.052;
+    public  static final double FLAT_NEEDLE_BORDER   = 0.0037037;
+    public  static final double FLAT_KNOB_LINE_WIDTH = 0.00740741;
+    private static final Color  KNOB_FRAME_COLOR     = Color.rgb(133, 133, 133);
+
+
+    // ******************** Constructors **************************************
+    private RadialGaugeGeometry() {}
+
+
+    // ******************** Needle ********************************************
+    /**
+     * Returns the value the needle will point to. With NeedleBehavior.OPTIMIZED
+     * values outside of the range will be wrapped around into the range.
+     *
+     * @param VALUE
+     * @param MIN_VALUE
+     * @param MAX_VALUE
+     * @param BEHAVIOR
+     * @return the value the needle will point to
+     */
+    public static double getNeedleValue(final double VALUE, final double MIN_VALUE, final double MAX_VALUE, final NeedleBehavior BEHAVIOR) {
+        if (NeedleBehavior.STANDARD == BEHAVIOR) return VALUE;
+        double value = VALUE;
+        if (value < MIN_VALUE) value = MAX_VALUE - MIN_VALUE + value;
+        if (value > MAX_VALUE) value = value - MAX_VALUE + MIN_VALUE;
+        return value;
+    }
+
+    /**
+     * Returns the rotation of a needle that points up in the unrotated state
+     * for the given value, clamped to the angle range of the scale.
+     *
+     * @param VALUE
+     * @param MIN_VALUE
+     * @param START_ANGLE
+     * @param ANGLE_RANGE
+     * @param ANGLE_STEP
+     * @param DIRECTION
+     * @return the rotation of the needle for the given value
+     */
+    public static double getNeedleAngle(final double VALUE, final double MIN_VALUE, final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP,
+                                        final ScaleDirection DIRECTION) {
+        final double START_OFFSET_ANGLE = 180 - START_ANGLE;
+        if (ScaleDirection.CLOCKWISE == DIRECTION) {
+            return Helper.clamp(START_OFFSET_ANGLE, START_OFFSET_ANGLE + ANGLE_RANGE, START_OFFSET_ANGLE + (VALUE - MIN_VALUE) * ANGLE_STEP);
+        } else {
+            return Helper.clamp(START_OFFSET_ANGLE - ANGLE_RANGE, START_OFFSET_ANGLE, START_OFFSET_ANGLE - (VALUE - MIN_VALUE) * ANGLE_STEP);
+        }
+    }
+
+    /**
+     * Returns the height of the NeedleType.STANDARD needle, the width is
+     * given by the NeedleSize.
+     *
+     * @param LOCATION
+     * @return the height of the standard needle as factor of the gauge size
+     */
+    public static double getStandardNeedleHeight(final TickLabelLocation LOCATION) {
+        return TickLabelLocation.INSIDE == LOCATION ? 0.455 : 0.3965;
+    }
+
+    /**
+     * Returns the stops of the horizontal gradient of the needle or null if
+     * the needle will be filled with the plain color (NeedleShape.FLAT).
+     *
+     * @param SHAPE
+     * @param COLOR
+     * @return the stops of the needle gradient or null for flat needles
+     */
+    public static Stop[] getNeedleStops(final NeedleShape SHAPE, final Color COLOR) {
+        switch(SHAPE) {
+            case ROUND : return new Stop[] { new Stop(0.0, COLOR.darker()), new Stop(0.5, COLOR.brighter().brighter()), new Stop(1.0, COLOR.darker()) };
+            case FLAT  : return null;
+            case ANGLED:
+            default    : return new Stop[] { new Stop(0.0, COLOR.darker()), new Stop(0.5, COLOR.darker()), new Stop(0.5, COLOR.brighter()), new Stop(1.0, COLOR.brighter()) };
+        }
+    }
+
+    /**
+     * Returns the width of the needle border, only flat needles have a border.
+     *
+     * @param SHAPE
+     * @return the width of the needle border as factor of the gauge size
+     */
+    public static double getNeedleBorderWidth(final NeedleShape SHAPE) { return NeedleShape.FLAT == SHAPE ? FLAT_NEEDLE_BORDER : 0; }
+
+
+    // ******************** Knob **********************************************
+    /**
+     * Returns the stops of the vertical gradient of the KnobType.STANDARD frame
+     *
+     * @return the stops of the standard knob frame gradient
+     */
+    public static Stop[] getStandardKnobFrameStops() {
+        return new Stop[] { new Stop(0.0, KNOB_FRAME_COLOR.brighter().brighter()), new Stop(0.52, KNOB_FRAME_COLOR), new Stop(1.0, KNOB_FRAME_COLOR.darker().darker()) };
+    }
+
+    /**
+     * Returns the stops of the vertical gradient of the KnobType.STANDARD
+     * knob in the given color. A black knob will be drawn dark grey.
+     *
+     * @param KNOB_COLOR
+     * @return the stops of the standard knob gradient
+     */
+    public static Stop[] getStandardKnobStops(final Color KNOB_COLOR) {
+        final double HUE = KNOB_COLOR.getHue();
+        final double SAT = KNOB_COLOR.getSaturation();
+        final double ALP = KNOB_COLOR.getOpacity();
+        final double BRG = Color.BLACK.equals(KNOB_COLOR) ? 0.2 : KNOB_COLOR.getBrightness();
+        return new Stop[] { new Stop(0.0, Color.hsb(HUE, SAT, BRG * 0.85, ALP)), new Stop(0.45, Color.hsb(HUE, SAT, BRG * 0.65, ALP)), new Stop(1.0, Color.hsb(HUE, SAT, BRG * 0.4, ALP)) };
+    }
+
+
+    // ******************** Areas and Sections ********************************
+    /**
+     * Returns the inset of the bounds of the area arcs
+     *
+     * @param LOCATION
+     * @return the inset of the area bounds as factor of the gauge size
+     */
+    public static double getAreaInset(final TickLabelLocation LOCATION) { return TickLabelLocation.OUTSIDE == LOCATION ? 0.0895 : 0.025; }
+
+    /**
+     * Returns the width and height of the bounds of the area arcs
+     *
+     * @param LOCATION
+     * @return the size of the area bounds as factor of the gauge size
+     */
+    public static double getAreaSize(final TickLabelLocation LOCATION) { return TickLabelLocation.OUTSIDE == LOCATION ? 0.821 : 0.95; }
+
+    /**
+     * Returns the inset of the bounds of the section and gradient bar arcs
+     *
+     * @param LOCATION
+     * @return the inset of the section bounds as factor of the gauge size
+     */
+    public static double getSectionInset(final TickLabelLocation LOCATION) { return TickLabelLocation.OUTSIDE == LOCATION ? 0.115 : 0.0515; }
+
+    /**
+     * Returns the width and height of the bounds of the section and gradient bar arcs
+     *
+     * @param LOCATION
+     * @return the size of the section bounds as factor of the gauge size
+     */
+    public static double getSectionSize(final TickLabelLocation LOCATION) { return TickLabelLocation.OUTSIDE == LOCATION ? 0.77 : 0.897; }
+
+    /**
+     * Returns true if a section from START to STOP overlaps the scale
+     *
+     * @param START
+     * @param STOP
+     * @param MIN_VALUE
+     * @param MAX_VALUE
+     * @return true if the section overlaps the scale
+     */
+    public static boolean isInRange(final double START, final double STOP, final double MIN_VALUE, final double MAX_VALUE) {
+        return Double.compare(START, MAX_VALUE) <= 0 && Double.compare(STOP, MIN_VALUE) >= 0;
+    }
+
+    /**
+     * Returns the angle between the start of the scale and the start of the section
+     *
+     * @param START
+     * @param STOP
+     * @param MIN_VALUE
+     * @param MAX_VALUE
+     * @param ANGLE_STEP
+     * @param DIRECTION
+     * @return the angle between the start of the scale and the start of the section
+     */
+    public static double getSectionStartAngle(final double START, final double STOP, final double MIN_VALUE, final double MAX_VALUE, final double ANGLE_STEP,
+                                              final ScaleDirection DIRECTION) {
+        if (Double.compare(START, MIN_VALUE) < 0 && Double.compare(STOP, MAX_VALUE) < 0) return 0;
+        return ScaleDirection.CLOCKWISE == DIRECTION ? (START - MIN_VALUE) * ANGLE_STEP : -(START - MIN_VALUE) * ANGLE_STEP;
+    }
+
+    /**
+     * Returns the angle extend of the part of the section that is on the scale
+     *
+     * @param START
+     * @param STOP
+     * @param MIN_VALUE
+     * @param MAX_VALUE
+     * @param ANGLE_STEP
+     * @param DIRECTION
+     * @return the angle extend of the section
+     */
+    public static double getSectionAngleExtend(final double START, final double STOP, final double MIN_VALUE, final double MAX_VALUE, final double ANGLE_STEP,
+                                               final ScaleDirection DIRECTION) {
+        final double EXTEND;
+        if (Double.compare(STOP, MAX_VALUE) > 0) {
+            EXTEND = MAX_VALUE - START;
+        } else if (Double.compare(START, MIN_VALUE) < 0) {
+            EXTEND = STOP - MIN_VALUE;
+        } else {
+            EXTEND = STOP - START;
+        }
+        return ScaleDirection.CLOCKWISE == DIRECTION ? EXTEND * ANGLE_STEP : -EXTEND * ANGLE_STEP;
+    }
+
+    /**
+     * Returns the color of a section or area, the highlight color is used
+     * if highlighting is enabled and the section contains the given value.
+     *
+     * @param START
+     * @param STOP
+     * @param COLOR
+     * @param HIGHLIGHT_COLOR
+     * @param HIGHLIGHT
+     * @param VALUE
+     * @return the color of the section for the given value
+     */
+    public static Color getSectionColor(final double START, final double STOP, final Color COLOR, final Color HIGHLIGHT_COLOR, final boolean HIGHLIGHT, final double VALUE) {
+        if (!HIGHLIGHT) return COLOR;
+        return Double.compare(VALUE, START) >= 0 && Double.compare(VALUE, STOP) <= 0 ? HIGHLIGHT_COLOR : COLOR;
+    }
+
+
+    // ******************** Markers and Threshold *****************************
+    /**
+     * Returns the angle of the given value on the scale as used for the
+     * sine and cosine of the positions of markers, the threshold and the
+     * average.
+     *
+     * @param VALUE
+     * @param MIN_VALUE
+     * @param START_ANGLE
+     * @param ANGLE_STEP
+     * @param DIRECTION
+     * @return the angle of the given value on the scale
+     */
+    public static double getScaleAngle(final double VALUE, final double MIN_VALUE, final double START_ANGLE, final double ANGLE_STEP, final ScaleDirection DIRECTION) {
+        return ScaleDirection.CLOCKWISE == DIRECTION ? START_ANGLE - (VALUE - MIN_VALUE) * ANGLE_STEP : START_ANGLE + (VALUE - MIN_VALUE) * ANGLE_STEP;
+    }
+
+    /**
+     * Returns the size of a marker, for MarkerType.DOT this is the radius
+     *
+     * @param LOCATION
+     * @param SIZE
+     * @return the size of a marker
+     */
+    public static double getMarkerSize(final TickLabelLocation LOCATION, final double SIZE) {
+        return TickLabelLocation.OUTSIDE == LOCATION ? 0.0125 * SIZE : 0.015 * SIZE;
+    }
+
+    /**
+     * Returns the points of the closed marker path as x, y pairs. For
+     * MarkerType.DOT only the center of the dot will be returned.
+     *
+     * @param TYPE
+     * @param LOCATION
+     * @param ANGLE the angle of the marker value from getScaleAngle()
+     * @param SIZE
+     * @param CENTER_X
+     * @param CENTER_Y
+     * @return the points of the marker as x, y pairs
+     */
+    public static double[] getMarkerPoints(final MarkerType TYPE, final TickLabelLocation LOCATION, final double ANGLE, final double SIZE,
+                                           final double CENTER_X, final double CENTER_Y) {
+        final boolean OUTSIDE   = TickLabelLocation.OUTSIDE == LOCATION;
+        final double  PATH_HALF = getMarkerSize(LOCATION, SIZE) * 0.3;
+        switch(TYPE) {
+            case TRIANGLE:
+                return OUTSIDE ? points(CENTER_X, CENTER_Y, SIZE, ANGLE, PATH_HALF, 0.38, 0.4075, 0.4075) :
+                                 points(CENTER_X, CENTER_Y, SIZE, ANGLE, PATH_HALF, 0.465, 0.436, 0.436);
+            case DOT:
+                final double RADIUS = OUTSIDE ? 0.3945 : 0.449;
+                return new double[] { CENTER_X + SIZE * RADIUS * Math.sin(Math.toRadians(ANGLE)), CENTER_Y + SIZE * RADIUS * Math.cos(Math.toRadians(ANGLE)) };
+            case STANDARD:
+            default:
+                return OUTSIDE ? points(CENTER_X, CENTER_Y, SIZE, ANGLE, PATH_HALF, 0.38, 0.4075, 0.4575, 0.4575, 0.4075) :
+                                 points(CENTER_X, CENTER_Y, SIZE, ANGLE, PATH_HALF, 0.465, 0.436, 0.386, 0.386, 0.436);
+        }
+    }
+
+    /**
+     * Returns the points of the closed threshold (or average) triangle as x, y pairs
+     *
+     * @param LOCATION
+     * @param ANGLE the angle of the threshold value from getScaleAngle()
+     * @param SIZE
+     * @param CENTER_X
+     * @param CENTER_Y
+     * @return the points of the threshold triangle as x, y pairs
+     */
+    public static double[] getThresholdPoints(final TickLabelLocation LOCATION, final double ANGLE, final double SIZE, final double CENTER_X, final double CENTER_Y) {
+        final double THRESHOLD_SIZE = Helper.clamp(3.0, 3.5, 0.01 * SIZE);
+        return TickLabelLocation.OUTSIDE == LOCATION ? points(CENTER_X, CENTER_Y, SIZE, ANGLE, THRESHOLD_SIZE, 0.38, 0.34, 0.34) :
+                                                       points(CENTER_X, CENTER_Y, SIZE, ANGLE, THRESHOLD_SIZE, 0.465, 0.425, 0.425);
+    }
+
+
+    // ******************** Tick Labels ***************************************
+    /**
+     * Returns the rotation of a tick label at the given angle of the scale
+     * so that the text will never be upside down.
+     *
+     * @param START_ANGLE
+     * @param ANGLE
+     * @param ORIENTATION
+     * @return the rotation of the tick label, 0 for TickLabelOrientation.HORIZONTAL
+     */
+    public static double getTickLabelRotation(final double START_ANGLE, final double ANGLE, final TickLabelOrientation ORIENTATION) {
+        switch (ORIENTATION) {
+            case ORTHOGONAL:
+                if ((360 - START_ANGLE - ANGLE) % 360 > 90 && (360 - START_ANGLE - ANGLE) % 360 < 270) {
+                    return (180 - START_ANGLE - ANGLE) % 360;
+                } else {
+                    return (360 - START_ANGLE - ANGLE) % 360;
+                }
+            case TANGENT:
+                if ((360 - START_ANGLE - ANGLE - 90) % 360 > 90 && (360 - START_ANGLE - ANGLE - 90) % 360 < 270) {
+                    return (90 - START_ANGLE - ANGLE) % 360;
+                } else {
+                    return (270 - START_ANGLE - ANGLE) % 360;
+                }
+            case HORIZONTAL:
+            default:
+                return 0;
+        }
+    }
+
+
+    // ******************** Private Methods ***********************************
+    // The first radius is at ANGLE, then the second half of the radii at ANGLE - SPREAD and the rest at ANGLE + SPREAD
+    private static double[] points(final double CENTER_X, final double CENTER_Y, final double SIZE, final double ANGLE, final double SPREAD, final double... RADII) {
+        final double[] POINTS = new double[RADII.length * 2];
+        final int      SPLIT  = 1 + (RADII.length - 1) / 2;
+        for (int i = 0 ; i < RADII.length ; i++) {
+            final double ANGLE_I = 0 == i ? ANGLE : (i < SPLIT ? ANGLE - SPREAD : ANGLE + SPREAD);
+            POINTS[2 * i]     = CENTER_X + SIZE * RADII[i] * Math.sin(Math.toRadians(ANGLE_I));
+            POINTS[2 * i + 1] = CENTER_Y + SIZE * RADII[i] * Math.cos(Math.toRadians(ANGLE_I));
+        }
+        return POINTS;
+    }
+}
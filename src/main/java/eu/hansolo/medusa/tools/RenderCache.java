@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Section;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+
+/**
+ * A cache for bitmaps of static skin layers like tick marks, sections or
+ * knobs. A layer will be rasterized once per (layer, size, style) and
+ * all gauges with the same size and styling will share the bitmap. The
+ * style is a list of all values the layer depends on and will be compared
+ * by equals(), its hash code is only used to find the bucket.
+ * The least recently used bitmaps will be removed if more than MAX_ENTRIES
+ * bitmaps are cached.
+ * The bitmaps are taken with Canvas.snapshot() and because of that they are
+ * rendered with a scale of 1.0 which might look a bit blurry on HiDPI screens.
+ * Must only be used on the JavaFX application thread.
+ */
+public class RenderCache {
+    public  static final int                      MAX_ENTRIES = 128;
+    private static final Map<Key, WritableImage>  CACHE       = new LinkedHashMap<Key, WritableImage>(MAX_ENTRIES, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<Key, WritableImage> ELDEST) { return size() > MAX_ENTRIES; }
+    };
+    private static final SnapshotParameters       PARAMETERS  = new SnapshotParameters();
+    static {
+        PARAMETERS.setFill(Color.TRANSPARENT);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Draws the given layer to the given canvas. If a bitmap for the given
+     * layer, canvas size and style is available it will be drawn,
+     * otherwise the PAINTER will draw the layer and the result will be cached.
+     * The canvas must not have an effect, clip or transform because they
+     * would be part of the cached bitmap.
+     *
+     * @param CANVAS
+     * @param LAYER      name of the layer, e.g. "GaugeSkin.tickMarks"
+     * @param STYLE      all values the layer depends on, see style(Object...)
+     * @param PAINTER    draws the layer to the given GraphicsContext
+     */
+    public static void draw(final Canvas CANVAS, final String LAYER, final List<Object> STYLE, final Consumer<GraphicsContext> PAINTER) {
+        final GraphicsContext CTX    = CANVAS.getGraphicsContext2D();
+        final double          WIDTH  = CANVAS.getWidth();
+        final double          HEIGHT = CANVAS.getHeight();
+        CTX.clearRect(0, 0, WIDTH, HEIGHT);
+        if (WIDTH < 1 || HEIGHT < 1) return;
+
+        final Key           KEY   = new Key(LAYER, WIDTH, HEIGHT, STYLE);
+        final WritableImage IMAGE = CACHE.get(KEY);
+        if (null == IMAGE) {
+            PAINTER.accept(CTX);
+            CACHE.put(KEY, CANVAS.snapshot(PARAMETERS, null));
+        } else {
+            CTX.drawImage(IMAGE, 0, 0, IMAGE.getWidth(), IMAGE.getHeight());
+        }
+    }
+
+    /**
+     * Removes all cached bitmaps
+     */
+    public static void clear() { CACHE.clear(); }
+
+    public static int size() { return CACHE.size(); }
+
+    /**
+     * Returns an immutable list of the given values that can be used as the
+     * style of a layer. Lists in the given values will be copied so that
+     * later modifications of them won't change the style.
+     *
+     * @param VALUES
+     * @return an immutable list of the given values
+     */
+    public static List<Object> style(final Object... VALUES) {
+        final List<Object> STYLE = new ArrayList<>(VALUES.length);
+        for (Object value : VALUES) {
+            STYLE.add(value instanceof List ? Collections.unmodifiableList(new ArrayList<>((List<?>) value)) : value);
+        }
+        return Collections.unmodifiableList(STYLE);
+    }
+
+    /**
+     * Returns the style of the given sections which contains all properties
+     * that will be used to draw them. Section doesn't override equals() and
+     * so this method will be used instead.
+     *
+     * @param SECTIONS
+     * @return the style of the given sections
+     */
+    public static List<Object> style(final List<Section> SECTIONS) {
+        if (null == SECTIONS) return Collections.emptyList();
+        final List<Object> STYLE = new ArrayList<>(SECTIONS.size());
+        for (Section section : SECTIONS) {
+            STYLE.add(style(section.getStart(), section.getStop(), section.getColor(), section.getHighlightColor(),
+                            section.getText(), section.getTextColor(), section.getImage()));
+        }
+        return Collections.unmodifiableList(STYLE);
+    }
+
+    /**
+     * Returns the style of the scale (tick marks, tick labels and the
+     * gradient bar) which contains all gauge properties that will be used
+     * to draw it.
+     *
+     * @param GAUGE
+     * @return the style of the scale
+     */
+    public static List<Object> scaleStyle(final Gauge GAUGE) {
+        return style(GAUGE.getSkinType(), GAUGE.getMinValue(), GAUGE.getMaxValue(), GAUGE.getStartAngle(), GAUGE.getAngleRange(),
+                     GAUGE.getScaleDirection(), GAUGE.getKnobPosition(), GAUGE.getLocale(), GAUGE.getDecimals(), GAUGE.getTickLabelDecimals(),
+                     GAUGE.getMajorTickSpace(), GAUGE.getMinorTickSpace(), GAUGE.getTickLabelOrientation(), GAUGE.getTickLabelLocation(),
+                     GAUGE.getTickLabelsVisible(), GAUGE.isOnlyFirstAndLastTickLabelVisible(), GAUGE.getTickLabelColor(), GAUGE.getZeroColor(),
+                     GAUGE.getTickMarkColor(), GAUGE.isTickMarkRingVisible(),
+                     GAUGE.getMajorTickMarksVisible(), GAUGE.getMajorTickMarkColor(), GAUGE.getMajorTickMarkType(), GAUGE.getMajorTickMarkLengthFactor(), GAUGE.getMajorTickMarkWidthFactor(),
+                     GAUGE.getMediumTickMarksVisible(), GAUGE.getMediumTickMarkColor(), GAUGE.getMediumTickMarkType(), GAUGE.getMediumTickMarkLengthFactor(), GAUGE.getMediumTickMarkWidthFactor(),
+                     GAUGE.getMinorTickMarksVisible(), GAUGE.getMinorTickMarkColor(), GAUGE.getMinorTickMarkType(), GAUGE.getMinorTickMarkLengthFactor(), GAUGE.getMinorTickMarkWidthFactor(),
+                     GAUGE.getCustomTickLabelsEnabled(), GAUGE.getCustomTickLabels(), GAUGE.getCustomTickLabelFontSize(),
+                     GAUGE.getTickMarkSectionsVisible(), style(GAUGE.getTickMarkSections()),
+                     GAUGE.getTickLabelSectionsVisible(), style(GAUGE.getTickLabelSections()),
+                     GAUGE.isGradientBarEnabled(), null == GAUGE.getGradientLookup() ? null : GAUGE.getGradientBarStops());
+    }
+
+    /**
+     * Returns the style of the sections and areas (without highlighting)
+     * which contains all gauge properties that will be used to draw them.
+     *
+     * @param GAUGE
+     * @return the style of the sections and areas
+     */
+    public static List<Object> sectionsStyle(final Gauge GAUGE) {
+        return style(GAUGE.getSkinType(), GAUGE.getMinValue(), GAUGE.getMaxValue(), GAUGE.getStartAngle(), GAUGE.getAngleRange(),
+                     GAUGE.getScaleDirection(), GAUGE.getKnobPosition(), GAUGE.getTickLabelLocation(),
+                     GAUGE.getSectionsVisible(), style(GAUGE.getSections()), GAUGE.getAreasVisible(), style(GAUGE.getAreas()));
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Key {
+        private final String       layer;
+        private final double       width;
+        private final double       height;
+        private final List<Object> style;
+        private final int          hashCode;
+
+        Key(final String LAYER, final double WIDTH, final double HEIGHT, final List<Object> STYLE) {
+            layer    = LAYER;
+            width    = WIDTH;
+            height   = HEIGHT;
+            style    = STYLE;
+            hashCode = Objects.hash(LAYER, WIDTH, HEIGHT, STYLE);
+        }
+
+        @Override public boolean equals(final Object OBJECT) {
+            if (this == OBJECT) return true;
+            if (!(OBJECT instanceof Key)) return false;
+            Key key = (Key) OBJECT;
+            return Double.compare(width, key.width) == 0 &&
+                   Double.compare(height, key.height) == 0 &&
+                   layer.equals(key.layer) &&
+                   style.equals(key.style);
+        }
+
+        @Override public int hashCode() { return hashCode; }
+    }
+}
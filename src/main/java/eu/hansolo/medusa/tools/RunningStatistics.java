@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+
+/**
+ * Streaming statistics over all added values without storing them.
+ * Count, sum, min and max will be tracked directly, mean and variance
+ * with Welford's algorithm and the quantiles that were given in the
+ * constructor will be estimated with the P² algorithm (Jain and Chlamtac)
+ * that only needs five markers per quantile. The quantile estimates are
+ * exact for up to five values.
+ * Adding a value is O(number of quantiles) and doesn't create garbage.
+ * NaN values will be ignored. All methods are synchronized.
+ */
+public class RunningStatistics {
+    public  static final double[] DEFAULT_QUANTILES = { 0.5, 0.9, 0.99 };
+    private static final int      NO_OF_MARKERS     = 5;
+    private        final double[] quantiles;
+    private        final double[] heights;
+    private        final int[]    positions;
+    private        final double[] desired;
+    private        final double[] increments;
+    private        final double[] initialValues;
+    private              long     count;
+    private              double   mean;
+    private              double   m2;
+    private              double   sum;
+    private              double   min;
+    private              double   max;
+
+
+    // ******************** Constructors **************************************
+    public RunningStatistics() {
+        this(DEFAULT_QUANTILES);
+    }
+    public RunningStatistics(final double... QUANTILES) {
+        for (double quantile : QUANTILES) {
+            if (quantile < 0 || quantile > 1 || Double.isNaN(quantile)) throw new IllegalArgumentException("Quantile must be in the range of 0 - 1");
+        }
+        quantiles     = QUANTILES.clone();
+        heights       = new double[QUANTILES.length * NO_OF_MARKERS];
+        positions     = new int[QUANTILES.length * NO_OF_MARKERS];
+        desired       = new double[QUANTILES.length * NO_OF_MARKERS];
+        increments    = new double[QUANTILES.length * NO_OF_MARKERS];
+        initialValues = new double[NO_OF_MARKERS];
+        for (int q = 0 ; q < QUANTILES.length ; q++) {
+            final double P      = QUANTILES[q];
+            final int    OFFSET = q * NO_OF_MARKERS;
+            increments[OFFSET]     = 0;
+            increments[OFFSET + 1] = P / 2;
+            increments[OFFSET + 2] = P;
+            increments[OFFSET + 3] = (1 + P) / 2;
+            increments[OFFSET + 4] = 1;
+        }
+        reset();
+    }
+
+
+    // ******************** Methods *******************************************
+    public synchronized void add(final double VALUE) {
+        if (Double.isNaN(VALUE)) return;
+        count++;
+        sum += VALUE;
+        if (VALUE < min) { min = VALUE; }
+        if (VALUE > max) { max = VALUE; }
+        final double DELTA = VALUE - mean;
+        mean += DELTA / count;
+        m2   += DELTA * (VALUE - mean);
+
+        if (count <= NO_OF_MARKERS) {
+            initialValues[(int) count - 1] = VALUE;
+            if (count == NO_OF_MARKERS) { initMarkers(); }
+        } else {
+            for (int q = 0 ; q < quantiles.length ; q++) { updateMarkers(q * NO_OF_MARKERS, VALUE); }
+        }
+    }
+
+    public void addAll(final double[] VALUES) { addAll(VALUES, 0, VALUES.length); }
+    /**
+     * Adds the values of the given array from index FROM (inclusive) to
+     * index TO (exclusive)
+     *
+     * @param VALUES
+     * @param FROM
+     * @param TO
+     */
+    public synchronized void addAll(final double[] VALUES, final int FROM, final int TO) {
+        for (int i = FROM ; i < TO ; i++) { add(VALUES[i]); }
+    }
+    /**
+     * Adds the remaining values of the given buffer. The position of the
+     * buffer will not be changed.
+     *
+     * @param BUFFER
+     */
+    public synchronized void addAll(final DoubleBuffer BUFFER) {
+        for (int i = BUFFER.position() ; i < BUFFER.limit() ; i++) { add(BUFFER.get(i)); }
+    }
+
+    public synchronized void reset() {
+        count = 0;
+        mean  = 0;
+        m2    = 0;
+        sum   = 0;
+        min   = Double.POSITIVE_INFINITY;
+        max   = Double.NEGATIVE_INFINITY;
+    }
+
+    public synchronized long getCount() { return count; }
+
+    public synchronized double getSum() { return sum; }
+
+    public synchronized double getMean() { return 0 == count ? 0 : mean; }
+
+    /**
+     * Returns the population variance like Statistics.getVariance()
+     *
+     * @return the population variance of all added values
+     */
+    public synchronized double getVariance() { return 0 == count ? 0 : m2 / count; }
+
+    public synchronized double getSampleVariance() { return count < 2 ? 0 : m2 / (count - 1); }
+
+    public double getStdDev() { return Math.sqrt(getVariance()); }
+
+    public synchronized double getMin() { return 0 == count ? 0 : min; }
+
+    public synchronized double getMax() { return 0 == count ? 0 : max; }
+
+    public double[] getQuantiles() { return quantiles.clone(); }
+
+    /**
+     * Returns the estimated value of the given quantile (e.g. 0.9 for the
+     * 90th percentile). The quantile must be one of the quantiles that were
+     * given in the constructor.
+     *
+     * @param QUANTILE
+     * @return the estimated value of the given quantile
+     */
+    public synchronized double getQuantile(final double QUANTILE) {
+        int q = indexOf(QUANTILE);
+        if (q < 0) throw new IllegalArgumentException("Quantile " + QUANTILE + " is not tracked");
+        if (0 == count) return 0;
+        if (count <= NO_OF_MARKERS) {
+            double[] values = Arrays.copyOf(initialValues, (int) count);
+            Arrays.sort(values);
+            return Statistics.getPercentile(values, QUANTILE);
+        }
+        return heights[q * NO_OF_MARKERS + 2];
+    }
+
+    /**
+     * Returns the estimated median if 0.5 is one of the tracked quantiles
+     *
+     * @return the estimated median
+     */
+    public double getMedian() { return getQuantile(0.5); }
+
+    @Override public synchronized String toString() {
+        StringBuilder builder = new StringBuilder("{\n")
+            .append("  \"count\":").append(count).append(",\n")
+            .append("  \"mean\":").append(getMean()).append(",\n")
+            .append("  \"stdDev\":").append(getStdDev()).append(",\n")
+            .append("  \"min\":").append(getMin()).append(",\n")
+            .append("  \"max\":").append(getMax());
+        for (double quantile : quantiles) { builder.append(",\n  \"p").append(quantile).append("\":").append(getQuantile(quantile)); }
+        return builder.append("\n}").toString();
+    }
+
+    private void initMarkers() {
+        double[] sorted = initialValues.clone();
+        Arrays.sort(sorted);
+        for (int q = 0 ; q < quantiles.length ; q++) {
+            final double P      = quantiles[q];
+            final int    OFFSET = q * NO_OF_MARKERS;
+            for (int i = 0 ; i < NO_OF_MARKERS ; i++) {
+                heights[OFFSET + i]   = sorted[i];
+                positions[OFFSET + i] = i;
+            }
+            desired[OFFSET]     = 0;
+            desired[OFFSET + 1] = 2 * P;
+            desired[OFFSET + 2] = 4 * P;
+            desired[OFFSET + 3] = 2 + 2 * P;
+            desired[OFFSET + 4] = 4;
+        }
+    }
+
+    private void updateMarkers(final int OFFSET, final double VALUE) {
+        // Find the cell that contains the value and adjust the extreme markers
+        int k;
+        if (VALUE < heights[OFFSET]) {
+            heights[OFFSET] = VALUE;
+            k = 0;
+        } else if (VALUE >= heights[OFFSET + 4]) {
+            heights[OFFSET + 4] = VALUE;
+            k = 3;
+        } else {
+            k = 0;
+            while (k < 3 && VALUE >= heights[OFFSET + k + 1]) { k++; }
+        }
+        for (int i = k + 1 ; i < NO_OF_MARKERS ; i++) { positions[OFFSET + i]++; }
+        for (int i = 0 ; i < NO_OF_MARKERS ; i++) { desired[OFFSET + i] += increments[OFFSET + i]; }
+
+        // Adjust the heights of the inner markers if necessary
+        for (int i = OFFSET + 1 ; i < OFFSET + 4 ; i++) {
+            final double D = desired[i] - positions[i];
+            if ((D >= 1 && positions[i + 1] - positions[i] > 1) || (D <= -1 && positions[i - 1] - positions[i] < -1)) {
+                final int    SIGN      = D > 0 ? 1 : -1;
+                final double PARABOLIC = parabolic(i, SIGN);
+                if (heights[i - 1] < PARABOLIC && PARABOLIC < heights[i + 1]) {
+                    heights[i] = PARABOLIC;
+                } else {
+                    heights[i] = heights[i] + SIGN * (heights[i + SIGN] - heights[i]) / (positions[i + SIGN] - positions[i]);
+                }
+                positions[i] += SIGN;
+            }
+        }
+    }
+
+    private double parabolic(final int I, final int SIGN) {
+        final double N_PREV = positions[I - 1];
+        final double N      = positions[I];
+        final double N_NEXT = positions[I + 1];
+        return heights[I] + SIGN / (N_NEXT - N_PREV) * ((N - N_PREV + SIGN) * (heights[I + 1] - heights[I]) / (N_NEXT - N) +
+                                                          (N_NEXT - N - SIGN) * (heights[I] - heights[I - 1]) / (N - N_PREV));
+    }
+
+    private int indexOf(final double QUANTILE) {
+        for (int i = 0 ; i < quantiles.length ; i++) { if (Double.compare(quantiles[i], QUANTILE) == 0) return i; }
+        return -1;
+    }
+}
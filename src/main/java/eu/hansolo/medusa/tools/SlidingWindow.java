@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import java.util.Arrays;
+
+
+/**
+ * A fixed size window over the last added values that is backed by a
+ * primitive ring buffer. Adding a value evicts the oldest value if the
+ * window is full. The sum and the sum of squares will be updated
+ * incrementally and the minimum and maximum will be tracked with
+ * monotonic deques, so adding a value and reading mean, standard
+ * deviation, min and max is O(1) (amortized) and doesn't create garbage.
+ * The sums are taken relative to a shift value and will be recomputed
+ * once per capacity added values to avoid that rounding errors accumulate.
+ * Not thread safe.
+ */
+public class SlidingWindow {
+    private double[] values;
+    private int      capacity;
+    private int      head;
+    private int      size;
+    private long     count;
+    private double   shift;
+    private double   sum;
+    private double   sumOfSquares;
+    private int      addsSinceRecalc;
+    private long[]   minDeque;
+    private int      minHead;
+    private int      minSize;
+    private long[]   maxDeque;
+    private int      maxHead;
+    private int      maxSize;
+
+
+    // ******************** Constructors **************************************
+    public SlidingWindow(final int CAPACITY) {
+        if (CAPACITY < 1) throw new IllegalArgumentException("Capacity must be at least 1");
+        init(CAPACITY);
+    }
+    public SlidingWindow(final int CAPACITY, final double FILL_VALUE) {
+        this(CAPACITY);
+        for (int i = 0 ; i < CAPACITY ; i++) { add(FILL_VALUE); }
+    }
+
+
+    // ******************** Initialization ************************************
+    private void init(final int CAPACITY) {
+        capacity        = CAPACITY;
+        values          = new double[CAPACITY];
+        minDeque        = new long[CAPACITY];
+        maxDeque        = new long[CAPACITY];
+        head            = 0;
+        size            = 0;
+        count           = 0;
+        shift           = 0;
+        sum             = 0;
+        sumOfSquares    = 0;
+        addsSinceRecalc = 0;
+        minHead         = 0;
+        minSize         = 0;
+        maxHead         = 0;
+        maxSize         = 0;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds the given value and removes the oldest value if the window is full
+     *
+     * @param VALUE
+     */
+    public void add(final double VALUE) {
+        if (size == capacity) { evictOldest(); }
+        if (0 == size) {
+            shift        = VALUE;
+            sum          = 0;
+            sumOfSquares = 0;
+        }
+        final long SEQ = count++;
+        values[(head + size) % capacity] = VALUE;
+        size++;
+
+        final double DELTA = VALUE - shift;
+        sum          += DELTA;
+        sumOfSquares += DELTA * DELTA;
+
+        while (minSize > 0 && valueOf(minDeque[(minHead + minSize - 1) % capacity]) >= VALUE) { minSize--; }
+        minDeque[(minHead + minSize) % capacity] = SEQ;
+        minSize++;
+
+        while (maxSize > 0 && valueOf(maxDeque[(maxHead + maxSize - 1) % capacity]) <= VALUE) { maxSize--; }
+        maxDeque[(maxHead + maxSize) % capacity] = SEQ;
+        maxSize++;
+
+        if (++addsSinceRecalc >= capacity) { recalcSums(); }
+    }
+
+    /**
+     * Returns the value at the given index where index 0 is the oldest value
+     *
+     * @param INDEX
+     * @return the value at the given index where index 0 is the oldest value
+     */
+    public double get(final int INDEX) {
+        if (INDEX < 0 || INDEX >= size) throw new IndexOutOfBoundsException("Index: " + INDEX + ", Size: " + size);
+        return values[(head + INDEX) % capacity];
+    }
+
+    public double getLast() { return 0 == size ? 0 : values[(head + size - 1) % capacity]; }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return 0 == size; }
+
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Changes the capacity of the window. The newest values will be kept
+     * and if the window has been full it will be filled up with the given
+     * value in front of the kept values.
+     *
+     * @param CAPACITY
+     * @param FILL_VALUE
+     */
+    public void setCapacity(final int CAPACITY, final double FILL_VALUE) {
+        if (CAPACITY < 1) throw new IllegalArgumentException("Capacity must be at least 1");
+        if (CAPACITY == capacity) return;
+        final boolean  WAS_FULL = size == capacity;
+        final int      KEEP     = Math.min(size, CAPACITY);
+        final double[] KEPT     = new double[KEEP];
+        for (int i = 0 ; i < KEEP ; i++) { KEPT[i] = get(size - KEEP + i); }
+        init(CAPACITY);
+        if (WAS_FULL) { for (int i = KEEP ; i < CAPACITY ; i++) { add(FILL_VALUE); } }
+        for (double value : KEPT) { add(value); }
+    }
+
+    public void clear() {
+        head            = 0;
+        size            = 0;
+        sum             = 0;
+        sumOfSquares    = 0;
+        addsSinceRecalc = 0;
+        minSize         = 0;
+        maxSize         = 0;
+    }
+
+    public double getMin() { return 0 == minSize ? 0 : valueOf(minDeque[minHead]); }
+
+    public double getMax() { return 0 == maxSize ? 0 : valueOf(maxDeque[maxHead]); }
+
+    public double getSum() { return 0 == size ? 0 : sum + size * shift; }
+
+    public double getMean() { return 0 == size ? 0 : shift + sum / size; }
+
+    /**
+     * Returns the population variance of the values in the window
+     *
+     * @return the population variance of the values in the window
+     */
+    public double getVariance() {
+        if (0 == size) return 0;
+        final double MEAN_DELTA = sum / size;
+        return Math.max(0, sumOfSquares / size - MEAN_DELTA * MEAN_DELTA);
+    }
+
+    public double getStdDev() { return Math.sqrt(getVariance()); }
+
+    /**
+     * Copies the values of the window to the given array starting with the
+     * oldest value and returns the number of copied values.
+     *
+     * @param TARGET
+     * @return the number of copied values
+     */
+    public int toArray(final double[] TARGET) {
+        final int LENGTH = Math.min(size, TARGET.length);
+        final int FIRST  = Math.min(LENGTH, capacity - head);
+        System.arraycopy(values, head, TARGET, 0, FIRST);
+        if (LENGTH > FIRST) { System.arraycopy(values, 0, TARGET, FIRST, LENGTH - FIRST); }
+        return LENGTH;
+    }
+
+    public double[] toArray() {
+        final double[] RESULT = new double[size];
+        toArray(RESULT);
+        return RESULT;
+    }
+
+    @Override public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void evictOldest() {
+        final long   SEQ   = count - size;
+        final double DELTA = values[head] - shift;
+        sum          -= DELTA;
+        sumOfSquares -= DELTA * DELTA;
+        if (minSize > 0 && minDeque[minHead] == SEQ) {
+            minHead = (minHead + 1) % capacity;
+            minSize--;
+        }
+        if (maxSize > 0 && maxDeque[maxHead] == SEQ) {
+            maxHead = (maxHead + 1) % capacity;
+            maxSize--;
+        }
+        head = (head + 1) % capacity;
+        size--;
+    }
+
+    private void recalcSums() {
+        addsSinceRecalc = 0;
+        if (0 == size) return;
+        shift        = values[head];
+        sum          = 0;
+        sumOfSquares = 0;
+        for (int i = 0 ; i < size ; i++) {
+            final double DELTA = values[(head + i) % capacity] - shift;
+            sum          += DELTA;
+            sumOfSquares += DELTA * DELTA;
+        }
+    }
+
+    private double valueOf(final long SEQ) {
+        return values[(int) ((head + (SEQ - (count - size))) % capacity)];
+    }
+}
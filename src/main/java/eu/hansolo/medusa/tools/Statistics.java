@@ -16,12 +16,17 @@
 
 package eu.hansolo.medusa.tools;
 
-import java.util.Collections;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.List;
 
 
 /**
  * Created by hansolo on 06.12.16.
+ *
+ * The methods that take a double[] (optionally with a range from FROM
+ * inclusive to TO exclusive) or a DoubleBuffer return Double.NaN if there
+ * are no values. The median of an empty list is Double.NaN too.
  */
 public class Statistics {
 
@@ -39,12 +44,139 @@ public class Statistics {
     public static double getStdDev(final List<Double> DATA) { return Math.sqrt(getVariance(DATA)); }
 
     public static double getMedian(final List<Double> DATA) {
-        int size = DATA.size();
-        Collections.sort(DATA);
-        return size % 2 == 0 ? (DATA.get((size / 2) - 1) + DATA.get(size / 2)) / 2.0 : DATA.get(size / 2);
+        // Sort a copy to leave the given list untouched
+        double[] sorted = new double[DATA.size()];
+        for (int i = 0 ; i < sorted.length ; i++) { sorted[i] = DATA.get(i); }
+        Arrays.sort(sorted);
+        return getMedianOfSorted(sorted, sorted.length);
     }
 
     public static double getMin(final List<Double> DATA) { return DATA.stream().mapToDouble(v -> v).min().orElse(0); }
 
     public static double getMax(final List<Double> DATA) { return DATA.stream().mapToDouble(v -> v).max().orElse(0); }
+
+
+    public static double getMean(final double[] DATA) { return getMean(DATA, 0, DATA.length); }
+    public static double getMean(final double[] DATA, final int FROM, final int TO) {
+        double sum = 0;
+        for (int i = FROM ; i < TO ; i++) { sum += DATA[i]; }
+        return sum / (TO - FROM);
+    }
+
+    public static double getVariance(final double[] DATA) { return getVariance(DATA, 0, DATA.length); }
+    public static double getVariance(final double[] DATA, final int FROM, final int TO) {
+        double mean = getMean(DATA, FROM, TO);
+        double temp = 0;
+        for (int i = FROM ; i < TO ; i++) { temp += ((DATA[i] - mean) * (DATA[i] - mean)); }
+        return temp / (TO - FROM);
+    }
+
+    public static double getStdDev(final double[] DATA) { return Math.sqrt(getVariance(DATA)); }
+    public static double getStdDev(final double[] DATA, final int FROM, final int TO) { return Math.sqrt(getVariance(DATA, FROM, TO)); }
+
+    /**
+     * Returns the median of the given values. The given array will not be
+     * changed.
+     *
+     * @param DATA
+     * @return the median of the given values
+     */
+    public static double getMedian(final double[] DATA) { return getMedian(DATA, 0, DATA.length); }
+    public static double getMedian(final double[] DATA, final int FROM, final int TO) {
+        double[] sorted = Arrays.copyOfRange(DATA, FROM, TO);
+        Arrays.sort(sorted);
+        return getMedianOfSorted(sorted, sorted.length);
+    }
+
+    /**
+     * Returns the given percentile (0 - 1) of the given values with linear
+     * interpolation between the closest ranks. The given array will not
+     * be changed.
+     *
+     * @param DATA
+     * @param PERCENTILE
+     * @return the given percentile of the given values
+     */
+    public static double getPercentile(final double[] DATA, final double PERCENTILE) { return getPercentile(DATA, 0, DATA.length, PERCENTILE); }
+    public static double getPercentile(final double[] DATA, final int FROM, final int TO, final double PERCENTILE) {
+        double[] sorted = Arrays.copyOfRange(DATA, FROM, TO);
+        Arrays.sort(sorted);
+        return getPercentileOfSorted(sorted, PERCENTILE);
+    }
+
+    public static double getMin(final double[] DATA) { return getMin(DATA, 0, DATA.length); }
+    public static double getMin(final double[] DATA, final int FROM, final int TO) {
+        if (FROM >= TO) return Double.NaN;
+        double min = DATA[FROM];
+        for (int i = FROM ; i < TO ; i++) { if (DATA[i] < min) { min = DATA[i]; } }
+        return min;
+    }
+
+    public static double getMax(final double[] DATA) { return getMax(DATA, 0, DATA.length); }
+    public static double getMax(final double[] DATA, final int FROM, final int TO) {
+        if (FROM >= TO) return Double.NaN;
+        double max = DATA[FROM];
+        for (int i = FROM ; i < TO ; i++) { if (DATA[i] > max) { max = DATA[i]; } }
+        return max;
+    }
+
+    /**
+     * Returns the mean of the remaining values of the given buffer. The
+     * position of the buffer will not be changed. Same for all other
+     * methods that take a DoubleBuffer.
+     *
+     * @param DATA
+     * @return the mean of the remaining values of the given buffer
+     */
+    public static double getMean(final DoubleBuffer DATA) {
+        double sum = 0;
+        for (int i = DATA.position() ; i < DATA.limit() ; i++) { sum += DATA.get(i); }
+        return sum / DATA.remaining();
+    }
+
+    public static double getVariance(final DoubleBuffer DATA) {
+        double mean = getMean(DATA);
+        double temp = 0;
+        for (int i = DATA.position() ; i < DATA.limit() ; i++) { temp += ((DATA.get(i) - mean) * (DATA.get(i) - mean)); }
+        return temp / DATA.remaining();
+    }
+
+    public static double getStdDev(final DoubleBuffer DATA) { return Math.sqrt(getVariance(DATA)); }
+
+    public static double getMedian(final DoubleBuffer DATA) { return getMedian(toArray(DATA)); }
+
+    public static double getPercentile(final DoubleBuffer DATA, final double PERCENTILE) { return getPercentile(toArray(DATA), PERCENTILE); }
+
+    public static double getMin(final DoubleBuffer DATA) {
+        if (!DATA.hasRemaining()) return Double.NaN;
+        double min = DATA.get(DATA.position());
+        for (int i = DATA.position() ; i < DATA.limit() ; i++) { if (DATA.get(i) < min) { min = DATA.get(i); } }
+        return min;
+    }
+
+    public static double getMax(final DoubleBuffer DATA) {
+        if (!DATA.hasRemaining()) return Double.NaN;
+        double max = DATA.get(DATA.position());
+        for (int i = DATA.position() ; i < DATA.limit() ; i++) { if (DATA.get(i) > max) { max = DATA.get(i); } }
+        return max;
+    }
+
+    private static double getMedianOfSorted(final double[] SORTED, final int SIZE) {
+        if (0 == SIZE) return Double.NaN;
+        return SIZE % 2 == 0 ? (SORTED[(SIZE / 2) - 1] + SORTED[SIZE / 2]) / 2.0 : SORTED[SIZE / 2];
+    }
+
+    private static double getPercentileOfSorted(final double[] SORTED, final double PERCENTILE) {
+        if (0 == SORTED.length) return Double.NaN;
+        double rank  = Math.max(0, Math.min(1, PERCENTILE)) * (SORTED.length - 1);
+        int    lower = (int) Math.floor(rank);
+        int    upper = (int) Math.ceil(rank);
+        return SORTED[lower] + (rank - lower) * (SORTED[upper] - SORTED[lower]);
+    }
+
+    private static double[] toArray(final DoubleBuffer DATA) {
+        double[] values = new double[DATA.remaining()];
+        DATA.duplicate().get(values);
+        return values;
+    }
 }
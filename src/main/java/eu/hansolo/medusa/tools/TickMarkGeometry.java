@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge.ScaleDirection;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+
+/**
+ * The positions of all tick marks of a radial scale. For each tick the
+ * value, the kind (major, medium, minor) and the sine and cosine of its
+ * angle (and of the angles that are needed for trapezoid and triangle
+ * tick marks) on the unit circle will be computed once per scale
+ * configuration. The tick mark kinds will be found by exact integer step
+ * counts so that drawing the scale in another size only needs to scale
+ * the precomputed coordinates.
+ */
+public class TickMarkGeometry {
+    private static final double[]       ANGLE_OFFSETS  = { 0.0, -1.2, 1.2, -1.0, 1.0, -0.8, 0.8, -0.7, 0.7, -0.6, 0.6 };
+    private static final int            MAX_SCALE      = 9;
+    private static final double         MAX_LONG_VALUE = 1e15;
+    private        final double         minValue;
+    private        final double         maxValue;
+    private        final double         startAngle;
+    private        final double         angleRange;
+    private        final double         angleStep;
+    private        final double         minorTickSpace;
+    private        final double         majorTickSpace;
+    private        final ScaleDirection scaleDirection;
+    private              int            noOfTicks;
+    private              double[]       values;
+    private              double[]       angles;
+    private              boolean[]      major;
+    private              boolean[]      medium;
+    private              boolean[]      minor;
+    private              double[]       sin;
+    private              double[]       cos;
+
+
+    // ******************** Constructors **************************************
+    public TickMarkGeometry(final double MIN_VALUE, final double MAX_VALUE, final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP,
+                            final double MINOR_TICK_SPACE, final double MAJOR_TICK_SPACE, final ScaleDirection SCALE_DIRECTION) {
+        minValue       = MIN_VALUE;
+        maxValue       = MAX_VALUE;
+        startAngle     = START_ANGLE;
+        angleRange     = ANGLE_RANGE;
+        angleStep      = ANGLE_STEP;
+        minorTickSpace = MINOR_TICK_SPACE;
+        majorTickSpace = MAJOR_TICK_SPACE;
+        scaleDirection = SCALE_DIRECTION;
+        init();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void init() {
+        int capacity = 64;
+        values    = new double[capacity];
+        angles    = new double[capacity];
+        major     = new boolean[capacity];
+        medium    = new boolean[capacity];
+        minor     = new boolean[capacity];
+        noOfTicks = 0;
+
+        // All values will be handled as multiples of 10^-scale to avoid rounding errors
+        BigDecimal mediumCheck5 = BigDecimal.valueOf(5 * minorTickSpace).stripTrailingZeros();
+        int        scale        = Math.max(0, Math.max(scaleOf(minValue), Math.max(scaleOf(minorTickSpace), scaleOf(majorTickSpace))));
+        double     factor       = Math.pow(10, scale);
+        if (scale > MAX_SCALE || mediumCheck5.scale() > scale || Double.compare(minorTickSpace, 0.0) <= 0 ||
+            Math.abs(minValue) * factor > MAX_LONG_VALUE || Math.abs(maxValue) * factor > MAX_LONG_VALUE || majorTickSpace * factor > MAX_LONG_VALUE) {
+            initWithBigDecimal();
+        } else {
+            long    minL         = Math.round(minValue * factor);
+            long    minorL       = Math.round(minorTickSpace * factor);
+            long    majorL       = Math.round(majorTickSpace * factor);
+            long    mediumL      = mediumCheck5.movePointRight(scale).longValue();
+            boolean integerMinor = minorL % Math.round(factor) == 0;
+
+            double tmpAngleStep = angleStep * minorTickSpace;
+            double tmpStep      = new BigDecimal(tmpAngleStep).setScale(3, RoundingMode.HALF_UP).doubleValue();
+            double angle        = 0;
+            long   counterL     = minL;
+            double counter      = minValue;
+            for (double i = 0 ; Double.compare(-angleRange - tmpStep, i) <= 0 ; i -= tmpStep) {
+                ensureCapacity(noOfTicks + 1);
+                values[noOfTicks] = counter;
+                angles[noOfTicks] = angle;
+                major[noOfTicks]  = 0 != majorL && counterL % majorL == 0;
+                medium[noOfTicks] = 0 != mediumL && counterL % mediumL == 0;
+                minor[noOfTicks]  = !integerMinor || counterL % minorL == 0;
+                noOfTicks++;
+
+                counterL += minorL;
+                counter   = counterL / factor;
+                if (counter > maxValue) break;
+                angle     = ScaleDirection.CLOCKWISE == scaleDirection ? (angle - tmpAngleStep) : (angle + tmpAngleStep);
+            }
+        }
+        initAngles();
+    }
+
+    private void initWithBigDecimal() {
+        double     tmpAngleStep     = angleStep * minorTickSpace;
+        BigDecimal minorTickSpaceBD = BigDecimal.valueOf(minorTickSpace);
+        BigDecimal majorTickSpaceBD = BigDecimal.valueOf(majorTickSpace);
+        BigDecimal mediumCheck5     = BigDecimal.valueOf(5 * minorTickSpace);
+        BigDecimal counterBD        = BigDecimal.valueOf(minValue);
+        boolean    integerMinor     = minorTickSpaceBD.stripTrailingZeros().scale() <= 0;
+        double     tmpStep          = new BigDecimal(tmpAngleStep).setScale(3, RoundingMode.HALF_UP).doubleValue();
+        double     angle            = 0;
+        double     counter          = minValue;
+        if (Double.compare(tmpStep, 0.0) <= 0) return;
+        for (double i = 0 ; Double.compare(-angleRange - tmpStep, i) <= 0 ; i -= tmpStep) {
+            ensureCapacity(noOfTicks + 1);
+            values[noOfTicks] = counter;
+            angles[noOfTicks] = angle;
+            major[noOfTicks]  = 0 != majorTickSpaceBD.signum() && Double.compare(counterBD.remainder(majorTickSpaceBD).doubleValue(), 0.0) == 0;
+            medium[noOfTicks] = 0 != mediumCheck5.signum() && Double.compare(counterBD.remainder(mediumCheck5).doubleValue(), 0.0) == 0;
+            minor[noOfTicks]  = !integerMinor || Double.compare(counterBD.remainder(minorTickSpaceBD).doubleValue(), 0.0) == 0;
+            noOfTicks++;
+
+            counterBD = counterBD.add(minorTickSpaceBD);
+            counter   = counterBD.doubleValue();
+            if (counter > maxValue) break;
+            angle     = ScaleDirection.CLOCKWISE == scaleDirection ? (angle - tmpAngleStep) : (angle + tmpAngleStep);
+        }
+    }
+
+    private void initAngles() {
+        final int NO_OF_OFFSETS = ANGLE_OFFSETS.length;
+        sin = new double[noOfTicks * NO_OF_OFFSETS];
+        cos = new double[noOfTicks * NO_OF_OFFSETS];
+        for (int tick = 0 ; tick < noOfTicks ; tick++) {
+            for (int o = 0 ; o < NO_OF_OFFSETS ; o++) {
+                double radians = 0 == o ? Math.toRadians(angles[tick] + startAngle) : Math.toRadians(angles[tick] + ANGLE_OFFSETS[o] + startAngle);
+                sin[tick * NO_OF_OFFSETS + o] = Math.sin(radians);
+                cos[tick * NO_OF_OFFSETS + o] = Math.cos(radians);
+            }
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    public int getNoOfTicks() { return noOfTicks; }
+
+    public double getValue(final int TICK) { return values[TICK]; }
+
+    /**
+     * Returns the angle of the given tick relative to the start angle
+     *
+     * @param TICK
+     * @return the angle of the given tick relative to the start angle
+     */
+    public double getAngle(final int TICK) { return angles[TICK]; }
+
+    public boolean isMajor(final int TICK) { return major[TICK]; }
+
+    /**
+     * Returns true if the value of the given tick is a multiple of
+     * five times the minor tick space.
+     *
+     * @param TICK
+     * @return true if the given tick could be a medium tick
+     */
+    public boolean isMedium(final int TICK) { return medium[TICK]; }
+
+    /**
+     * Returns true if the value of the given tick is a multiple of
+     * the minor tick space or if the minor tick space is not an integer.
+     *
+     * @param TICK
+     * @return true if the given tick could be a minor tick
+     */
+    public boolean isMinor(final int TICK) { return minor[TICK]; }
+
+    public double getSin(final int TICK) { return sin[TICK * ANGLE_OFFSETS.length]; }
+    /**
+     * Returns the sine of the angle of the given tick plus the given offset
+     * in degrees. Only the offsets that are used for trapezoid and triangle
+     * tick marks (±0.6, ±0.7, ±0.8, ±1.0, ±1.2) are precomputed.
+     *
+     * @param TICK
+     * @param OFFSET offset in degrees
+     * @return the sine of the angle of the given tick plus the given offset
+     */
+    public double getSin(final int TICK, final double OFFSET) { return sin[TICK * ANGLE_OFFSETS.length + indexOf(OFFSET)]; }
+
+    public double getCos(final int TICK) { return cos[TICK * ANGLE_OFFSETS.length]; }
+    /**
+     * Returns the cosine of the angle of the given tick plus the given offset
+     * in degrees. Only the offsets that are used for trapezoid and triangle
+     * tick marks (±0.6, ±0.7, ±0.8, ±1.0, ±1.2) are precomputed.
+     *
+     * @param TICK
+     * @param OFFSET offset in degrees
+     * @return the cosine of the angle of the given tick plus the given offset
+     */
+    public double getCos(final int TICK, final double OFFSET) { return cos[TICK * ANGLE_OFFSETS.length + indexOf(OFFSET)]; }
+
+    /**
+     * Returns true if this geometry was computed for the given scale configuration
+     *
+     * @return true if this geometry was computed for the given scale configuration
+     */
+    public boolean isGeometryFor(final double MIN_VALUE, final double MAX_VALUE, final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP,
+                                 final double MINOR_TICK_SPACE, final double MAJOR_TICK_SPACE, final ScaleDirection SCALE_DIRECTION) {
+        return Double.compare(minValue, MIN_VALUE) == 0 &&
+               Double.compare(maxValue, MAX_VALUE) == 0 &&
+               Double.compare(startAngle, START_ANGLE) == 0 &&
+               Double.compare(angleRange, ANGLE_RANGE) == 0 &&
+               Double.compare(angleStep, ANGLE_STEP) == 0 &&
+               Double.compare(minorTickSpace, MINOR_TICK_SPACE) == 0 &&
+               Double.compare(majorTickSpace, MAJOR_TICK_SPACE) == 0 &&
+               scaleDirection == SCALE_DIRECTION;
+    }
+
+    private static int indexOf(final double OFFSET) {
+        for (int i = 0 ; i < ANGLE_OFFSETS.length ; i++) { if (ANGLE_OFFSETS[i] == OFFSET) return i; }
+        throw new IllegalArgumentException("Angle offset " + OFFSET + " is not precomputed");
+    }
+
+    private static int scaleOf(final double VALUE) {
+        if (Double.isNaN(VALUE) || Double.isInfinite(VALUE)) return Integer.MAX_VALUE;
+        return BigDecimal.valueOf(VALUE).stripTrailingZeros().scale();
+    }
+
+    private void ensureCapacity(final int CAPACITY) {
+        if (CAPACITY <= values.length) return;
+        final int NEW_CAPACITY = Math.max(CAPACITY, values.length * 2);
+        values = Arrays.copyOf(values, NEW_CAPACITY);
+        angles = Arrays.copyOf(angles, NEW_CAPACITY);
+        major  = Arrays.copyOf(major, NEW_CAPACITY);
+        medium = Arrays.copyOf(medium, NEW_CAPACITY);
+        minor  = Arrays.copyOf(minor, NEW_CAPACITY);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+
+/**
+ * A pre-compiled formatter that produces the same output as
+ * Helper.formatNumber(Locale, String, int, double) (the value will be
+ * truncated to the given number of decimals and formatted with a format
+ * string like "%.2f" or "%8.2f") without using java.util.Formatter.
+ * The digits will be written to a char buffer that will be reused and the
+ * last result will be returned again if the formatted value didn't change.
+ * Format strings that are not of the form "%[width].[decimals]f" and values
+ * with more than 15 significant digits will be formatted with String.format().
+ */
+public class ValueFormatter {
+    private static final int     MAX_DIGITS    = 15;
+    private static final long    MAX_FAST_LONG = 999_999_999_999_999L;
+    private        final Locale  locale;
+    private        final String  formatString;
+    private        final int     decimals;
+    private        final double  factor;
+    private        final int     width;
+    private        final boolean compiled;
+    private        final char    decimalSeparator;
+    private        final char    zeroDigit;
+    private        final char[]  buffer;
+    private              long    lastDigits;
+    private              boolean lastNegative;
+    private              String  lastResult;
+
+
+    // ******************** Constructors **************************************
+    public ValueFormatter(final Locale LOCALE, final String FORMAT_STRING, final int DECIMALS) {
+        locale       = LOCALE;
+        formatString = FORMAT_STRING;
+        decimals     = DECIMALS;
+        factor       = Math.pow(10, DECIMALS);
+
+        int precision = -1;
+        int w         = 0;
+        if (null != FORMAT_STRING && FORMAT_STRING.length() > 3 && FORMAT_STRING.charAt(0) == '%' && FORMAT_STRING.charAt(FORMAT_STRING.length() - 1) == 'f') {
+            int dot = FORMAT_STRING.indexOf('.');
+            // A leading zero of the width would be the zero padding flag
+            if (dot > 0 && FORMAT_STRING.charAt(1) != '0') {
+                w         = parseDigits(FORMAT_STRING, 1, dot);
+                precision = parseDigits(FORMAT_STRING, dot + 1, FORMAT_STRING.length() - 1);
+            }
+        }
+        compiled = w >= 0 && precision == DECIMALS && DECIMALS >= 0 && DECIMALS <= MAX_DIGITS;
+        width    = Math.max(0, w);
+
+        if (null == LOCALE) {
+            decimalSeparator = '.';
+            zeroDigit        = '0';
+        } else {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(LOCALE);
+            decimalSeparator = symbols.getDecimalSeparator();
+            zeroDigit        = symbols.getZeroDigit();
+        }
+        buffer     = new char[Math.max(width, MAX_DIGITS + 3)];
+        lastDigits = -1;
+    }
+
+
+    // ******************** Methods *******************************************
+    public Locale getLocale() { return locale; }
+
+    public String getFormatString() { return formatString; }
+
+    public int getDecimals() { return decimals; }
+
+    /**
+     * Returns the given value truncated to the number of decimals and
+     * formatted like String.format(locale, formatString, value).
+     *
+     * @param VALUE
+     * @return the formatted value
+     */
+    public synchronized String format(final double VALUE) {
+        double value = VALUE;
+        if (value > 0) {
+            value = Math.floor(value * factor) / factor;
+        } else if (value < 0) {
+            value = Math.ceil(value * factor) / factor;
+        }
+        if (!compiled || Double.isNaN(value) || Double.isInfinite(value)) { return String.format(locale, formatString, value); }
+
+        final double  ABS_DIGITS = Math.abs(value * factor);
+        if (ABS_DIGITS > MAX_FAST_LONG) { return String.format(locale, formatString, value); }
+        final long    DIGITS     = Math.round(ABS_DIGITS);
+        final boolean NEGATIVE   = Double.doubleToRawLongBits(value) < 0;
+        if (null != lastResult && DIGITS == lastDigits && NEGATIVE == lastNegative) { return lastResult; }
+
+        // Write the digits from right to left
+        int  pos       = buffer.length;
+        long remaining = DIGITS;
+        for (int i = 0 ; i < decimals ; i++) {
+            buffer[--pos] = (char) (zeroDigit + (int) (remaining % 10));
+            remaining /= 10;
+        }
+        if (decimals > 0) { buffer[--pos] = decimalSeparator; }
+        do {
+            buffer[--pos] = (char) (zeroDigit + (int) (remaining % 10));
+            remaining /= 10;
+        } while (remaining > 0);
+        if (NEGATIVE) { buffer[--pos] = '-'; }
+        while (buffer.length - pos < width) { buffer[--pos] = ' '; }
+
+        lastDigits   = DIGITS;
+        lastNegative = NEGATIVE;
+        lastResult   = new String(buffer, pos, buffer.length - pos);
+        return lastResult;
+    }
+
+    /**
+     * Returns true if this formatter was created for the given parameters
+     *
+     * @param LOCALE
+     * @param FORMAT_STRING
+     * @param DECIMALS
+     * @return true if this formatter was created for the given parameters
+     */
+    public boolean isFormatterFor(final Locale LOCALE, final String FORMAT_STRING, final int DECIMALS) {
+        return decimals == DECIMALS &&
+               (null == locale ? null == LOCALE : locale.equals(LOCALE)) &&
+               (null == formatString ? null == FORMAT_STRING : formatString.equals(FORMAT_STRING));
+    }
+
+    private static int parseDigits(final String TEXT, final int START, final int END) {
+        if (START == END) return 0;
+        if (END - START > 2) return -1;
+        int result = 0;
+        for (int i = START ; i < END ; i++) {
+            char c = TEXT.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.CrossingDetector;
+import eu.hansolo.medusa.Gauge;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A sink that can be fed with values from any thread.
+ * Only the latest value (or the min/max of all values) that was
+ * offered between two JavaFX pulses will be set on the gauge and
+ * all sinks share one AnimationTimer to publish their values.
+ * The sink of the gauge (Gauge.getValueSink()) also records each offered
+ * value with its time in a buffer. With the next pulse all recorded values
+ * will be checked by the CrossingDetector and added to the statistics of
+ * the gauge on the JavaFX application thread before the reduced value will
+ * be set, so no threshold or marker crossing and no value will be missed. If more than MAX_RECORDED_VALUES
+ * values are offered between two pulses the further values won't be
+ * recorded.
+ * Values that are NaN will be ignored.
+ */
+public class ValueSink {
+    public enum Reduction { LAST, MIN, MAX }
+    public static final int                     MAX_RECORDED_VALUES = 65_536;
+
+    private static final long                   EMPTY         = Double.doubleToRawLongBits(Double.NaN);
+    private static final Queue<ValueSink>       DIRTY_SINKS   = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean          TIMER_ACTIVE  = new AtomicBoolean(false);
+    private static final AnimationTimer         PUBLISHER     = new AnimationTimer() {
+        @Override public void handle(final long NOW) {
+            ValueSink sink;
+            while (null != (sink = DIRTY_SINKS.poll())) { sink.publish(); }
+            stop();
+            TIMER_ACTIVE.set(false);
+            // A value might have been offered after the queue was drained
+            if (!DIRTY_SINKS.isEmpty() && TIMER_ACTIVE.compareAndSet(false, true)) { start(); }
+        }
+    };
+    private        final Gauge                  gauge;
+    private        final AtomicLong             bits;
+    private volatile     Reduction              reduction;
+    private volatile     boolean                publishing;
+    private        final Object                 recordLock;
+    private              double[]               recordedValues;
+    private              long[]                 recordedTimes;
+    private              int                    noOfRecorded;
+    private              double[]               drainedValues;
+    private              long[]                 drainedTimes;
+
+
+    // ******************** Constructors **************************************
+    public ValueSink(final Gauge GAUGE) {
+        this(GAUGE, Reduction.LAST);
+    }
+    public ValueSink(final Gauge GAUGE, final Reduction REDUCTION) {
+        gauge     = GAUGE;
+        bits      = new AtomicLong(EMPTY);
+        reduction      = null == REDUCTION ? Reduction.LAST : REDUCTION;
+        recordLock     = new Object();
+        recordedValues = new double[64];
+        recordedTimes  = new long[64];
+        drainedValues  = new double[64];
+        drainedTimes   = new long[64];
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Offers the given value to the sink. This method can be called from
+     * any thread and will only block for a short time if the value has to
+     * be recorded. The value will be set on the gauge with the next JavaFX
+     * pulse.
+     *
+     * @param VALUE
+     */
+    public void offer(final double VALUE) {
+        if (Double.isNaN(VALUE)) return;
+        // Values of other sinks will be checked when they are set on the gauge
+        if (this == gauge.getValueSink()) { record(VALUE, System.nanoTime()); }
+        final long NEW_BITS = Double.doubleToRawLongBits(VALUE);
+        long       oldBits;
+        switch (reduction) {
+            case MIN:
+                do {
+                    oldBits = bits.get();
+                    if (EMPTY != oldBits && Double.longBitsToDouble(oldBits) <= VALUE) return;
+                } while (!bits.compareAndSet(oldBits, NEW_BITS));
+                break;
+            case MAX:
+                do {
+                    oldBits = bits.get();
+                    if (EMPTY != oldBits && Double.longBitsToDouble(oldBits) >= VALUE) return;
+                } while (!bits.compareAndSet(oldBits, NEW_BITS));
+                break;
+            case LAST:
+            default:
+                oldBits = bits.getAndSet(NEW_BITS);
+                break;
+        }
+        if (EMPTY == oldBits) { schedule(this); }
+    }
+
+    /**
+     * Returns true if a value was offered that has not been set on
+     * the gauge yet.
+     *
+     * @return true if a value is waiting to be published
+     */
+    public boolean isPending() { return EMPTY != bits.get(); }
+
+    /**
+     * Returns true while the sink sets a value on the gauge. This will
+     * only happen on the JavaFX application thread.
+     *
+     * @return true while the sink sets a value on the gauge
+     */
+    public boolean isPublishing() { return publishing; }
+
+    public Reduction getReduction() { return reduction; }
+    /**
+     * Defines how the values that will be offered between two pulses
+     * will be reduced to one value. LAST only keeps the latest value,
+     * MIN and MAX keep the lowest or highest value.
+     *
+     * @param REDUCTION
+     */
+    public void setReduction(final Reduction REDUCTION) { reduction = null == REDUCTION ? Reduction.LAST : REDUCTION; }
+
+    private void record(final double VALUE, final long TIME) {
+        synchronized (recordLock) {
+            if (noOfRecorded == recordedValues.length) {
+                if (noOfRecorded == MAX_RECORDED_VALUES) return;
+                final int NEW_CAPACITY = Math.min(MAX_RECORDED_VALUES, noOfRecorded * 2);
+                recordedValues = Arrays.copyOf(recordedValues, NEW_CAPACITY);
+                recordedTimes  = Arrays.copyOf(recordedTimes, NEW_CAPACITY);
+            }
+            recordedValues[noOfRecorded] = VALUE;
+            recordedTimes[noOfRecorded]  = TIME;
+            noOfRecorded++;
+        }
+    }
+
+    // Called on the JavaFX application thread, so the detector only reads the gauge state on that thread
+    private void ingestRecorded() {
+        final int COUNT;
+        synchronized (recordLock) {
+            COUNT = noOfRecorded;
+            if (0 == COUNT) return;
+            final double[] VALUES = recordedValues;
+            final long[]   TIMES  = recordedTimes;
+            recordedValues = drainedValues.length >= VALUES.length ? drainedValues : new double[VALUES.length];
+            recordedTimes  = drainedTimes.length >= TIMES.length ? drainedTimes : new long[TIMES.length];
+            drainedValues  = VALUES;
+            drainedTimes   = TIMES;
+            noOfRecorded   = 0;
+        }
+        final CrossingDetector  DETECTOR   = gauge.getCrossingDetector();
+        final RunningStatistics STATISTICS = gauge.getStatistics();
+        for (int i = 0 ; i < COUNT ; i++) {
+            DETECTOR.add(drainedValues[i], drainedTimes[i]);
+            STATISTICS.add(drainedValues[i]);
+        }
+    }
+
+    private void publish() {
+        ingestRecorded();
+        final long BITS = bits.getAndSet(EMPTY);
+        if (EMPTY == BITS) return;
+        publishing = true;
+        try {
+            gauge.setValue(Double.longBitsToDouble(BITS));
+        } finally {
+            publishing = false;
+        }
+    }
+
+    private static void schedule(final ValueSink SINK) {
+        DIRTY_SINKS.add(SINK);
+        if (TIMER_ACTIVE.compareAndSet(false, true)) {
+            if (Platform.isFxApplicationThread()) {
+                PUBLISHER.start();
+            } else {
+                Platform.runLater(PUBLISHER::start);
+            }
+        }
+    }
+}